@@ -0,0 +1,133 @@
+package edu.ou.weinmann.repsi.benchmark;
+
+import edu.ou.weinmann.repsi.model.util.Configurator;
+import edu.ou.weinmann.repsi.model.util.DatabaseAccessor;
+import edu.ou.weinmann.repsi.model.util.Global;
+
+/**
+ * Provides the embedded in-memory database shared by the benchmarks. The
+ * master and the test database are both mapped to the same H2 in-memory
+ * database by the properties file <code>bench/config/benchmark.properties</code>,
+ * and the test table <code>TBM_BENCHMARK</code> supplies the synthetic meta
+ * data and rows.
+ * 
+ * @author Walter Weinmann
+ * 
+ */
+public final class BenchmarkDatabase {
+
+    /**
+     * The JDBC driver of the embedded database.
+     */
+    public static final String DRIVER = "org.h2.Driver";
+
+    /**
+     * The password of the embedded database.
+     */
+    public static final String PASSWORD = "repsi";
+
+    /**
+     * The name of the properties file used by the benchmarks.
+     */
+    public static final String PROPERTIES_FILE_NAME =
+            "bench/config/benchmark.properties";
+
+    /**
+     * The name of the test table.
+     */
+    public static final String TABLE_NAME = "TBM_BENCHMARK";
+
+    /**
+     * The URL of the embedded database.
+     */
+    public static final String URL =
+            "jdbc:h2:mem:repsi;MODE=Oracle;DB_CLOSE_DELAY=-1";
+
+    /**
+     * The user of the embedded database.
+     */
+    public static final String USER_NAME = "repsi";
+
+    private BenchmarkDatabase() {
+
+        super();
+    }
+
+    /**
+     * Creates the test table with the given number of rows. An existing test
+     * table is dropped first.
+     * 
+     * @param parDBAccess The <code>DatabaseAccessor</code> object of the test
+     *            database.
+     * @param parRows The number of rows to be inserted.
+     */
+    public static void createTable(final DatabaseAccessor parDBAccess,
+            final int parRows) {
+
+        execute(parDBAccess, "DROP TABLE IF EXISTS " + TABLE_NAME + ";");
+        execute(parDBAccess, "CREATE TABLE " + TABLE_NAME
+                + " (ID NUMERIC(10,0) NOT NULL PRIMARY KEY,"
+                + " NAME VARCHAR(30) NOT NULL, DESCRIPTION VARCHAR(255),"
+                + " AMOUNT NUMERIC(12,2), DATE_CREATED DATE);");
+
+        for (int i = 0; i < parRows; i++) {
+            execute(parDBAccess, "INSERT INTO " + TABLE_NAME
+                    + " (ID, NAME, DESCRIPTION, AMOUNT, DATE_CREATED) VALUES ("
+                    + i + ", 'Name " + i + "', 'Description of row " + i
+                    + "', " + i + ".25, DATE '2006-06-21');");
+        }
+
+        if (!parDBAccess.commit()) {
+            throw new IllegalStateException("Commit failed / benchmark table");
+        }
+    }
+
+    /**
+     * Deletes all rows of the test table.
+     * 
+     * @param parDBAccess The <code>DatabaseAccessor</code> object of the test
+     *            database.
+     */
+    public static void deleteTable(final DatabaseAccessor parDBAccess) {
+
+        execute(parDBAccess, "DELETE FROM " + TABLE_NAME + ";");
+
+        if (!parDBAccess.commit()) {
+            throw new IllegalStateException("Commit failed / benchmark table");
+        }
+    }
+
+    private static void execute(final DatabaseAccessor parDBAccess,
+            final String parStmnt) {
+
+        if (!parDBAccess.executeUpdate(parStmnt)) {
+            throw new IllegalStateException("Statement failed: " + parStmnt);
+        }
+    }
+
+    /**
+     * Opens a connection with a statement to the test database. The
+     * properties file of the benchmarks is loaded before the first
+     * connection.
+     * 
+     * @return the <code>DatabaseAccessor</code> object of the test database.
+     */
+    public static DatabaseAccessor open() {
+
+        if (Configurator.getInstance(PROPERTIES_FILE_NAME, false) == null) {
+            throw new IllegalStateException("Properties file="
+                    + PROPERTIES_FILE_NAME + " not available");
+        }
+
+        final DatabaseAccessor lvDBAccess =
+                new DatabaseAccessor(Global.DATABASE_SCHEMA_IDENTIFIER_TEST,
+                        Global.SQL_SYNTAX_CODE_SQL_99, DRIVER, false);
+
+        if (!(lvDBAccess.getConnection(URL, USER_NAME, PASSWORD) && lvDBAccess
+                .createStatement())) {
+            throw new IllegalStateException("Connection failed / " + URL);
+        }
+
+        return lvDBAccess;
+    }
+}
@@ -0,0 +1,111 @@
+package edu.ou.weinmann.repsi.benchmark;
+
+import edu.ou.weinmann.repsi.model.mapper.TrialRunProtocolMapper;
+import edu.ou.weinmann.repsi.model.trial.metadata.Columns;
+import edu.ou.weinmann.repsi.model.trial.util.DataGenerator;
+import edu.ou.weinmann.repsi.model.util.DatabaseAccessor;
+import edu.ou.weinmann.repsi.model.util.Global;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the row generation of <code>DataGenerator</code> with the meta
+ * data of the test table, once with literal statements and once with
+ * batches of a prepared statement. One operation is the generation and
+ * insertion of one row; the test table is emptied after every iteration.
+ * 
+ * @author Walter Weinmann
+ * 
+ */
+@BenchmarkMode(Mode.Throughput)
+@Fork(1)
+@Measurement(iterations = 5, time = 1)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Thread)
+@Warmup(iterations = 5, time = 1)
+public class DataGeneratorBenchmark {
+
+    private static final int ROWS = 100;
+
+    /**
+     * The number of rows per batch, zero for literal statements.
+     */
+    @Param( { "0", "50" })
+    public int batchSize;
+
+    private DataGenerator dataGenerator;
+
+    private DatabaseAccessor dbAccess;
+
+    private TrialRunProtocolMapper trialRunProtocol;
+
+    /**
+     * Empties the test table and creates a new <code>DataGenerator</code>
+     * object.
+     */
+    @Setup(Level.Iteration)
+    public void emptyTable() {
+
+        BenchmarkDatabase.deleteTable(dbAccess);
+
+        dataGenerator =
+                new DataGenerator(trialRunProtocol, dbAccess,
+                        BenchmarkDatabase.TABLE_NAME, new Columns(
+                                trialRunProtocol, dbAccess, null, null,
+                                BenchmarkDatabase.TABLE_NAME));
+
+        dataGenerator.setBatchSize(batchSize);
+    }
+
+    /**
+     * Generates rows of the test table.
+     * 
+     * @return whether the rows were generated.
+     */
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public boolean insertRow() {
+
+        return dataGenerator.generateRow(ROWS);
+    }
+
+    /**
+     * Creates the empty test table.
+     */
+    @Setup
+    public void setUp() {
+
+        dbAccess = BenchmarkDatabase.open();
+
+        BenchmarkDatabase.createTable(dbAccess, 0);
+
+        trialRunProtocol =
+                new TrialRunProtocolMapper(Global.SQL_SYNTAX_CODE_SQL_99, 0,
+                        0, "CURRENT_TIMESTAMP");
+    }
+
+    /**
+     * Closes the connections to the embedded database.
+     */
+    @TearDown
+    public void tearDown() {
+
+        trialRunProtocol.closeConnection();
+        dbAccess.closeConnection();
+    }
+}
@@ -0,0 +1,80 @@
+package edu.ou.weinmann.repsi.benchmark;
+
+import edu.ou.weinmann.repsi.model.util.DatabaseAccessor;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Measures <code>DatabaseAccessor.getColumns</code> with the rows of the
+ * test table. One operation is the conversion of one row into a
+ * <code>Map</code>.
+ * 
+ * @author Walter Weinmann
+ * 
+ */
+@BenchmarkMode(Mode.Throughput)
+@Fork(1)
+@Measurement(iterations = 5, time = 1)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Thread)
+@Warmup(iterations = 5, time = 1)
+public class DatabaseAccessorBenchmark {
+
+    private static final int ROWS = 1000;
+
+    private DatabaseAccessor dbAccess;
+
+    /**
+     * Fetches all rows of the test table as column maps.
+     * 
+     * @param parBlackhole The <code>Blackhole</code> object consuming the
+     *            column maps.
+     */
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public void getColumns(final Blackhole parBlackhole) {
+
+        if (!dbAccess.executeQuery("SELECT * FROM "
+                + BenchmarkDatabase.TABLE_NAME + ";")) {
+            throw new IllegalStateException("Query failed / benchmark table");
+        }
+
+        while (dbAccess.next()) {
+            parBlackhole.consume(dbAccess.getColumns());
+        }
+    }
+
+    /**
+     * Creates the test table.
+     */
+    @Setup
+    public void setUp() {
+
+        dbAccess = BenchmarkDatabase.open();
+
+        BenchmarkDatabase.createTable(dbAccess, ROWS);
+    }
+
+    /**
+     * Closes the connection to the test database.
+     */
+    @TearDown
+    public void tearDown() {
+
+        dbAccess.closeConnection();
+    }
+}
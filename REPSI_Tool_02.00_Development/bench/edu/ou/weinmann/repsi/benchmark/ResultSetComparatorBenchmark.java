@@ -0,0 +1,94 @@
+package edu.ou.weinmann.repsi.benchmark;
+
+import edu.ou.weinmann.repsi.model.trial.util.ResultSetComparator;
+import edu.ou.weinmann.repsi.model.util.DatabaseAccessor;
+import edu.ou.weinmann.repsi.model.util.Global;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the row by row comparison of <code>ResultSetComparator</code>
+ * with two equal queries on the test table. One operation is the comparison
+ * of one pair of rows.
+ * 
+ * @author Walter Weinmann
+ * 
+ */
+@BenchmarkMode(Mode.Throughput)
+@Fork(1)
+@Measurement(iterations = 5, time = 1)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Thread)
+@Warmup(iterations = 5, time = 1)
+public class ResultSetComparatorBenchmark {
+
+    private static final int ROWS = 1000;
+
+    private DatabaseAccessor[] dbAccess;
+
+    private ResultSetComparator resultSetComparator;
+
+    /**
+     * Compares the result sets of the two queries.
+     * 
+     * @return whether the result sets are equal.
+     */
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public boolean compareResultSet() {
+
+        if (!resultSetComparator.compare(dbAccess)) {
+            throw new IllegalStateException(resultSetComparator
+                    .getLastErrorMsg());
+        }
+
+        return true;
+    }
+
+    /**
+     * Creates the test table and the two queries to be compared.
+     */
+    @Setup
+    public void setUp() {
+
+        dbAccess =
+                new DatabaseAccessor[] { BenchmarkDatabase.open(),
+                        BenchmarkDatabase.open() };
+
+        BenchmarkDatabase.createTable(dbAccess[0], ROWS);
+
+        resultSetComparator = new ResultSetComparator();
+
+        for (int i = 0; i < dbAccess.length; i++) {
+            resultSetComparator.setSelectStmnt("SELECT * FROM "
+                    + BenchmarkDatabase.TABLE_NAME, i);
+            resultSetComparator.setOrderBy("ID", i);
+        }
+
+        resultSetComparator.setSqlSyntaxCode(Global.SQL_SYNTAX_CODE_SQL_99);
+    }
+
+    /**
+     * Closes the connections to the test database.
+     */
+    @TearDown
+    public void tearDown() {
+
+        for (int i = 0; i < dbAccess.length; i++) {
+            dbAccess[i].closeConnection();
+        }
+    }
+}
@@ -0,0 +1,98 @@
+package edu.ou.weinmann.repsi.benchmark;
+
+import edu.ou.weinmann.repsi.model.util.Global;
+import edu.ou.weinmann.repsi.model.util.SQLRewriter;
+
+import java.io.BufferedReader;
+import java.io.FileReader;
+import java.io.IOException;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Measures <code>SQLRewriter.rewrite</code> with the translation of the
+ * master database schema from SQL:1999 to Oracle 10g. One operation is the
+ * translation of the complete script, since the domain definitions are
+ * substituted into the subsequent table definitions.
+ * 
+ * @author Walter Weinmann
+ * 
+ */
+@BenchmarkMode(Mode.Throughput)
+@Fork(1)
+@Measurement(iterations = 5, time = 1)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Thread)
+@Warmup(iterations = 5, time = 1)
+public class SQLRewriterBenchmark {
+
+    private static final String SCRIPT_FILE_NAME =
+            "in/std_master_db_schema_create.sql";
+
+    private SQLRewriter sqlRewriter;
+
+    private String[] statements;
+
+    /**
+     * Translates all statements of the master database schema.
+     * 
+     * @param parBlackhole The <code>Blackhole</code> object consuming the
+     *            translated statements.
+     */
+    @Benchmark
+    public void rewrite(final Blackhole parBlackhole) {
+
+        sqlRewriter.deleteStoredDomainDefinitions();
+
+        for (int i = 0; i < statements.length; i++) {
+            parBlackhole.consume(sqlRewriter.rewrite(
+                    Global.SQL_SYNTAX_CODE_SQL_99,
+                    Global.SQL_SYNTAX_CODE_ORACLE_10G, statements[i]));
+        }
+    }
+
+    /**
+     * Reads the statements of the master database schema.
+     * 
+     * @throws IOException if the script file cannot be read.
+     */
+    @Setup
+    public void setUp() throws IOException {
+
+        final List<String> lvStatements = new ArrayList<String>();
+
+        final BufferedReader lvReader =
+                new BufferedReader(new FileReader(SCRIPT_FILE_NAME));
+
+        try {
+            String lvLine = lvReader.readLine();
+
+            while (lvLine != null) {
+                if (!"".equals(lvLine.trim())) {
+                    lvStatements.add(lvLine);
+                }
+
+                lvLine = lvReader.readLine();
+            }
+        } finally {
+            lvReader.close();
+        }
+
+        sqlRewriter = new SQLRewriter();
+        statements = lvStatements.toArray(new String[lvStatements.size()]);
+    }
+}
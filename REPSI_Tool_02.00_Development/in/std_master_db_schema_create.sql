@@ -18,6 +18,13 @@ CREATE DOMAIN DOM_MD_CODE_STATUS AS CHAR (2);
 CREATE DOMAIN DOM_MD_DURATION AS NUMERIC (38,0);
 CREATE DOMAIN DOM_MD_NAME_VENDOR AS VARCHAR (50);
 CREATE DOMAIN DOM_MD_STATISTICAL_OUTLINE AS NUMERIC (10,0);
+CREATE DOMAIN DOM_MD_PRECISION AS NUMERIC (10,6);
+CREATE DOMAIN DOM_MD_SCHEDULE AS VARCHAR (10);
+CREATE DOMAIN DOM_MD_SEED AS NUMERIC (20,0);
+CREATE DOMAIN DOM_MD_FETCH_SIZE AS NUMERIC (10,0);
+CREATE DOMAIN DOM_MD_STATISTICAL_SCORE AS NUMERIC (20,6);
+CREATE DOMAIN DOM_MD_PROBABILITY AS NUMERIC (12,10);
+CREATE DOMAIN DOM_MD_TIME_PRECISION AS NUMERIC (19,0);
 CREATE DOMAIN DOM_MD_TEST_QUERY_PAIR_ID AS NUMERIC (8,0);
 CREATE DOMAIN DOM_MD_NAME_SQL_SYNTAX AS VARCHAR (255);
 CREATE DOMAIN DOM_MD_DESCRIPTION_STANDARD AS VARCHAR (255);
@@ -47,8 +54,8 @@ CREATE DOMAIN DOM_MD_NAME_SCHEMA AS VARCHAR (30);
 
 CREATE TABLE TMD_PROCESSOR   (PROCESSOR_CODE DOM_MD_CODE_PROCESSOR NOT NULL,DATE_CREATED DATE,CREATED_BY DOM_MD_NAME_USER,DATE_MODIFIED DATE,MODIFIED_BY DOM_MD_NAME_USER,NAME DOM_MD_NAME_PROCESSOR NOT NULL,VENDOR_CODE DOM_MD_CODE_VENDOR NOT NULL) ;
 CREATE TABLE TMD_TEST_SUITE_OPERATION   (OPERATION_CODE DOM_MD_CODE_OPERATION NOT NULL,DATE_CREATED DATE,CREATED_BY DOM_MD_NAME_USER,DATE_MODIFIED DATE,MODIFIED_BY DOM_MD_NAME_USER,DESCRIPTION DOM_MD_DESCRIPTION_LONG DEFAULT 'n/a' NOT NULL,EXECUTION_FREQUENCY_MAX DOM_MD_EXECUTION_FREQUENCY DEFAULT 1 NOT NULL,NAME DOM_MD_NAME_OPERATION NOT NULL,OPERATION_TYPE DOM_MD_OPERATION_TYPE DEFAULT 'Query' NOT NULL) ;
-CREATE TABLE TMD_CALIBRATION  (START_TIME TIMESTAMP NOT NULL,CREATED_BY DOM_MD_NAME_USER,DATE_CREATED DATE,COMPARISON_EQUALS DOM_MD_COMPARISON_EQUALS NOT NULL DEFAULT 'U',COMPARISON_MESSAGE DOM_MD_MESSAGE,DATABASE_SYSTEM_NAME DOM_MD_NAME_DATABASE_SYSTEM,DATABASE_SYSTEM_VENDOR_NAME DOM_MD_NAME_VENDOR,DATABASE_SYSTEM_VERSION DOM_MD_VERSION,DESCRIPTION DOM_MD_DESCRIPTION_LONG NOT NULL DEFAULT 'n/a',END_TIME TIMESTAMP,ERROR_MESSAGE DOM_MD_MESSAGE,JDBC_DRIVER DOM_MD_JDBC_DRIVER,JDBC_URL DOM_MD_JDBC_URL,OPERATING_SYSTEM_NAME DOM_MD_NAME_OPERATING_SYSTEM,OPERATING_SYSTEM_VENDOR_NAME DOM_MD_NAME_VENDOR,OPERATING_SYSTEM_VERSION DOM_MD_VERSION,PATTERN_SQL_IDIOM_NAME DOM_MD_NAME_PATTERN_SQL_IDIOM,PROCESSOR_NAME DOM_MD_NAME_PROCESSOR,PROCESSOR_VENDOR_NAME DOM_MD_NAME_VENDOR,RAM_SIZE_MB DOM_MD_RAM_SIZE_MB,SCHEMA_NAME DOM_MD_NAME_SCHEMA,SQL_SYNTAX_CODE_DEI DOM_MD_CODE_SQL_SYNTAX,SQL_SYNTAX_CODE_TTQP DOM_MD_CODE_SQL_SYNTAX,STATUS_CODE DOM_MD_CODE_STATUS NOT NULL,TEST_QUERY_PAIR_ID DOM_MD_TEST_QUERY_PAIR_ID,USER_NAME DOM_MD_NAME_USER) ;
-CREATE TABLE TMD_TRIAL_RUN   (DATABASE_INSTANCE_ID DOM_MD_DATABASE_INSTANCE_ID NOT NULL,TEST_SUITE_ID DOM_MD_TEST_SUITE_ID NOT NULL,START_TIME TIMESTAMP NOT NULL,CREATED_BY DOM_MD_NAME_USER,DATE_CREATED DATE,DATABASE_SYSTEM_NAME DOM_MD_NAME_DATABASE_SYSTEM NOT NULL,DATABASE_SYSTEM_VENDOR_NAME DOM_MD_NAME_VENDOR NOT NULL,DATABASE_SYSTEM_VERSION DOM_MD_VERSION NOT NULL,DESCRIPTION DOM_MD_DESCRIPTION_LONG DEFAULT 'n/a' NOT NULL,END_TIME TIMESTAMP,ERROR_MESSAGE DOM_MD_MESSAGE,JDBC_DRIVER DOM_MD_JDBC_DRIVER NOT NULL,JDBC_URL DOM_MD_JDBC_URL NOT NULL,OPERATING_SYSTEM_NAME DOM_MD_NAME_OPERATING_SYSTEM NOT NULL,OPERATING_SYSTEM_VENDOR_NAME DOM_MD_NAME_VENDOR NOT NULL,OPERATING_SYSTEM_VERSION DOM_MD_VERSION NOT NULL,PROCESSOR_NAME DOM_MD_NAME_PROCESSOR NOT NULL,PROCESSOR_VENDOR_NAME DOM_MD_NAME_VENDOR NOT NULL,RAM_SIZE_MB DOM_MD_RAM_SIZE_MB NOT NULL,SCHEMA_NAME DOM_MD_NAME_SCHEMA NOT NULL,SQL_SYNTAX_CODE DOM_MD_CODE_SQL_SYNTAX NOT NULL,STATUS_CODE DOM_MD_CODE_STATUS NOT NULL,TEST_SUITE_DESCRIPTION DOM_MD_DESCRIPTION_LONG NOT NULL,TEST_SUITE_NAME DOM_MD_NAME_TEST_SUITE NOT NULL,USER_NAME DOM_MD_NAME_USER NOT NULL) ;
+CREATE TABLE TMD_CALIBRATION  (START_TIME TIMESTAMP NOT NULL,ACHIEVED_PRECISION DOM_MD_PRECISION,CREATED_BY DOM_MD_NAME_USER,DATE_CREATED DATE,COMPARISON_EQUALS DOM_MD_COMPARISON_EQUALS NOT NULL DEFAULT 'U',COMPARISON_MESSAGE DOM_MD_MESSAGE,CYCLES_EXECUTED DOM_MD_STATISTICAL_OUTLINE,DATABASE_SYSTEM_NAME DOM_MD_NAME_DATABASE_SYSTEM,DATABASE_SYSTEM_VENDOR_NAME DOM_MD_NAME_VENDOR,DATABASE_SYSTEM_VERSION DOM_MD_VERSION,DESCRIPTION DOM_MD_DESCRIPTION_LONG NOT NULL DEFAULT 'n/a',END_TIME TIMESTAMP,ERROR_MESSAGE DOM_MD_MESSAGE,FETCH_SIZE_RECOMMENDED DOM_MD_FETCH_SIZE,JDBC_DRIVER DOM_MD_JDBC_DRIVER,JDBC_URL DOM_MD_JDBC_URL,OPERATING_SYSTEM_NAME DOM_MD_NAME_OPERATING_SYSTEM,OPERATING_SYSTEM_VENDOR_NAME DOM_MD_NAME_VENDOR,OPERATING_SYSTEM_VERSION DOM_MD_VERSION,PATTERN_SQL_IDIOM_NAME DOM_MD_NAME_PATTERN_SQL_IDIOM,PROCESSOR_NAME DOM_MD_NAME_PROCESSOR,PROCESSOR_VENDOR_NAME DOM_MD_NAME_VENDOR,RAM_SIZE_MB DOM_MD_RAM_SIZE_MB,SCHEDULE DOM_MD_SCHEDULE,SCHEDULE_SEED DOM_MD_SEED,SCHEMA_NAME DOM_MD_NAME_SCHEMA,SQL_SYNTAX_CODE_DEI DOM_MD_CODE_SQL_SYNTAX,SQL_SYNTAX_CODE_TTQP DOM_MD_CODE_SQL_SYNTAX,STATUS_CODE DOM_MD_CODE_STATUS NOT NULL,TARGET_PRECISION DOM_MD_PRECISION,TEST_QUERY_PAIR_ID DOM_MD_TEST_QUERY_PAIR_ID,TIME_PRECISION DOM_MD_TIME_PRECISION,TIMER_OVERHEAD DOM_MD_STATISTICAL_RATIO,TIMER_RESOLUTION DOM_MD_STATISTICAL_RATIO,USER_NAME DOM_MD_NAME_USER) ;
+CREATE TABLE TMD_TRIAL_RUN   (DATABASE_INSTANCE_ID DOM_MD_DATABASE_INSTANCE_ID NOT NULL,TEST_SUITE_ID DOM_MD_TEST_SUITE_ID NOT NULL,START_TIME TIMESTAMP NOT NULL,CREATED_BY DOM_MD_NAME_USER,DATE_CREATED DATE,DATABASE_SYSTEM_NAME DOM_MD_NAME_DATABASE_SYSTEM NOT NULL,DATABASE_SYSTEM_VENDOR_NAME DOM_MD_NAME_VENDOR NOT NULL,DATABASE_SYSTEM_VERSION DOM_MD_VERSION NOT NULL,DESCRIPTION DOM_MD_DESCRIPTION_LONG DEFAULT 'n/a' NOT NULL,END_TIME TIMESTAMP,ERROR_MESSAGE DOM_MD_MESSAGE,JDBC_DRIVER DOM_MD_JDBC_DRIVER NOT NULL,JDBC_URL DOM_MD_JDBC_URL NOT NULL,OPERATING_SYSTEM_NAME DOM_MD_NAME_OPERATING_SYSTEM NOT NULL,OPERATING_SYSTEM_VENDOR_NAME DOM_MD_NAME_VENDOR NOT NULL,OPERATING_SYSTEM_VERSION DOM_MD_VERSION NOT NULL,PROCESSOR_NAME DOM_MD_NAME_PROCESSOR NOT NULL,PROCESSOR_VENDOR_NAME DOM_MD_NAME_VENDOR NOT NULL,RAM_SIZE_MB DOM_MD_RAM_SIZE_MB NOT NULL,SCHEMA_NAME DOM_MD_NAME_SCHEMA NOT NULL,SEED DOM_MD_SEED,SQL_SYNTAX_CODE DOM_MD_CODE_SQL_SYNTAX NOT NULL,STATUS_CODE DOM_MD_CODE_STATUS NOT NULL,TEST_SUITE_DESCRIPTION DOM_MD_DESCRIPTION_LONG NOT NULL,TEST_SUITE_NAME DOM_MD_NAME_TEST_SUITE NOT NULL,USER_NAME DOM_MD_NAME_USER NOT NULL) ;
 CREATE TABLE TMD_TEST_SUITE   (TEST_SUITE_ID DOM_MD_TEST_SUITE_ID NOT NULL,DATE_CREATED DATE,CREATED_BY DOM_MD_NAME_USER,DATE_MODIFIED DATE,MODIFIED_BY DOM_MD_NAME_USER,DESCRIPTION DOM_MD_DESCRIPTION_LONG DEFAULT 'n/a' NOT NULL,NAME DOM_MD_NAME_TEST_SUITE NOT NULL) ;
 CREATE TABLE TMD_DATABASE_SYSTEM   (DATABASE_SYSTEM_CODE DOM_MD_CODE_DATABASE_SYSTEM NOT NULL,DATE_CREATED DATE,CREATED_BY DOM_MD_NAME_USER,DATE_MODIFIED DATE,MODIFIED_BY DOM_MD_NAME_USER,JDBC_DRIVER DOM_MD_JDBC_DRIVER NOT NULL,NAME DOM_MD_NAME_DATABASE_SYSTEM NOT NULL,SQL_SYNTAX_CODE DOM_MD_CODE_SQL_SYNTAX NOT NULL,VENDOR_CODE DOM_MD_CODE_VENDOR NOT NULL,VERSION DOM_MD_VERSION NOT NULL) ;
 CREATE TABLE TMD_OPERATING_SYSTEM   (OPERATING_SYSTEM_CODE DOM_MD_CODE_OPERATING_SYSTEM NOT NULL,DATE_CREATED DATE,CREATED_BY DOM_MD_NAME_USER,DATE_MODIFIED DATE,MODIFIED_BY DOM_MD_NAME_USER,NAME DOM_MD_NAME_OPERATING_SYSTEM NOT NULL,VENDOR_CODE DOM_MD_CODE_VENDOR NOT NULL,VERSION DOM_MD_VERSION NOT NULL) ;
@@ -56,12 +63,15 @@ CREATE TABLE TMD_TRIAL_RUN_PROTOCOL   (DATABASE_INSTANCE_ID DOM_MD_DATABASE_INST
 CREATE TABLE TMD_TRIAL_RUN_STATUS   (STATUS_CODE DOM_MD_CODE_STATUS NOT NULL,DATE_CREATED DATE,CREATED_BY DOM_MD_NAME_USER,DATE_MODIFIED DATE,MODIFIED_BY DOM_MD_NAME_USER,DESCRIPTION DOM_MD_DESCRIPTION_LONG DEFAULT 'n/a' NOT NULL,NAME DOM_MD_NAME_STATUS NOT NULL) ;
 CREATE TABLE TMD_DATABASE_INSTANCE   (DATABASE_INSTANCE_ID DOM_MD_DATABASE_INSTANCE_ID NOT NULL,DATE_CREATED DATE,CREATED_BY DOM_MD_NAME_USER,DATE_MODIFIED DATE,MODIFIED_BY DOM_MD_NAME_USER,DATABASE_SYSTEM_CODE DOM_MD_CODE_DATABASE_SYSTEM NOT NULL,JDBC_URL DOM_MD_JDBC_URL NOT NULL,OPERATING_SYSTEM_CODE DOM_MD_CODE_OPERATING_SYSTEM NOT NULL,PASSWORD DOM_MD_PASSWORD NOT NULL,PROCESSOR_CODE DOM_MD_CODE_PROCESSOR NOT NULL,RAM_SIZE_MB DOM_MD_RAM_SIZE_MB NOT NULL,SCHEMA_NAME DOM_MD_NAME_SCHEMA NOT NULL,USER_NAME DOM_MD_NAME_USER NOT NULL) ;
 CREATE TABLE TMD_TEST_TABLE   (NAME DOM_MD_TABLE_NAME NOT NULL,DATE_CREATED DATE,CREATED_BY DOM_MD_NAME_USER,DATE_MODIFIED DATE,MODIFIED_BY DOM_MD_NAME_USER,DESCRIPTION DOM_MD_DESCRIPTION_STANDARD DEFAULT 'n/a' NOT NULL,SQL_SYNTAX_CODE DOM_MD_CODE_SQL_SYNTAX DEFAULT 'SQL:1999' NOT NULL) ;
-CREATE TABLE TMD_CALIBRATION_STATISTIC   (START_TIME TIMESTAMP NOT NULL,SEQUENCE_NUMBER DOM_MD_SEQUENCE_NUMBER NOT NULL,OBJECT DOM_MD_STATISTICAL_OBJECT NOT NULL,ORDER_BY DOM_MD_SQL_STATEMENT,SQL_STATEMENT DOM_MD_SQL_STATEMENT,ARITHMETIC_MEAN DOM_MD_STATISTICAL_RATIO,GEOMETRIC_MEAN DOM_MD_STATISTICAL_RATIO,KURTOSIS DOM_MD_STATISTICAL_RATIO,SKEWNESS DOM_MD_STATISTICAL_RATIO,STANDARD_DEVIATION DOM_MD_STATISTICAL_RATIO,VARIANCE DOM_MD_STATISTICAL_RATIO,MINIMUM_VALUE DOM_MD_STATISTICAL_MEASUREMENT NOT NULL,PERCENTILE_25 DOM_MD_STATISTICAL_RATIO,PERCENTILE_50 DOM_MD_STATISTICAL_RATIO,PERCENTILE_75 DOM_MD_STATISTICAL_RATIO,MAXIMUM_VALUE DOM_MD_STATISTICAL_MEASUREMENT NOT NULL,NUMBER_OF_VALUES DOM_MD_STATISTICAL_OUTLINE NOT NULL,READINGS DOM_MD_READINGS) ;
+CREATE TABLE TMD_CALIBRATION_STATISTIC   (START_TIME TIMESTAMP NOT NULL,SEQUENCE_NUMBER DOM_MD_SEQUENCE_NUMBER NOT NULL,OBJECT DOM_MD_STATISTICAL_OBJECT NOT NULL,ORDER_BY DOM_MD_SQL_STATEMENT,SQL_STATEMENT DOM_MD_SQL_STATEMENT,ARITHMETIC_MEAN DOM_MD_STATISTICAL_RATIO,BELOW_RESOLUTION DOM_MD_STATISTICAL_OUTLINE,GEOMETRIC_MEAN DOM_MD_STATISTICAL_RATIO,KURTOSIS DOM_MD_STATISTICAL_RATIO,SKEWNESS DOM_MD_STATISTICAL_RATIO,STANDARD_DEVIATION DOM_MD_STATISTICAL_RATIO,VARIANCE DOM_MD_STATISTICAL_RATIO,MINIMUM_VALUE DOM_MD_STATISTICAL_MEASUREMENT NOT NULL,PERCENTILE_25 DOM_MD_STATISTICAL_RATIO,PERCENTILE_50 DOM_MD_STATISTICAL_RATIO,PERCENTILE_75 DOM_MD_STATISTICAL_RATIO,MAXIMUM_VALUE DOM_MD_STATISTICAL_MEASUREMENT NOT NULL,NUMBER_OF_VALUES DOM_MD_STATISTICAL_OUTLINE NOT NULL,READINGS DOM_MD_READINGS,READINGS_EXECUTE DOM_MD_READINGS,READINGS_FIRST_ROW DOM_MD_READINGS,THROUGHPUT DOM_MD_STATISTICAL_RATIO,WARM_UP_READINGS DOM_MD_STATISTICAL_OUTLINE) ;
+CREATE TABLE TMD_CALIBRATION_FETCH_SIZE   (START_TIME TIMESTAMP NOT NULL,FETCH_SIZE DOM_MD_FETCH_SIZE NOT NULL,APPLIED_NUMBER_ROWS DOM_MD_STATISTICAL_OUTLINE,APPLIED_PERCENTILE_50 DOM_MD_STATISTICAL_RATIO,APPLIED_THROUGHPUT DOM_MD_STATISTICAL_RATIO,UNAPPLIED_NUMBER_ROWS DOM_MD_STATISTICAL_OUTLINE,UNAPPLIED_PERCENTILE_50 DOM_MD_STATISTICAL_RATIO,UNAPPLIED_THROUGHPUT DOM_MD_STATISTICAL_RATIO) ;
+CREATE TABLE TMD_CALIBRATION_SIGNIFICANCE   (START_TIME TIMESTAMP NOT NULL,OBJECT DOM_MD_STATISTICAL_OBJECT NOT NULL,BOOTSTRAP_RESAMPLES DOM_MD_STATISTICAL_OUTLINE,HODGES_LEHMANN_SHIFT DOM_MD_STATISTICAL_SCORE,MANN_WHITNEY_U DOM_MD_STATISTICAL_SCORE,MANN_WHITNEY_Z DOM_MD_STATISTICAL_SCORE,MEDIAN_RATIO DOM_MD_STATISTICAL_SCORE,MEDIAN_RATIO_LOWER DOM_MD_STATISTICAL_SCORE,MEDIAN_RATIO_UPPER DOM_MD_STATISTICAL_SCORE,NUMBER_APPLIED DOM_MD_STATISTICAL_OUTLINE,NUMBER_UNAPPLIED DOM_MD_STATISTICAL_OUTLINE,P_VALUE DOM_MD_PROBABILITY) ;
 CREATE TABLE TMD_PATTERN_SQL_IDIOM   (PATTERN_SQL_IDIOM_ID DOM_MD_PATTERN_SQL_IDIOM_ID NOT NULL,DATE_CREATED DATE,CREATED_BY DOM_MD_NAME_USER,DATE_MODIFIED DATE,MODIFIED_BY DOM_MD_NAME_USER,CONTEXT_APPLICABILITY DOM_MD_DESCRIPTION_LONG DEFAULT 'n/a' NOT NULL,FORCES DOM_MD_DESCRIPTION_LONG DEFAULT 'n/a' NOT NULL,NAME DOM_MD_NAME_PATTERN_SQL_IDIOM NOT NULL,PROBLEM_INTENT DOM_MD_DESCRIPTION_LONG DEFAULT 'n/a' NOT NULL,SOLUTION DOM_MD_DESCRIPTION_LONG DEFAULT 'n/a' NOT NULL) ;
 CREATE TABLE TMD_TEST_TABLE_DDL   (NAME DOM_MD_TABLE_NAME NOT NULL,SEQUENCE_NUMBER DOM_MD_SEQUENCE_NUMBER NOT NULL,DDL_STATEMENT DOM_MD_SQL_STATEMENT NOT NULL,SQL_SYNTAX_CODE DOM_MD_CODE_SQL_SYNTAX NOT NULL) ;
 CREATE TABLE TMD_VENDOR   (VENDOR_CODE DOM_MD_CODE_VENDOR NOT NULL,DATE_CREATED DATE,CREATED_BY DOM_MD_NAME_USER,DATE_MODIFIED DATE,MODIFIED_BY DOM_MD_NAME_USER,NAME DOM_MD_NAME_VENDOR NOT NULL) ;
 CREATE TABLE TMD_TEST_SUITE_ACTION   (TEST_SUITE_ID DOM_MD_TEST_SUITE_ID NOT NULL,SEQUENCE_NUMBER DOM_MD_SEQUENCE_NUMBER NOT NULL,DESCRIPTION DOM_MD_DESCRIPTION_LONG DEFAULT 'n/a' NOT NULL,EXECUTION_FREQUENCY DOM_MD_EXECUTION_FREQUENCY DEFAULT 1 NOT NULL,OPERATION_CODE DOM_MD_CODE_OPERATION NOT NULL,TABLE_NAME DOM_MD_TABLE_NAME,TEST_QUERY_PAIR_ID DOM_MD_TEST_QUERY_PAIR_ID) ;
-CREATE TABLE TMD_TRIAL_RUN_ACTION   (DATABASE_INSTANCE_ID DOM_MD_DATABASE_INSTANCE_ID NOT NULL,TEST_SUITE_ID DOM_MD_TEST_SUITE_ID NOT NULL,START_TIME TIMESTAMP NOT NULL,SEQUENCE_NUMBER_ACTION DOM_MD_SEQUENCE_NUMBER NOT NULL,APPLIED_DURATION DOM_MD_DURATION,APPLIED_END_TIME TIMESTAMP,APPLIED_ERROR_MESSAGE DOM_MD_MESSAGE,APPLIED_PATTERN_ORDER_BY DOM_MD_SELECT_STATEMENT,APPLIED_PATTERN_SELECT_STMNT DOM_MD_SELECT_STATEMENT,APPLIED_STATUS DOM_MD_CODE_STATUS,APPLIED_START_TIME TIMESTAMP,COMPARISON_EQUALS DOM_MD_COMPARISON_EQUALS DEFAULT 'U' NOT NULL,COMPARISON_MESSAGE DOM_MD_MESSAGE,EXECUTION_FREQUENCY DOM_MD_EXECUTION_FREQUENCY NOT NULL,OPERATION_CODE DOM_MD_CODE_OPERATION NOT NULL,OPERATION_TYPE DOM_MD_OPERATION_TYPE NOT NULL,PATTERN_SQL_IDIOM_NAME DOM_MD_NAME_PATTERN_SQL_IDIOM,SQL_SYNTAX_CODE DOM_MD_CODE_SQL_SYNTAX NOT NULL,TABLE_NAME DOM_MD_TABLE_NAME,TEST_QUERY_PAIR_DESCRIPTION DOM_MD_DESCRIPTION_LONG,TEST_SUITE_ACTION_DESCRIPTION DOM_MD_DESCRIPTION_LONG NOT NULL,TEST_SUITE_OPERATION_NAME DOM_MD_NAME_OPERATION NOT NULL,TEST_TABLE_DESCRIPTION DOM_MD_DESCRIPTION_STANDARD,UNAPPLIED_DURATION DOM_MD_DURATION,UNAPPLIED_END_TIME TIMESTAMP,UNAPPLIED_ERROR_MESSAGE DOM_MD_MESSAGE,UNAPPLIED_PATTERN_ORDER_BY DOM_MD_SELECT_STATEMENT,UNAPPLIED_PATTERN_SELECT_STMNT DOM_MD_SELECT_STATEMENT,UNAPPLIED_START_TIME TIMESTAMP,UNAPPLIED_STATUS DOM_MD_CODE_STATUS) ;
+CREATE TABLE TMD_TRIAL_RUN_ACTION   (DATABASE_INSTANCE_ID DOM_MD_DATABASE_INSTANCE_ID NOT NULL,TEST_SUITE_ID DOM_MD_TEST_SUITE_ID NOT NULL,START_TIME TIMESTAMP NOT NULL,SEQUENCE_NUMBER_ACTION DOM_MD_SEQUENCE_NUMBER NOT NULL,APPLIED_DURATION DOM_MD_DURATION,APPLIED_DURATION_EXECUTE DOM_MD_DURATION,APPLIED_DURATION_FIRST_ROW DOM_MD_DURATION,APPLIED_END_TIME TIMESTAMP,APPLIED_ERROR_MESSAGE DOM_MD_MESSAGE,APPLIED_PATTERN_ORDER_BY DOM_MD_SELECT_STATEMENT,APPLIED_PATTERN_SELECT_STMNT DOM_MD_SELECT_STATEMENT,APPLIED_STATUS DOM_MD_CODE_STATUS,APPLIED_START_TIME TIMESTAMP,COMPARISON_EQUALS DOM_MD_COMPARISON_EQUALS DEFAULT 'U' NOT NULL,COMPARISON_MESSAGE DOM_MD_MESSAGE,EXECUTION_FREQUENCY DOM_MD_EXECUTION_FREQUENCY NOT NULL,OPERATION_CODE DOM_MD_CODE_OPERATION NOT NULL,OPERATION_TYPE DOM_MD_OPERATION_TYPE NOT NULL,PATTERN_SQL_IDIOM_NAME DOM_MD_NAME_PATTERN_SQL_IDIOM,SQL_SYNTAX_CODE DOM_MD_CODE_SQL_SYNTAX NOT NULL,TABLE_NAME DOM_MD_TABLE_NAME,TEST_QUERY_PAIR_DESCRIPTION DOM_MD_DESCRIPTION_LONG,TEST_SUITE_ACTION_DESCRIPTION DOM_MD_DESCRIPTION_LONG NOT NULL,TEST_SUITE_OPERATION_NAME DOM_MD_NAME_OPERATION NOT NULL,TEST_TABLE_DESCRIPTION DOM_MD_DESCRIPTION_STANDARD,UNAPPLIED_DURATION DOM_MD_DURATION,UNAPPLIED_DURATION_EXECUTE DOM_MD_DURATION,UNAPPLIED_DURATION_FIRST_ROW DOM_MD_DURATION,UNAPPLIED_END_TIME TIMESTAMP,UNAPPLIED_ERROR_MESSAGE DOM_MD_MESSAGE,UNAPPLIED_PATTERN_ORDER_BY DOM_MD_SELECT_STATEMENT,UNAPPLIED_PATTERN_SELECT_STMNT DOM_MD_SELECT_STATEMENT,UNAPPLIED_START_TIME TIMESTAMP,UNAPPLIED_STATUS DOM_MD_CODE_STATUS) ;
+CREATE TABLE TMD_TRIAL_RUN_CHECKPOINT   (DATABASE_INSTANCE_ID DOM_MD_DATABASE_INSTANCE_ID NOT NULL,TEST_SUITE_ID DOM_MD_TEST_SUITE_ID NOT NULL,CYCLE DOM_MD_SEQUENCE_NUMBER NOT NULL,SEQUENCE_NUMBER_ACTION DOM_MD_SEQUENCE_NUMBER NOT NULL,START_TIME TIMESTAMP NOT NULL,EXECUTION_FREQUENCY DOM_MD_EXECUTION_FREQUENCY NOT NULL,HIGH_WATER_MARK DOM_MD_MESSAGE,NUMBER_ROWS DOM_MD_EXECUTION_FREQUENCY NOT NULL,SEED DOM_MD_SEED,STATUS_CODE DOM_MD_CODE_STATUS NOT NULL,TABLE_NAME DOM_MD_TABLE_NAME) ;
 CREATE TABLE TMD_TEST_QUERY_PAIR   (TEST_QUERY_PAIR_ID DOM_MD_TEST_QUERY_PAIR_ID NOT NULL,DATE_CREATED DATE,CREATED_BY DOM_MD_NAME_USER,DATE_MODIFIED DATE,MODIFIED_BY DOM_MD_NAME_USER,APPLIED_PATTERN_ORDER_BY DOM_MD_SELECT_STATEMENT,APPLIED_PATTERN_SELECT_STMNT DOM_MD_SELECT_STATEMENT NOT NULL,DESCRIPTION DOM_MD_DESCRIPTION_LONG DEFAULT 'n/a' NOT NULL,PATTERN_SQL_IDIOM_ID DOM_MD_PATTERN_SQL_IDIOM_ID NOT NULL,SQL_SYNTAX_CODE DOM_MD_CODE_SQL_SYNTAX NOT NULL,UNAPPLIED_PATTERN_ORDER_BY DOM_MD_SELECT_STATEMENT,UNAPPLIED_PATTERN_SELECT_STMNT DOM_MD_SELECT_STATEMENT NOT NULL) ;
 CREATE TABLE TMD_SQL_SYNTAX   (SQL_SYNTAX_CODE DOM_MD_CODE_SQL_SYNTAX NOT NULL,DATE_CREATED DATE,CREATED_BY DOM_MD_NAME_USER,DATE_MODIFIED DATE,MODIFIED_BY DOM_MD_NAME_USER,NAME DOM_MD_NAME_SQL_SYNTAX NOT NULL,VERSION DOM_MD_VERSION NOT NULL) ;
 
@@ -77,11 +87,14 @@ ALTER TABLE TMD_TRIAL_RUN_STATUS ADD CONSTRAINT TMD_TLRS_PK PRIMARY KEY (STATUS_
 ALTER TABLE TMD_DATABASE_INSTANCE ADD CONSTRAINT TMD_DEI_PK PRIMARY KEY (DATABASE_INSTANCE_ID);
 ALTER TABLE TMD_TEST_TABLE ADD CONSTRAINT TMD_TTT_PK PRIMARY KEY (NAME);
 ALTER TABLE TMD_CALIBRATION_STATISTIC ADD CONSTRAINT TMD_CNS_PK PRIMARY KEY (START_TIME,SEQUENCE_NUMBER);
+ALTER TABLE TMD_CALIBRATION_FETCH_SIZE ADD CONSTRAINT TMD_CNFS_PK PRIMARY KEY (START_TIME,FETCH_SIZE);
+ALTER TABLE TMD_CALIBRATION_SIGNIFICANCE ADD CONSTRAINT TMD_CNSG_PK PRIMARY KEY (START_TIME,OBJECT);
 ALTER TABLE TMD_PATTERN_SQL_IDIOM ADD CONSTRAINT TMD_PNSI_PK PRIMARY KEY (PATTERN_SQL_IDIOM_ID);
 ALTER TABLE TMD_TEST_TABLE_DDL ADD CONSTRAINT TMD_TTTD_PK PRIMARY KEY (NAME,SEQUENCE_NUMBER);
 ALTER TABLE TMD_VENDOR ADD CONSTRAINT TMD_VR_PK PRIMARY KEY (VENDOR_CODE);
 ALTER TABLE TMD_TEST_SUITE_ACTION ADD CONSTRAINT TMD_TTSA_PK PRIMARY KEY (TEST_SUITE_ID,SEQUENCE_NUMBER);
 ALTER TABLE TMD_TRIAL_RUN_ACTION ADD CONSTRAINT TMD_TLRA_PK PRIMARY KEY (DATABASE_INSTANCE_ID,TEST_SUITE_ID,START_TIME,SEQUENCE_NUMBER_ACTION);
+ALTER TABLE TMD_TRIAL_RUN_CHECKPOINT ADD CONSTRAINT TMD_TLRC_PK PRIMARY KEY (DATABASE_INSTANCE_ID,TEST_SUITE_ID,CYCLE,SEQUENCE_NUMBER_ACTION);
 ALTER TABLE TMD_TEST_QUERY_PAIR ADD CONSTRAINT TMD_TTQP_PK PRIMARY KEY (TEST_QUERY_PAIR_ID);
 ALTER TABLE TMD_SQL_SYNTAX ADD CONSTRAINT TMD_SLS_PK PRIMARY KEY (SQL_SYNTAX_CODE);
 ALTER TABLE TMD_PROCESSOR ADD CONSTRAINT TMD_PR_UK UNIQUE (VENDOR_CODE,NAME);
@@ -112,6 +125,8 @@ ALTER TABLE TMD_DATABASE_INSTANCE ADD CONSTRAINT TMD_DEI_TMD_DET_FK FOREIGN KEY
 ALTER TABLE TMD_DATABASE_INSTANCE ADD CONSTRAINT TMD_DEI_TMD_OGST_FK FOREIGN KEY  (OPERATING_SYSTEM_CODE) REFERENCES TMD_OPERATING_SYSTEM (OPERATING_SYSTEM_CODE);
 ALTER TABLE TMD_TEST_TABLE ADD CONSTRAINT TMD_TTT_TMD_SLS_FK FOREIGN KEY  (SQL_SYNTAX_CODE) REFERENCES TMD_SQL_SYNTAX (SQL_SYNTAX_CODE);
 ALTER TABLE TMD_CALIBRATION_STATISTIC ADD CONSTRAINT TMD_CNS_TMD_CN_FK FOREIGN KEY  (START_TIME) REFERENCES TMD_CALIBRATION (START_TIME) ON DELETE CASCADE;
+ALTER TABLE TMD_CALIBRATION_FETCH_SIZE ADD CONSTRAINT TMD_CNFS_TMD_CN_FK FOREIGN KEY  (START_TIME) REFERENCES TMD_CALIBRATION (START_TIME) ON DELETE CASCADE;
+ALTER TABLE TMD_CALIBRATION_SIGNIFICANCE ADD CONSTRAINT TMD_CNSG_TMD_CN_FK FOREIGN KEY  (START_TIME) REFERENCES TMD_CALIBRATION (START_TIME) ON DELETE CASCADE;
 ALTER TABLE TMD_TEST_TABLE_DDL ADD CONSTRAINT TMD_TTTD_TMD_TTT_FK FOREIGN KEY  (NAME) REFERENCES TMD_TEST_TABLE (NAME) ON DELETE CASCADE;
 ALTER TABLE TMD_TEST_TABLE_DDL ADD CONSTRAINT TMD_TTTD_TMD_SLS_FK FOREIGN KEY  (SQL_SYNTAX_CODE) REFERENCES TMD_SQL_SYNTAX (SQL_SYNTAX_CODE);
 ALTER TABLE TMD_TEST_SUITE_ACTION ADD CONSTRAINT TMD_TTSA_TMD_TTQP_FK FOREIGN KEY  (TEST_QUERY_PAIR_ID) REFERENCES TMD_TEST_QUERY_PAIR (TEST_QUERY_PAIR_ID) ON DELETE CASCADE;
@@ -122,6 +137,9 @@ ALTER TABLE TMD_TRIAL_RUN_ACTION ADD CONSTRAINT TMD_TLRA_TMD_TTSO_FK FOREIGN KEY
 ALTER TABLE TMD_TRIAL_RUN_ACTION ADD CONSTRAINT TMD_TLRA_TMD_TLRS_FK_UNAPPL FOREIGN KEY  (UNAPPLIED_STATUS) REFERENCES TMD_TRIAL_RUN_STATUS (STATUS_CODE);
 ALTER TABLE TMD_TRIAL_RUN_ACTION ADD CONSTRAINT TMD_TLRA_TMD_TLRS_FK_APPLIED FOREIGN KEY  (APPLIED_STATUS) REFERENCES TMD_TRIAL_RUN_STATUS (STATUS_CODE);
 ALTER TABLE TMD_TRIAL_RUN_ACTION ADD CONSTRAINT TMD_TLRA_TMD_TLR_FK FOREIGN KEY  (DATABASE_INSTANCE_ID, START_TIME, TEST_SUITE_ID) REFERENCES TMD_TRIAL_RUN (DATABASE_INSTANCE_ID,START_TIME,TEST_SUITE_ID) ON DELETE CASCADE;
+ALTER TABLE TMD_TRIAL_RUN_CHECKPOINT ADD CONSTRAINT TMD_TLRC_TMD_DEI_FK FOREIGN KEY  (DATABASE_INSTANCE_ID) REFERENCES TMD_DATABASE_INSTANCE (DATABASE_INSTANCE_ID) ON DELETE CASCADE;
+ALTER TABLE TMD_TRIAL_RUN_CHECKPOINT ADD CONSTRAINT TMD_TLRC_TMD_TTS_FK FOREIGN KEY  (TEST_SUITE_ID) REFERENCES TMD_TEST_SUITE (TEST_SUITE_ID) ON DELETE CASCADE;
+ALTER TABLE TMD_TRIAL_RUN_CHECKPOINT ADD CONSTRAINT TMD_TLRC_TMD_TLRS_FK FOREIGN KEY  (STATUS_CODE) REFERENCES TMD_TRIAL_RUN_STATUS (STATUS_CODE);
 ALTER TABLE TMD_TEST_QUERY_PAIR ADD CONSTRAINT TMD_TTQP_TMD_SLS_FK FOREIGN KEY  (SQL_SYNTAX_CODE) REFERENCES TMD_SQL_SYNTAX (SQL_SYNTAX_CODE);
 ALTER TABLE TMD_TEST_QUERY_PAIR ADD CONSTRAINT TMD_TTQP_TMD_PNSI_FK FOREIGN KEY  (PATTERN_SQL_IDIOM_ID) REFERENCES TMD_PATTERN_SQL_IDIOM (PATTERN_SQL_IDIOM_ID) ON DELETE CASCADE;
 
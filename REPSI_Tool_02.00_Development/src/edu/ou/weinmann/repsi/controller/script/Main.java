@@ -1,9 +1,11 @@
 package edu.ou.weinmann.repsi.controller.script;
 
+import edu.ou.weinmann.repsi.model.calibration.BatchCalibration;
 import edu.ou.weinmann.repsi.model.calibration.Calibration;
 import edu.ou.weinmann.repsi.model.database.Database;
 
 import edu.ou.weinmann.repsi.model.trial.Trial;
+import edu.ou.weinmann.repsi.model.util.ConnectionPool;
 import edu.ou.weinmann.repsi.model.util.Global;
 
 import java.util.logging.Level;
@@ -43,6 +45,12 @@ public final class Main {
     private static final Logger LOGGER =
             Logger.getLogger(Main.class.getPackage().getName());
 
+    private static final String MSG_ARGUMENT_MUST_BE_A_NUMBER =
+            ": argument must be a number";
+
+    private static final String MSG_ARGUMENT_MUST_BE_A_LIST =
+            ": argument must be a list of integers and ranges";
+
     private static final String MSG_ARGUMENT_MUST_BE_AN_INTEGER =
             ": argument must be an integer";
 
@@ -64,6 +72,41 @@ public final class Main {
 
     private static final String OPTION = "Option ";
 
+    private static final String OPTION_BCMD_CODE = "bcmd";
+
+    private static final String OPTION_BCMD_NAME =
+            "command loading a bulk load file (placeholders {table}, {columns} and {file})";
+
+    private static final String OPTION_BDIR_CODE = "bdir";
+
+    private static final String OPTION_BDIR_NAME =
+            "directory of the bulk load files <table>_<cycle>_<action>.csv (generate to file and bulk load)";
+
+    private static final String OPTION_BS_CODE = "bs";
+
+    private static final String OPTION_BS_NAME =
+            "number of generated rows inserted with one batch (0: no batches)";
+
+    private static final String OPTION_BSQL_CODE = "bsql";
+
+    private static final String OPTION_BSQL_NAME =
+            "SQL statement loading a bulk load file (placeholders {table}, {columns} and {file})";
+
+    private static final String OPTION_CI_CODE = "ci";
+
+    private static final String OPTION_CI_NAME =
+            "target relative half-width of the 95% confidence interval of the median (adaptive number of cycles)";
+
+    private static final String OPTION_CLI_CODE = "cli";
+
+    private static final String OPTION_CLI_NAME =
+            "number of concurrent clients (load calibration)";
+
+    private static final String OPTION_CONS_CODE = "cons";
+
+    private static final String OPTION_CONS_NAME =
+            "consumption of the result rows: next-only, typed or objects";
+
     private static final String OPTION_CYC_CODE = "cyc";
 
     private static final String OPTION_CYC_NAME = "number of cycles to run";
@@ -75,7 +118,12 @@ public final class Main {
     private static final String OPTION_DI_CODE = "di";
 
     private static final String OPTION_DI_NAME =
-            "database instance (identification)";
+            "database instance (identification), a list like 1,3-5 with option tqps";
+
+    private static final String OPTION_DUR_CODE = "dur";
+
+    private static final String OPTION_DUR_NAME =
+            "maximum duration in seconds of each calibration series";
 
     private static final String OPTION_EFN_CODE = "efn";
 
@@ -96,6 +144,11 @@ public final class Main {
     private static final String OPTION_EXCON_NAME =
             "execute first the query without application of the pattern and then the query with application of the pattern";
 
+    private static final String OPTION_FKS_CODE = "fks";
+
+    private static final String OPTION_FKS_NAME =
+            "number of parent key values sampled per parent table (data generation)";
+
     private static final String OPTION_FN_CODE = "fn";
 
     private static final String OPTION_FN_NAME =
@@ -111,6 +164,16 @@ public final class Main {
 
     private static final String OPTION_FS_NAME = "fetch size";
 
+    private static final String OPTION_FSAUTO_CODE = "fsauto";
+
+    private static final String OPTION_FSAUTO_NAME =
+            "apply the fetch sizes recommended by the latest fetch size calibrations";
+
+    private static final String OPTION_FSS_CODE = "fss";
+
+    private static final String OPTION_FSS_NAME =
+            "largest fetch size of a fetch size sweep (calibration of the fetch size)";
+
     private static final String OPTION_IDN_CODE = "idn";
 
     private static final String OPTION_IDN_NAME = "name of the input directory";
@@ -119,6 +182,16 @@ public final class Main {
 
     private static final String OPTION_IGN1_NAME = "ignore the first reading";
 
+    private static final String OPTION_ISO_CODE = "iso";
+
+    private static final String OPTION_ISO_NAME =
+            "isolate the workers of a batch calibration on disjoint database instances";
+
+    private static final String OPTION_MDC_CODE = "mdc";
+
+    private static final String OPTION_MDC_NAME =
+            "local file persisting the data dictionary entries of the test database (meta data cache)";
+
     private static final String OPTION_MODE_CALIBRATION = "calibration";
 
     private static final String OPTION_MODE_CODE = "mode";
@@ -147,6 +220,11 @@ public final class Main {
     private static final String OPTION_ODN_NAME =
             "name of the output directory";
 
+    private static final String OPTION_PART_CODE = "part";
+
+    private static final String OPTION_PART_NAME =
+            "number of partitions generated in parallel (data generation)";
+
     private static final String OPTION_PF_CODE = "pf";
 
     private static final String OPTION_PF_NAME = "name of the properties file";
@@ -161,11 +239,41 @@ public final class Main {
     private static final String OPTION_PREC_NAME =
             "exponent (base 10) of the time precision: 0 (nanosecond), 3 (microsecond), ...";
 
+    private static final String OPTION_PREP_CODE = "prep";
+
+    private static final String OPTION_PREP_NAME =
+            "execute the queries as prepared statements";
+
+    private static final String OPTION_RESUME_CODE = "resume";
+
+    private static final String OPTION_RESUME_NAME =
+            "resume the aborted trial run after its last checkpoint";
+
+    private static final String OPTION_SCHED_CODE = "sched";
+
+    private static final String OPTION_SCHED_NAME =
+            "schedule of the alternating executions: strict, abba or random";
+
+    private static final String OPTION_SEED_CODE = "seed";
+
+    private static final String OPTION_SEED_NAME =
+            "seed of the random number generator (calibration / data generation)";
+
+    private static final String OPTION_TOV_CODE = "tov";
+
+    private static final String OPTION_TOV_NAME =
+            "compensate the timer overhead measured by the latest nanotime calibration";
+
     private static final String OPTION_TQP_CODE = "tqp";
 
     private static final String OPTION_TQP_NAME =
             "test query pair (identification)";
 
+    private static final String OPTION_TQPS_CODE = "tqps";
+
+    private static final String OPTION_TQPS_NAME =
+            "test query pairs of a batch calibration, a list like 1,5,10-20";
+
     private static final String OPTION_TS_CODE = "ts";
 
     private static final String OPTION_TS_NAME = "test suite (identification)";
@@ -175,38 +283,87 @@ public final class Main {
     private static final String OPTION_VERB_NAME =
             "print a statistical overview";
 
+    private static final String OPTION_WARM_CODE = "warm";
+
+    private static final String OPTION_WARM_NAME =
+            "discard the readings of the warm-up phase (steady-state detection)";
+
+    private static final String OPTION_WAVES_CODE = "waves";
+
+    private static final String OPTION_WAVES_NAME =
+            "generate consecutive INSERT_ROW actions in foreign key order, independent tables concurrently";
+
+    private static final String OPTION_WRK_CODE = "wrk";
+
+    private static final String OPTION_WRK_NAME =
+            "number of workers of a batch calibration";
+
     private static final int STATUS_ERROR = 1;
 
     private static final int STATUS_OK = 0;
 
+    private static String argumentBcmd;
+
+    private static String argumentBdir;
+
+    private static int argumentBs;
+
+    private static String argumentBsql;
+
+    private static double argumentCi;
+
+    private static int argumentCli;
+
+    private static String argumentCons;
+
     private static int argumentCyc;
 
     private static int argumentDi;
 
+    private static int[] argumentDis;
+
     private static String argumentDes;
 
+    private static int argumentDur;
+
     private static String argumentEfn;
 
+    private static int argumentFks;
+
     private static String[] argumentFn;
 
     private static int argumentFs;
 
+    private static int argumentFss;
+
     private static String argumentIdn;
 
+    private static String argumentMdc;
+
     private static String argumentMode;
 
     private static String argumentObj;
 
     private static String argumentOdn;
 
+    private static int argumentPart;
+
     private static String argumentPf;
 
     private static long argumentPrec;
 
+    private static String argumentSched;
+
+    private static long argumentSeed;
+
     private static int argumentTqp;
 
+    private static int[] argumentTqps;
+
     private static int argumentTs;
 
+    private static int argumentWrk;
+
     private static Database database;
 
     private static boolean isEfnall;
@@ -217,14 +374,28 @@ public final class Main {
 
     private static boolean[] isFnxml;
 
+    private static boolean isFsauto;
+
     private static boolean isExcon;
 
     private static boolean isIgn1;
 
+    private static boolean isIso;
+
     private static boolean isPfxml;
 
+    private static boolean isPrep;
+
+    private static boolean isResume;
+
+    private static boolean isTov;
+
     private static boolean isVerbose;
 
+    private static boolean isWarm;
+
+    private static boolean isWaves;
+
     /**
      * Initialises the database accessor of the master database.
      */
@@ -243,6 +414,34 @@ public final class Main {
             return STATUS_ERROR;
         }
 
+        if (!checkOptionBcmd(parCmdLine, OPTION_BCMD_CODE)) {
+            return STATUS_ERROR;
+        }
+
+        if (!checkOptionBdir(parCmdLine, OPTION_BDIR_CODE)) {
+            return STATUS_ERROR;
+        }
+
+        if (!checkOptionBs(parCmdLine, OPTION_BS_CODE)) {
+            return STATUS_ERROR;
+        }
+
+        if (!checkOptionBsql(parCmdLine, OPTION_BSQL_CODE)) {
+            return STATUS_ERROR;
+        }
+
+        if (!checkOptionCi(parCmdLine, OPTION_CI_CODE)) {
+            return STATUS_ERROR;
+        }
+
+        if (!checkOptionCli(parCmdLine, OPTION_CLI_CODE)) {
+            return STATUS_ERROR;
+        }
+
+        if (!checkOptionCons(parCmdLine, OPTION_CONS_CODE)) {
+            return STATUS_ERROR;
+        }
+
         if (!checkOptionCyc(parCmdLine, OPTION_CYC_CODE)) {
             return STATUS_ERROR;
         }
@@ -255,6 +454,10 @@ public final class Main {
             return STATUS_ERROR;
         }
 
+        if (!checkOptionDur(parCmdLine, OPTION_DUR_CODE)) {
+            return STATUS_ERROR;
+        }
+
         if (!checkOptionEfn(parCmdLine, OPTION_EFN_CODE)) {
             return STATUS_ERROR;
         }
@@ -271,6 +474,10 @@ public final class Main {
             return STATUS_ERROR;
         }
 
+        if (!checkOptionFks(parCmdLine, OPTION_FKS_CODE)) {
+            return STATUS_ERROR;
+        }
+
         if (!checkOptionFn(parCmdLine)) {
             return STATUS_ERROR;
         }
@@ -279,6 +486,14 @@ public final class Main {
             return STATUS_ERROR;
         }
 
+        if (!checkOptionFsauto(parCmdLine, OPTION_FSAUTO_CODE)) {
+            return STATUS_ERROR;
+        }
+
+        if (!checkOptionFss(parCmdLine, OPTION_FSS_CODE)) {
+            return STATUS_ERROR;
+        }
+
         if (!checkOptionIdn(parCmdLine, OPTION_IDN_CODE)) {
             return STATUS_ERROR;
         }
@@ -287,10 +502,22 @@ public final class Main {
             return STATUS_ERROR;
         }
 
+        if (!checkOptionIso(parCmdLine, OPTION_ISO_CODE)) {
+            return STATUS_ERROR;
+        }
+
+        if (!checkOptionMdc(parCmdLine, OPTION_MDC_CODE)) {
+            return STATUS_ERROR;
+        }
+
         if (!checkOptionOdn(parCmdLine, OPTION_ODN_CODE)) {
             return STATUS_ERROR;
         }
 
+        if (!checkOptionPart(parCmdLine, OPTION_PART_CODE)) {
+            return STATUS_ERROR;
+        }
+
         if (!checkOptionPf(parCmdLine, OPTION_PF_CODE)) {
             return STATUS_ERROR;
         }
@@ -303,10 +530,34 @@ public final class Main {
             return STATUS_ERROR;
         }
 
+        if (!checkOptionPrep(parCmdLine, OPTION_PREP_CODE)) {
+            return STATUS_ERROR;
+        }
+
+        if (!checkOptionResume(parCmdLine, OPTION_RESUME_CODE)) {
+            return STATUS_ERROR;
+        }
+
+        if (!checkOptionSched(parCmdLine, OPTION_SCHED_CODE)) {
+            return STATUS_ERROR;
+        }
+
+        if (!checkOptionSeed(parCmdLine, OPTION_SEED_CODE)) {
+            return STATUS_ERROR;
+        }
+
+        if (!checkOptionTov(parCmdLine, OPTION_TOV_CODE)) {
+            return STATUS_ERROR;
+        }
+
         if (!checkOptionTqp(parCmdLine, OPTION_TQP_CODE)) {
             return STATUS_ERROR;
         }
 
+        if (!checkOptionTqps(parCmdLine, OPTION_TQPS_CODE)) {
+            return STATUS_ERROR;
+        }
+
         if (!checkOptionTs(parCmdLine, OPTION_TS_CODE)) {
             return STATUS_ERROR;
         }
@@ -315,75 +566,75 @@ public final class Main {
             return STATUS_ERROR;
         }
 
+        if (!checkOptionWarm(parCmdLine, OPTION_WARM_CODE)) {
+            return STATUS_ERROR;
+        }
+
+        if (!checkOptionWaves(parCmdLine, OPTION_WAVES_CODE)) {
+            return STATUS_ERROR;
+        }
+
+        if (!checkOptionWrk(parCmdLine, OPTION_WRK_CODE)) {
+            return STATUS_ERROR;
+        }
+
         return STATUS_OK;
     }
 
-    private static boolean checkOptionCyc(final CommandLine parCmdLine,
+    private static boolean checkOptionBcmd(final CommandLine parCmdLine,
             final String parOptionCode) {
 
         if (!parCmdLine.hasOption(parOptionCode)) {
-            if (OPTION_MODE_CALIBRATION.equals(argumentMode)) {
-                argumentCyc = 50;
-            }
-
             return true;
         }
 
-        if (!(OPTION_MODE_CALIBRATION.equals(argumentMode) || OPTION_MODE_TRIAL
-                .equals(argumentMode))) {
+        if (!OPTION_MODE_TRIAL.equals(argumentMode)) {
             LOGGER.log(Level.SEVERE, OPTION + parOptionCode
                     + MSG_OPTION_NOT_ALLOWED_WITH_MODE + argumentMode);
             return false;
         }
 
-        final String lvCycleIn = parCmdLine.getOptionValue(OPTION_CYC_CODE);
-
-        if (lvCycleIn == null) {
-            LOGGER.log(Level.SEVERE, OPTION + parOptionCode
-                    + MSG_OPTION_REQUIRES_AN_ARGUMENT);
-            return false;
-        }
-
-        try {
-            argumentCyc = Integer.parseInt(lvCycleIn);
-        } catch (NumberFormatException e) {
+        if (!parCmdLine.hasOption(OPTION_BDIR_CODE)) {
             LOGGER.log(Level.SEVERE, OPTION + parOptionCode
-                    + MSG_ARGUMENT_MUST_BE_AN_INTEGER);
+                    + ": option requires option " + OPTION_BDIR_CODE);
             return false;
         }
 
-        if (argumentCyc < 1) {
-            LOGGER.log(Level.SEVERE, OPTION + parOptionCode
-                    + ": argument must be greater than zero");
-            return false;
-        }
+        argumentBcmd = parCmdLine.getOptionValue(parOptionCode);
 
-        if (OPTION_MODE_CALIBRATION.equals(argumentMode) && argumentCyc > 999) {
+        if (argumentBcmd == null) {
             LOGGER.log(Level.SEVERE, OPTION + parOptionCode
-                    + ": argument must be less than 1000");
+                    + MSG_OPTION_REQUIRES_AN_ARGUMENT);
             return false;
         }
 
         return true;
     }
 
-    private static boolean checkOptionDes(final CommandLine parCmdLine,
+    private static boolean checkOptionBdir(final CommandLine parCmdLine,
             final String parOptionCode) {
 
         if (!parCmdLine.hasOption(parOptionCode)) {
             return true;
         }
 
-        if (!(OPTION_MODE_CALIBRATION.equals(argumentMode) || OPTION_MODE_TRIAL
-                .equals(argumentMode))) {
+        if (!OPTION_MODE_TRIAL.equals(argumentMode)) {
             LOGGER.log(Level.SEVERE, OPTION + parOptionCode
                     + MSG_OPTION_NOT_ALLOWED_WITH_MODE + argumentMode);
             return false;
         }
 
-        argumentDes = parCmdLine.getOptionValue(parOptionCode);
+        if (parCmdLine.hasOption(OPTION_BCMD_CODE) == parCmdLine
+                .hasOption(OPTION_BSQL_CODE)) {
+            LOGGER.log(Level.SEVERE, OPTION + parOptionCode
+                    + ": option requires either option " + OPTION_BCMD_CODE
+                    + " or option " + OPTION_BSQL_CODE);
+            return false;
+        }
 
-        if (argumentDes == null) {
+        argumentBdir = parCmdLine.getOptionValue(parOptionCode);
+
+        if (argumentBdir == null) {
             LOGGER.log(Level.SEVERE, OPTION + parOptionCode
                     + MSG_OPTION_REQUIRES_AN_ARGUMENT);
             return false;
@@ -392,73 +643,67 @@ public final class Main {
         return true;
     }
 
-    private static boolean checkOptionDi(final CommandLine parCmdLine,
+    private static boolean checkOptionBs(final CommandLine parCmdLine,
             final String parOptionCode) {
 
         if (!parCmdLine.hasOption(parOptionCode)) {
-
-            if (OPTION_MODE_CALIBRATION.equals(argumentMode)
-                    || OPTION_MODE_TEST.equals(argumentMode)
-                    || OPTION_MODE_TRIAL.equals(argumentMode)) {
-                LOGGER.log(Level.SEVERE, OPTION + parOptionCode
-                        + MSG_OPTION_IS_MANDATORY_WITH_MODE + argumentMode);
-                return false;
-            }
-
             return true;
         }
 
-        if (!(OPTION_MODE_CALIBRATION.equals(argumentMode)
-                || OPTION_MODE_TEST.equals(argumentMode) || OPTION_MODE_TRIAL
-                .equals(argumentMode))) {
+        if (!OPTION_MODE_TRIAL.equals(argumentMode)) {
             LOGGER.log(Level.SEVERE, OPTION + parOptionCode
                     + MSG_OPTION_NOT_ALLOWED_WITH_MODE + argumentMode);
             return false;
         }
 
-        final String lvDatabaseInstanceIdIn =
-                parCmdLine.getOptionValue(parOptionCode);
+        final String lvBatchSize = parCmdLine.getOptionValue(parOptionCode);
 
-        if (lvDatabaseInstanceIdIn == null) {
+        if (lvBatchSize == null) {
             LOGGER.log(Level.SEVERE, OPTION + parOptionCode
                     + MSG_OPTION_REQUIRES_AN_ARGUMENT);
             return false;
         }
 
         try {
-            argumentDi = Integer.parseInt(lvDatabaseInstanceIdIn);
+            argumentBs = Integer.parseInt(lvBatchSize);
         } catch (NumberFormatException e) {
             LOGGER.log(Level.SEVERE, OPTION + parOptionCode
                     + MSG_ARGUMENT_MUST_BE_AN_INTEGER);
             return false;
         }
 
+        if (argumentBs < 0 || argumentBs > Global.MAX_TRANSACTION_SIZE) {
+            LOGGER.log(Level.SEVERE, OPTION + parOptionCode
+                    + ": argument must be between 0 and "
+                    + Global.MAX_TRANSACTION_SIZE);
+            return false;
+        }
+
         return true;
     }
 
-    private static boolean checkOptionEfn(final CommandLine parCmdLine,
+    private static boolean checkOptionBsql(final CommandLine parCmdLine,
             final String parOptionCode) {
 
         if (!parCmdLine.hasOption(parOptionCode)) {
-            if (OPTION_MODE_RESULT_CN.equals(argumentMode)) {
-                argumentEfn = "out/CalibrationData.xls";
-            } else if (OPTION_MODE_RESULT_TL.equals(argumentMode)) {
-                argumentEfn = "out/TrialRunData.xls";
-            }
-
             return true;
         }
 
-        if (!(OPTION_MODE_RESULT_CN.equals(argumentMode) || OPTION_MODE_RESULT_TL
-                .equals(argumentMode))) {
+        if (!OPTION_MODE_TRIAL.equals(argumentMode)) {
             LOGGER.log(Level.SEVERE, OPTION + parOptionCode
                     + MSG_OPTION_NOT_ALLOWED_WITH_MODE + argumentMode);
             return false;
         }
 
-        argumentEfn = parCmdLine.getOptionValue(parOptionCode);
+        if (!parCmdLine.hasOption(OPTION_BDIR_CODE)) {
+            LOGGER.log(Level.SEVERE, OPTION + parOptionCode
+                    + ": option requires option " + OPTION_BDIR_CODE);
+            return false;
+        }
 
-        if (argumentEfn == null) {
+        argumentBsql = parCmdLine.getOptionValue(parOptionCode);
+
+        if (argumentBsql == null) {
             LOGGER.log(Level.SEVERE, OPTION + parOptionCode
                     + MSG_OPTION_REQUIRES_AN_ARGUMENT);
             return false;
@@ -467,36 +712,54 @@ public final class Main {
         return true;
     }
 
-    private static boolean checkOptionEfnall(final CommandLine parCmdLine,
+    private static boolean checkOptionCi(final CommandLine parCmdLine,
             final String parOptionCode) {
 
-        isEfnall = parCmdLine.hasOption(parOptionCode);
-
-        if (!isEfnall) {
+        if (!parCmdLine.hasOption(parOptionCode)) {
             return true;
         }
 
-        if (!OPTION_MODE_RESULT_TL.equals(argumentMode)) {
+        if (!OPTION_MODE_CALIBRATION.equals(argumentMode)) {
             LOGGER.log(Level.SEVERE, OPTION + parOptionCode
                     + MSG_OPTION_NOT_ALLOWED_WITH_MODE + argumentMode);
             return false;
         }
 
-        if (parCmdLine.getOptionValue(parOptionCode) != null) {
+        if (!OBJECT_TYPE_QUERY.equals(argumentObj)) {
             LOGGER.log(Level.SEVERE, OPTION + parOptionCode
-                    + MSG_OPTION_ALLOWS_NO_ARGUMENT);
+                    + ": option not allowed with obj=" + argumentObj);
+            return false;
+        }
+
+        final String lvCiIn = parCmdLine.getOptionValue(parOptionCode);
+
+        if (lvCiIn == null) {
+            LOGGER.log(Level.SEVERE, OPTION + parOptionCode
+                    + MSG_OPTION_REQUIRES_AN_ARGUMENT);
+            return false;
+        }
+
+        try {
+            argumentCi = Double.parseDouble(lvCiIn);
+        } catch (NumberFormatException e) {
+            LOGGER.log(Level.SEVERE, OPTION + parOptionCode
+                    + MSG_ARGUMENT_MUST_BE_A_NUMBER);
+            return false;
+        }
+
+        if (!(argumentCi > 0.0 && argumentCi < 1.0)) {
+            LOGGER.log(Level.SEVERE, OPTION + parOptionCode
+                    + ": argument must be greater than 0 and less than 1");
             return false;
         }
 
         return true;
     }
 
-    private static boolean checkOptionExalt(final CommandLine parCmdLine,
+    private static boolean checkOptionCli(final CommandLine parCmdLine,
             final String parOptionCode) {
 
-        isExalt = parCmdLine.hasOption(parOptionCode);
-
-        if (!isExalt) {
+        if (!parCmdLine.hasOption(parOptionCode)) {
             return true;
         }
 
@@ -512,189 +775,277 @@ public final class Main {
             return false;
         }
 
-        if (parCmdLine.getOptionValue(parOptionCode) != null) {
+        final String lvCliIn = parCmdLine.getOptionValue(parOptionCode);
+
+        if (lvCliIn == null) {
             LOGGER.log(Level.SEVERE, OPTION + parOptionCode
-                    + MSG_OPTION_ALLOWS_NO_ARGUMENT);
+                    + MSG_OPTION_REQUIRES_AN_ARGUMENT);
             return false;
         }
 
-        return true;
-    }
-
-    private static boolean checkOptionExcon(final CommandLine parCmdLine,
-            final String parOptionCode) {
+        try {
+            argumentCli = Integer.parseInt(lvCliIn);
+        } catch (NumberFormatException e) {
+            LOGGER.log(Level.SEVERE, OPTION + parOptionCode
+                    + MSG_ARGUMENT_MUST_BE_AN_INTEGER);
+            return false;
+        }
 
-        isExcon = parCmdLine.hasOption(parOptionCode);
+        if (argumentCli < 1) {
+            LOGGER.log(Level.SEVERE, OPTION + parOptionCode
+                    + ": argument must be greater than zero");
+            return false;
+        }
 
-        if (!isExcon) {
-            if (!isExalt && OPTION_MODE_CALIBRATION.equals(argumentMode)
-                    && OBJECT_TYPE_QUERY.equals(argumentObj)) {
-                LOGGER.log(Level.SEVERE, OPTION + parOptionCode
-                        + ": option exalt or excon mandatory with mode="
-                        + argumentMode + " and obj=" + argumentObj);
-                return false;
-            }
+        return true;
+    }
+
+    private static boolean checkOptionCons(final CommandLine parCmdLine,
+            final String parOptionCode) {
 
+        if (!parCmdLine.hasOption(parOptionCode)) {
             return true;
         }
 
-        if (!OPTION_MODE_CALIBRATION.equals(argumentMode)) {
+        if (!(OPTION_MODE_CALIBRATION.equals(argumentMode) || OPTION_MODE_TRIAL
+                .equals(argumentMode))) {
             LOGGER.log(Level.SEVERE, OPTION + parOptionCode
                     + MSG_OPTION_NOT_ALLOWED_WITH_MODE + argumentMode);
             return false;
         }
 
-        if (!OBJECT_TYPE_QUERY.equals(argumentObj)) {
+        if (OPTION_MODE_CALIBRATION.equals(argumentMode)
+                && !OBJECT_TYPE_QUERY.equals(argumentObj)) {
             LOGGER.log(Level.SEVERE, OPTION + parOptionCode
                     + ": option not allowed with obj=" + argumentObj);
             return false;
         }
 
-        if (parCmdLine.getOptionValue(parOptionCode) != null) {
+        argumentCons = parCmdLine.getOptionValue(parOptionCode);
+
+        if (argumentCons == null) {
             LOGGER.log(Level.SEVERE, OPTION + parOptionCode
-                    + MSG_OPTION_ALLOWS_NO_ARGUMENT);
+                    + MSG_OPTION_REQUIRES_AN_ARGUMENT);
+            return false;
+        }
+
+        if (!(Global.CONSUMPTION_NEXT_ONLY.equals(argumentCons)
+                || Global.CONSUMPTION_OBJECTS.equals(argumentCons) || Global.CONSUMPTION_TYPED
+                .equals(argumentCons))) {
+            LOGGER.log(Level.SEVERE, OPTION + parOptionCode
+                    + ": argument must be one of "
+                    + Global.CONSUMPTION_NEXT_ONLY + ", "
+                    + Global.CONSUMPTION_TYPED + " or "
+                    + Global.CONSUMPTION_OBJECTS);
             return false;
         }
 
         return true;
     }
 
-    private static boolean checkOptionFn(final CommandLine parCmdLine) {
+    private static boolean checkOptionCyc(final CommandLine parCmdLine,
+            final String parOptionCode) {
 
-        int lvNumber = 0;
+        if (!parCmdLine.hasOption(parOptionCode)) {
+            if (OPTION_MODE_CALIBRATION.equals(argumentMode)) {
+                argumentCyc = 50;
+            }
 
-        for (int i = 0; i < argumentFn.length; i++) {
+            return true;
+        }
 
-            if (!parCmdLine.hasOption(OPTION_FN_CODE + i)
-                    && !parCmdLine.hasOption(OPTION_FN_CODE + i
-                            + Global.FILE_TYPE_EXCEL)
-                    && !parCmdLine.hasOption(OPTION_FN_CODE + i
-                            + Global.FILE_TYPE_XML)) {
-                continue;
-            }
+        if (!(OPTION_MODE_CALIBRATION.equals(argumentMode) || OPTION_MODE_TRIAL
+                .equals(argumentMode))) {
+            LOGGER.log(Level.SEVERE, OPTION + parOptionCode
+                    + MSG_OPTION_NOT_ALLOWED_WITH_MODE + argumentMode);
+            return false;
+        }
 
-            if (!(OPTION_MODE_MASTER.equals(argumentMode) || OPTION_MODE_TEST
-                    .equals(argumentMode))) {
+        final String lvCycleIn = parCmdLine.getOptionValue(OPTION_CYC_CODE);
 
-                if (parCmdLine.hasOption(OPTION_FN_CODE + i)) {
-                    LOGGER.log(Level.SEVERE, OPTION + OPTION_FN_CODE + i
-                            + MSG_OPTION_NOT_ALLOWED_WITH_MODE + argumentMode);
-                    return false;
-                }
+        if (lvCycleIn == null) {
+            LOGGER.log(Level.SEVERE, OPTION + parOptionCode
+                    + MSG_OPTION_REQUIRES_AN_ARGUMENT);
+            return false;
+        }
 
-                if (parCmdLine.hasOption(OPTION_FN_CODE + i
-                        + Global.FILE_TYPE_EXCEL)) {
-                    LOGGER.log(Level.SEVERE, OPTION + OPTION_FN_CODE + i
-                            + "xls: option not allowed with mode="
-                            + argumentMode);
-                    return false;
-                }
+        try {
+            argumentCyc = Integer.parseInt(lvCycleIn);
+        } catch (NumberFormatException e) {
+            LOGGER.log(Level.SEVERE, OPTION + parOptionCode
+                    + MSG_ARGUMENT_MUST_BE_AN_INTEGER);
+            return false;
+        }
 
-                LOGGER.log(Level.SEVERE, OPTION + OPTION_FN_CODE + i
-                        + "xml: option not allowed with mode=" + argumentMode);
+        if (argumentCyc < 1) {
+            LOGGER.log(Level.SEVERE, OPTION + parOptionCode
+                    + ": argument must be greater than zero");
+            return false;
+        }
 
-                return false;
-            }
+        return true;
+    }
 
-            if (!parCmdLine.hasOption(OPTION_FN_CODE + i)) {
-                LOGGER.log(Level.SEVERE, OPTION + OPTION_FN_CODE + i
+    private static boolean checkOptionDes(final CommandLine parCmdLine,
+            final String parOptionCode) {
+
+        if (!parCmdLine.hasOption(parOptionCode)) {
+            return true;
+        }
+
+        if (!(OPTION_MODE_CALIBRATION.equals(argumentMode) || OPTION_MODE_TRIAL
+                .equals(argumentMode))) {
+            LOGGER.log(Level.SEVERE, OPTION + parOptionCode
+                    + MSG_OPTION_NOT_ALLOWED_WITH_MODE + argumentMode);
+            return false;
+        }
+
+        argumentDes = parCmdLine.getOptionValue(parOptionCode);
+
+        if (argumentDes == null) {
+            LOGGER.log(Level.SEVERE, OPTION + parOptionCode
+                    + MSG_OPTION_REQUIRES_AN_ARGUMENT);
+            return false;
+        }
+
+        return true;
+    }
+
+    private static boolean checkOptionDi(final CommandLine parCmdLine,
+            final String parOptionCode) {
+
+        if (!parCmdLine.hasOption(parOptionCode)) {
+
+            if (OPTION_MODE_CALIBRATION.equals(argumentMode)
+                    || OPTION_MODE_TEST.equals(argumentMode)
+                    || OPTION_MODE_TRIAL.equals(argumentMode)) {
+                LOGGER.log(Level.SEVERE, OPTION + parOptionCode
                         + MSG_OPTION_IS_MANDATORY_WITH_MODE + argumentMode);
                 return false;
             }
 
-            argumentFn[i] = parCmdLine.getOptionValue(OPTION_FN_CODE + i);
+            return true;
+        }
 
-            if (argumentFn[i] == null) {
-                LOGGER.log(Level.SEVERE, OPTION + OPTION_FN_CODE + i
-                        + MSG_OPTION_REQUIRES_AN_ARGUMENT);
-                return false;
-            }
+        if (!(OPTION_MODE_CALIBRATION.equals(argumentMode)
+                || OPTION_MODE_TEST.equals(argumentMode) || OPTION_MODE_TRIAL
+                .equals(argumentMode))) {
+            LOGGER.log(Level.SEVERE, OPTION + parOptionCode
+                    + MSG_OPTION_NOT_ALLOWED_WITH_MODE + argumentMode);
+            return false;
+        }
 
-            lvNumber++;
+        final String lvDatabaseInstanceIdIn =
+                parCmdLine.getOptionValue(parOptionCode);
 
-            isFnxls[i] =
-                    parCmdLine.hasOption(OPTION_FN_CODE + i
-                            + Global.FILE_TYPE_EXCEL);
-            isFnxml[i] =
-                    parCmdLine.hasOption(OPTION_FN_CODE + i
-                            + Global.FILE_TYPE_XML);
+        if (lvDatabaseInstanceIdIn == null) {
+            LOGGER.log(Level.SEVERE, OPTION + parOptionCode
+                    + MSG_OPTION_REQUIRES_AN_ARGUMENT);
+            return false;
+        }
 
-            if (isFnxls[i] && isFnxml[i]) {
-                LOGGER.log(Level.SEVERE, "Either option " + OPTION_FN_CODE + i
-                        + "xls or option " + OPTION_FN_CODE + i
-                        + "xml - but not both together");
+        if (parCmdLine.hasOption(OPTION_TQPS_CODE)) {
+            try {
+                argumentDis =
+                        BatchCalibration
+                                .parseIdentifications(lvDatabaseInstanceIdIn);
+            } catch (NumberFormatException e) {
+                LOGGER.log(Level.SEVERE, OPTION + parOptionCode
+                        + MSG_ARGUMENT_MUST_BE_A_LIST);
+                return false;
+            }
+
+            if (argumentDis.length == 0) {
+                LOGGER.log(Level.SEVERE, OPTION + parOptionCode
+                        + MSG_ARGUMENT_MUST_BE_A_LIST);
                 return false;
             }
+
+            argumentDi = argumentDis[0];
+
+            return true;
         }
 
-        if (lvNumber == 0
-                && (OPTION_MODE_MASTER.equals(argumentMode) || OPTION_MODE_TEST
-                        .equals(argumentMode))) {
-            LOGGER.log(Level.SEVERE, OPTION + OPTION_FN_CODE
-                    + ".: at least one occurence required with mode="
-                    + argumentMode);
+        try {
+            argumentDi = Integer.parseInt(lvDatabaseInstanceIdIn);
+        } catch (NumberFormatException e) {
+            LOGGER.log(Level.SEVERE, OPTION + parOptionCode
+                    + MSG_ARGUMENT_MUST_BE_AN_INTEGER);
             return false;
         }
 
+        argumentDis = new int[] { argumentDi, };
+
         return true;
     }
 
-    private static boolean checkOptionFs(final CommandLine parCmdLine,
+    private static boolean checkOptionDur(final CommandLine parCmdLine,
             final String parOptionCode) {
 
         if (!parCmdLine.hasOption(parOptionCode)) {
-            if (OPTION_MODE_CALIBRATION.equals(argumentMode)
-                    || OPTION_MODE_TRIAL.equals(argumentMode)) {
-                argumentFs = 10;
-            }
-
             return true;
         }
 
-        if (!(OPTION_MODE_CALIBRATION.equals(argumentMode) || OPTION_MODE_TRIAL
-                .equals(argumentMode))) {
+        if (!OPTION_MODE_CALIBRATION.equals(argumentMode)) {
             LOGGER.log(Level.SEVERE, OPTION + parOptionCode
                     + MSG_OPTION_NOT_ALLOWED_WITH_MODE + argumentMode);
             return false;
         }
 
-        final String lvFetchSize = parCmdLine.getOptionValue(parOptionCode);
+        if (!OBJECT_TYPE_QUERY.equals(argumentObj)) {
+            LOGGER.log(Level.SEVERE, OPTION + parOptionCode
+                    + ": option not allowed with obj=" + argumentObj);
+            return false;
+        }
 
-        if (lvFetchSize == null) {
+        final String lvDurIn = parCmdLine.getOptionValue(parOptionCode);
+
+        if (lvDurIn == null) {
             LOGGER.log(Level.SEVERE, OPTION + parOptionCode
                     + MSG_OPTION_REQUIRES_AN_ARGUMENT);
             return false;
         }
 
         try {
-            argumentFs = Integer.parseInt(lvFetchSize);
+            argumentDur = Integer.parseInt(lvDurIn);
         } catch (NumberFormatException e) {
             LOGGER.log(Level.SEVERE, OPTION + parOptionCode
                     + MSG_ARGUMENT_MUST_BE_AN_INTEGER);
             return false;
         }
 
+        if (argumentDur < 1) {
+            LOGGER.log(Level.SEVERE, OPTION + parOptionCode
+                    + ": argument must be greater than zero");
+            return false;
+        }
+
         return true;
     }
 
-    private static boolean checkOptionIdn(final CommandLine parCmdLine,
+    private static boolean checkOptionEfn(final CommandLine parCmdLine,
             final String parOptionCode) {
 
         if (!parCmdLine.hasOption(parOptionCode)) {
-            argumentIdn = "in/R";
+            if (OPTION_MODE_RESULT_CN.equals(argumentMode)) {
+                argumentEfn = "out/CalibrationData.xls";
+            } else if (OPTION_MODE_RESULT_TL.equals(argumentMode)) {
+                argumentEfn = "out/TrialRunData.xls";
+            }
 
             return true;
         }
 
-        if (!OPTION_MODE_RESULT_R.equals(argumentMode)) {
+        if (!(OPTION_MODE_RESULT_CN.equals(argumentMode) || OPTION_MODE_RESULT_TL
+                .equals(argumentMode))) {
             LOGGER.log(Level.SEVERE, OPTION + parOptionCode
                     + MSG_OPTION_NOT_ALLOWED_WITH_MODE + argumentMode);
             return false;
         }
 
-        argumentIdn = parCmdLine.getOptionValue(parOptionCode);
+        argumentEfn = parCmdLine.getOptionValue(parOptionCode);
 
-        if (argumentIdn == null) {
+        if (argumentEfn == null) {
             LOGGER.log(Level.SEVERE, OPTION + parOptionCode
                     + MSG_OPTION_REQUIRES_AN_ARGUMENT);
             return false;
@@ -703,16 +1054,16 @@ public final class Main {
         return true;
     }
 
-    private static boolean checkOptionIgn1(final CommandLine parCmdLine,
+    private static boolean checkOptionEfnall(final CommandLine parCmdLine,
             final String parOptionCode) {
 
-        isIgn1 = parCmdLine.hasOption(parOptionCode);
+        isEfnall = parCmdLine.hasOption(parOptionCode);
 
-        if (!isIgn1) {
+        if (!isEfnall) {
             return true;
         }
 
-        if (!OPTION_MODE_CALIBRATION.equals(argumentMode)) {
+        if (!OPTION_MODE_RESULT_TL.equals(argumentMode)) {
             LOGGER.log(Level.SEVERE, OPTION + parOptionCode
                     + MSG_OPTION_NOT_ALLOWED_WITH_MODE + argumentMode);
             return false;
@@ -727,20 +1078,422 @@ public final class Main {
         return true;
     }
 
-    private static boolean checkOptionMode(final CommandLine parCmdLine,
+    private static boolean checkOptionExalt(final CommandLine parCmdLine,
             final String parOptionCode) {
 
-        if (!parCmdLine.hasOption(parOptionCode)) {
+        isExalt = parCmdLine.hasOption(parOptionCode);
+
+        if (!isExalt) {
+            return true;
+        }
+
+        if (!OPTION_MODE_CALIBRATION.equals(argumentMode)) {
             LOGGER.log(Level.SEVERE, OPTION + parOptionCode
-                    + MSG_OPTION_IS_MANDATORY_WITH_MODE + argumentMode);
+                    + MSG_OPTION_NOT_ALLOWED_WITH_MODE + argumentMode);
             return false;
         }
 
-        argumentMode = parCmdLine.getOptionValue(parOptionCode);
+        if (!OBJECT_TYPE_QUERY.equals(argumentObj)) {
+            LOGGER.log(Level.SEVERE, OPTION + parOptionCode
+                    + ": option not allowed with obj=" + argumentObj);
+            return false;
+        }
 
-        if (argumentMode == null) {
+        if (parCmdLine.getOptionValue(parOptionCode) != null) {
             LOGGER.log(Level.SEVERE, OPTION + parOptionCode
-                    + MSG_OPTION_REQUIRES_AN_ARGUMENT);
+                    + MSG_OPTION_ALLOWS_NO_ARGUMENT);
+            return false;
+        }
+
+        return true;
+    }
+
+    private static boolean checkOptionExcon(final CommandLine parCmdLine,
+            final String parOptionCode) {
+
+        isExcon = parCmdLine.hasOption(parOptionCode);
+
+        if (!isExcon) {
+            if (!isExalt && OPTION_MODE_CALIBRATION.equals(argumentMode)
+                    && OBJECT_TYPE_QUERY.equals(argumentObj)) {
+                LOGGER.log(Level.SEVERE, OPTION + parOptionCode
+                        + ": option exalt or excon mandatory with mode="
+                        + argumentMode + " and obj=" + argumentObj);
+                return false;
+            }
+
+            return true;
+        }
+
+        if (!OPTION_MODE_CALIBRATION.equals(argumentMode)) {
+            LOGGER.log(Level.SEVERE, OPTION + parOptionCode
+                    + MSG_OPTION_NOT_ALLOWED_WITH_MODE + argumentMode);
+            return false;
+        }
+
+        if (!OBJECT_TYPE_QUERY.equals(argumentObj)) {
+            LOGGER.log(Level.SEVERE, OPTION + parOptionCode
+                    + ": option not allowed with obj=" + argumentObj);
+            return false;
+        }
+
+        if (parCmdLine.getOptionValue(parOptionCode) != null) {
+            LOGGER.log(Level.SEVERE, OPTION + parOptionCode
+                    + MSG_OPTION_ALLOWS_NO_ARGUMENT);
+            return false;
+        }
+
+        return true;
+    }
+
+    private static boolean checkOptionFks(final CommandLine parCmdLine,
+            final String parOptionCode) {
+
+        if (!parCmdLine.hasOption(parOptionCode)) {
+            return true;
+        }
+
+        if (!OPTION_MODE_TRIAL.equals(argumentMode)) {
+            LOGGER.log(Level.SEVERE, OPTION + parOptionCode
+                    + MSG_OPTION_NOT_ALLOWED_WITH_MODE + argumentMode);
+            return false;
+        }
+
+        final String lvSampleSize = parCmdLine.getOptionValue(parOptionCode);
+
+        if (lvSampleSize == null) {
+            LOGGER.log(Level.SEVERE, OPTION + parOptionCode
+                    + MSG_OPTION_REQUIRES_AN_ARGUMENT);
+            return false;
+        }
+
+        try {
+            argumentFks = Integer.parseInt(lvSampleSize);
+        } catch (NumberFormatException e) {
+            LOGGER.log(Level.SEVERE, OPTION + parOptionCode
+                    + MSG_ARGUMENT_MUST_BE_AN_INTEGER);
+            return false;
+        }
+
+        if (argumentFks < 1) {
+            LOGGER.log(Level.SEVERE, OPTION + parOptionCode
+                    + ": argument must be greater than 0");
+            return false;
+        }
+
+        return true;
+    }
+
+    private static boolean checkOptionFn(final CommandLine parCmdLine) {
+
+        int lvNumber = 0;
+
+        for (int i = 0; i < argumentFn.length; i++) {
+
+            if (!parCmdLine.hasOption(OPTION_FN_CODE + i)
+                    && !parCmdLine.hasOption(OPTION_FN_CODE + i
+                            + Global.FILE_TYPE_EXCEL)
+                    && !parCmdLine.hasOption(OPTION_FN_CODE + i
+                            + Global.FILE_TYPE_XML)) {
+                continue;
+            }
+
+            if (!(OPTION_MODE_MASTER.equals(argumentMode) || OPTION_MODE_TEST
+                    .equals(argumentMode))) {
+
+                if (parCmdLine.hasOption(OPTION_FN_CODE + i)) {
+                    LOGGER.log(Level.SEVERE, OPTION + OPTION_FN_CODE + i
+                            + MSG_OPTION_NOT_ALLOWED_WITH_MODE + argumentMode);
+                    return false;
+                }
+
+                if (parCmdLine.hasOption(OPTION_FN_CODE + i
+                        + Global.FILE_TYPE_EXCEL)) {
+                    LOGGER.log(Level.SEVERE, OPTION + OPTION_FN_CODE + i
+                            + "xls: option not allowed with mode="
+                            + argumentMode);
+                    return false;
+                }
+
+                LOGGER.log(Level.SEVERE, OPTION + OPTION_FN_CODE + i
+                        + "xml: option not allowed with mode=" + argumentMode);
+
+                return false;
+            }
+
+            if (!parCmdLine.hasOption(OPTION_FN_CODE + i)) {
+                LOGGER.log(Level.SEVERE, OPTION + OPTION_FN_CODE + i
+                        + MSG_OPTION_IS_MANDATORY_WITH_MODE + argumentMode);
+                return false;
+            }
+
+            argumentFn[i] = parCmdLine.getOptionValue(OPTION_FN_CODE + i);
+
+            if (argumentFn[i] == null) {
+                LOGGER.log(Level.SEVERE, OPTION + OPTION_FN_CODE + i
+                        + MSG_OPTION_REQUIRES_AN_ARGUMENT);
+                return false;
+            }
+
+            lvNumber++;
+
+            isFnxls[i] =
+                    parCmdLine.hasOption(OPTION_FN_CODE + i
+                            + Global.FILE_TYPE_EXCEL);
+            isFnxml[i] =
+                    parCmdLine.hasOption(OPTION_FN_CODE + i
+                            + Global.FILE_TYPE_XML);
+
+            if (isFnxls[i] && isFnxml[i]) {
+                LOGGER.log(Level.SEVERE, "Either option " + OPTION_FN_CODE + i
+                        + "xls or option " + OPTION_FN_CODE + i
+                        + "xml - but not both together");
+                return false;
+            }
+        }
+
+        if (lvNumber == 0
+                && (OPTION_MODE_MASTER.equals(argumentMode) || OPTION_MODE_TEST
+                        .equals(argumentMode))) {
+            LOGGER.log(Level.SEVERE, OPTION + OPTION_FN_CODE
+                    + ".: at least one occurence required with mode="
+                    + argumentMode);
+            return false;
+        }
+
+        return true;
+    }
+
+    private static boolean checkOptionFs(final CommandLine parCmdLine,
+            final String parOptionCode) {
+
+        if (!parCmdLine.hasOption(parOptionCode)) {
+            if (OPTION_MODE_CALIBRATION.equals(argumentMode)
+                    || OPTION_MODE_TRIAL.equals(argumentMode)) {
+                argumentFs = 10;
+            }
+
+            return true;
+        }
+
+        if (!(OPTION_MODE_CALIBRATION.equals(argumentMode) || OPTION_MODE_TRIAL
+                .equals(argumentMode))) {
+            LOGGER.log(Level.SEVERE, OPTION + parOptionCode
+                    + MSG_OPTION_NOT_ALLOWED_WITH_MODE + argumentMode);
+            return false;
+        }
+
+        final String lvFetchSize = parCmdLine.getOptionValue(parOptionCode);
+
+        if (lvFetchSize == null) {
+            LOGGER.log(Level.SEVERE, OPTION + parOptionCode
+                    + MSG_OPTION_REQUIRES_AN_ARGUMENT);
+            return false;
+        }
+
+        try {
+            argumentFs = Integer.parseInt(lvFetchSize);
+        } catch (NumberFormatException e) {
+            LOGGER.log(Level.SEVERE, OPTION + parOptionCode
+                    + MSG_ARGUMENT_MUST_BE_AN_INTEGER);
+            return false;
+        }
+
+        return true;
+    }
+
+    private static boolean checkOptionFsauto(final CommandLine parCmdLine,
+            final String parOptionCode) {
+
+        isFsauto = parCmdLine.hasOption(parOptionCode);
+
+        if (!isFsauto) {
+            return true;
+        }
+
+        if (!OPTION_MODE_TRIAL.equals(argumentMode)) {
+            LOGGER.log(Level.SEVERE, OPTION + parOptionCode
+                    + MSG_OPTION_NOT_ALLOWED_WITH_MODE + argumentMode);
+            return false;
+        }
+
+        if (parCmdLine.getOptionValue(parOptionCode) != null) {
+            LOGGER.log(Level.SEVERE, OPTION + parOptionCode
+                    + MSG_OPTION_ALLOWS_NO_ARGUMENT);
+            return false;
+        }
+
+        return true;
+    }
+
+    private static boolean checkOptionFss(final CommandLine parCmdLine,
+            final String parOptionCode) {
+
+        if (!parCmdLine.hasOption(parOptionCode)) {
+            return true;
+        }
+
+        if (!OPTION_MODE_CALIBRATION.equals(argumentMode)) {
+            LOGGER.log(Level.SEVERE, OPTION + parOptionCode
+                    + MSG_OPTION_NOT_ALLOWED_WITH_MODE + argumentMode);
+            return false;
+        }
+
+        if (!OBJECT_TYPE_QUERY.equals(argumentObj)) {
+            LOGGER.log(Level.SEVERE, OPTION + parOptionCode
+                    + ": option not allowed with obj=" + argumentObj);
+            return false;
+        }
+
+        if (parCmdLine.hasOption(OPTION_TQPS_CODE)) {
+            LOGGER.log(Level.SEVERE, OPTION + parOptionCode
+                    + ": option not allowed with option " + OPTION_TQPS_CODE);
+            return false;
+        }
+
+        final String lvFssIn = parCmdLine.getOptionValue(parOptionCode);
+
+        if (lvFssIn == null) {
+            LOGGER.log(Level.SEVERE, OPTION + parOptionCode
+                    + MSG_OPTION_REQUIRES_AN_ARGUMENT);
+            return false;
+        }
+
+        try {
+            argumentFss = Integer.parseInt(lvFssIn);
+        } catch (NumberFormatException e) {
+            LOGGER.log(Level.SEVERE, OPTION + parOptionCode
+                    + MSG_ARGUMENT_MUST_BE_AN_INTEGER);
+            return false;
+        }
+
+        if (argumentFss < 1) {
+            LOGGER.log(Level.SEVERE, OPTION + parOptionCode
+                    + ": argument must be greater than zero");
+            return false;
+        }
+
+        return true;
+    }
+
+    private static boolean checkOptionIdn(final CommandLine parCmdLine,
+            final String parOptionCode) {
+
+        if (!parCmdLine.hasOption(parOptionCode)) {
+            argumentIdn = "in/R";
+
+            return true;
+        }
+
+        if (!OPTION_MODE_RESULT_R.equals(argumentMode)) {
+            LOGGER.log(Level.SEVERE, OPTION + parOptionCode
+                    + MSG_OPTION_NOT_ALLOWED_WITH_MODE + argumentMode);
+            return false;
+        }
+
+        argumentIdn = parCmdLine.getOptionValue(parOptionCode);
+
+        if (argumentIdn == null) {
+            LOGGER.log(Level.SEVERE, OPTION + parOptionCode
+                    + MSG_OPTION_REQUIRES_AN_ARGUMENT);
+            return false;
+        }
+
+        return true;
+    }
+
+    private static boolean checkOptionIgn1(final CommandLine parCmdLine,
+            final String parOptionCode) {
+
+        isIgn1 = parCmdLine.hasOption(parOptionCode);
+
+        if (!isIgn1) {
+            return true;
+        }
+
+        if (!OPTION_MODE_CALIBRATION.equals(argumentMode)) {
+            LOGGER.log(Level.SEVERE, OPTION + parOptionCode
+                    + MSG_OPTION_NOT_ALLOWED_WITH_MODE + argumentMode);
+            return false;
+        }
+
+        if (parCmdLine.getOptionValue(parOptionCode) != null) {
+            LOGGER.log(Level.SEVERE, OPTION + parOptionCode
+                    + MSG_OPTION_ALLOWS_NO_ARGUMENT);
+            return false;
+        }
+
+        return true;
+    }
+
+    private static boolean checkOptionIso(final CommandLine parCmdLine,
+            final String parOptionCode) {
+
+        isIso = parCmdLine.hasOption(parOptionCode);
+
+        if (!isIso) {
+            return true;
+        }
+
+        if (!parCmdLine.hasOption(OPTION_TQPS_CODE)) {
+            LOGGER.log(Level.SEVERE, OPTION + parOptionCode
+                    + ": option requires option " + OPTION_TQPS_CODE);
+            return false;
+        }
+
+        if (parCmdLine.hasOption(OPTION_WRK_CODE)) {
+            LOGGER.log(Level.SEVERE, OPTION + parOptionCode
+                    + ": option not allowed with option " + OPTION_WRK_CODE);
+            return false;
+        }
+
+        if (parCmdLine.getOptionValue(parOptionCode) != null) {
+            LOGGER.log(Level.SEVERE, OPTION + parOptionCode
+                    + MSG_OPTION_ALLOWS_NO_ARGUMENT);
+            return false;
+        }
+
+        return true;
+    }
+
+    private static boolean checkOptionMdc(final CommandLine parCmdLine,
+            final String parOptionCode) {
+
+        if (!parCmdLine.hasOption(parOptionCode)) {
+            return true;
+        }
+
+        if (!OPTION_MODE_TRIAL.equals(argumentMode)) {
+            LOGGER.log(Level.SEVERE, OPTION + parOptionCode
+                    + MSG_OPTION_NOT_ALLOWED_WITH_MODE + argumentMode);
+            return false;
+        }
+
+        argumentMdc = parCmdLine.getOptionValue(parOptionCode);
+
+        if (argumentMdc == null) {
+            LOGGER.log(Level.SEVERE, OPTION + parOptionCode
+                    + MSG_OPTION_REQUIRES_AN_ARGUMENT);
+            return false;
+        }
+
+        return true;
+    }
+
+    private static boolean checkOptionMode(final CommandLine parCmdLine,
+            final String parOptionCode) {
+
+        if (!parCmdLine.hasOption(parOptionCode)) {
+            LOGGER.log(Level.SEVERE, OPTION + parOptionCode
+                    + MSG_OPTION_IS_MANDATORY_WITH_MODE + argumentMode);
+            return false;
+        }
+
+        argumentMode = parCmdLine.getOptionValue(parOptionCode);
+
+        if (argumentMode == null) {
+            LOGGER.log(Level.SEVERE, OPTION + parOptionCode
+                    + MSG_OPTION_REQUIRES_AN_ARGUMENT);
             return false;
         }
 
@@ -757,115 +1510,298 @@ public final class Main {
         LOGGER.log(Level.SEVERE, OPTION + parOptionCode
                 + ": option has wrong argument");
 
-        return false;
+        return false;
+    }
+
+    private static boolean checkOptionObj(final CommandLine parCmdLine,
+            final String parOptionCode) {
+
+        if (!parCmdLine.hasOption(parOptionCode)) {
+            if (OPTION_MODE_CALIBRATION.equals(argumentMode)) {
+                LOGGER.log(Level.SEVERE, OPTION + parOptionCode
+                        + MSG_OPTION_IS_MANDATORY_WITH_MODE + argumentMode);
+                return false;
+            }
+
+            return true;
+        }
+
+        if (!OPTION_MODE_CALIBRATION.equals(argumentMode)) {
+            LOGGER.log(Level.SEVERE, OPTION + parOptionCode
+                    + MSG_OPTION_NOT_ALLOWED_WITH_MODE + argumentMode);
+            return false;
+        }
+
+        argumentObj = parCmdLine.getOptionValue(parOptionCode);
+
+        if (argumentObj == null) {
+            LOGGER.log(Level.SEVERE, OPTION + parOptionCode
+                    + MSG_OPTION_REQUIRES_AN_ARGUMENT);
+            return false;
+        }
+
+        if (!(OBJECT_TYPE_NANOTIME.equals(argumentObj) || OBJECT_TYPE_QUERY
+                .equals(argumentObj))) {
+            LOGGER.log(Level.SEVERE, OPTION + parOptionCode
+                    + ": option has wrong argument");
+            return false;
+        }
+
+        return true;
+    }
+
+    private static boolean checkOptionOdn(final CommandLine parCmdLine,
+            final String parOptionCode) {
+
+        if (!parCmdLine.hasOption(parOptionCode)) {
+            argumentOdn = "out/R";
+
+            return true;
+        }
+
+        if (!OPTION_MODE_RESULT_R.equals(argumentMode)) {
+            LOGGER.log(Level.SEVERE, OPTION + parOptionCode
+                    + MSG_OPTION_NOT_ALLOWED_WITH_MODE + argumentMode);
+            return false;
+        }
+
+        argumentOdn = parCmdLine.getOptionValue(parOptionCode);
+
+        if (argumentOdn == null) {
+            LOGGER.log(Level.SEVERE, OPTION + parOptionCode
+                    + MSG_OPTION_REQUIRES_AN_ARGUMENT);
+            return false;
+        }
+
+        return true;
+    }
+
+    private static boolean checkOptionPart(final CommandLine parCmdLine,
+            final String parOptionCode) {
+
+        if (!parCmdLine.hasOption(parOptionCode)) {
+            return true;
+        }
+
+        if (!OPTION_MODE_TRIAL.equals(argumentMode)) {
+            LOGGER.log(Level.SEVERE, OPTION + parOptionCode
+                    + MSG_OPTION_NOT_ALLOWED_WITH_MODE + argumentMode);
+            return false;
+        }
+
+        final String lvPartitions = parCmdLine.getOptionValue(parOptionCode);
+
+        if (lvPartitions == null) {
+            LOGGER.log(Level.SEVERE, OPTION + parOptionCode
+                    + MSG_OPTION_REQUIRES_AN_ARGUMENT);
+            return false;
+        }
+
+        try {
+            argumentPart = Integer.parseInt(lvPartitions);
+        } catch (NumberFormatException e) {
+            LOGGER.log(Level.SEVERE, OPTION + parOptionCode
+                    + MSG_ARGUMENT_MUST_BE_AN_INTEGER);
+            return false;
+        }
+
+        if (argumentPart < 1) {
+            LOGGER.log(Level.SEVERE, OPTION + parOptionCode
+                    + ": argument must be greater than 0");
+            return false;
+        }
+
+        return true;
+    }
+
+    private static boolean checkOptionPf(final CommandLine parCmdLine,
+            final String parOptionCode) {
+
+        if (!parCmdLine.hasOption(parOptionCode)) {
+            return true;
+        }
+
+        argumentPf = parCmdLine.getOptionValue(parOptionCode);
+
+        if ("".equals(argumentPf)) {
+            LOGGER.log(Level.SEVERE, OPTION + parOptionCode
+                    + MSG_OPTION_REQUIRES_AN_ARGUMENT);
+            return false;
+        }
+
+        return true;
+    }
+
+    private static boolean checkOptionPfxml(final CommandLine parCmdLine,
+            final String parOptionCode) {
+
+        isPfxml = parCmdLine.hasOption(parOptionCode);
+
+        if (!isPfxml) {
+            return true;
+        }
+
+        if (parCmdLine.getOptionValue(parOptionCode) != null) {
+            LOGGER.log(Level.SEVERE, OPTION + parOptionCode
+                    + MSG_OPTION_ALLOWS_NO_ARGUMENT);
+            return false;
+        }
+
+        if ("".equals(argumentPf)) {
+            LOGGER.log(Level.SEVERE, OPTION + parOptionCode
+                    + ": option only allowed in connection with option pf");
+            return false;
+        }
+
+        return true;
+    }
+
+    private static boolean checkOptionPrec(final CommandLine parCmdLine,
+            final String parOptionCode) {
+
+        if (!parCmdLine.hasOption(parOptionCode)) {
+            return true;
+        }
+
+        if (!(OPTION_MODE_CALIBRATION.equals(argumentMode) || OPTION_MODE_TRIAL
+                .equals(argumentMode))) {
+            LOGGER.log(Level.SEVERE, OPTION + parOptionCode
+                    + MSG_OPTION_NOT_ALLOWED_WITH_MODE + argumentMode);
+            return false;
+        }
+
+        int lvPrecision;
+
+        final String lvPrecisionIn = parCmdLine.getOptionValue(parOptionCode);
+
+        if (lvPrecisionIn == null) {
+            LOGGER.log(Level.SEVERE, OPTION + parOptionCode
+                    + MSG_OPTION_REQUIRES_AN_ARGUMENT);
+            return false;
+        }
+
+        try {
+            lvPrecision = Integer.parseInt(lvPrecisionIn);
+        } catch (NumberFormatException e) {
+            LOGGER.log(Level.SEVERE, OPTION + parOptionCode
+                    + MSG_ARGUMENT_MUST_BE_AN_INTEGER);
+            return false;
+        }
+
+        if (lvPrecision < 0) {
+            LOGGER.log(Level.SEVERE, OPTION + parOptionCode
+                    + ": argument must be positive");
+            return false;
+        }
+
+        argumentPrec =
+                Double
+                        .valueOf(
+                                Math
+                                        .pow(10., Double
+                                                .parseDouble(lvPrecisionIn)))
+                        .intValue();
+
+        return true;
     }
 
-    private static boolean checkOptionObj(final CommandLine parCmdLine,
+    private static boolean checkOptionPrep(final CommandLine parCmdLine,
             final String parOptionCode) {
 
-        if (!parCmdLine.hasOption(parOptionCode)) {
-            if (OPTION_MODE_CALIBRATION.equals(argumentMode)) {
-                LOGGER.log(Level.SEVERE, OPTION + parOptionCode
-                        + MSG_OPTION_IS_MANDATORY_WITH_MODE + argumentMode);
-                return false;
-            }
+        isPrep = parCmdLine.hasOption(parOptionCode);
 
+        if (!isPrep) {
             return true;
         }
 
-        if (!OPTION_MODE_CALIBRATION.equals(argumentMode)) {
+        if (!(OPTION_MODE_CALIBRATION.equals(argumentMode) || OPTION_MODE_TRIAL
+                .equals(argumentMode))) {
             LOGGER.log(Level.SEVERE, OPTION + parOptionCode
                     + MSG_OPTION_NOT_ALLOWED_WITH_MODE + argumentMode);
             return false;
         }
 
-        argumentObj = parCmdLine.getOptionValue(parOptionCode);
-
-        if (argumentObj == null) {
+        if (OPTION_MODE_CALIBRATION.equals(argumentMode)
+                && !OBJECT_TYPE_QUERY.equals(argumentObj)) {
             LOGGER.log(Level.SEVERE, OPTION + parOptionCode
-                    + MSG_OPTION_REQUIRES_AN_ARGUMENT);
+                    + ": option not allowed with obj=" + argumentObj);
             return false;
         }
 
-        if (!(OBJECT_TYPE_NANOTIME.equals(argumentObj) || OBJECT_TYPE_QUERY
-                .equals(argumentObj))) {
+        if (parCmdLine.getOptionValue(parOptionCode) != null) {
             LOGGER.log(Level.SEVERE, OPTION + parOptionCode
-                    + ": option has wrong argument");
+                    + MSG_OPTION_ALLOWS_NO_ARGUMENT);
             return false;
         }
 
         return true;
     }
 
-    private static boolean checkOptionOdn(final CommandLine parCmdLine,
+    private static boolean checkOptionResume(final CommandLine parCmdLine,
             final String parOptionCode) {
 
-        if (!parCmdLine.hasOption(parOptionCode)) {
-            argumentOdn = "out/R";
+        isResume = parCmdLine.hasOption(parOptionCode);
 
+        if (!isResume) {
             return true;
         }
 
-        if (!OPTION_MODE_RESULT_R.equals(argumentMode)) {
+        if (!OPTION_MODE_TRIAL.equals(argumentMode)) {
             LOGGER.log(Level.SEVERE, OPTION + parOptionCode
                     + MSG_OPTION_NOT_ALLOWED_WITH_MODE + argumentMode);
             return false;
         }
 
-        argumentOdn = parCmdLine.getOptionValue(parOptionCode);
-
-        if (argumentOdn == null) {
+        if (parCmdLine.getOptionValue(parOptionCode) != null) {
             LOGGER.log(Level.SEVERE, OPTION + parOptionCode
-                    + MSG_OPTION_REQUIRES_AN_ARGUMENT);
+                    + MSG_OPTION_ALLOWS_NO_ARGUMENT);
             return false;
         }
 
         return true;
     }
 
-    private static boolean checkOptionPf(final CommandLine parCmdLine,
+    private static boolean checkOptionSched(final CommandLine parCmdLine,
             final String parOptionCode) {
 
         if (!parCmdLine.hasOption(parOptionCode)) {
             return true;
         }
 
-        argumentPf = parCmdLine.getOptionValue(parOptionCode);
-
-        if ("".equals(argumentPf)) {
+        if (!OPTION_MODE_CALIBRATION.equals(argumentMode)) {
             LOGGER.log(Level.SEVERE, OPTION + parOptionCode
-                    + MSG_OPTION_REQUIRES_AN_ARGUMENT);
+                    + MSG_OPTION_NOT_ALLOWED_WITH_MODE + argumentMode);
             return false;
         }
 
-        return true;
-    }
-
-    private static boolean checkOptionPfxml(final CommandLine parCmdLine,
-            final String parOptionCode) {
-
-        isPfxml = parCmdLine.hasOption(parOptionCode);
-
-        if (!isPfxml) {
-            return true;
+        if (!OBJECT_TYPE_QUERY.equals(argumentObj)) {
+            LOGGER.log(Level.SEVERE, OPTION + parOptionCode
+                    + ": option not allowed with obj=" + argumentObj);
+            return false;
         }
 
-        if (parCmdLine.getOptionValue(parOptionCode) != null) {
+        argumentSched = parCmdLine.getOptionValue(parOptionCode);
+
+        if (argumentSched == null) {
             LOGGER.log(Level.SEVERE, OPTION + parOptionCode
-                    + MSG_OPTION_ALLOWS_NO_ARGUMENT);
+                    + MSG_OPTION_REQUIRES_AN_ARGUMENT);
             return false;
         }
 
-        if ("".equals(argumentPf)) {
+        if (!(Global.SCHEDULE_ABBA.equals(argumentSched)
+                || Global.SCHEDULE_RANDOM.equals(argumentSched) || Global.SCHEDULE_STRICT
+                .equals(argumentSched))) {
             LOGGER.log(Level.SEVERE, OPTION + parOptionCode
-                    + ": option only allowed in connection with option pf");
+                    + ": argument must be one of " + Global.SCHEDULE_STRICT
+                    + ", " + Global.SCHEDULE_ABBA + " or "
+                    + Global.SCHEDULE_RANDOM);
             return false;
         }
 
         return true;
     }
 
-    private static boolean checkOptionPrec(final CommandLine parCmdLine,
+    private static boolean checkOptionSeed(final CommandLine parCmdLine,
             final String parOptionCode) {
 
         if (!parCmdLine.hasOption(parOptionCode)) {
@@ -879,37 +1815,60 @@ public final class Main {
             return false;
         }
 
-        int lvPrecision;
+        if (OPTION_MODE_CALIBRATION.equals(argumentMode)
+                && !OBJECT_TYPE_QUERY.equals(argumentObj)) {
+            LOGGER.log(Level.SEVERE, OPTION + parOptionCode
+                    + ": option not allowed with obj=" + argumentObj);
+            return false;
+        }
 
-        final String lvPrecisionIn = parCmdLine.getOptionValue(parOptionCode);
+        final String lvSeedIn = parCmdLine.getOptionValue(parOptionCode);
 
-        if (lvPrecisionIn == null) {
+        if (lvSeedIn == null) {
             LOGGER.log(Level.SEVERE, OPTION + parOptionCode
                     + MSG_OPTION_REQUIRES_AN_ARGUMENT);
             return false;
         }
 
         try {
-            lvPrecision = Integer.parseInt(lvPrecisionIn);
+            argumentSeed = Long.parseLong(lvSeedIn);
         } catch (NumberFormatException e) {
             LOGGER.log(Level.SEVERE, OPTION + parOptionCode
                     + MSG_ARGUMENT_MUST_BE_AN_INTEGER);
             return false;
         }
 
-        if (lvPrecision < 0) {
+        return true;
+    }
+
+    private static boolean checkOptionTov(final CommandLine parCmdLine,
+            final String parOptionCode) {
+
+        isTov = parCmdLine.hasOption(parOptionCode);
+
+        if (!isTov) {
+            return true;
+        }
+
+        if (!(OPTION_MODE_CALIBRATION.equals(argumentMode) || OPTION_MODE_TRIAL
+                .equals(argumentMode))) {
             LOGGER.log(Level.SEVERE, OPTION + parOptionCode
-                    + ": argument must be positive");
+                    + MSG_OPTION_NOT_ALLOWED_WITH_MODE + argumentMode);
             return false;
         }
 
-        argumentPrec =
-                Double
-                        .valueOf(
-                                Math
-                                        .pow(10., Double
-                                                .parseDouble(lvPrecisionIn)))
-                        .intValue();
+        if (OPTION_MODE_CALIBRATION.equals(argumentMode)
+                && !OBJECT_TYPE_QUERY.equals(argumentObj)) {
+            LOGGER.log(Level.SEVERE, OPTION + parOptionCode
+                    + ": option not allowed with obj=" + argumentObj);
+            return false;
+        }
+
+        if (parCmdLine.getOptionValue(parOptionCode) != null) {
+            LOGGER.log(Level.SEVERE, OPTION + parOptionCode
+                    + MSG_OPTION_ALLOWS_NO_ARGUMENT);
+            return false;
+        }
 
         return true;
     }
@@ -920,7 +1879,8 @@ public final class Main {
         if (!parCmdLine.hasOption(parOptionCode)) {
 
             if (OPTION_MODE_CALIBRATION.equals(argumentMode)
-                    && OBJECT_TYPE_QUERY.equals(argumentObj)) {
+                    && OBJECT_TYPE_QUERY.equals(argumentObj)
+                    && !parCmdLine.hasOption(OPTION_TQPS_CODE)) {
                 LOGGER.log(Level.SEVERE, OPTION + parOptionCode
                         + MSG_OPTION_IS_MANDATORY_WITH_MODE + argumentMode
                         + " and obj=" + argumentObj);
@@ -930,6 +1890,12 @@ public final class Main {
             return true;
         }
 
+        if (parCmdLine.hasOption(OPTION_TQPS_CODE)) {
+            LOGGER.log(Level.SEVERE, OPTION + parOptionCode
+                    + ": option not allowed with option " + OPTION_TQPS_CODE);
+            return false;
+        }
+
         if (!OPTION_MODE_CALIBRATION.equals(argumentMode)) {
             LOGGER.log(Level.SEVERE, OPTION + parOptionCode
                     + MSG_OPTION_NOT_ALLOWED_WITH_MODE + argumentMode);
@@ -962,6 +1928,53 @@ public final class Main {
         return true;
     }
 
+    private static boolean checkOptionTqps(final CommandLine parCmdLine,
+            final String parOptionCode) {
+
+        if (!parCmdLine.hasOption(parOptionCode)) {
+            return true;
+        }
+
+        if (!OPTION_MODE_CALIBRATION.equals(argumentMode)) {
+            LOGGER.log(Level.SEVERE, OPTION + parOptionCode
+                    + MSG_OPTION_NOT_ALLOWED_WITH_MODE + argumentMode);
+            return false;
+        }
+
+        if (!OBJECT_TYPE_QUERY.equals(argumentObj)) {
+            LOGGER.log(Level.SEVERE, OPTION + parOptionCode
+                    + ": option not allowed with obj=" + argumentObj);
+            return false;
+        }
+
+        final String lvTestQueryPairIdsIn =
+                parCmdLine.getOptionValue(parOptionCode);
+
+        if (lvTestQueryPairIdsIn == null) {
+            LOGGER.log(Level.SEVERE, OPTION + parOptionCode
+                    + MSG_OPTION_REQUIRES_AN_ARGUMENT);
+            return false;
+        }
+
+        try {
+            argumentTqps =
+                    BatchCalibration
+                            .parseIdentifications(lvTestQueryPairIdsIn);
+        } catch (NumberFormatException e) {
+            LOGGER.log(Level.SEVERE, OPTION + parOptionCode
+                    + MSG_ARGUMENT_MUST_BE_A_LIST);
+            return false;
+        }
+
+        if (argumentTqps.length == 0) {
+            LOGGER.log(Level.SEVERE, OPTION + parOptionCode
+                    + MSG_ARGUMENT_MUST_BE_A_LIST);
+            return false;
+        }
+
+        return true;
+    }
+
     private static boolean checkOptionTs(final CommandLine parCmdLine,
             final String parOptionCode) {
 
@@ -1025,6 +2038,92 @@ public final class Main {
         return true;
     }
 
+    private static boolean checkOptionWarm(final CommandLine parCmdLine,
+            final String parOptionCode) {
+
+        isWarm = parCmdLine.hasOption(parOptionCode);
+
+        if (!isWarm) {
+            return true;
+        }
+
+        if (!OPTION_MODE_CALIBRATION.equals(argumentMode)) {
+            LOGGER.log(Level.SEVERE, OPTION + parOptionCode
+                    + MSG_OPTION_NOT_ALLOWED_WITH_MODE + argumentMode);
+            return false;
+        }
+
+        if (parCmdLine.getOptionValue(parOptionCode) != null) {
+            LOGGER.log(Level.SEVERE, OPTION + parOptionCode
+                    + MSG_OPTION_ALLOWS_NO_ARGUMENT);
+            return false;
+        }
+
+        return true;
+    }
+
+    private static boolean checkOptionWaves(final CommandLine parCmdLine,
+            final String parOptionCode) {
+
+        isWaves = parCmdLine.hasOption(parOptionCode);
+
+        if (!isWaves) {
+            return true;
+        }
+
+        if (!OPTION_MODE_TRIAL.equals(argumentMode)) {
+            LOGGER.log(Level.SEVERE, OPTION + parOptionCode
+                    + MSG_OPTION_NOT_ALLOWED_WITH_MODE + argumentMode);
+            return false;
+        }
+
+        if (parCmdLine.getOptionValue(parOptionCode) != null) {
+            LOGGER.log(Level.SEVERE, OPTION + parOptionCode
+                    + MSG_OPTION_ALLOWS_NO_ARGUMENT);
+            return false;
+        }
+
+        return true;
+    }
+
+    private static boolean checkOptionWrk(final CommandLine parCmdLine,
+            final String parOptionCode) {
+
+        if (!parCmdLine.hasOption(parOptionCode)) {
+            return true;
+        }
+
+        if (!parCmdLine.hasOption(OPTION_TQPS_CODE)) {
+            LOGGER.log(Level.SEVERE, OPTION + parOptionCode
+                    + ": option requires option " + OPTION_TQPS_CODE);
+            return false;
+        }
+
+        final String lvWorkersIn = parCmdLine.getOptionValue(parOptionCode);
+
+        if (lvWorkersIn == null) {
+            LOGGER.log(Level.SEVERE, OPTION + parOptionCode
+                    + MSG_OPTION_REQUIRES_AN_ARGUMENT);
+            return false;
+        }
+
+        try {
+            argumentWrk = Integer.parseInt(lvWorkersIn);
+        } catch (NumberFormatException e) {
+            LOGGER.log(Level.SEVERE, OPTION + parOptionCode
+                    + MSG_ARGUMENT_MUST_BE_AN_INTEGER);
+            return false;
+        }
+
+        if (argumentWrk < 1) {
+            LOGGER.log(Level.SEVERE, OPTION + parOptionCode
+                    + ": argument must be greater than 0");
+            return false;
+        }
+
+        return true;
+    }
+
     private static Options defineCmdLineOptions() {
 
         final Options lvOptions = new Options();
@@ -1032,14 +2131,24 @@ public final class Main {
         lvOptions.addOption(OPTION_EXALT_CODE, false, OPTION_EXALT_NAME);
 
         lvOptions.addOption(OPTION_EXCON_CODE, false, OPTION_EXCON_NAME);
+        lvOptions.addOption(OPTION_BCMD_CODE, true, OPTION_BCMD_NAME);
+        lvOptions.addOption(OPTION_BDIR_CODE, true, OPTION_BDIR_NAME);
+        lvOptions.addOption(OPTION_BS_CODE, true, OPTION_BS_NAME);
+        lvOptions.addOption(OPTION_BSQL_CODE, true, OPTION_BSQL_NAME);
+        lvOptions.addOption(OPTION_CI_CODE, true, OPTION_CI_NAME);
+        lvOptions.addOption(OPTION_CLI_CODE, true, OPTION_CLI_NAME);
+        lvOptions.addOption(OPTION_CONS_CODE, true, OPTION_CONS_NAME);
         lvOptions.addOption(OPTION_CYC_CODE, true, OPTION_CYC_NAME);
 
         lvOptions.addOption(OPTION_DES_CODE, true, OPTION_DES_NAME);
         lvOptions.addOption(OPTION_DI_CODE, true, OPTION_DI_NAME);
+        lvOptions.addOption(OPTION_DUR_CODE, true, OPTION_DUR_NAME);
 
         lvOptions.addOption(OPTION_EFN_CODE, true, OPTION_EFN_NAME);
         lvOptions.addOption(OPTION_EFNALL_CODE, false, OPTION_EFNALL_NAME);
 
+        lvOptions.addOption(OPTION_FKS_CODE, true, OPTION_FKS_NAME);
+
         for (int i = 0; i < 10; i++) {
             lvOptions.addOption(OPTION_FN_CODE + i, true, OPTION_FN_NAME);
             lvOptions.addOption(OPTION_FN_CODE + i + Global.FILE_TYPE_EXCEL,
@@ -1049,24 +2158,40 @@ public final class Main {
         }
 
         lvOptions.addOption(OPTION_FS_CODE, true, OPTION_FS_NAME);
+        lvOptions.addOption(OPTION_FSAUTO_CODE, false, OPTION_FSAUTO_NAME);
+        lvOptions.addOption(OPTION_FSS_CODE, true, OPTION_FSS_NAME);
 
         lvOptions.addOption(OPTION_IDN_CODE, true, OPTION_IDN_NAME);
         lvOptions.addOption(OPTION_IGN1_CODE, false, OPTION_IGN1_NAME);
+        lvOptions.addOption(OPTION_ISO_CODE, false, OPTION_ISO_NAME);
 
+        lvOptions.addOption(OPTION_MDC_CODE, true, OPTION_MDC_NAME);
         lvOptions.addOption(OPTION_MODE_CODE, true, OPTION_MODE_NAME);
 
         lvOptions.addOption(OPTION_OBJ_CODE, true, OPTION_OBJ_NAME);
         lvOptions.addOption(OPTION_ODN_CODE, true, OPTION_ODN_NAME);
 
+        lvOptions.addOption(OPTION_PART_CODE, true, OPTION_PART_NAME);
         lvOptions.addOption(OPTION_PF_CODE, true, OPTION_PF_NAME);
         lvOptions.addOption(OPTION_PFXML_CODE, false, OPTION_PFXML_NAME);
         lvOptions.addOption(OPTION_PREC_CODE, true, OPTION_PREC_NAME);
+        lvOptions.addOption(OPTION_PREP_CODE, false, OPTION_PREP_NAME);
+        lvOptions.addOption(OPTION_RESUME_CODE, false, OPTION_RESUME_NAME);
+
+        lvOptions.addOption(OPTION_SCHED_CODE, true, OPTION_SCHED_NAME);
+        lvOptions.addOption(OPTION_SEED_CODE, true, OPTION_SEED_NAME);
 
+        lvOptions.addOption(OPTION_TOV_CODE, false, OPTION_TOV_NAME);
         lvOptions.addOption(OPTION_TQP_CODE, true, OPTION_TQP_NAME);
+        lvOptions.addOption(OPTION_TQPS_CODE, true, OPTION_TQPS_NAME);
         lvOptions.addOption(OPTION_TS_CODE, true, OPTION_TS_NAME);
 
         lvOptions.addOption(OPTION_VERB_CODE, false, OPTION_VERB_NAME);
 
+        lvOptions.addOption(OPTION_WARM_CODE, false, OPTION_WARM_NAME);
+        lvOptions.addOption(OPTION_WAVES_CODE, false, OPTION_WAVES_NAME);
+        lvOptions.addOption(OPTION_WRK_CODE, true, OPTION_WRK_NAME);
+
         return lvOptions;
     }
 
@@ -1079,6 +2204,23 @@ public final class Main {
         return new Calibration(argumentPf, isPfxml);
     }
 
+    private static Calibration determineCalibrationQuery() {
+
+        final Calibration lvCalibration = determineCalibration();
+
+        lvCalibration.setClients(argumentCli);
+        lvCalibration.setConsumption(argumentCons);
+        lvCalibration.setMaxDuration(argumentDur);
+        lvCalibration.setPrepared(isPrep);
+        lvCalibration.setSchedule(argumentSched);
+        lvCalibration.setSeed(argumentSeed);
+        lvCalibration.setTargetPrecision(argumentCi);
+        lvCalibration.setTimerCompensation(isTov);
+        lvCalibration.setWarmUp(isWarm);
+
+        return lvCalibration;
+    }
+
     private static Database determineDatabase(final CommandLine parCmdLine) {
 
         if (parCmdLine.hasOption(OPTION_PF_CODE)) {
@@ -1135,15 +2277,33 @@ public final class Main {
     private static int executeCalibration() {
 
         if (OBJECT_TYPE_NANOTIME.equals(argumentObj)) {
-            if (!determineCalibration().calibrateSimpleMethod(argumentObj,
-                    argumentCyc, argumentDi, argumentDes, isIgn1, argumentPrec,
+            final Calibration lvCalibration = determineCalibration();
+
+            lvCalibration.setWarmUp(isWarm);
+
+            if (!lvCalibration.calibrateSimpleMethod(argumentObj, argumentCyc,
+                    argumentDi, argumentDes, isIgn1, argumentPrec, isVerbose)) {
+                return STATUS_ERROR;
+            }
+        } else if (OBJECT_TYPE_QUERY.equals(argumentObj) && argumentFss > 0) {
+            final Calibration lvCalibration = determineCalibrationQuery();
+
+            if (!lvCalibration.calibrateFetchSize(argumentTqp, argumentCyc,
+                    argumentDi, argumentDes, argumentFss, argumentPrec,
                     isVerbose)) {
                 return STATUS_ERROR;
             }
+        } else if (OBJECT_TYPE_QUERY.equals(argumentObj)
+                && argumentTqps != null) {
+            if (!executeCalibrationBatch()) {
+                return STATUS_ERROR;
+            }
         } else if (OBJECT_TYPE_QUERY.equals(argumentObj)) {
-            if (!determineCalibration().calibrateQuery(argumentTqp,
-                    argumentCyc, argumentDi, argumentDes, isExalt, isExcon,
-                    argumentFs, isIgn1, argumentPrec, isVerbose)) {
+            final Calibration lvCalibration = determineCalibrationQuery();
+
+            if (!lvCalibration.calibrateQuery(argumentTqp, argumentCyc,
+                    argumentDi, argumentDes, isExalt, isExcon, argumentFs,
+                    isIgn1, argumentPrec, isVerbose)) {
                 return STATUS_ERROR;
             }
         } else {
@@ -1155,6 +2315,30 @@ public final class Main {
         return STATUS_OK;
     }
 
+    private static boolean executeCalibrationBatch() {
+
+        int lvWorkers = argumentWrk;
+
+        if (isIso) {
+            lvWorkers = argumentDis.length;
+        }
+
+        lvWorkers = Math.min(lvWorkers, argumentTqps.length);
+
+        final Calibration[] lvCalibrations = new Calibration[lvWorkers];
+        final int[] lvDatabaseInstanceIds = new int[lvWorkers];
+
+        for (int i = 0; i < lvWorkers; i++) {
+            lvCalibrations[i] = determineCalibrationQuery();
+            lvDatabaseInstanceIds[i] = argumentDis[i % argumentDis.length];
+        }
+
+        return new BatchCalibration(lvCalibrations, lvDatabaseInstanceIds)
+                .calibrateQueries(argumentTqps, argumentCyc, argumentDes,
+                        isExalt, isExcon, argumentFs, isIgn1, argumentPrec,
+                        isVerbose);
+    }
+
     private static int executeDatabase(final CommandLine parCmdLine) {
 
         database = determineDatabase(parCmdLine);
@@ -1234,8 +2418,29 @@ public final class Main {
 
     private static int executeTrial(final CommandLine parCmdLine) {
 
-        if (!determineTrial(parCmdLine).runTrial(argumentDi, argumentTs,
-                argumentDes, argumentFs, argumentCyc, argumentPrec)) {
+        final Trial lvTrial = determineTrial(parCmdLine);
+
+        lvTrial.setBatchSize(argumentBs);
+        lvTrial.setBulkDirectory(argumentBdir);
+        lvTrial.setBulkLoaderCommand(argumentBcmd);
+        lvTrial.setBulkLoaderStatement(argumentBsql);
+        lvTrial.setConsumption(argumentCons);
+        lvTrial.setFetchSizeAuto(isFsauto);
+        lvTrial.setForeignKeySampleSize(argumentFks);
+        lvTrial.setGenerationWaves(isWaves);
+        lvTrial.setMetaDataCacheFile(argumentMdc);
+        lvTrial.setPartitions(argumentPart);
+        lvTrial.setPrepared(isPrep);
+        lvTrial.setResume(isResume);
+
+        if (parCmdLine.hasOption(OPTION_SEED_CODE)) {
+            lvTrial.setSeed(argumentSeed);
+        }
+
+        lvTrial.setTimerCompensation(isTov);
+
+        if (!lvTrial.runTrial(argumentDi, argumentTs, argumentDes, argumentFs,
+                argumentCyc, argumentPrec)) {
             return STATUS_ERROR;
         }
 
@@ -1299,6 +2504,9 @@ public final class Main {
             lvStatus++;
         }
 
+        // Close the pooled database connections ******************************
+        ConnectionPool.closeAll();
+
         if (LOGGER.isLoggable(Level.FINE)) {
             LOGGER.exiting(Main.class.getName(), "main", Integer
                     .valueOf(lvStatus));
@@ -1315,18 +2523,35 @@ public final class Main {
 
     private static void resetOptionsAndArguments() {
 
+        argumentBcmd = null;
+        argumentBdir = null;
+        argumentBs = 0;
+        argumentBsql = null;
+        argumentCi = 0.0;
+        argumentCli = 0;
+        argumentCons = Global.CONSUMPTION_NEXT_ONLY;
         argumentCyc = 1;
         argumentDi = 0;
+        argumentDis = null;
         argumentDes = "n/a";
+        argumentDur = 0;
         argumentEfn = "";
+        argumentFks = Global.FOREIGN_KEY_SAMPLE_SIZE;
         argumentFn = new String[] { "", "", "", "", "", "", "", "", "", "", };
         argumentFs = 10;
+        argumentFss = 0;
+        argumentMdc = null;
         argumentMode = "";
         argumentObj = "";
+        argumentPart = 1;
         argumentPf = "";
         argumentPrec = 1L;
+        argumentSched = Global.SCHEDULE_STRICT;
+        argumentSeed = System.currentTimeMillis();
         argumentTqp = 0;
+        argumentTqps = null;
         argumentTs = 0;
+        argumentWrk = 1;
 
         isEfnall = false;
         isExalt = false;
@@ -1337,8 +2562,15 @@ public final class Main {
                 new boolean[] { false, false, false, false, false, false,
                         false, false, false, false, };
         isExcon = false;
+        isFsauto = false;
         isIgn1 = false;
+        isIso = false;
         isPfxml = false;
+        isPrep = false;
+        isResume = false;
+        isTov = false;
         isVerbose = false;
+        isWarm = false;
+        isWaves = false;
     }
 }
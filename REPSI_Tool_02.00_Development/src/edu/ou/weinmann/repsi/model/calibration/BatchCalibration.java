@@ -0,0 +1,231 @@
+package edu.ou.weinmann.repsi.model.calibration;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Queue;
+import java.util.Set;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Calibrates a batch of test query pairs on a bounded pool of workers. Every
+ * worker owns a configured <code>Calibration</code> object together with the
+ * identification of the database instance it calibrates against, and takes
+ * the next test query pair from a common queue as soon as it has finished the
+ * previous one. If the database instances of the workers are disjoint, no two
+ * test query pairs are executed concurrently on the same database instance.
+ * 
+ * @author Walter Weinmann
+ * 
+ */
+public final class BatchCalibration {
+
+    private static final Logger LOGGER =
+            Logger.getLogger(BatchCalibration.class.getPackage().getName());
+
+    private final Calibration[] calibrations;
+
+    private final int[] databaseInstanceIds;
+
+    /**
+     * Constructs a <code>BatchCalibration</code> object.
+     * 
+     * @param parCalibrations The configured <code>Calibration</code> objects,
+     *            one per worker.
+     * @param parDatabaseInstanceIds The identifications of the database
+     *            instances, one per worker.
+     */
+    public BatchCalibration(final Calibration[] parCalibrations,
+            final int[] parDatabaseInstanceIds) {
+
+        super();
+
+        if (parCalibrations == null) {
+            throw new IllegalArgumentException("Calibrations are missing (null)");
+        }
+
+        if (parCalibrations.length == 0) {
+            throw new IllegalArgumentException(
+                    "Calibrations are missing (empty)");
+        }
+
+        if (parDatabaseInstanceIds == null) {
+            throw new IllegalArgumentException(
+                    "Database instances are missing (null)");
+        }
+
+        if (parDatabaseInstanceIds.length != parCalibrations.length) {
+            throw new IllegalArgumentException(
+                    "Number of database instances differs from number of calibrations");
+        }
+
+        calibrations = parCalibrations.clone();
+        databaseInstanceIds = parDatabaseInstanceIds.clone();
+    }
+
+    /**
+     * Calibrates the given test query pairs. The parameters are passed
+     * unchanged to <code>Calibration.calibrateQuery</code>.
+     * 
+     * @param parTestQueryPairIds The identifications of the test query pairs.
+     * @param parCycles The number of cycles to be executed.
+     * @param parDescription The description of the calibration runs.
+     * @param parAlternating Whether the queries are executed alternating.
+     * @param parConsecutive Whether the queries are executed consecutive.
+     * @param parFetchSize The fetch size of the result sets.
+     * @param parIgnoreFirst Whether the first measured response time (reading)
+     *            should be ignored.
+     * @param parPrecision The exponent (base 10) of the required precision for
+     *            the response time.
+     * @param parVerbose Whether to print a statistical overview.
+     * 
+     * @return <code>true</code> if all test query pairs were calibrated
+     *         without any error, and <code>false</code> otherwise.
+     */
+    public boolean calibrateQueries(final int[] parTestQueryPairIds,
+            final int parCycles, final String parDescription,
+            final boolean parAlternating, final boolean parConsecutive,
+            final int parFetchSize, final boolean parIgnoreFirst,
+            final long parPrecision, final boolean parVerbose) {
+
+        if (parTestQueryPairIds == null) {
+            throw new IllegalArgumentException(
+                    "Test query pairs are missing (null)");
+        }
+
+        final Queue<Integer> lvQueue = new ConcurrentLinkedQueue<Integer>();
+
+        for (int i = 0; i < parTestQueryPairIds.length; i++) {
+            lvQueue.add(Integer.valueOf(parTestQueryPairIds[i]));
+        }
+
+        final ExecutorService lvExecutor =
+                Executors.newFixedThreadPool(calibrations.length);
+
+        final List<Future<Integer>> lvFutures =
+                new ArrayList<Future<Integer>>(calibrations.length);
+
+        for (int i = 0; i < calibrations.length; i++) {
+            final Calibration lvCalibration = calibrations[i];
+            final int lvDatabaseInstanceId = databaseInstanceIds[i];
+
+            lvFutures.add(lvExecutor.submit(new Callable<Integer>() {
+                public Integer call() {
+
+                    int lvFailed = 0;
+
+                    Integer lvTestQueryPairId = lvQueue.poll();
+
+                    while (lvTestQueryPairId != null) {
+                        if (!lvCalibration.calibrateQuery(lvTestQueryPairId
+                                .intValue(), parCycles, lvDatabaseInstanceId,
+                                parDescription, parAlternating,
+                                parConsecutive, parFetchSize, parIgnoreFirst,
+                                parPrecision, parVerbose)) {
+                            LOGGER.log(Level.SEVERE, "Test query pair "
+                                    + lvTestQueryPairId
+                                    + " could not be calibrated on database instance "
+                                    + lvDatabaseInstanceId);
+                            lvFailed++;
+                        }
+
+                        lvTestQueryPairId = lvQueue.poll();
+                    }
+
+                    return Integer.valueOf(lvFailed);
+                }
+            }));
+        }
+
+        lvExecutor.shutdown();
+
+        int lvFailed = 0;
+
+        for (Future<Integer> lvFuture : lvFutures) {
+            try {
+                lvFailed += lvFuture.get().intValue();
+            } catch (InterruptedException e) {
+                LOGGER.log(Level.SEVERE, "Batch calibration interrupted", e);
+                lvExecutor.shutdownNow();
+                Thread.currentThread().interrupt();
+                return false;
+            } catch (ExecutionException e) {
+                LOGGER.log(Level.SEVERE, "Batch calibration worker failed", e
+                        .getCause());
+                lvFailed++;
+            }
+        }
+
+        LOGGER.log(Level.INFO, "Batch calibration: "
+                + parTestQueryPairIds.length + " test query pairs, "
+                + calibrations.length + " workers, " + lvFailed + " errors");
+
+        return lvFailed == 0;
+    }
+
+    /**
+     * Parses a list of identifications like <code>1,5,10-20</code>.
+     * Ranges are inclusive, duplicates are removed while the order of the
+     * first occurrences is kept.
+     * 
+     * @param parList The comma separated list of identifications and ranges.
+     * 
+     * @return the identifications.
+     * 
+     * @throws NumberFormatException if the list is not well-formed.
+     */
+    public static int[] parseIdentifications(final String parList) {
+
+        if (parList == null) {
+            throw new IllegalArgumentException("List is missing (null)");
+        }
+
+        final Set<Integer> lvIds = new LinkedHashSet<Integer>();
+
+        final String[] lvElements = parList.split(",");
+
+        for (int i = 0; i < lvElements.length; i++) {
+            final String lvElement = lvElements[i].trim();
+            final int lvDash = lvElement.indexOf('-', 1);
+
+            int lvFrom;
+            int lvTo;
+
+            if (lvDash < 0) {
+                lvFrom = Integer.parseInt(lvElement);
+                lvTo = lvFrom;
+            } else {
+                lvFrom = Integer.parseInt(lvElement.substring(0, lvDash).trim());
+                lvTo = Integer.parseInt(lvElement.substring(lvDash + 1).trim());
+            }
+
+            if (lvTo < lvFrom) {
+                throw new NumberFormatException("Range " + lvElement
+                        + " is descending");
+            }
+
+            for (int lvId = lvFrom; lvId <= lvTo; lvId++) {
+                lvIds.add(Integer.valueOf(lvId));
+            }
+        }
+
+        final int[] lvResult = new int[lvIds.size()];
+
+        int i = 0;
+
+        for (Integer lvId : lvIds) {
+            lvResult[i++] = lvId.intValue();
+        }
+
+        return lvResult;
+    }
+}
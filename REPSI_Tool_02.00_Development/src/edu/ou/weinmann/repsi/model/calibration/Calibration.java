@@ -22,17 +22,27 @@ import java.sql.Timestamp;
 
 import java.text.SimpleDateFormat;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Date;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Random;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import java.util.concurrent.atomic.AtomicLong;
 
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
 import oracle.sql.TIMESTAMP;
 
-import org.apache.commons.math.stat.descriptive.DescriptiveStatistics;
-
 /**
  * Manages the calibration functionality of the REPSI tool:
  * 
@@ -52,22 +62,37 @@ public final class Calibration {
     private static final Logger LOGGER =
             Logger.getLogger(Calibration.class.getPackage().getName());
 
-    private static final int MAX_COLUMNS_CALIBRATION_STATISTIC = 16;
+    private static final int BOOTSTRAP_RESAMPLES = 2000;
+
+    private static final int CYCLES_PER_ROUND = 10;
+
+    private static final AtomicLong LAST_START_TIME = new AtomicLong();
+
+    private static final int MAX_COLUMNS_CALIBRATION_STATISTIC = 20;
 
     private static final String OBJECT_TYPE_NANOTIME = "nanotime";
 
-    private static final String OBJECT_TYPE_NANOTIME_EXT = "System.nanoTime";
+    private static final String OBJECT_TYPE_NANOTIME_EXT =
+            Global.CALIBRATION_OBJECT_NANOTIME;
 
     private static final String OBJECT_TYPE_QUERY_EXT = "Test Query Pair";
 
+    private double achievedPrecision;
+
     private String appliedPatternOrderBy;
 
     private String appliedPatternSelectStmnt;
 
+    private int clients;
+
+    private long cyclesExecuted;
+
     private Map<String, Object> columnsDatabaseInstance;
 
     private Configurator configurator;
 
+    private String consumption = Global.CONSUMPTION_NEXT_ONLY;
+
     private DatabaseToExcel databaseToExcel;
 
     private DatabaseAccessor dbAccessMaster1;
@@ -80,22 +105,40 @@ public final class Calibration {
 
     private DatabaseAccessor dbAccessTestUnapplied;
 
-    private DescriptiveStatistics descriptiveStatistics;
+    private int maxDuration;
 
     private String object;
 
     private String patternSQLIdiomName;
 
+    private boolean prepared;
+
     private String proprtiesFilename;
 
     private boolean propertiesXml;
 
+    private String schedule = Global.SCHEDULE_STRICT;
+
+    private long seed;
+
     private String sqlSyntaxCodeTqp;
 
+    private StreamingStatistics statistics;
+
+    private double targetPrecision;
+
+    private boolean timerCompensation;
+
+    private double timerOverhead = Double.NaN;
+
+    private double timerResolution = Double.NaN;
+
     private String unappliedPatternOrderBy;
 
     private String unappliedPatternSelectStmnt;
 
+    private boolean warmUp;
+
     /**
      * Constructs a <code>Calibration</code> object. The name of the used
      * properties file is taken from mthe class
@@ -191,15 +234,16 @@ public final class Calibration {
         return lvNanoPeriods;
     }
 
-    private void calculateStatistics(final double[] parMicroPeriods,
-            final String parObjectTypeExt, final boolean parVerbose) {
+    private void calculateStatistics(final StreamingStatistics parStatistics,
+            final double[] parMicroPeriods, final String parObjectTypeExt,
+            final boolean parVerbose) {
 
         if (parVerbose) {
             calculateStatisticsProtEntry(parObjectTypeExt);
         }
 
-        if (parMicroPeriods.length <= 1) {
-            descriptiveStatistics = null;
+        if (parStatistics.getN() <= 1) {
+            statistics = null;
 
             if (parVerbose) {
                 if (parMicroPeriods.length == 1) {
@@ -213,21 +257,18 @@ public final class Calibration {
             }
         } else {
 
-            descriptiveStatistics = DescriptiveStatistics.newInstance();
+            statistics = parStatistics;
 
-            int lvCurr = 0;
+            if (parVerbose) {
+                int lvCurr = 0;
 
-            for (int i = 0; i < parMicroPeriods.length; i++) {
-                descriptiveStatistics.addValue(parMicroPeriods[i]);
-                if (parVerbose && i < 5) {
+                for (int i = 0; i < parMicroPeriods.length && i < 5; i++) {
                     System.out.printf("Value #" + ++lvCurr
                             + ":           %,38.0f\n", Double
                             .valueOf(parMicroPeriods[i]));
                 }
-            }
 
-            if (parVerbose) {
-                calculateStatisticsProt(descriptiveStatistics);
+                calculateStatisticsProt(statistics);
             }
         }
 
@@ -236,7 +277,7 @@ public final class Calibration {
         }
     }
 
-    private void calculateStatisticsProt(final DescriptiveStatistics lvStats) {
+    private void calculateStatisticsProt(final StreamingStatistics lvStats) {
 
         System.out
                 .println("---------------------------------------------------------------------");
@@ -356,12 +397,38 @@ public final class Calibration {
             return false;
         }
 
-        if (!databaseToExcel.createSheet("TMD_CALIBRATION_STATISTIC", lvSheet,
+        if (!databaseToExcel.createSheet("TMD_CALIBRATION_STATISTIC", lvSheet++,
                 dbAccessMaster1.getResultSetObject(), true)) {
             LOGGER.log(Level.SEVERE, databaseToExcel.getLastErrorMsg());
             return false;
         }
 
+        // Table TMD_CALIBRATION_FETCH_SIZE ************************************
+        if (!dbAccessMaster1
+                .executeQuery("SELECT * FROM TMD_CALIBRATION_FETCH_SIZE ORDER BY "
+                        + "START_TIME, FETCH_SIZE;")) {
+            return false;
+        }
+
+        if (!databaseToExcel.createSheet("TMD_CALIBRATION_FETCH_SIZE", lvSheet++,
+                dbAccessMaster1.getResultSetObject(), true)) {
+            LOGGER.log(Level.SEVERE, databaseToExcel.getLastErrorMsg());
+            return false;
+        }
+
+        // Table TMD_CALIBRATION_SIGNIFICANCE **********************************
+        if (!dbAccessMaster1
+                .executeQuery("SELECT * FROM TMD_CALIBRATION_SIGNIFICANCE ORDER BY "
+                        + "START_TIME, OBJECT;")) {
+            return false;
+        }
+
+        if (!databaseToExcel.createSheet("TMD_CALIBRATION_SIGNIFICANCE",
+                lvSheet, dbAccessMaster1.getResultSetObject(), true)) {
+            LOGGER.log(Level.SEVERE, databaseToExcel.getLastErrorMsg());
+            return false;
+        }
+
         return true;
     }
 
@@ -778,6 +845,179 @@ public final class Calibration {
         return true;
     }
 
+    /**
+     * Calibrates the fetch size of a pair of SQL statements. Both statements
+     * are executed alternately with the fetch sizes 1, 2, 4, ... up to the
+     * maximum fetch size. The median response time and the throughput in rows
+     * per second of every fetch size are stored in the database table
+     * <code>TMD_CALIBRATION_FETCH_SIZE</code>, the knee of the curve as the
+     * recommended fetch size of the test query pair. The sweep is always
+     * measured in nanoseconds, so that small result sets still yield a
+     * throughput; a fetch size without measurable response time is stored
+     * without throughput.
+     * 
+     * @param parTestQueryPairId The identification of the test query pair to be
+     *            calibrated.
+     * @param parCycles The number of cycles to be executed per fetch size.
+     * @param parDatabaseInstanceId The identification of the used test database
+     *            instance.
+     * @param parDescription The description of the calibration run.
+     * @param parMaxFetchSize The largest fetch size of the sweep.
+     * @param parPrecision The exponent (base 10) of the required precision for
+     *            the response time.
+     * @param parVerbose Whether to print the response time curve.
+     * 
+     * @return <code>true</code> if the processing ended without any error,
+     *         and <code>false</code> otherwise.
+     */
+    public boolean calibrateFetchSize(final int parTestQueryPairId,
+            final int parCycles, final int parDatabaseInstanceId,
+            final String parDescription, final int parMaxFetchSize,
+            final long parPrecision, final boolean parVerbose) {
+
+        if (parCycles < 1) {
+            throw new IllegalArgumentException("Number of cycles "
+                    + parCycles + " is invalid");
+        }
+
+        final CalibrationMapper lvCalibration =
+                createCalibration(parDatabaseInstanceId, Integer
+                        .toString(parTestQueryPairId), parDescription);
+
+        if (lvCalibration == null) {
+            return false;
+        }
+
+        final boolean lvReturn =
+                calibrateFetchSize(lvCalibration, parTestQueryPairId,
+                        parCycles, parMaxFetchSize, parPrecision, parVerbose);
+
+        return lvCalibration.closeConnection() && lvReturn;
+    }
+
+    private boolean calibrateFetchSize(final CalibrationMapper parCalibration,
+            final int parTestQueryPairId, final int parCycles,
+            final int parMaxFetchSize, final long parPrecision,
+            final boolean parVerbose) {
+
+        if (!getTestQueryPair(parCalibration, parTestQueryPairId)) {
+            return false;
+        }
+
+        if (!parCalibration.setTimer(parPrecision, timerOverhead,
+                timerResolution)) {
+            return false;
+        }
+
+        final int[] lvFetchSizes = FetchSizeSweep.getFetchSizes(parMaxFetchSize);
+
+        final DatabaseAccessor lvDBAccess =
+                getConnectionTest(lvFetchSizes[0], "fetch size");
+
+        if (lvDBAccess == null) {
+            return false;
+        }
+
+        final double[] lvResponseTimes = new double[lvFetchSizes.length];
+        final long[] lvReadingsApplied = new long[parCycles];
+        final long[] lvReadingsUnapplied = new long[parCycles];
+
+        boolean lvReturn = true;
+
+        if (parVerbose) {
+            System.out
+                    .println("Fetch size      Unapplied (median / rows per s)        Applied (median / rows per s)");
+        }
+
+        for (int i = 0; i < lvFetchSizes.length && lvReturn; i++) {
+            if (!lvDBAccess.setFetchSize(lvFetchSizes[i])) {
+                LOGGER.log(Level.SEVERE, "Problem with setFetchSize("
+                        + lvFetchSizes[i] + ") / trial database (fetch size)");
+                lvReturn = false;
+                break;
+            }
+
+            long lvRowsApplied = 0L;
+            long lvRowsUnapplied = 0L;
+
+            for (int j = 0; j < parCycles; j++) {
+                if (!lvDBAccess.executeQueryTrialRun(
+                        unappliedPatternSelectStmnt, sqlSyntaxCodeTqp)) {
+                    lvReturn = false;
+                    break;
+                }
+
+                lvReadingsUnapplied[j] = lvDBAccess.getTrialTimeQuantities(1L);
+                lvRowsUnapplied = lvDBAccess.getNumberRows();
+
+                if (!lvDBAccess.executeQueryTrialRun(
+                        appliedPatternSelectStmnt, sqlSyntaxCodeTqp)) {
+                    lvReturn = false;
+                    break;
+                }
+
+                lvReadingsApplied[j] = lvDBAccess.getTrialTimeQuantities(1L);
+                lvRowsApplied = lvDBAccess.getNumberRows();
+            }
+
+            if (!lvReturn) {
+                LOGGER.log(Level.SEVERE, "Problem with executeQueryTrialRun()"
+                        + " / trial database (fetch size " + lvFetchSizes[i]
+                        + ")");
+                break;
+            }
+
+            // Sweep in nanoseconds, report in the desired precision *********
+            final long lvNanoSecondsApplied = getMedian(lvReadingsApplied);
+            final long lvNanoSecondsUnapplied = getMedian(lvReadingsUnapplied);
+            final long lvMedianApplied =
+                    Math.round((double) lvNanoSecondsApplied / parPrecision);
+            final long lvMedianUnapplied =
+                    Math.round((double) lvNanoSecondsUnapplied / parPrecision);
+            final double lvThroughputApplied =
+                    getRowsPerSecond(lvRowsApplied, lvNanoSecondsApplied);
+            final double lvThroughputUnapplied =
+                    getRowsPerSecond(lvRowsUnapplied, lvNanoSecondsUnapplied);
+
+            lvResponseTimes[i] = lvNanoSecondsApplied + lvNanoSecondsUnapplied;
+
+            if (parVerbose) {
+                System.out.printf("%,10d %,19d / %,13.0f %,19d / %,13.0f\n",
+                        Integer.valueOf(lvFetchSizes[i]), Long
+                                .valueOf(lvMedianUnapplied), Double
+                                .valueOf(lvThroughputUnapplied), Long
+                                .valueOf(lvMedianApplied), Double
+                                .valueOf(lvThroughputApplied));
+            }
+
+            lvReturn =
+                    parCalibration.createFetchSize(lvFetchSizes[i],
+                            lvRowsUnapplied, lvMedianUnapplied,
+                            lvThroughputUnapplied, lvRowsApplied,
+                            lvMedianApplied, lvThroughputApplied);
+        }
+
+        if (!lvDBAccess.closeConnection()) {
+            LOGGER.log(Level.SEVERE,
+                    "Problem with closeConnection() / trial database (fetch size)");
+            lvReturn = false;
+        }
+
+        if (!lvReturn) {
+            return false;
+        }
+
+        final int lvFetchSize =
+                lvFetchSizes[FetchSizeSweep.getKnee(lvResponseTimes)];
+
+        if (parVerbose) {
+            System.out.println("Recommended fetch size: " + lvFetchSize);
+        }
+
+        return parCalibration.setFetchSizeRecommended(lvFetchSize)
+                && parCalibration.setStatus();
+    }
+
     /**
      * Calibrates the execution of a pair of SQL statements.
      * 
@@ -819,7 +1059,26 @@ public final class Calibration {
             return false;
         }
 
-        if (!getTestQueryPair(lvCalibration, parTestQueryPairId)) {
+        final boolean lvReturn =
+                calibrateQuery(lvCalibration, parTestQueryPairId, parCycles,
+                        parAlternating, parConsecutive, parFetchSize,
+                        parIgnoreFirst, parPrecision, parVerbose);
+
+        return lvCalibration.closeConnection() && lvReturn;
+    }
+
+    private boolean calibrateQuery(final CalibrationMapper parCalibration,
+            final int parTestQueryPairId, final int parCycles,
+            final boolean parAlternating, final boolean parConsecutive,
+            final int parFetchSize, final boolean parIgnoreFirst,
+            final long parPrecision, final boolean parVerbose) {
+
+        if (!getTestQueryPair(parCalibration, parTestQueryPairId)) {
+            return false;
+        }
+
+        if (!parCalibration.setTimer(parPrecision, timerOverhead,
+                timerResolution)) {
             return false;
         }
 
@@ -830,6 +1089,10 @@ public final class Calibration {
                         (String) columnsDatabaseInstance
                                 .get(Global.COLUMN_NAME_JDBC_DRIVER), false);
 
+        dbAccessTest.setConsumption(consumption);
+        dbAccessTest.setPrepared(prepared);
+        setTimer(dbAccessTest);
+
         dbAccessTestApplied =
                 new DatabaseAccessor(Global.DATABASE_SCHEMA_IDENTIFIER_TEST,
                         (String) columnsDatabaseInstance
@@ -932,10 +1195,19 @@ public final class Calibration {
             return false;
         }
 
-        evaluateQuery(lvCalibration, parCycles, parAlternating, parConsecutive,
+        evaluateQuery(parCalibration, parCycles, parAlternating, parConsecutive,
                 parIgnoreFirst, parPrecision, parVerbose);
 
-        return calibrateQueryCloseConnection(lvCalibration);
+        boolean lvReturn = true;
+
+        // Statistics: Load - Concurrent Clients
+        if (clients > 0) {
+            lvReturn =
+                    evaluateQueryLoad(parCalibration, parCycles, parFetchSize,
+                            parPrecision, parVerbose);
+        }
+
+        return calibrateQueryCloseConnection(parCalibration) && lvReturn;
     }
 
     private boolean calibrateQueryCloseConnection(
@@ -1045,18 +1317,20 @@ public final class Calibration {
             return false;
         }
 
+        boolean lvReturn =
+                lvCalibration.setTimer(parPrecision, Double.NaN, Double.NaN);
+
         if (OBJECT_TYPE_NANOTIME.equals(parObject)) {
-            if (!evaluateTimeQuantities(lvCalibration, parCycles,
-                    parIgnoreFirst, parPrecision, parVerbose)) {
-                return false;
-            }
+            lvReturn =
+                    evaluateTimeQuantities(lvCalibration, parCycles,
+                            parIgnoreFirst, parPrecision, parVerbose);
         } else {
             LOGGER.log(Level.SEVERE, "Unknown object type" + parObject
                     + " / calibrateSimpleMethod()");
-            return false;
+            lvReturn = false;
         }
 
-        return true;
+        return lvCalibration.closeConnection() && lvReturn;
     }
 
     private boolean closeConnectionMaster1() {
@@ -1115,7 +1389,7 @@ public final class Calibration {
                 "CAST(TO_TIMESTAMP('"
                         + new SimpleDateFormat(
                                 Global.DATE_FORMAT_DD_MM_YYYY_HH_MM_SS_SSS_JAVA)
-                                .format(new Date()) + "', '"
+                                .format(getStartTime()) + "', '"
                         + Global.DATE_FORMAT_DD_MM_YYYY_HH_MM_SS_SSS_SQL
                         + "') AS TIMESTAMP(9))";
 
@@ -1129,13 +1403,41 @@ public final class Calibration {
                                         + Global.PROPERTY_PATH_3_SQL_SYNTAX_CODE),
                         lvCurrStartTime);
 
-        columnsDatabaseInstance =
+        final DatabaseInstanceMapper lvDatabaseInstance =
                 new DatabaseInstanceMapper(configurator
                         .getProperty(Global.PROPERTY_PATH_1_DATABASE + "."
                                 + Global.DATABASE_SCHEMA_IDENTIFIER_MASTER
-                                + "." + Global.PROPERTY_PATH_3_SQL_SYNTAX_CODE))
-                        .getDatabaseInstance(parDatabaseInstanceId);
+                                + "." + Global.PROPERTY_PATH_3_SQL_SYNTAX_CODE));
+
+        columnsDatabaseInstance =
+                lvDatabaseInstance.getDatabaseInstance(parDatabaseInstanceId);
+
+        timerOverhead = Double.NaN;
+        timerResolution = Double.NaN;
+
+        if (timerCompensation && columnsDatabaseInstance != null) {
+            final Map<String, Object> lvTimer =
+                    lvDatabaseInstance.getTimerCalibration(
+                            (String) columnsDatabaseInstance
+                                    .get(Global.COLUMN_NAME_JDBC_URL),
+                            (String) columnsDatabaseInstance
+                                    .get(Global.COLUMN_NAME_USER_NAME));
+
+            if (lvTimer != null) {
+                timerOverhead =
+                        ((Long) lvTimer.get(Global.COLUMN_NAME_TIMER_OVERHEAD))
+                                .doubleValue();
+                timerResolution =
+                        ((Long) lvTimer
+                                .get(Global.COLUMN_NAME_TIMER_RESOLUTION))
+                                .doubleValue();
+            }
+        }
+
+        lvDatabaseInstance.closeConnection();
+
         if (columnsDatabaseInstance == null) {
+            lvCalibration.closeConnection();
             return null;
         }
 
@@ -1149,6 +1451,7 @@ public final class Calibration {
 
         // Callibration Persistence ********************************************
         if (!lvCalibration.initialiseCalibration(columnsDatabaseInstance)) {
+            lvCalibration.closeConnection();
             return null;
         }
 
@@ -1219,11 +1522,40 @@ public final class Calibration {
                 calculateTimeQuantities(lvNanoTimes, parIgnoreFirst,
                         parPrecision);
 
-        calculateStatistics(lvMicroPeriods, OBJECT_TYPE_NANOTIME_EXT,
-                parVerbose);
+        int lvWarmUp = 0;
+
+        if (warmUp) {
+            lvWarmUp =
+                    SteadyStateDetector.getTruncationPoint(lvMicroPeriods,
+                            lvMicroPeriods.length);
+        }
+
+        final StreamingStatistics lvStatistics = new HistogramStatistics();
+
+        final double[] lvReadings =
+                new double[Math.min(lvMicroPeriods.length - lvWarmUp,
+                        Global.MAX_READINGS)];
+
+        for (int i = lvWarmUp; i < lvMicroPeriods.length; i++) {
+            lvStatistics.addValue(lvMicroPeriods[i]);
+
+            if (i - lvWarmUp < lvReadings.length) {
+                lvReadings[i - lvWarmUp] = lvMicroPeriods[i];
+            }
+        }
+
+        calculateStatistics(lvStatistics, lvReadings,
+                OBJECT_TYPE_NANOTIME_EXT, parVerbose);
 
         final Map<String, Object> lvColumns = getColumnsCalibrationStatistic();
 
+        if (statistics != null) {
+            lvColumns.put(Global.COLUMN_NAME_READINGS, Readings.toSQL(
+                    lvReadings, lvReadings.length));
+            lvColumns.put(Global.COLUMN_NAME_WARM_UP_READINGS, Integer
+                    .toString(lvWarmUp));
+        }
+
         lvColumns.put(Global.COLUMN_NAME_OBJECT, "'" + OBJECT_TYPE_NANOTIME_EXT
                 + "'");
         lvColumns.put(Global.COLUMN_NAME_SQL_STATEMENT, Global.NULL);
@@ -1245,37 +1577,64 @@ public final class Calibration {
             lvMax++;
         }
 
-        final double[] lvTimeQuantitiesApplied = new double[parCycles];
-        final double[] lvTimeQuantitiesUnapplied = new double[parCycles];
+        achievedPrecision = Double.NaN;
+        cyclesExecuted = 0L;
 
         // Statistics: Alternating - Applied & Unapplied Version of the Query
         if (parAlternating) {
             executeQueryAlternating(parCalibration, parIgnoreFirst, lvMax,
-                    parPrecision, lvTimeQuantitiesApplied,
-                    lvTimeQuantitiesUnapplied, parVerbose);
+                    parPrecision, new Readings(parCycles, warmUp),
+                    new Readings(parCycles, warmUp), parVerbose);
         }
 
-        if (!parConsecutive) {
-            return;
-        }
+        if (parConsecutive) {
+            final Readings lvReadingsApplied = new Readings(parCycles, warmUp);
+            final Readings lvReadingsUnapplied =
+                    new Readings(parCycles, warmUp);
+
+            // Statistics: Consecutive - Unapplied Version of the Query
+            evaluateQueryUnappliedConsecutive(parCalibration, parIgnoreFirst,
+                    lvMax, parPrecision, lvReadingsUnapplied, parVerbose);
 
-        // Statistics: Consecutive - Unapplied Version of the Query
-        evaluateQueryUnappliedConsecutive(parCalibration, parIgnoreFirst,
-                lvMax, parPrecision, lvTimeQuantitiesUnapplied, parVerbose);
+            // Statistics: Consecutive - Applied Version of the Query
+            evaluateQueryAppliedConsecutive(parCalibration, parIgnoreFirst,
+                    lvMax, parPrecision, lvReadingsApplied, parVerbose);
 
-        // Statistics: Consecutive - Applied Version of the Query
-        evaluateQueryAppliedConsecutive(parCalibration, parIgnoreFirst, lvMax,
-                parPrecision, lvTimeQuantitiesApplied, parVerbose);
+            // Significance: Consecutive - Applied versus Unapplied
+            evaluateSignificance(parCalibration, lvReadingsApplied,
+                    lvReadingsUnapplied, OBJECT_TYPE_QUERY_EXT
+                            + " (Consecutive)", parVerbose);
+        }
+
+        if (cyclesExecuted > 0L) {
+            parCalibration.setPrecision(targetPrecision, achievedPrecision,
+                    cyclesExecuted);
+        }
     }
 
     private void evaluateQueryApplied(final CalibrationMapper parCalibration,
-            final double[] parTimeQuantities, final String parObject,
-            final boolean parVerbose) {
+            final Readings parReadings, final String parObject,
+            final String parThroughput, final boolean parVerbose) {
 
-        calculateStatistics(parTimeQuantities, parObject, parVerbose);
+        calculateStatistics(parReadings.getStatistics(), parReadings
+                .getTotal(), parObject, parVerbose);
 
         final Map<String, Object> lvColumns = getColumnsCalibrationStatistic();
 
+        if (statistics != null) {
+            lvColumns.put(Global.COLUMN_NAME_READINGS, parReadings
+                    .getTotalSQL());
+            lvColumns.put(Global.COLUMN_NAME_READINGS_EXECUTE, parReadings
+                    .getExecuteSQL());
+            lvColumns.put(Global.COLUMN_NAME_READINGS_FIRST_ROW, parReadings
+                    .getFirstRowSQL());
+            lvColumns.put(Global.COLUMN_NAME_BELOW_RESOLUTION, Integer
+                    .toString(parReadings.getBelowResolution()));
+            lvColumns.put(Global.COLUMN_NAME_THROUGHPUT, parThroughput);
+            lvColumns.put(Global.COLUMN_NAME_WARM_UP_READINGS, Integer
+                    .toString(parReadings.getWarmUp()));
+        }
+
         lvColumns.put(Global.COLUMN_NAME_OBJECT, "'" + parObject + "'");
         lvColumns.put(Global.COLUMN_NAME_ORDER_BY, "'" + appliedPatternOrderBy
                 + "'");
@@ -1288,10 +1647,10 @@ public final class Calibration {
     private void evaluateQueryAppliedConsecutive(
             final CalibrationMapper parCalibration,
             final boolean parIgnoreFirst, final int parMax,
-            final long parPrecision, final double[] parTimeQuantities,
+            final long parPrecision, final Readings parReadings,
             final boolean parVerbose) {
 
-        int lvCurr = 0;
+        final long lvDeadline = getDeadline();
 
         for (int i = 0; i < parMax; i++) {
             if (!dbAccessTest.executeQueryTrialRun(appliedPatternSelectStmnt,
@@ -1300,23 +1659,196 @@ public final class Calibration {
             }
 
             if (!(parIgnoreFirst && (i == 0))) {
-                parTimeQuantities[lvCurr++] =
-                        dbAccessTest.getTrialTimeQuantities(parPrecision);
+                parReadings.add(dbAccessTest, parPrecision);
+
+                if (isCompleted(lvDeadline, parReadings, parReadings)) {
+                    break;
+                }
+            }
+        }
+
+        recordPrecision(parReadings);
+
+        evaluateQueryApplied(parCalibration, parReadings,
+                OBJECT_TYPE_QUERY_EXT + " (Consecutive - Applied)",
+                Global.NULL, parVerbose);
+    }
+
+    private boolean evaluateQueryLoad(final CalibrationMapper parCalibration,
+            final int parCycles, final int parFetchSize,
+            final long parPrecision, final boolean parVerbose) {
+
+        final DatabaseAccessor[] lvDBAccess = new DatabaseAccessor[clients];
+
+        boolean lvReturn = true;
+
+        for (int i = 0; i < clients; i++) {
+            lvDBAccess[i] = getConnectionTest(parFetchSize, "load");
+
+            if (lvDBAccess[i] == null) {
+                lvReturn = false;
+                break;
             }
         }
 
-        evaluateQueryApplied(parCalibration, parTimeQuantities,
-                OBJECT_TYPE_QUERY_EXT + " (Consecutive - Applied)", parVerbose);
+        if (lvReturn) {
+            final ExecutorService lvExecutor =
+                    Executors.newFixedThreadPool(clients);
+
+            try {
+                // Statistics: Load - Unapplied Version of the Query
+                lvReturn =
+                        evaluateQueryLoadPhase(parCalibration, lvExecutor,
+                                lvDBAccess, false, parCycles, parPrecision,
+                                parVerbose);
+
+                // Statistics: Load - Applied Version of the Query
+                if (lvReturn) {
+                    lvReturn =
+                            evaluateQueryLoadPhase(parCalibration, lvExecutor,
+                                    lvDBAccess, true, parCycles, parPrecision,
+                                    parVerbose);
+                }
+            } finally {
+                lvExecutor.shutdownNow();
+            }
+        }
+
+        for (int i = 0; i < clients; i++) {
+            if (lvDBAccess[i] != null && !lvDBAccess[i].closeConnection()) {
+                LOGGER.log(Level.SEVERE,
+                        "Problem with closeConnection() / trial database (load client "
+                                + (i + 1) + ")");
+                lvReturn = false;
+            }
+        }
+
+        return lvReturn;
     }
 
-    private void evaluateQueryUnapplied(final CalibrationMapper parCalibration,
-            final double[] parTimeQuantities, final String parObject,
+    private boolean evaluateQueryLoadPhase(
+            final CalibrationMapper parCalibration,
+            final ExecutorService parExecutor,
+            final DatabaseAccessor[] parDBAccess, final boolean parApplied,
+            final int parCycles, final long parPrecision,
             final boolean parVerbose) {
 
-        calculateStatistics(parTimeQuantities, parObject, parVerbose);
+        String lvStatement;
+        String lvVersion;
+
+        if (parApplied) {
+            lvStatement = appliedPatternSelectStmnt;
+            lvVersion = "Applied";
+        } else {
+            lvStatement = unappliedPatternSelectStmnt;
+            lvVersion = "Unapplied";
+        }
+
+        final String lvObject =
+                OBJECT_TYPE_QUERY_EXT + " (Load " + parDBAccess.length
+                        + " Clients - " + lvVersion;
+
+        final CountDownLatch lvStartSignal = new CountDownLatch(1);
+
+        final long lvDeadline = getDeadline();
+
+        final List<Future<Readings>> lvFutures =
+                new ArrayList<Future<Readings>>(parDBAccess.length);
+
+        for (int i = 0; i < parDBAccess.length; i++) {
+            lvFutures.add(parExecutor.submit(new LoadClient(parDBAccess[i],
+                    lvStatement, sqlSyntaxCodeTqp, parCycles, lvDeadline,
+                    parPrecision, warmUp, lvStartSignal)));
+        }
+
+        final long lvStart = System.nanoTime();
+
+        lvStartSignal.countDown();
+
+        final Readings[] lvReadings = new Readings[parDBAccess.length];
+
+        // Wait for all clients, even if one of them failed *******************
+        boolean lvFailed = false;
+
+        for (int i = 0; i < parDBAccess.length; i++) {
+            try {
+                lvReadings[i] = lvFutures.get(i).get();
+            } catch (InterruptedException e) {
+                LOGGER.log(Level.SEVERE, "Load calibration interrupted", e);
+                return false;
+            } catch (ExecutionException e) {
+                LOGGER.log(Level.SEVERE, "Load calibration failed (client "
+                        + (i + 1) + ")", e.getCause());
+                lvFailed = true;
+            }
+        }
+
+        if (lvFailed) {
+            return false;
+        }
+
+        final double lvSeconds = (System.nanoTime() - lvStart) / 1000000000.0;
+
+        final Readings lvReadingsAll = new Readings(Global.MAX_READINGS);
+
+        for (int i = 0; i < parDBAccess.length; i++) {
+            lvReadingsAll.addAll(lvReadings[i]);
+
+            final String lvObjectClient =
+                    lvObject + ", Client " + (i + 1) + ")";
+            final String lvThroughput =
+                    getThroughput(lvReadings[i], lvSeconds);
+
+            if (parApplied) {
+                evaluateQueryApplied(parCalibration, lvReadings[i],
+                        lvObjectClient, lvThroughput, false);
+            } else {
+                evaluateQueryUnapplied(parCalibration, lvReadings[i],
+                        lvObjectClient, lvThroughput, false);
+            }
+        }
+
+        final String lvThroughput = getThroughput(lvReadingsAll, lvSeconds);
+
+        if (parApplied) {
+            evaluateQueryApplied(parCalibration, lvReadingsAll, lvObject + ")",
+                    lvThroughput, parVerbose);
+        } else {
+            evaluateQueryUnapplied(parCalibration, lvReadingsAll, lvObject
+                    + ")", lvThroughput, parVerbose);
+        }
+
+        if (parVerbose) {
+            System.out.println("Throughput (queries per second): "
+                    + lvThroughput);
+        }
+
+        return true;
+    }
+
+    private void evaluateQueryUnapplied(final CalibrationMapper parCalibration,
+            final Readings parReadings, final String parObject,
+            final String parThroughput, final boolean parVerbose) {
+
+        calculateStatistics(parReadings.getStatistics(), parReadings
+                .getTotal(), parObject, parVerbose);
 
         final Map<String, Object> lvColumns = getColumnsCalibrationStatistic();
 
+        if (statistics != null) {
+            lvColumns.put(Global.COLUMN_NAME_READINGS, parReadings
+                    .getTotalSQL());
+            lvColumns.put(Global.COLUMN_NAME_READINGS_EXECUTE, parReadings
+                    .getExecuteSQL());
+            lvColumns.put(Global.COLUMN_NAME_READINGS_FIRST_ROW, parReadings
+                    .getFirstRowSQL());
+            lvColumns.put(Global.COLUMN_NAME_BELOW_RESOLUTION, Integer
+                    .toString(parReadings.getBelowResolution()));
+            lvColumns.put(Global.COLUMN_NAME_THROUGHPUT, parThroughput);
+            lvColumns.put(Global.COLUMN_NAME_WARM_UP_READINGS, Integer
+                    .toString(parReadings.getWarmUp()));
+        }
+
         lvColumns.put(Global.COLUMN_NAME_OBJECT, "'" + parObject + "'");
         lvColumns.put(Global.COLUMN_NAME_ORDER_BY, "'"
                 + unappliedPatternOrderBy + "'");
@@ -1329,10 +1861,10 @@ public final class Calibration {
     private void evaluateQueryUnappliedConsecutive(
             final CalibrationMapper parCalibration,
             final boolean parIgnoreFirst, final int parMax,
-            final long parPrecision, final double[] parTimeQuantities,
+            final long parPrecision, final Readings parReadings,
             final boolean parVerbose) {
 
-        int lvCurr = 0;
+        final long lvDeadline = getDeadline();
 
         for (int i = 0; i < parMax; i++) {
             if (!dbAccessTest.executeQueryTrialRun(unappliedPatternSelectStmnt,
@@ -1341,59 +1873,126 @@ public final class Calibration {
             }
 
             if (!(parIgnoreFirst && (i == 0))) {
-                parTimeQuantities[lvCurr++] =
-                        dbAccessTest.getTrialTimeQuantities(parPrecision);
+                parReadings.add(dbAccessTest, parPrecision);
+
+                if (isCompleted(lvDeadline, parReadings, parReadings)) {
+                    break;
+                }
             }
         }
 
-        evaluateQueryUnapplied(parCalibration, parTimeQuantities,
+        recordPrecision(parReadings);
+
+        evaluateQueryUnapplied(parCalibration, parReadings,
                 OBJECT_TYPE_QUERY_EXT + " (Consecutive - Unapplied)",
-                parVerbose);
+                Global.NULL, parVerbose);
+    }
+
+    private void evaluateSignificance(final CalibrationMapper parCalibration,
+            final Readings parReadingsApplied,
+            final Readings parReadingsUnapplied, final String parObject,
+            final boolean parVerbose) {
+
+        final double[] lvApplied = parReadingsApplied.getSample();
+        final double[] lvUnapplied = parReadingsUnapplied.getSample();
+
+        if (lvApplied.length == 0 || lvUnapplied.length == 0) {
+            return;
+        }
+
+        final SignificanceTest lvTest =
+                new SignificanceTest(lvApplied, lvUnapplied);
+
+        if (!lvTest.compute(BOOTSTRAP_RESAMPLES, seed)) {
+            return;
+        }
+
+        parCalibration.createSignificance(parObject, lvTest
+                .getNumberApplied(), lvTest.getNumberUnapplied(), lvTest
+                .getMannWhitneyU(), lvTest.getMannWhitneyZ(), lvTest
+                .getPValue(), lvTest.getHodgesLehmannShift(), lvTest
+                .getMedianRatio(), lvTest.getMedianRatioLower(), lvTest
+                .getMedianRatioUpper(), lvTest.getResamples());
+
+        if (parVerbose) {
+            System.out.println("Significance of Object " + parObject
+                    + ": U=" + lvTest.getMannWhitneyU() + ", z="
+                    + lvTest.getMannWhitneyZ() + ", p="
+                    + lvTest.getPValue() + ", shift="
+                    + lvTest.getHodgesLehmannShift() + ", median ratio="
+                    + lvTest.getMedianRatio() + " ["
+                    + lvTest.getMedianRatioLower() + ", "
+                    + lvTest.getMedianRatioUpper() + "]");
+        }
     }
 
     private void executeQueryAlternating(
             final CalibrationMapper parCalibration,
             final boolean parIgnoreFirst, final int parMax,
-            final long parPrecision, final double[] parTimeQuantitiesApplied,
-            final double[] parTimeQuantitiesUnapplied, final boolean parVerbose) {
+            final long parPrecision, final Readings parReadingsApplied,
+            final Readings parReadingsUnapplied, final boolean parVerbose) {
 
-        int lvCurr = 0;
+        if (!parCalibration.setSchedule(schedule, seed)) {
+            return;
+        }
+
+        final long lvDeadline = getDeadline();
+
+        final Random lvRandom = new Random(seed);
 
         // Statistics: Alternating
         for (int i = 0; i < parMax; i++) {
-            if (!dbAccessTest.executeQueryTrialRun(appliedPatternSelectStmnt,
-                    sqlSyntaxCodeTqp)) {
-                return;
-            }
+            final boolean lvAppliedFirst = isAppliedFirst(i, lvRandom);
+            final boolean lvCounted = !(parIgnoreFirst && (i == 0));
 
-            if (!(parIgnoreFirst && (i == 0))) {
-                parTimeQuantitiesApplied[lvCurr] =
-                        dbAccessTest.getTrialTimeQuantities(parPrecision);
-            }
+            for (int j = 0; j < 2; j++) {
+                final boolean lvApplied = (j == 0) == lvAppliedFirst;
 
-            if (!dbAccessTest.executeQueryTrialRun(unappliedPatternSelectStmnt,
-                    sqlSyntaxCodeTqp)) {
-                return;
-            }
+                if (lvApplied) {
+                    if (!dbAccessTest.executeQueryTrialRun(
+                            appliedPatternSelectStmnt, sqlSyntaxCodeTqp)) {
+                        return;
+                    }
 
-            if (!(parIgnoreFirst && (i == 0))) {
-                parTimeQuantitiesUnapplied[lvCurr] =
-                        dbAccessTest.getTrialTimeQuantities(parPrecision);
+                    if (lvCounted) {
+                        parReadingsApplied.add(dbAccessTest, parPrecision);
+                    }
+                } else {
+                    if (!dbAccessTest.executeQueryTrialRun(
+                            unappliedPatternSelectStmnt, sqlSyntaxCodeTqp)) {
+                        return;
+                    }
+
+                    if (lvCounted) {
+                        parReadingsUnapplied.add(dbAccessTest, parPrecision);
+                    }
+                }
             }
 
-            if (!(parIgnoreFirst && (i == 0))) {
-                lvCurr++;
+            if (lvCounted
+                    && isCompleted(lvDeadline, parReadingsApplied,
+                            parReadingsUnapplied)) {
+                break;
             }
         }
 
+        recordPrecision(parReadingsApplied);
+        recordPrecision(parReadingsUnapplied);
+
         // Statistics: Alternating - Unapplied Version of the Query
-        evaluateQueryUnapplied(parCalibration, parTimeQuantitiesUnapplied,
+        evaluateQueryUnapplied(parCalibration, parReadingsUnapplied,
                 OBJECT_TYPE_QUERY_EXT + " (Alternating - Unapplied)",
-                parVerbose);
+                Global.NULL, parVerbose);
 
         // Statistics: Alternating - Applied Version of the Query
-        evaluateQueryApplied(parCalibration, parTimeQuantitiesApplied,
-                OBJECT_TYPE_QUERY_EXT + " (Alternating - Applied)", parVerbose);
+        evaluateQueryApplied(parCalibration, parReadingsApplied,
+                OBJECT_TYPE_QUERY_EXT + " (Alternating - Applied)",
+                Global.NULL, parVerbose);
+
+        // Significance: Alternating - Applied versus Unapplied
+        evaluateSignificance(parCalibration, parReadingsApplied,
+                parReadingsUnapplied, OBJECT_TYPE_QUERY_EXT + " (Alternating)",
+                parVerbose);
     }
 
     private Map<String, Object> getColumnsCalibrationStatistic() {
@@ -1401,18 +2000,18 @@ public final class Calibration {
         final Map<String, Object> lvColumns =
                 new HashMap<String, Object>(MAX_COLUMNS_CALIBRATION_STATISTIC);
 
-        if (descriptiveStatistics == null) {
+        if (statistics == null) {
             return initColumnsCalibrationStatistic();
         }
 
         lvColumns.put(Global.COLUMN_NAME_ARITHMETIC_MEAN, new BigDecimal(
-                descriptiveStatistics.getMean()).setScale(5,
+                statistics.getMean()).setScale(5,
                 BigDecimal.ROUND_HALF_EVEN).toString());
         lvColumns.put(Global.COLUMN_NAME_GEOMETRIC_MEAN, new BigDecimal(
-                descriptiveStatistics.getGeometricMean()).setScale(5,
+                statistics.getGeometricMean()).setScale(5,
                 BigDecimal.ROUND_HALF_EVEN).toString());
 
-        final double lvKurtosis = descriptiveStatistics.getKurtosis();
+        final double lvKurtosis = statistics.getKurtosis();
         if (Double.isNaN(lvKurtosis)) {
             lvColumns.put(Global.COLUMN_NAME_KURTOSIS, Global.NULL);
         } else {
@@ -1422,34 +2021,19 @@ public final class Calibration {
         }
 
         lvColumns.put(Global.COLUMN_NAME_MAXIMUM_VALUE, new BigDecimal(
-                descriptiveStatistics.getMax()).toString());
+                statistics.getMax()).toString());
 
         lvColumns.put(Global.COLUMN_NAME_MINIMUM_VALUE, new BigDecimal(
-                descriptiveStatistics.getMin()).toString());
+                statistics.getMin()).toString());
 
-        final long lvNumberOfValues = descriptiveStatistics.getN();
+        final long lvNumberOfValues = statistics.getN();
 
         lvColumns.put(Global.COLUMN_NAME_NUMBER_OF_VALUES, new BigDecimal(
                 lvNumberOfValues).toString());
 
         getColumnsValibrationStatisticPercentile(lvColumns);
 
-        final StringBuffer lvReadings = new StringBuffer("CT_MD_READINGS(");
-
-        for (int i = 0; i < lvNumberOfValues; i++) {
-
-            if (i > 0) {
-                lvReadings.append(',');
-            }
-
-            lvReadings.append(new BigDecimal(descriptiveStatistics
-                    .getElement(i)).toString());
-        }
-
-        lvColumns.put(Global.COLUMN_NAME_READINGS, lvReadings.append(')')
-                .toString());
-
-        final double lvSkewness = descriptiveStatistics.getSkewness();
+        final double lvSkewness = statistics.getSkewness();
         if (Double.isNaN(lvKurtosis)) {
             lvColumns.put(Global.COLUMN_NAME_SKEWNESS, Global.NULL);
         } else {
@@ -1459,11 +2043,11 @@ public final class Calibration {
         }
 
         lvColumns.put(Global.COLUMN_NAME_STANDARD_DEVIATION, new BigDecimal(
-                descriptiveStatistics.getStandardDeviation()).setScale(5,
+                statistics.getStandardDeviation()).setScale(5,
                 BigDecimal.ROUND_HALF_EVEN).toString());
 
         lvColumns.put(Global.COLUMN_NAME_VARIANCE, new BigDecimal(
-                descriptiveStatistics.getVariance()).setScale(5,
+                statistics.getVariance()).setScale(5,
                 BigDecimal.ROUND_HALF_EVEN).toString());
 
         return lvColumns;
@@ -1473,13 +2057,13 @@ public final class Calibration {
             final Map<String, Object> parColumns) {
 
         parColumns.put(Global.COLUMN_NAME_PERCENTILE_25, new BigDecimal(
-                descriptiveStatistics.getPercentile(25)).setScale(5,
+                statistics.getPercentile(25)).setScale(5,
                 BigDecimal.ROUND_HALF_EVEN).toString());
         parColumns.put(Global.COLUMN_NAME_PERCENTILE_50, new BigDecimal(
-                descriptiveStatistics.getPercentile(50)).setScale(5,
+                statistics.getPercentile(50)).setScale(5,
                 BigDecimal.ROUND_HALF_EVEN).toString());
         parColumns.put(Global.COLUMN_NAME_PERCENTILE_75, new BigDecimal(
-                descriptiveStatistics.getPercentile(75)).setScale(5,
+                statistics.getPercentile(75)).setScale(5,
                 BigDecimal.ROUND_HALF_EVEN).toString());
     }
 
@@ -1503,6 +2087,63 @@ public final class Calibration {
         return true;
     }
 
+    private DatabaseAccessor getConnectionTest(final int parFetchSize,
+            final String parPurpose) {
+
+        final DatabaseAccessor lvDBAccess =
+                new DatabaseAccessor(Global.DATABASE_SCHEMA_IDENTIFIER_TEST,
+                        (String) columnsDatabaseInstance
+                                .get(Global.COLUMN_NAME_SQL_SYNTAX_CODE),
+                        (String) columnsDatabaseInstance
+                                .get(Global.COLUMN_NAME_JDBC_DRIVER), false);
+
+        lvDBAccess.setConsumption(consumption);
+        lvDBAccess.setPrepared(prepared);
+        setTimer(lvDBAccess);
+
+        if (!lvDBAccess.getConnection((String) columnsDatabaseInstance
+                .get(Global.COLUMN_NAME_JDBC_URL),
+                (String) columnsDatabaseInstance
+                        .get(Global.COLUMN_NAME_USER_NAME),
+                (String) columnsDatabaseInstance
+                        .get(Global.COLUMN_NAME_PASSWORD))) {
+            LOGGER.log(Level.SEVERE,
+                    "Problem with getConnection() / trial database ("
+                            + parPurpose + ")");
+            return null;
+        }
+
+        if (!(lvDBAccess.createStatement() && lvDBAccess
+                .setFetchSize(parFetchSize))) {
+            lvDBAccess.closeConnection();
+
+            LOGGER.log(Level.SEVERE,
+                    "Problem with createStatement() / trial database ("
+                            + parPurpose + ")");
+            return null;
+        }
+
+        return lvDBAccess;
+    }
+
+    private long getDeadline() {
+
+        if (maxDuration == 0) {
+            return 0L;
+        }
+
+        return System.nanoTime() + maxDuration * 1000000000L;
+    }
+
+    private static long getMedian(final long[] parReadings) {
+
+        final long[] lvReadings = parReadings.clone();
+
+        Arrays.sort(lvReadings);
+
+        return lvReadings[lvReadings.length / 2];
+    }
+
     /**
      * Returns the type of the <code>Calibration</code> object.
      * 
@@ -1513,6 +2154,53 @@ public final class Calibration {
         return object;
     }
 
+    private static double getRelativeHalfWidth(
+            final StreamingStatistics parStatistics) {
+
+        final long lvN = parStatistics.getN();
+
+        if (lvN < CYCLES_PER_ROUND) {
+            return Double.NaN;
+        }
+
+        // Ranks of the 95% confidence interval of the median
+        final double lvOffset = 98.0 / Math.sqrt(lvN);
+        final double lvMedian = parStatistics.getPercentile(50);
+
+        if (!(lvMedian > 0.0)) {
+            return Double.NaN;
+        }
+
+        return (parStatistics.getPercentile(50 + lvOffset) - parStatistics
+                .getPercentile(50 - lvOffset))
+                / (2.0 * lvMedian);
+    }
+
+    private static double getRowsPerSecond(final long parNumberRows,
+            final long parNanoSeconds) {
+
+        // Not measurable even in nanoseconds: no throughput *******************
+        if (parNanoSeconds <= 0L) {
+            return Double.NaN;
+        }
+
+        return parNumberRows * 1.0E9 / parNanoSeconds;
+    }
+
+    // The start time is the primary key of TMD_CALIBRATION: calibrations
+    // started concurrently by a batch must not share the same millisecond.
+    private static Date getStartTime() {
+
+        while (true) {
+            final long lvLast = LAST_START_TIME.get();
+            final long lvNext = Math.max(System.currentTimeMillis(), lvLast + 1L);
+
+            if (LAST_START_TIME.compareAndSet(lvLast, lvNext)) {
+                return new Date(lvNext);
+            }
+        }
+    }
+
     private boolean getTestQueryPair(final CalibrationMapper parCalibration,
             final int parTestQueryPairId) {
 
@@ -1618,12 +2306,28 @@ public final class Calibration {
         return true;
     }
 
+    private String getThroughput(final Readings parReadings,
+            final double parSeconds) {
+
+        if (!(parSeconds > 0.0)) {
+            return Global.NULL;
+        }
+
+        // The elapsed time includes the executions discarded as warm-up ******
+        final long lvExecutions =
+                parReadings.getStatistics().getN() + parReadings.getWarmUp();
+
+        return new BigDecimal(lvExecutions / parSeconds).setScale(5,
+                BigDecimal.ROUND_HALF_EVEN).toString();
+    }
+
     private Map<String, Object> initColumnsCalibrationStatistic() {
 
         final Map<String, Object> lvColumns =
                 new HashMap<String, Object>(MAX_COLUMNS_CALIBRATION_STATISTIC);
 
         lvColumns.put(Global.COLUMN_NAME_ARITHMETIC_MEAN, Global.NULL);
+        lvColumns.put(Global.COLUMN_NAME_BELOW_RESOLUTION, Global.NULL);
         lvColumns.put(Global.COLUMN_NAME_GEOMETRIC_MEAN, Global.NULL);
         lvColumns.put(Global.COLUMN_NAME_KURTOSIS, Global.NULL);
         lvColumns.put(Global.COLUMN_NAME_MAXIMUM_VALUE, Global.NULL);
@@ -1635,11 +2339,129 @@ public final class Calibration {
         lvColumns.put(Global.COLUMN_NAME_READINGS, Global.NULL);
         lvColumns.put(Global.COLUMN_NAME_SKEWNESS, Global.NULL);
         lvColumns.put(Global.COLUMN_NAME_STANDARD_DEVIATION, Global.NULL);
+        lvColumns.put(Global.COLUMN_NAME_THROUGHPUT, Global.NULL);
         lvColumns.put(Global.COLUMN_NAME_VARIANCE, Global.NULL);
+        lvColumns.put(Global.COLUMN_NAME_WARM_UP_READINGS, Global.NULL);
 
         return lvColumns;
     }
 
+    private boolean isAppliedFirst(final int parCycle, final Random parRandom) {
+
+        if (Global.SCHEDULE_ABBA.equals(schedule)) {
+            return parCycle % 2 == 0;
+        }
+
+        if (Global.SCHEDULE_RANDOM.equals(schedule)) {
+            return parRandom.nextBoolean();
+        }
+
+        return true;
+    }
+
+    private boolean isCompleted(final long parDeadline,
+            final Readings parReadings1, final Readings parReadings2) {
+
+        if (parDeadline != 0L && System.nanoTime() - parDeadline >= 0L) {
+            return true;
+        }
+
+        if (!(targetPrecision > 0.0 && parReadings1.isSteady() && parReadings2
+                .isSteady())
+                || parReadings1.getStatistics().getN() % CYCLES_PER_ROUND != 0) {
+            return false;
+        }
+
+        return isConverged(parReadings1) && isConverged(parReadings2);
+    }
+
+    private boolean isConverged(final Readings parReadings) {
+
+        final double lvPrecision =
+                getRelativeHalfWidth(parReadings.getStatistics());
+
+        return !Double.isNaN(lvPrecision) && lvPrecision <= targetPrecision;
+    }
+
+    private void recordPrecision(final Readings parReadings) {
+
+        final StreamingStatistics lvStatistics = parReadings.getStatistics();
+
+        final double lvPrecision = getRelativeHalfWidth(lvStatistics);
+
+        if (!Double.isNaN(lvPrecision)
+                && (Double.isNaN(achievedPrecision) || lvPrecision > achievedPrecision)) {
+            achievedPrecision = lvPrecision;
+        }
+
+        cyclesExecuted = Math.max(cyclesExecuted, lvStatistics.getN());
+    }
+
+    /**
+     * Sets the number of concurrent clients of the load calibration. Each
+     * client uses its own database connection. With zero clients no load
+     * calibration is performed.
+     * 
+     * @param parClients The number of concurrent clients.
+     */
+    public void setClients(final int parClients) {
+
+        if (parClients < 0) {
+            throw new IllegalArgumentException(
+                    "Number of clients must not be negative");
+        }
+
+        clients = parClients;
+    }
+
+    /**
+     * Sets how the rows of the queries of the test query pair are consumed.
+     * 
+     * @param parConsumption One of <code>Global.CONSUMPTION_NEXT_ONLY</code>,
+     *            <code>Global.CONSUMPTION_TYPED</code> or
+     *            <code>Global.CONSUMPTION_OBJECTS</code>.
+     */
+    public void setConsumption(final String parConsumption) {
+
+        if (!(Global.CONSUMPTION_NEXT_ONLY.equals(parConsumption)
+                || Global.CONSUMPTION_OBJECTS.equals(parConsumption) || Global.CONSUMPTION_TYPED
+                .equals(parConsumption))) {
+            throw new IllegalArgumentException("Consumption mode "
+                    + parConsumption + " is invalid");
+        }
+
+        consumption = parConsumption;
+    }
+
+    /**
+     * Sets the maximum duration of each series of query executions, including
+     * each phase of the load calibration. With zero seconds the number of
+     * executions is limited by the number of cycles only.
+     * 
+     * @param parMaxDuration The maximum duration in seconds.
+     */
+    public void setMaxDuration(final int parMaxDuration) {
+
+        if (parMaxDuration < 0) {
+            throw new IllegalArgumentException(
+                    "Maximum duration must not be negative");
+        }
+
+        maxDuration = parMaxDuration;
+    }
+
+    /**
+     * Sets whether the queries of the test query pair are executed as
+     * prepared statements.
+     * 
+     * @param parPrepared Whether the queries are executed as prepared
+     *            statements.
+     */
+    public void setPrepared(final boolean parPrepared) {
+
+        prepared = parPrepared;
+    }
+
     /**
      * Sets the type of the <code>Calibration</code> object.
      * 
@@ -1649,4 +2471,89 @@ public final class Calibration {
 
         object = parObject;
     }
+
+    /**
+     * Sets the schedule of the alternating query executions: strict
+     * alternation with the applied query first, ABBA blocks, or a random
+     * order per cycle.
+     * 
+     * @param parSchedule One of <code>Global.SCHEDULE_STRICT</code>,
+     *            <code>Global.SCHEDULE_ABBA</code> or
+     *            <code>Global.SCHEDULE_RANDOM</code>.
+     */
+    public void setSchedule(final String parSchedule) {
+
+        if (!(Global.SCHEDULE_ABBA.equals(parSchedule)
+                || Global.SCHEDULE_RANDOM.equals(parSchedule) || Global.SCHEDULE_STRICT
+                .equals(parSchedule))) {
+            throw new IllegalArgumentException("Schedule " + parSchedule
+                    + " is invalid");
+        }
+
+        schedule = parSchedule;
+    }
+
+    /**
+     * Sets the seed of the random generator used by the random schedule.
+     * 
+     * @param parSeed The seed.
+     */
+    public void setSeed(final long parSeed) {
+
+        seed = parSeed;
+    }
+
+    /**
+     * Sets the target precision of an adaptive calibration. The query
+     * executions of a series are then stopped in rounds of ten cycles as soon
+     * as the relative half-width of the 95% confidence interval of the median
+     * does not exceed the target precision. The number of cycles remains the
+     * upper limit. With a target precision of zero all cycles are executed.
+     * 
+     * @param parTargetPrecision The target relative half-width, e.g. 0.01 for
+     *            one percent.
+     */
+    public void setTargetPrecision(final double parTargetPrecision) {
+
+        if (parTargetPrecision < 0.0 || parTargetPrecision >= 1.0) {
+            throw new IllegalArgumentException(
+                    "Target precision must be at least 0 and less than 1");
+        }
+
+        targetPrecision = parTargetPrecision;
+    }
+
+    // Passes the timer overhead and resolution to a test database accessor.
+    private void setTimer(final DatabaseAccessor parDBAccess) {
+
+        if (Double.isNaN(timerOverhead)) {
+            return;
+        }
+
+        parDBAccess.setTimer((long) timerOverhead, (long) timerResolution);
+    }
+
+    /**
+     * Sets whether the timer overhead measured by the latest calibration of
+     * <code>System.nanoTime</code> against the database instance is
+     * subtracted from every reading of a query calibration. Readings below
+     * the timer resolution are counted.
+     * 
+     * @param parTimerCompensation Whether the timer overhead is subtracted.
+     */
+    public void setTimerCompensation(final boolean parTimerCompensation) {
+
+        timerCompensation = parTimerCompensation;
+    }
+
+    /**
+     * Sets whether the readings of the warm-up phase are determined by the
+     * <code>SteadyStateDetector</code> and discarded.
+     * 
+     * @param parWarmUp Whether the warm-up readings are discarded.
+     */
+    public void setWarmUp(final boolean parWarmUp) {
+
+        warmUp = parWarmUp;
+    }
 }
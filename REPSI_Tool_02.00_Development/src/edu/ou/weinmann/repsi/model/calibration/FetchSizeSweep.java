@@ -0,0 +1,95 @@
+package edu.ou.weinmann.repsi.model.calibration;
+
+/**
+ * Supports the calibration of the fetch size of a test query pair. The fetch
+ * sizes are swept along a geometric series with the factor two, and the
+ * recommended fetch size is the knee of the resulting response time curve:
+ * the smallest fetch size whose response time lies within a tolerance of the
+ * best response time of the sweep. Larger fetch sizes only cost memory on
+ * the client without a measurable gain.
+ * 
+ * @author Walter Weinmann
+ * 
+ */
+public final class FetchSizeSweep {
+
+    private static final double KNEE_TOLERANCE = 0.05;
+
+    private FetchSizeSweep() {
+
+        super();
+    }
+
+    /**
+     * Returns the fetch sizes of the sweep: 1, 2, 4, ... up to and including
+     * the maximum fetch size.
+     * 
+     * @param parMaxFetchSize The largest fetch size of the sweep.
+     * 
+     * @return the fetch sizes in ascending order.
+     */
+    public static int[] getFetchSizes(final int parMaxFetchSize) {
+
+        if (parMaxFetchSize < 1) {
+            throw new IllegalArgumentException("Maximum fetch size "
+                    + parMaxFetchSize + " is invalid");
+        }
+
+        int lvLength = 1;
+
+        for (long lvFetchSize = 2L; lvFetchSize < parMaxFetchSize; lvFetchSize *= 2L) {
+            lvLength++;
+        }
+
+        if (parMaxFetchSize > 1) {
+            lvLength++;
+        }
+
+        final int[] lvFetchSizes = new int[lvLength];
+
+        int lvFetchSize = 1;
+
+        for (int i = 0; i < lvLength - 1; i++) {
+            lvFetchSizes[i] = lvFetchSize;
+            lvFetchSize *= 2;
+        }
+
+        lvFetchSizes[lvLength - 1] = parMaxFetchSize;
+
+        return lvFetchSizes;
+    }
+
+    /**
+     * Returns the position of the knee of a response time curve.
+     * 
+     * @param parResponseTimes The response times of the fetch sizes in the
+     *            order of <code>getFetchSizes</code>.
+     * 
+     * @return the position of the recommended fetch size.
+     */
+    public static int getKnee(final double[] parResponseTimes) {
+
+        if (parResponseTimes == null || parResponseTimes.length == 0) {
+            throw new IllegalArgumentException(
+                    "Response times are missing (null)");
+        }
+
+        double lvBest = parResponseTimes[0];
+
+        for (int i = 1; i < parResponseTimes.length; i++) {
+            if (parResponseTimes[i] < lvBest) {
+                lvBest = parResponseTimes[i];
+            }
+        }
+
+        final double lvLimit = lvBest * (1.0 + KNEE_TOLERANCE);
+
+        for (int i = 0; i < parResponseTimes.length; i++) {
+            if (parResponseTimes[i] <= lvLimit) {
+                return i;
+            }
+        }
+
+        return parResponseTimes.length - 1;
+    }
+}
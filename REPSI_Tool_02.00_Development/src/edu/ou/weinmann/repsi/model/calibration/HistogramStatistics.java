@@ -0,0 +1,398 @@
+package edu.ou.weinmann.repsi.model.calibration;
+
+/**
+ * Implements the <code>StreamingStatistics</code> interface with a fixed
+ * size, logarithmically bucketed histogram. Values less than the number of
+ * sub-buckets are counted exactly, larger values are counted in buckets whose
+ * width doubles with every power of two, so that the relative error of a
+ * percentile is at most <code>2^-(subBucketBits - 1)</code>. Minimum,
+ * maximum, mean, variance, skewness and kurtosis are computed exactly from
+ * running moments. The memory needed is independent of the number of values.
+ * 
+ * @author Walter Weinmann
+ * 
+ */
+public final class HistogramStatistics implements StreamingStatistics {
+
+    private static final int DEFAULT_SUB_BUCKET_BITS = 10;
+
+    private static final int MAX_SUB_BUCKET_BITS = 14;
+
+    private final long[] counts;
+
+    private double max;
+
+    private double mean;
+
+    private double min;
+
+    private double moment2;
+
+    private double moment3;
+
+    private double moment4;
+
+    private long n;
+
+    private final int subBucketBits;
+
+    private final long subBucketCount;
+
+    private final long subBucketHalfCount;
+
+    private double sumOfLogs;
+
+    /**
+     * Constructs a <code>HistogramStatistics</code> object with a maximum
+     * relative percentile error of about 0.2 percent.
+     */
+    public HistogramStatistics() {
+
+        this(DEFAULT_SUB_BUCKET_BITS);
+    }
+
+    /**
+     * Constructs a <code>HistogramStatistics</code> object.
+     * 
+     * @param parSubBucketBits The number of bits used to resolve the values
+     *            within a power of two.
+     */
+    public HistogramStatistics(final int parSubBucketBits) {
+
+        super();
+
+        if (parSubBucketBits < 1 || parSubBucketBits > MAX_SUB_BUCKET_BITS) {
+            throw new IllegalArgumentException(
+                    "Number of sub-bucket bits must be between 1 and "
+                            + MAX_SUB_BUCKET_BITS);
+        }
+
+        subBucketBits = parSubBucketBits;
+        subBucketCount = 1L << subBucketBits;
+        subBucketHalfCount = subBucketCount >> 1;
+
+        counts = new long[getIndex(Long.MAX_VALUE) + 1];
+
+        max = Double.NaN;
+        mean = 0.0;
+        min = Double.NaN;
+        moment2 = 0.0;
+        moment3 = 0.0;
+        moment4 = 0.0;
+        n = 0L;
+        sumOfLogs = 0.0;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public void addValue(final double parValue) {
+
+        counts[getIndex(parValue)]++;
+
+        if (n == 0L) {
+            max = parValue;
+            min = parValue;
+        } else {
+            if (parValue > max) {
+                max = parValue;
+            }
+
+            if (parValue < min) {
+                min = parValue;
+            }
+        }
+
+        final long lvN1 = n;
+
+        n++;
+
+        final double lvDelta = parValue - mean;
+        final double lvDeltaN = lvDelta / n;
+        final double lvDeltaN2 = lvDeltaN * lvDeltaN;
+        final double lvTerm1 = lvDelta * lvDeltaN * lvN1;
+
+        mean += lvDeltaN;
+        moment4 +=
+                lvTerm1 * lvDeltaN2 * ((double) n * n - 3.0 * n + 3.0) + 6.0
+                        * lvDeltaN2 * moment2 - 4.0 * lvDeltaN * moment3;
+        moment3 += lvTerm1 * lvDeltaN * (n - 2.0) - 3.0 * lvDeltaN * moment2;
+        moment2 += lvTerm1;
+
+        sumOfLogs += Math.log(parValue);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public double getGeometricMean() {
+
+        if (n == 0L) {
+            return Double.NaN;
+        }
+
+        return Math.exp(sumOfLogs / n);
+    }
+
+    private int getIndex(final double parValue) {
+
+        if (!(parValue > 0.0)) {
+            return 0;
+        }
+
+        if (parValue >= Long.MAX_VALUE) {
+            return getIndex(Long.MAX_VALUE);
+        }
+
+        return getIndex(Math.round(parValue));
+    }
+
+    private int getIndex(final long parValue) {
+
+        if (parValue < subBucketCount) {
+            return (int) parValue;
+        }
+
+        final int lvShift =
+                63 - Long.numberOfLeadingZeros(parValue) - (subBucketBits - 1);
+
+        return (int) (lvShift * subBucketHalfCount + (parValue >>> lvShift));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public double getKurtosis() {
+
+        if (n < 4L) {
+            return Double.NaN;
+        }
+
+        final double lvVariance = getVariance();
+
+        if (lvVariance < 10E-20) {
+            return 0.0;
+        }
+
+        final double lvN = n;
+
+        return lvN * (lvN + 1.0) * moment4
+                / ((lvN - 1.0) * (lvN - 2.0) * (lvN - 3.0) * lvVariance * lvVariance)
+                - 3.0 * (lvN - 1.0) * (lvN - 1.0) / ((lvN - 2.0) * (lvN - 3.0));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public double getMax() {
+
+        return max;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public double getMean() {
+
+        if (n == 0L) {
+            return Double.NaN;
+        }
+
+        return mean;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public double getMin() {
+
+        return min;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public long getN() {
+
+        return n;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public double getPercentile(final double parPercentile) {
+
+        if (parPercentile <= 0.0 || parPercentile > 100.0) {
+            throw new IllegalArgumentException(
+                    "Percentile must be greater than 0 and less than or equal to 100");
+        }
+
+        if (n == 0L) {
+            return Double.NaN;
+        }
+
+        if (n == 1L) {
+            return min;
+        }
+
+        final double lvPosition = parPercentile * (n + 1) / 100.0;
+
+        if (lvPosition < 1.0) {
+            return min;
+        }
+
+        if (lvPosition >= n) {
+            return max;
+        }
+
+        final long lvRank = (long) Math.floor(lvPosition);
+        final double lvLower = getValueAtRank(lvRank);
+
+        return lvLower + (lvPosition - lvRank)
+                * (getValueAtRank(lvRank + 1) - lvLower);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public double getSkewness() {
+
+        if (n < 3L) {
+            return Double.NaN;
+        }
+
+        final double lvVariance = getVariance();
+
+        if (lvVariance < 10E-20) {
+            return 0.0;
+        }
+
+        final double lvN = n;
+
+        return lvN * moment3
+                / ((lvN - 1.0) * (lvN - 2.0) * lvVariance * Math.sqrt(lvVariance));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public double getStandardDeviation() {
+
+        return Math.sqrt(getVariance());
+    }
+
+    private double getValue(final int parIndex) {
+
+        if (parIndex < subBucketCount) {
+            return parIndex;
+        }
+
+        final long lvShift = parIndex / subBucketHalfCount - 1;
+        final long lvLowest =
+                (parIndex - lvShift * subBucketHalfCount) << lvShift;
+
+        return lvLowest + ((1L << lvShift) - 1L) / 2.0;
+    }
+
+    private double getValueAtRank(final long parRank) {
+
+        if (parRank <= 1L) {
+            return min;
+        }
+
+        if (parRank >= n) {
+            return max;
+        }
+
+        long lvCumulated = 0L;
+
+        for (int i = 0; i < counts.length; i++) {
+            lvCumulated += counts[i];
+
+            if (lvCumulated >= parRank) {
+                return Math.min(max, Math.max(min, getValue(i)));
+            }
+        }
+
+        return max;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public double getVariance() {
+
+        if (n == 0L) {
+            return Double.NaN;
+        }
+
+        if (n == 1L) {
+            return 0.0;
+        }
+
+        return moment2 / (n - 1.0);
+    }
+
+    /**
+     * Adds all values of another <code>HistogramStatistics</code> object to
+     * this object.
+     * 
+     * @param parOther The <code>HistogramStatistics</code> object to be
+     *            merged, with the same number of sub-bucket bits.
+     */
+    public void merge(final HistogramStatistics parOther) {
+
+        if (parOther == null) {
+            throw new IllegalArgumentException(
+                    "HistogramStatistics is missing (null)");
+        }
+
+        if (parOther.subBucketBits != subBucketBits) {
+            throw new IllegalArgumentException(
+                    "Number of sub-bucket bits differs");
+        }
+
+        if (parOther.n == 0L) {
+            return;
+        }
+
+        if (n == 0L) {
+            max = parOther.max;
+            min = parOther.min;
+        } else {
+            max = Math.max(max, parOther.max);
+            min = Math.min(min, parOther.min);
+        }
+
+        for (int i = 0; i < counts.length; i++) {
+            counts[i] += parOther.counts[i];
+        }
+
+        final double lvNA = n;
+        final double lvNB = parOther.n;
+        final double lvN = lvNA + lvNB;
+        final double lvDelta = parOther.mean - mean;
+        final double lvDelta2 = lvDelta * lvDelta;
+
+        final double lvMoment2 =
+                moment2 + parOther.moment2 + lvDelta2 * lvNA * lvNB / lvN;
+        final double lvMoment3 =
+                moment3 + parOther.moment3 + lvDelta2 * lvDelta * lvNA * lvNB
+                        * (lvNA - lvNB) / (lvN * lvN) + 3.0 * lvDelta
+                        * (lvNA * parOther.moment2 - lvNB * moment2) / lvN;
+        final double lvMoment4 =
+                moment4 + parOther.moment4 + lvDelta2 * lvDelta2 * lvNA * lvNB
+                        * (lvNA * lvNA - lvNA * lvNB + lvNB * lvNB)
+                        / (lvN * lvN * lvN) + 6.0 * lvDelta2
+                        * (lvNA * lvNA * parOther.moment2 + lvNB * lvNB * moment2)
+                        / (lvN * lvN) + 4.0 * lvDelta
+                        * (lvNA * parOther.moment3 - lvNB * moment3) / lvN;
+
+        mean += lvDelta * lvNB / lvN;
+        moment2 = lvMoment2;
+        moment3 = lvMoment3;
+        moment4 = lvMoment4;
+        n += parOther.n;
+        sumOfLogs += parOther.sumOfLogs;
+    }
+}
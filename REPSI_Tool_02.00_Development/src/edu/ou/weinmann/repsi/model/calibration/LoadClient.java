@@ -0,0 +1,126 @@
+package edu.ou.weinmann.repsi.model.calibration;
+
+import edu.ou.weinmann.repsi.model.util.DatabaseAccessor;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Executes a query repeatedly on its own database connection as one of
+ * several concurrent clients of a load calibration. All clients wait for a
+ * common start signal and stop after a given number of cycles or as soon as
+ * a given point in time has passed, whichever comes first. A failed
+ * execution stops the client and fails it, so that no throughput is
+ * reported from a partial series.
+ * 
+ * @author Walter Weinmann
+ * 
+ */
+public final class LoadClient implements Callable<Readings> {
+
+    private static final Logger LOGGER =
+            Logger.getLogger(LoadClient.class.getPackage().getName());
+
+    private final int cycles;
+
+    private final DatabaseAccessor dbAccess;
+
+    private final long deadline;
+
+    private final long precision;
+
+    private final String sqlSyntaxCode;
+
+    private final CountDownLatch startSignal;
+
+    private final String statement;
+
+    private final boolean warmUp;
+
+    /**
+     * Constructs a <code>LoadClient</code> object.
+     * 
+     * @param parDatabaseAccessor The <code>DatabaseAccessor</code> object
+     *            with the open connection of this client.
+     * @param parStatement The query to be executed.
+     * @param parSQLSyntaxCode The SQL syntax code of the query.
+     * @param parCycles The maximum number of executions.
+     * @param parDeadline The value of <code>System.nanoTime()</code> after
+     *            which no further execution is started, or zero if the
+     *            executions are limited by the number of cycles only.
+     * @param parPrecision The exponent (base 10) of the desired presicion.
+     * @param parWarmUp Whether the readings of the warm-up phase are to be
+     *            discarded.
+     * @param parStartSignal The signal all clients wait for before the first
+     *            execution.
+     */
+    public LoadClient(final DatabaseAccessor parDatabaseAccessor,
+            final String parStatement, final String parSQLSyntaxCode,
+            final int parCycles, final long parDeadline,
+            final long parPrecision, final boolean parWarmUp,
+            final CountDownLatch parStartSignal) {
+
+        super();
+
+        if (parDatabaseAccessor == null) {
+            throw new IllegalArgumentException(
+                    "DatabaseAccessor is missing (null)");
+        }
+
+        if (parStatement == null) {
+            throw new IllegalArgumentException("Statement is missing (null)");
+        }
+
+        if (parStartSignal == null) {
+            throw new IllegalArgumentException(
+                    "Start signal is missing (null)");
+        }
+
+        cycles = parCycles;
+        dbAccess = parDatabaseAccessor;
+        deadline = parDeadline;
+        precision = parPrecision;
+        sqlSyntaxCode = parSQLSyntaxCode;
+        startSignal = parStartSignal;
+        statement = parStatement;
+        warmUp = parWarmUp;
+    }
+
+    /**
+     * Executes the query after the start signal was given.
+     * 
+     * @return the <code>Readings</code> object with the response times of all
+     *         executions.
+     * 
+     * @throws InterruptedException if the client was interrupted while
+     *             waiting for the start signal.
+     * @throws IllegalStateException if an execution of the query failed.
+     */
+    public Readings call() throws InterruptedException {
+
+        final Readings lvReadings = new Readings(cycles, warmUp);
+
+        startSignal.await();
+
+        for (int i = 0; i < cycles; i++) {
+            if (deadline != 0L && System.nanoTime() - deadline >= 0L) {
+                break;
+            }
+
+            if (!dbAccess.executeQueryTrialRun(statement, sqlSyntaxCode)) {
+                final String lvMsg =
+                        "Load client stopped after " + i + " executions: "
+                                + dbAccess.getTrialRunErrorMessage();
+                LOGGER.log(Level.SEVERE, lvMsg);
+                throw new IllegalStateException(lvMsg);
+            }
+
+            lvReadings.add(dbAccess, precision);
+        }
+
+        return lvReadings;
+    }
+}
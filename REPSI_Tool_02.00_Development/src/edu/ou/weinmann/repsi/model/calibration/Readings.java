@@ -0,0 +1,489 @@
+package edu.ou.weinmann.repsi.model.calibration;
+
+import edu.ou.weinmann.repsi.model.util.DatabaseAccessor;
+import edu.ou.weinmann.repsi.model.util.Global;
+
+import java.math.BigDecimal;
+
+import java.util.Random;
+
+/**
+ * Collects the readings of a series of query executions. Every reading
+ * consists of the time needed to execute the query, the time needed until the
+ * first row was fetched and the time needed to fetch all rows. The times
+ * needed to fetch all rows are summarised in a <code>StreamingStatistics</code>
+ * object, whereas only the first <code>Global.MAX_READINGS</code> readings
+ * are retained for the database. Optionally the first readings are buffered
+ * until the end of the warm-up phase has been determined by the
+ * <code>SteadyStateDetector</code>, and only the readings in steady state
+ * are taken into account. Readings below the resolution of the timer are
+ * counted. A uniform sample of at most <code>Global.MAX_SAMPLE_SIZE</code>
+ * times needed to fetch all rows in steady state is drawn with reservoir
+ * sampling (algorithm R) for the significance tests, so that the memory
+ * needed is independent of the number of cycles. The random generator of the
+ * sample has a fixed seed, so that the same readings yield the same sample.
+ * 
+ * @author Walter Weinmann
+ * 
+ */
+public final class Readings {
+
+    private static final int SAMPLE_BUFFER = 1024;
+
+    private static final long SAMPLE_SEED = 4711L;
+
+    private static final int WARM_UP_BUFFER = 200;
+
+    private int belowResolution;
+
+    private int discarded;
+
+    private final double[] execute;
+
+    private final double[] firstRow;
+
+    private final Random random;
+
+    private double[] sample;
+
+    private long sampleCount;
+
+    private int sampleSize;
+
+    private int size;
+
+    private final HistogramStatistics statistics;
+
+    private final double[] total;
+
+    private boolean[] warmUpBelowResolution;
+
+    private double[] warmUpExecute;
+
+    private double[] warmUpFirstRow;
+
+    private int warmUpSize;
+
+    private double[] warmUpTotal;
+
+    /**
+     * Constructs a <code>Readings</code> object without warm-up detection.
+     * 
+     * @param parCapacity The expected number of readings.
+     */
+    public Readings(final int parCapacity) {
+
+        this(parCapacity, false);
+    }
+
+    /**
+     * Constructs a <code>Readings</code> object.
+     * 
+     * @param parCapacity The expected number of readings.
+     * @param parDetectWarmUp Whether the readings of the warm-up phase are to
+     *            be discarded.
+     */
+    public Readings(final int parCapacity, final boolean parDetectWarmUp) {
+
+        super();
+
+        if (parCapacity < 0) {
+            throw new IllegalArgumentException(
+                    "Capacity must not be negative");
+        }
+
+        final int lvCapacity = Math.min(parCapacity, Global.MAX_READINGS);
+
+        belowResolution = 0;
+        discarded = 0;
+        execute = new double[lvCapacity];
+        firstRow = new double[lvCapacity];
+        random = new Random(SAMPLE_SEED);
+        sample =
+                new double[Math.min(Math.min(parCapacity, SAMPLE_BUFFER),
+                        Global.MAX_SAMPLE_SIZE)];
+        sampleCount = 0L;
+        sampleSize = 0;
+        size = 0;
+        statistics = new HistogramStatistics();
+        total = new double[lvCapacity];
+        warmUpSize = 0;
+
+        final int lvWarmUpCapacity = Math.min(parCapacity, WARM_UP_BUFFER);
+
+        if (parDetectWarmUp && lvWarmUpCapacity > 0) {
+            warmUpBelowResolution = new boolean[lvWarmUpCapacity];
+            warmUpExecute = new double[lvWarmUpCapacity];
+            warmUpFirstRow = new double[lvWarmUpCapacity];
+            warmUpTotal = new double[lvWarmUpCapacity];
+        }
+    }
+
+    /**
+     * Adds the readings of the last query execution of the given
+     * <code>DatabaseAccessor</code> object.
+     * 
+     * @param parDatabaseAccessor The <code>DatabaseAccessor</code> object
+     *            which executed the query.
+     * @param parPrecision The exponent (base 10) of the desired presicion.
+     */
+    public void add(final DatabaseAccessor parDatabaseAccessor,
+            final long parPrecision) {
+
+        if (parDatabaseAccessor == null) {
+            throw new IllegalArgumentException(
+                    "DatabaseAccessor is missing (null)");
+        }
+
+        final long lvExecute =
+                parDatabaseAccessor.getTrialTimeQuantitiesExecute(parPrecision);
+        final long lvFirstRow =
+                parDatabaseAccessor.getTrialTimeQuantitiesFirstRow(parPrecision);
+        final long lvTotal =
+                parDatabaseAccessor.getTrialTimeQuantities(parPrecision);
+        final boolean lvBelowResolution =
+                parDatabaseAccessor.isBelowTimerResolution();
+
+        if (warmUpTotal == null) {
+            add(lvExecute, lvFirstRow, lvTotal, lvBelowResolution);
+            return;
+        }
+
+        warmUpBelowResolution[warmUpSize] = lvBelowResolution;
+        warmUpExecute[warmUpSize] = lvExecute;
+        warmUpFirstRow[warmUpSize] = lvFirstRow;
+        warmUpTotal[warmUpSize] = lvTotal;
+
+        warmUpSize++;
+
+        if (warmUpSize == warmUpTotal.length) {
+            detectWarmUp();
+        }
+    }
+
+    private void add(final double parExecute, final double parFirstRow,
+            final double parTotal, final boolean parBelowResolution) {
+
+        if (parBelowResolution) {
+            belowResolution++;
+        }
+
+        statistics.addValue(parTotal);
+
+        addSample(parTotal);
+
+        if (size == total.length) {
+            return;
+        }
+
+        execute[size] = parExecute;
+        firstRow[size] = parFirstRow;
+        total[size] = parTotal;
+
+        size++;
+    }
+
+    /**
+     * Adds all readings of another <code>Readings</code> object. The
+     * statistics are merged completely, the samples into a uniform sample of
+     * both series, and the retained readings only as far as the capacity of
+     * this object allows.
+     * 
+     * @param parReadings The <code>Readings</code> object to be added.
+     */
+    public void addAll(final Readings parReadings) {
+
+        if (parReadings == null) {
+            throw new IllegalArgumentException("Readings is missing (null)");
+        }
+
+        detectWarmUp();
+        parReadings.detectWarmUp();
+
+        belowResolution += parReadings.belowResolution;
+        discarded += parReadings.discarded;
+
+        statistics.merge(parReadings.statistics);
+
+        mergeSample(parReadings);
+
+        final int lvLength =
+                Math.min(total.length - size, parReadings.size);
+
+        System.arraycopy(parReadings.execute, 0, execute, size, lvLength);
+        System.arraycopy(parReadings.firstRow, 0, firstRow, size, lvLength);
+        System.arraycopy(parReadings.total, 0, total, size, lvLength);
+
+        size += lvLength;
+    }
+
+    private void addSample(final double parTotal) {
+
+        sampleCount++;
+
+        // Reservoir full: replace a random element ****************************
+        if (sampleSize == Global.MAX_SAMPLE_SIZE) {
+            final long lvIndex = (long) (random.nextDouble() * sampleCount);
+
+            if (lvIndex < sampleSize) {
+                sample[(int) lvIndex] = parTotal;
+            }
+
+            return;
+        }
+
+        if (sampleSize == sample.length) {
+            final double[] lvSample =
+                    new double[Math.min(Math.max(sample.length * 2,
+                            SAMPLE_BUFFER), Global.MAX_SAMPLE_SIZE)];
+
+            System.arraycopy(sample, 0, lvSample, 0, sampleSize);
+
+            sample = lvSample;
+        }
+
+        sample[sampleSize] = parTotal;
+
+        sampleSize++;
+    }
+
+    private static double[] copy(final double[] parValues, final int parSize) {
+
+        final double[] lvValues = new double[parSize];
+
+        System.arraycopy(parValues, 0, lvValues, 0, parSize);
+
+        return lvValues;
+    }
+
+    private void detectWarmUp() {
+
+        if (warmUpTotal == null) {
+            return;
+        }
+
+        discarded =
+                SteadyStateDetector.getTruncationPoint(warmUpTotal, warmUpSize);
+
+        for (int i = discarded; i < warmUpSize; i++) {
+            add(warmUpExecute[i], warmUpFirstRow[i], warmUpTotal[i],
+                    warmUpBelowResolution[i]);
+        }
+
+        warmUpBelowResolution = null;
+        warmUpExecute = null;
+        warmUpFirstRow = null;
+        warmUpSize = 0;
+        warmUpTotal = null;
+    }
+
+    private void mergeSample(final Readings parReadings) {
+
+        if (sampleCount + parReadings.sampleCount <= Global.MAX_SAMPLE_SIZE) {
+            for (int i = 0; i < parReadings.sampleSize; i++) {
+                addSample(parReadings.sample[i]);
+            }
+
+            return;
+        }
+
+        // Draw without replacement, each series in proportion to its size ***
+        final double[] lvFirst = copy(sample, sampleSize);
+        final double[] lvSecond =
+                copy(parReadings.sample, parReadings.sampleSize);
+
+        int lvFirstSize = lvFirst.length;
+        long lvFirstCount = sampleCount;
+        int lvSecondSize = lvSecond.length;
+        long lvSecondCount = parReadings.sampleCount;
+
+        final double[] lvSample = new double[Global.MAX_SAMPLE_SIZE];
+
+        for (int i = 0; i < lvSample.length; i++) {
+            if (random.nextDouble() * (lvFirstCount + lvSecondCount)
+                    < lvFirstCount) {
+                final int lvIndex = random.nextInt(lvFirstSize);
+
+                lvSample[i] = lvFirst[lvIndex];
+                lvFirst[lvIndex] = lvFirst[lvFirstSize - 1];
+                lvFirstSize--;
+                lvFirstCount--;
+            } else {
+                final int lvIndex = random.nextInt(lvSecondSize);
+
+                lvSample[i] = lvSecond[lvIndex];
+                lvSecond[lvIndex] = lvSecond[lvSecondSize - 1];
+                lvSecondSize--;
+                lvSecondCount--;
+            }
+        }
+
+        sample = lvSample;
+        sampleCount += parReadings.sampleCount;
+        sampleSize = lvSample.length;
+    }
+
+    /**
+     * Returns the number of readings below the resolution of the timer.
+     * 
+     * @return the number of readings below the timer resolution.
+     */
+    public int getBelowResolution() {
+
+        detectWarmUp();
+
+        return belowResolution;
+    }
+
+    /**
+     * Returns the times needed to execute the query.
+     * 
+     * @return the times needed to execute the query.
+     */
+    public double[] getExecute() {
+
+        detectWarmUp();
+
+        return copy(execute, size);
+    }
+
+    /**
+     * Returns the times needed to execute the query as a
+     * <code>CT_MD_READINGS</code> collection literal.
+     * 
+     * @return the times needed to execute the query in SQL syntax.
+     */
+    public String getExecuteSQL() {
+
+        detectWarmUp();
+
+        return toSQL(execute, size);
+    }
+
+    /**
+     * Returns the times needed until the first row was fetched.
+     * 
+     * @return the times needed until the first row was fetched.
+     */
+    public double[] getFirstRow() {
+
+        detectWarmUp();
+
+        return copy(firstRow, size);
+    }
+
+    /**
+     * Returns the times needed until the first row was fetched as a
+     * <code>CT_MD_READINGS</code> collection literal.
+     * 
+     * @return the times needed until the first row was fetched in SQL syntax.
+     */
+    public String getFirstRowSQL() {
+
+        detectWarmUp();
+
+        return toSQL(firstRow, size);
+    }
+
+    /**
+     * Returns a uniform sample of at most <code>Global.MAX_SAMPLE_SIZE</code>
+     * times needed to fetch all rows in steady state, not only the retained
+     * ones.
+     * 
+     * @return the sample of the times needed to fetch all rows.
+     */
+    public double[] getSample() {
+
+        detectWarmUp();
+
+        return copy(sample, sampleSize);
+    }
+
+    /**
+     * Returns the statistics of the times needed to fetch all rows.
+     * 
+     * @return the <code>StreamingStatistics</code> object.
+     */
+    public StreamingStatistics getStatistics() {
+
+        detectWarmUp();
+
+        return statistics;
+    }
+
+    /**
+     * Returns the retained times needed to fetch all rows.
+     * 
+     * @return the retained times needed to fetch all rows.
+     */
+    public double[] getTotal() {
+
+        detectWarmUp();
+
+        return copy(total, size);
+    }
+
+    /**
+     * Returns the retained times needed to fetch all rows as a
+     * <code>CT_MD_READINGS</code> collection literal.
+     * 
+     * @return the retained times needed to fetch all rows in SQL syntax.
+     */
+    public String getTotalSQL() {
+
+        detectWarmUp();
+
+        return toSQL(total, size);
+    }
+
+    /**
+     * Returns the number of readings discarded as warm-up.
+     * 
+     * @return the number of readings discarded as warm-up.
+     */
+    public int getWarmUp() {
+
+        detectWarmUp();
+
+        return discarded;
+    }
+
+    /**
+     * Returns whether the end of the warm-up phase is known, i.e. all
+     * readings added so far are contained in the statistics.
+     * 
+     * @return <code>true</code> if the readings are in steady state.
+     */
+    public boolean isSteady() {
+
+        return warmUpTotal == null;
+    }
+
+    /**
+     * Returns the current number of retained readings.
+     * 
+     * @return the current number of retained readings.
+     */
+    public int size() {
+
+        detectWarmUp();
+
+        return size;
+    }
+
+    static String toSQL(final double[] parValues, final int parSize) {
+
+        final StringBuffer lvReadings = new StringBuffer("CT_MD_READINGS(");
+
+        for (int i = 0; i < parSize; i++) {
+
+            if (i > 0) {
+                lvReadings.append(',');
+            }
+
+            lvReadings.append(new BigDecimal(parValues[i]).toString());
+        }
+
+        return lvReadings.append(')').toString();
+    }
+}
@@ -0,0 +1,520 @@
+package edu.ou.weinmann.repsi.model.calibration;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import org.apache.commons.math.MathException;
+import org.apache.commons.math.special.Erf;
+
+/**
+ * Compares the readings of the applied query with the readings of the
+ * unapplied query of a test query pair. The comparison consists of the
+ * two-sided Mann-Whitney U test with the normal approximation corrected for
+ * ties, the Hodges-Lehmann estimate of the shift between the two series, and
+ * a bootstrap percentile confidence interval of the ratio of the medians.
+ * <p>
+ * The readings are whole multiples of the desired precision, therefore the
+ * Hodges-Lehmann estimate is determined by a bisection over the range of the
+ * pairwise differences instead of materialising all of them. The resamples of
+ * the bootstrap are distributed over a pool of threads, one per processor,
+ * each with its own random generator seeded from the given seed.
+ * 
+ * @author Walter Weinmann
+ * 
+ */
+public final class SignificanceTest {
+
+    private static final double CONFIDENCE_LEVEL = 0.95;
+
+    private static final Logger LOGGER =
+            Logger.getLogger(SignificanceTest.class.getPackage().getName());
+
+    private final long[] applied;
+
+    private double hodgesLehmannShift = Double.NaN;
+
+    private double mannWhitneyU = Double.NaN;
+
+    private double mannWhitneyZ = Double.NaN;
+
+    private double medianRatio = Double.NaN;
+
+    private double medianRatioLower = Double.NaN;
+
+    private double medianRatioUpper = Double.NaN;
+
+    private double pValue = Double.NaN;
+
+    private int resamples;
+
+    private final long[] unapplied;
+
+    /**
+     * Constructs a <code>SignificanceTest</code> object.
+     * 
+     * @param parApplied The readings of the applied query.
+     * @param parUnapplied The readings of the unapplied query.
+     */
+    public SignificanceTest(final double[] parApplied,
+            final double[] parUnapplied) {
+
+        super();
+
+        if (parApplied == null || parApplied.length == 0) {
+            throw new IllegalArgumentException(
+                    "Readings of the applied query are missing (null)");
+        }
+
+        if (parUnapplied == null || parUnapplied.length == 0) {
+            throw new IllegalArgumentException(
+                    "Readings of the unapplied query are missing (null)");
+        }
+
+        applied = toSortedQuantities(parApplied);
+        unapplied = toSortedQuantities(parUnapplied);
+    }
+
+    /**
+     * Performs the tests.
+     * 
+     * @param parResamples The number of bootstrap resamples.
+     * @param parSeed The seed of the random generators of the bootstrap.
+     * 
+     * @return <code>true</code> if the operation succeeeded and
+     *         <code>false</code> otherwise.
+     */
+    public boolean compute(final int parResamples, final long parSeed) {
+
+        if (parResamples < 1) {
+            throw new IllegalArgumentException("Number of resamples "
+                    + parResamples + " is invalid");
+        }
+
+        computeMannWhitney();
+        computeHodgesLehmann();
+
+        medianRatio = getRatio(getMedian(applied), getMedian(unapplied));
+
+        return computeBootstrap(parResamples, parSeed);
+    }
+
+    private boolean computeBootstrap(final int parResamples,
+            final long parSeed) {
+
+        final int lvThreads =
+                Math.min(parResamples, Runtime.getRuntime()
+                        .availableProcessors());
+
+        final Random lvSeeds = new Random(parSeed);
+
+        final List<Callable<double[]>> lvTasks =
+                new ArrayList<Callable<double[]>>(lvThreads);
+
+        for (int i = 0; i < lvThreads; i++) {
+            int lvResamples = parResamples / lvThreads;
+
+            if (i < parResamples % lvThreads) {
+                lvResamples++;
+            }
+
+            lvTasks.add(new Resampler(lvResamples, lvSeeds.nextLong()));
+        }
+
+        final double[] lvRatios = new double[parResamples];
+
+        final ExecutorService lvExecutor =
+                Executors.newFixedThreadPool(lvThreads);
+
+        try {
+            int lvPos = 0;
+
+            for (final Future<double[]> lvFuture : lvExecutor
+                    .invokeAll(lvTasks)) {
+                final double[] lvChunk = lvFuture.get();
+
+                System.arraycopy(lvChunk, 0, lvRatios, lvPos, lvChunk.length);
+
+                lvPos += lvChunk.length;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            LOGGER.log(Level.SEVERE, "Bootstrap interrupted", e);
+            return false;
+        } catch (ExecutionException e) {
+            LOGGER.log(Level.SEVERE, "Bootstrap failed", e.getCause());
+            return false;
+        } finally {
+            lvExecutor.shutdownNow();
+        }
+
+        Arrays.sort(lvRatios);
+
+        final double lvTail = (1.0 - CONFIDENCE_LEVEL) / 2.0;
+
+        medianRatioLower =
+                lvRatios[(int) Math.floor(lvTail * (parResamples - 1))];
+        medianRatioUpper =
+                lvRatios[(int) Math.ceil((1.0 - lvTail) * (parResamples - 1))];
+        resamples = parResamples;
+
+        return true;
+    }
+
+    private void computeHodgesLehmann() {
+
+        final long lvPairs = (long) applied.length * unapplied.length;
+
+        final long lvLowerRank = (lvPairs + 1L) / 2L;
+
+        final long lvLower = getDifference(lvLowerRank);
+
+        if (lvPairs % 2L == 1L) {
+            hodgesLehmannShift = lvLower;
+        } else {
+            hodgesLehmannShift =
+                    (lvLower + getDifference(lvLowerRank + 1L)) / 2.0;
+        }
+    }
+
+    private void computeMannWhitney() {
+
+        final double lvApplied = applied.length;
+        final double lvUnapplied = unapplied.length;
+        final double lvTotal = lvApplied + lvUnapplied;
+
+        double lvRankSum = 0.0;
+        double lvTies = 0.0;
+
+        int lvPosApplied = 0;
+        int lvPosUnapplied = 0;
+        long lvRank = 0L;
+
+        while (lvPosApplied < applied.length
+                || lvPosUnapplied < unapplied.length) {
+            long lvValue;
+
+            if (lvPosUnapplied == unapplied.length
+                    || lvPosApplied < applied.length
+                    && applied[lvPosApplied] <= unapplied[lvPosUnapplied]) {
+                lvValue = applied[lvPosApplied];
+            } else {
+                lvValue = unapplied[lvPosUnapplied];
+            }
+
+            int lvCountApplied = 0;
+
+            while (lvPosApplied < applied.length
+                    && applied[lvPosApplied] == lvValue) {
+                lvCountApplied++;
+                lvPosApplied++;
+            }
+
+            int lvCountUnapplied = 0;
+
+            while (lvPosUnapplied < unapplied.length
+                    && unapplied[lvPosUnapplied] == lvValue) {
+                lvCountUnapplied++;
+                lvPosUnapplied++;
+            }
+
+            final double lvTied = lvCountApplied + lvCountUnapplied;
+
+            lvRankSum += lvCountApplied * (lvRank + (lvTied + 1.0) / 2.0);
+            lvTies += lvTied * lvTied * lvTied - lvTied;
+
+            lvRank += lvCountApplied + lvCountUnapplied;
+        }
+
+        mannWhitneyU = lvRankSum - lvApplied * (lvApplied + 1.0) / 2.0;
+
+        final double lvMean = lvApplied * lvUnapplied / 2.0;
+        final double lvVariance =
+                lvApplied
+                        * lvUnapplied
+                        / 12.0
+                        * (lvTotal + 1.0 - lvTies
+                                / (lvTotal * (lvTotal - 1.0)));
+
+        if (lvVariance <= 0.0) {
+            mannWhitneyZ = 0.0;
+            pValue = 1.0;
+            return;
+        }
+
+        double lvDeviation = mannWhitneyU - lvMean;
+
+        if (lvDeviation > 0.5) {
+            lvDeviation -= 0.5;
+        } else if (lvDeviation < -0.5) {
+            lvDeviation += 0.5;
+        } else {
+            lvDeviation = 0.0;
+        }
+
+        mannWhitneyZ = lvDeviation / Math.sqrt(lvVariance);
+
+        try {
+            pValue =
+                    Math.max(0.0, 1.0 - Erf.erf(Math.abs(mannWhitneyZ)
+                            / Math.sqrt(2.0)));
+        } catch (MathException e) {
+            LOGGER.log(Level.SEVERE, "p-value could not be computed, z="
+                    + mannWhitneyZ, e);
+            pValue = Double.NaN;
+        }
+    }
+
+    private long countDifferences(final long parDifference) {
+
+        long lvCount = 0L;
+        int lvPos = 0;
+
+        for (int i = 0; i < unapplied.length; i++) {
+            final long lvLimit = unapplied[i] + parDifference;
+
+            while (lvPos < applied.length && applied[lvPos] <= lvLimit) {
+                lvPos++;
+            }
+
+            lvCount += lvPos;
+        }
+
+        return lvCount;
+    }
+
+    private long getDifference(final long parRank) {
+
+        long lvLow = applied[0] - unapplied[unapplied.length - 1];
+        long lvHigh = applied[applied.length - 1] - unapplied[0];
+
+        while (lvLow < lvHigh) {
+            final long lvMiddle = lvLow + (lvHigh - lvLow) / 2L;
+
+            if (countDifferences(lvMiddle) >= parRank) {
+                lvHigh = lvMiddle;
+            } else {
+                lvLow = lvMiddle + 1L;
+            }
+        }
+
+        return lvLow;
+    }
+
+    /**
+     * Returns the Hodges-Lehmann estimate of the shift, i.e. the median of
+     * all differences between a reading of the applied query and a reading of
+     * the unapplied query.
+     * 
+     * @return the Hodges-Lehmann estimate of the shift.
+     */
+    public double getHodgesLehmannShift() {
+
+        return hodgesLehmannShift;
+    }
+
+    /**
+     * Returns the Mann-Whitney statistic U of the readings of the applied
+     * query.
+     * 
+     * @return the Mann-Whitney statistic U.
+     */
+    public double getMannWhitneyU() {
+
+        return mannWhitneyU;
+    }
+
+    /**
+     * Returns the standardised Mann-Whitney statistic.
+     * 
+     * @return the z-score of the Mann-Whitney statistic U.
+     */
+    public double getMannWhitneyZ() {
+
+        return mannWhitneyZ;
+    }
+
+    private static double getMedian(final long[] parSorted) {
+
+        return (parSorted[(parSorted.length - 1) / 2] + parSorted[parSorted.length / 2])
+                / 2.0;
+    }
+
+    /**
+     * Returns the ratio of the median of the applied query to the median of
+     * the unapplied query.
+     * 
+     * @return the ratio of the medians.
+     */
+    public double getMedianRatio() {
+
+        return medianRatio;
+    }
+
+    /**
+     * Returns the lower bound of the bootstrap confidence interval of the
+     * ratio of the medians.
+     * 
+     * @return the lower bound of the confidence interval.
+     */
+    public double getMedianRatioLower() {
+
+        return medianRatioLower;
+    }
+
+    /**
+     * Returns the upper bound of the bootstrap confidence interval of the
+     * ratio of the medians.
+     * 
+     * @return the upper bound of the confidence interval.
+     */
+    public double getMedianRatioUpper() {
+
+        return medianRatioUpper;
+    }
+
+    /**
+     * Returns the number of readings of the applied query.
+     * 
+     * @return the number of readings of the applied query.
+     */
+    public int getNumberApplied() {
+
+        return applied.length;
+    }
+
+    /**
+     * Returns the number of readings of the unapplied query.
+     * 
+     * @return the number of readings of the unapplied query.
+     */
+    public int getNumberUnapplied() {
+
+        return unapplied.length;
+    }
+
+    /**
+     * Returns the two-sided p-value of the Mann-Whitney U test.
+     * 
+     * @return the p-value.
+     */
+    public double getPValue() {
+
+        return pValue;
+    }
+
+    private static double getRatio(final double parApplied,
+            final double parUnapplied) {
+
+        if (parUnapplied == 0.0) {
+            return Double.NaN;
+        }
+
+        return parApplied / parUnapplied;
+    }
+
+    /**
+     * Returns the number of bootstrap resamples.
+     * 
+     * @return the number of bootstrap resamples.
+     */
+    public int getResamples() {
+
+        return resamples;
+    }
+
+    private static long[] toSortedQuantities(final double[] parReadings) {
+
+        final long[] lvQuantities = new long[parReadings.length];
+
+        for (int i = 0; i < parReadings.length; i++) {
+            lvQuantities[i] = Math.round(parReadings[i]);
+        }
+
+        Arrays.sort(lvQuantities);
+
+        return lvQuantities;
+    }
+
+    /**
+     * Draws a number of bootstrap resamples of both series and returns the
+     * ratios of their medians. As the series are sorted, the median of a
+     * resample is the reading at the median of the drawn positions, which is
+     * found by counting the draws per position.
+     */
+    private final class Resampler implements Callable<double[]> {
+
+        private final int count;
+
+        private final long seed;
+
+        Resampler(final int parCount, final long parSeed) {
+
+            super();
+
+            count = parCount;
+            seed = parSeed;
+        }
+
+        public double[] call() {
+
+            final Random lvRandom = new Random(seed);
+
+            final int[] lvDrawsApplied = new int[applied.length];
+            final int[] lvDrawsUnapplied = new int[unapplied.length];
+
+            final double[] lvRatios = new double[count];
+
+            for (int i = 0; i < count; i++) {
+                lvRatios[i] =
+                        getRatio(getResampleMedian(applied, lvDrawsApplied,
+                                lvRandom), getResampleMedian(unapplied,
+                                lvDrawsUnapplied, lvRandom));
+            }
+
+            return lvRatios;
+        }
+
+        private double getResampleMedian(final long[] parSorted,
+                final int[] parDraws, final Random parRandom) {
+
+            Arrays.fill(parDraws, 0);
+
+            for (int i = 0; i < parSorted.length; i++) {
+                parDraws[parRandom.nextInt(parSorted.length)]++;
+            }
+
+            final int lvLowerRank = (parSorted.length - 1) / 2;
+            final int lvUpperRank = parSorted.length / 2;
+
+            long lvLower = 0L;
+            int lvSeen = 0;
+
+            for (int i = 0; i < parDraws.length; i++) {
+                final int lvBefore = lvSeen;
+
+                lvSeen += parDraws[i];
+
+                if (lvBefore <= lvLowerRank && lvLowerRank < lvSeen) {
+                    lvLower = parSorted[i];
+                }
+
+                if (lvUpperRank < lvSeen) {
+                    return (lvLower + parSorted[i]) / 2.0;
+                }
+            }
+
+            return lvLower;
+        }
+    }
+}
@@ -0,0 +1,88 @@
+package edu.ou.weinmann.repsi.model.calibration;
+
+/**
+ * Determines the end of the warm-up phase of a series of readings with the
+ * MSER-5 rule (Marginal Standard Error Rule applied to batch means of five
+ * readings). The truncation point is the number of leading readings whose
+ * removal minimises the marginal standard error of the remaining mean. At
+ * most half of the readings are regarded as warm-up.
+ * 
+ * @author Walter Weinmann
+ * 
+ */
+public final class SteadyStateDetector {
+
+    private static final int BATCH_SIZE = 5;
+
+    private SteadyStateDetector() {
+
+        super();
+    }
+
+    /**
+     * Returns the number of leading readings belonging to the warm-up phase.
+     * 
+     * @param parValues The readings in the order of their measurement.
+     * @param parLength The number of valid readings in the array.
+     * 
+     * @return the number of readings to be discarded.
+     */
+    public static int getTruncationPoint(final double[] parValues,
+            final int parLength) {
+
+        if (parValues == null) {
+            throw new IllegalArgumentException("Readings are missing (null)");
+        }
+
+        if (parLength < 0 || parLength > parValues.length) {
+            throw new IllegalArgumentException("Length " + parLength
+                    + " is invalid");
+        }
+
+        final int lvBatches = parLength / BATCH_SIZE;
+
+        if (lvBatches < 2) {
+            return 0;
+        }
+
+        final double[] lvBatchMeans = new double[lvBatches];
+
+        for (int i = 0; i < lvBatches; i++) {
+            double lvSum = 0.0;
+
+            for (int j = 0; j < BATCH_SIZE; j++) {
+                lvSum += parValues[i * BATCH_SIZE + j];
+            }
+
+            lvBatchMeans[i] = lvSum / BATCH_SIZE;
+        }
+
+        // Suffix sums allow every candidate to be evaluated in constant time.
+        final double[] lvSum = new double[lvBatches + 1];
+        final double[] lvSumOfSquares = new double[lvBatches + 1];
+
+        for (int i = lvBatches - 1; i >= 0; i--) {
+            lvSum[i] = lvSum[i + 1] + lvBatchMeans[i];
+            lvSumOfSquares[i] =
+                    lvSumOfSquares[i + 1] + lvBatchMeans[i] * lvBatchMeans[i];
+        }
+
+        int lvBest = 0;
+        double lvBestStatistic = Double.MAX_VALUE;
+
+        for (int d = 0; d <= lvBatches / 2; d++) {
+            final int lvRemaining = lvBatches - d;
+            final double lvMean = lvSum[d] / lvRemaining;
+            final double lvStatistic =
+                    (lvSumOfSquares[d] - lvRemaining * lvMean * lvMean)
+                            / ((double) lvRemaining * lvRemaining);
+
+            if (lvStatistic < lvBestStatistic) {
+                lvBest = d;
+                lvBestStatistic = lvStatistic;
+            }
+        }
+
+        return lvBest * BATCH_SIZE;
+    }
+}
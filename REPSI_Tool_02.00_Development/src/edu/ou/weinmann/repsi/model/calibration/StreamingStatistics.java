@@ -0,0 +1,93 @@
+package edu.ou.weinmann.repsi.model.calibration;
+
+/**
+ * Computes the descriptive statistics of a series of readings without keeping
+ * the readings themselves in memory.
+ * 
+ * @author Walter Weinmann
+ * 
+ */
+public interface StreamingStatistics {
+
+    /**
+     * Adds a value to the statistics.
+     * 
+     * @param parValue The value to be added.
+     */
+    void addValue(final double parValue);
+
+    /**
+     * Returns the geometric mean of the values.
+     * 
+     * @return the geometric mean of the values.
+     */
+    double getGeometricMean();
+
+    /**
+     * Returns the kurtosis of the values, or <code>Double.NaN</code> if
+     * there are less than four values.
+     * 
+     * @return the kurtosis of the values.
+     */
+    double getKurtosis();
+
+    /**
+     * Returns the maximum of the values.
+     * 
+     * @return the maximum of the values.
+     */
+    double getMax();
+
+    /**
+     * Returns the arithmetic mean of the values.
+     * 
+     * @return the arithmetic mean of the values.
+     */
+    double getMean();
+
+    /**
+     * Returns the minimum of the values.
+     * 
+     * @return the minimum of the values.
+     */
+    double getMin();
+
+    /**
+     * Returns the number of values.
+     * 
+     * @return the number of values.
+     */
+    long getN();
+
+    /**
+     * Returns an estimate for the given percentile of the values.
+     * 
+     * @param parPercentile The requested percentile, greater than 0 and less
+     *            than or equal to 100.
+     * 
+     * @return the estimate for the percentile.
+     */
+    double getPercentile(final double parPercentile);
+
+    /**
+     * Returns the skewness of the values, or <code>Double.NaN</code> if
+     * there are less than three values.
+     * 
+     * @return the skewness of the values.
+     */
+    double getSkewness();
+
+    /**
+     * Returns the standard deviation of the values.
+     * 
+     * @return the standard deviation of the values.
+     */
+    double getStandardDeviation();
+
+    /**
+     * Returns the (bias corrected) variance of the values.
+     * 
+     * @return the variance of the values.
+     */
+    double getVariance();
+}
@@ -1,5 +1,6 @@
 package edu.ou.weinmann.repsi.model.database;
 
+import edu.ou.weinmann.repsi.model.util.CommitController;
 import edu.ou.weinmann.repsi.model.util.Configurator;
 import edu.ou.weinmann.repsi.model.util.DatabaseAccessor;
 import edu.ou.weinmann.repsi.model.util.Global;
@@ -53,6 +54,8 @@ public class Database extends DefaultHandler {
 
     private Map<String, Object> columnsDatabaseInstance;
 
+    private CommitController commitController;
+
     private int[] dataTypes;
 
     private final DatabaseAccessor dbAccessMaster;
@@ -205,6 +208,22 @@ public class Database extends DefaultHandler {
         }
     }
 
+    private boolean commitIfDue(final DatabaseAccessor parDatabaseAccessor) {
+
+        commitController.addRows(1L);
+
+        if (!commitController.isCommitDue()) {
+            return true;
+        }
+
+        if (!commitController.commit(parDatabaseAccessor)) {
+            LOGGER.log(Level.SEVERE, "Error with commit() - import");
+            return false;
+        }
+
+        return true;
+    }
+
     private boolean executeStatement(
             final DatabaseAccessor parDatabaseAccessor,
             final String parStatement) {
@@ -369,6 +388,14 @@ public class Database extends DefaultHandler {
     private boolean modifyDatabaseByExcel(
             final DatabaseAccessor parDatabaseAccessor, final String parFileName) {
 
+        // The transactions are sized by the commit controller ***************
+        if (!parDatabaseAccessor.setAutoCommit(false)) {
+            parDatabaseAccessor.closeConnection();
+
+            LOGGER.log(Level.SEVERE, "Error with setAutoCommit(false)");
+            return false;
+        }
+
         // Open excel file.
         Workbook lvWorkbook = null;
 
@@ -394,6 +421,8 @@ public class Database extends DefaultHandler {
 
         boolean lvIsOk = true;
 
+        commitController = new CommitController();
+
         final String[] lvSheetNames = lvWorkbook.getSheetNames();
 
         for (int i = 0; i < lvSheetNames.length; i++) {
@@ -460,6 +489,8 @@ public class Database extends DefaultHandler {
 
             if (!executeStatement(parDatabaseAccessor, lvStatement)) {
                 lvIsOk = false;
+            } else if (!commitIfDue(parDatabaseAccessor)) {
+                return false;
             }
         }
 
@@ -469,6 +500,14 @@ public class Database extends DefaultHandler {
     private boolean modifyDatabaseByFlatFile(
             final DatabaseAccessor parDatabaseAccessor, final String parFileName) {
 
+        // The transactions are sized by the commit controller ***************
+        if (!parDatabaseAccessor.setAutoCommit(false)) {
+            parDatabaseAccessor.closeConnection();
+
+            LOGGER.log(Level.SEVERE, "Error with setAutoCommit(false)");
+            return false;
+        }
+
         // Open flat file.
         BufferedReader lvFlatFile = null;
 
@@ -483,6 +522,8 @@ public class Database extends DefaultHandler {
 
         boolean lvIsOk;
 
+        commitController = new CommitController();
+
         // Process file.
         try {
             lvIsOk =
@@ -539,6 +580,10 @@ public class Database extends DefaultHandler {
                 lvIsOk = false;
                 continue;
             }
+
+            if (!commitIfDue(parDatabaseAccessor)) {
+                return false;
+            }
         }
 
         return lvIsOk;
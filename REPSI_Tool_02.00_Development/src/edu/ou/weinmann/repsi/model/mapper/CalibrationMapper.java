@@ -3,6 +3,8 @@ package edu.ou.weinmann.repsi.model.mapper;
 import edu.ou.weinmann.repsi.model.util.DatabaseAccessor;
 import edu.ou.weinmann.repsi.model.util.Global;
 
+import java.math.BigDecimal;
+
 import java.text.SimpleDateFormat;
 
 import java.util.Date;
@@ -95,6 +97,139 @@ public class CalibrationMapper {
         return dbAccess.closeConnection();
     }
 
+    /**
+     * Creates a row in the database table
+     * <code>TMD_CALIBRATION_FETCH_SIZE</code>.
+     * 
+     * @param parFetchSize The fetch size.
+     * @param parUnappliedNumberRows The number of rows of the unapplied query.
+     * @param parUnappliedMedian The median response time of the unapplied
+     *            query.
+     * @param parUnappliedThroughput The rows per second of the unapplied query,
+     *            or <code>Double.NaN</code> if unknown.
+     * @param parAppliedNumberRows The number of rows of the applied query.
+     * @param parAppliedMedian The median response time of the applied query.
+     * @param parAppliedThroughput The rows per second of the applied query, or
+     *            <code>Double.NaN</code> if unknown.
+     * 
+     * @return <code>true</code> if the operation succeeeded and
+     *         <code>false</code> otherwise.
+     */
+    public final boolean createFetchSize(final int parFetchSize,
+            final long parUnappliedNumberRows, final long parUnappliedMedian,
+            final double parUnappliedThroughput,
+            final long parAppliedNumberRows, final long parAppliedMedian,
+            final double parAppliedThroughput) {
+
+        assert dbAccess != null : PRECONDITION_DATABASE_ACCESSOR_IS_MISSING_NULL;
+
+        final String lvStatement =
+                "INSERT INTO TMD_CALIBRATION_FETCH_SIZE "
+                        + "(START_TIME, FETCH_SIZE, APPLIED_NUMBER_ROWS, "
+                        + "APPLIED_PERCENTILE_50, APPLIED_THROUGHPUT, "
+                        + "UNAPPLIED_NUMBER_ROWS, UNAPPLIED_PERCENTILE_50, "
+                        + "UNAPPLIED_THROUGHPUT) VALUES (" + startTime + ", "
+                        + parFetchSize + ", " + parAppliedNumberRows + ", "
+                        + parAppliedMedian + ", "
+                        + getThroughput(parAppliedThroughput) + ", "
+                        + parUnappliedNumberRows + ", " + parUnappliedMedian
+                        + ", " + getThroughput(parUnappliedThroughput) + ")";
+
+        if (!dbAccess.executeUpdate(lvStatement)) {
+            final String lvMsg =
+                    "CalibrationMapper: Table TMD_CALIBRATION_FETCH_SIZE could not be created, statement="
+                            + lvStatement;
+            LOGGER.log(Level.SEVERE, lvMsg);
+            return false;
+        }
+
+        return dbAccess.commit();
+    }
+
+    /**
+     * Creates a row in the database table
+     * <code>TMD_CALIBRATION_SIGNIFICANCE</code>.
+     * 
+     * @param parObject The calibrated object.
+     * @param parNumberApplied The number of readings of the applied query.
+     * @param parNumberUnapplied The number of readings of the unapplied
+     *            query.
+     * @param parMannWhitneyU The Mann-Whitney statistic U.
+     * @param parMannWhitneyZ The z-score of the Mann-Whitney statistic U.
+     * @param parPValue The two-sided p-value of the Mann-Whitney U test.
+     * @param parHodgesLehmannShift The Hodges-Lehmann estimate of the shift.
+     * @param parMedianRatio The ratio of the median of the applied query to
+     *            the median of the unapplied query.
+     * @param parMedianRatioLower The lower bound of the confidence interval
+     *            of the ratio of the medians.
+     * @param parMedianRatioUpper The upper bound of the confidence interval
+     *            of the ratio of the medians.
+     * @param parResamples The number of bootstrap resamples.
+     * 
+     * @return <code>true</code> if the operation succeeeded and
+     *         <code>false</code> otherwise.
+     */
+    public final boolean createSignificance(final String parObject,
+            final int parNumberApplied, final int parNumberUnapplied,
+            final double parMannWhitneyU, final double parMannWhitneyZ,
+            final double parPValue, final double parHodgesLehmannShift,
+            final double parMedianRatio, final double parMedianRatioLower,
+            final double parMedianRatioUpper, final int parResamples) {
+
+        if (parObject == null) {
+            throw new IllegalArgumentException("Object is missing (null)");
+        }
+
+        assert dbAccess != null : PRECONDITION_DATABASE_ACCESSOR_IS_MISSING_NULL;
+
+        final String lvStatement =
+                "INSERT INTO TMD_CALIBRATION_SIGNIFICANCE "
+                        + "(START_TIME, OBJECT, BOOTSTRAP_RESAMPLES, "
+                        + "HODGES_LEHMANN_SHIFT, MANN_WHITNEY_U, "
+                        + "MANN_WHITNEY_Z, MEDIAN_RATIO, MEDIAN_RATIO_LOWER, "
+                        + "MEDIAN_RATIO_UPPER, NUMBER_APPLIED, "
+                        + "NUMBER_UNAPPLIED, P_VALUE) VALUES (" + startTime
+                        + ", '" + parObject + "', " + parResamples + ", "
+                        + getDecimal(parHodgesLehmannShift, 6) + ", "
+                        + getDecimal(parMannWhitneyU, 6) + ", "
+                        + getDecimal(parMannWhitneyZ, 6) + ", "
+                        + getDecimal(parMedianRatio, 6) + ", "
+                        + getDecimal(parMedianRatioLower, 6) + ", "
+                        + getDecimal(parMedianRatioUpper, 6) + ", "
+                        + parNumberApplied + ", " + parNumberUnapplied + ", "
+                        + getDecimal(parPValue, 10) + ")";
+
+        if (!dbAccess.executeUpdate(lvStatement)) {
+            final String lvMsg =
+                    "CalibrationMapper: Table TMD_CALIBRATION_SIGNIFICANCE could not be created, statement="
+                            + lvStatement;
+            LOGGER.log(Level.SEVERE, lvMsg);
+            return false;
+        }
+
+        return dbAccess.commit();
+    }
+
+    private static String getDecimal(final double parValue, final int parScale) {
+
+        if (Double.isNaN(parValue) || Double.isInfinite(parValue)) {
+            return Global.NULL;
+        }
+
+        return new BigDecimal(parValue).setScale(parScale,
+                BigDecimal.ROUND_HALF_EVEN).toString();
+    }
+
+    private static String getThroughput(final double parThroughput) {
+
+        if (Double.isNaN(parThroughput) || Double.isInfinite(parThroughput)) {
+            return Global.NULL;
+        }
+
+        return new BigDecimal(parThroughput).setScale(0,
+                BigDecimal.ROUND_HALF_EVEN).toString();
+    }
+
     /**
      * Creates the row in the database table <code>TMD_CALIBRATION</code>.
      * 
@@ -211,11 +346,14 @@ public class CalibrationMapper {
         final String lvStatement =
                 ("INSERT INTO TMD_CALIBRATION_STATISTIC "
                         + "(START_TIME, SEQUENCE_NUMBER, ARITHMETIC_MEAN, "
-                        + "GEOMETRIC_MEAN, KURTOSIS, MAXIMUM_VALUE, "
+                        + "BELOW_RESOLUTION, GEOMETRIC_MEAN, KURTOSIS, MAXIMUM_VALUE, "
                         + "MINIMUM_VALUE, NUMBER_OF_VALUES, OBJECT, ORDER_BY, "
                         + "PERCENTILE_25, PERCENTILE_50, PERCENTILE_75, "
-                        + "READINGS, SKEWNESS, SQL_STATEMENT, "
-                        + "STANDARD_DEVIATION, VARIANCE) " + "VALUES ("
+                        + "READINGS, READINGS_EXECUTE, READINGS_FIRST_ROW, "
+                        + "SKEWNESS, SQL_STATEMENT, "
+                        + "STANDARD_DEVIATION, THROUGHPUT, VARIANCE, "
+                        + "WARM_UP_READINGS) "
+                        + "VALUES ("
                         + startTime
                         + ", "
                         + ++sequenceNumber
@@ -223,6 +361,9 @@ public class CalibrationMapper {
                         + parColumnsCalibrationStatistic
                                 .get(Global.COLUMN_NAME_ARITHMETIC_MEAN)
                         + ", "
+                        + parColumnsCalibrationStatistic
+                                .get(Global.COLUMN_NAME_BELOW_RESOLUTION)
+                        + ", "
                         + parColumnsCalibrationStatistic
                                 .get(Global.COLUMN_NAME_GEOMETRIC_MEAN)
                         + ", "
@@ -256,6 +397,12 @@ public class CalibrationMapper {
                         + parColumnsCalibrationStatistic
                                 .get(Global.COLUMN_NAME_READINGS)
                         + ", "
+                        + parColumnsCalibrationStatistic
+                                .get(Global.COLUMN_NAME_READINGS_EXECUTE)
+                        + ", "
+                        + parColumnsCalibrationStatistic
+                                .get(Global.COLUMN_NAME_READINGS_FIRST_ROW)
+                        + ", "
                         + parColumnsCalibrationStatistic
                                 .get(Global.COLUMN_NAME_SKEWNESS)
                         + ", "
@@ -266,7 +413,13 @@ public class CalibrationMapper {
                                 .get(Global.COLUMN_NAME_STANDARD_DEVIATION)
                         + ", "
                         + parColumnsCalibrationStatistic
-                                .get(Global.COLUMN_NAME_VARIANCE) + ")")
+                                .get(Global.COLUMN_NAME_THROUGHPUT)
+                        + ", "
+                        + parColumnsCalibrationStatistic
+                                .get(Global.COLUMN_NAME_VARIANCE)
+                        + ", "
+                        + parColumnsCalibrationStatistic
+                                .get(Global.COLUMN_NAME_WARM_UP_READINGS) + ")")
                         .replaceAll("'null'", Global.NULL);
 
         if (!dbAccess.executeUpdate(lvStatement)) {
@@ -359,6 +512,38 @@ public class CalibrationMapper {
         return dbAccess.commit();
     }
 
+    /**
+     * Updates in the database the columns <code>FETCH_SIZE_RECOMMENDED</code>.
+     * 
+     * @param parFetchSize The fetch size recommended by a fetch size sweep.
+     * 
+     * @return <code>true</code> if the operation succeeeded and
+     *         <code>false</code> otherwise.
+     */
+    public final boolean setFetchSizeRecommended(final int parFetchSize) {
+
+        if (parFetchSize < 1) {
+            throw new IllegalArgumentException("Fetch size " + parFetchSize
+                    + " is invalid");
+        }
+
+        assert dbAccess != null : PRECONDITION_DATABASE_ACCESSOR_IS_MISSING_NULL;
+
+        final String lvStatement =
+                "UPDATE TMD_CALIBRATION " + "SET FETCH_SIZE_RECOMMENDED = "
+                        + parFetchSize + " WHERE START_TIME = " + startTime;
+
+        if (!dbAccess.executeUpdate(lvStatement)) {
+            final String lvMsg =
+                    "CalibrationMapper: Table TMD_CALIBRATION could not be updated, statement="
+                            + lvStatement;
+            LOGGER.log(Level.SEVERE, lvMsg);
+            return false;
+        }
+
+        return dbAccess.commit();
+    }
+
     /**
      * Updates in the database the columns <code>PATTERN_SQL_IDIOM_NAME</code>.
      * 
@@ -398,6 +583,106 @@ public class CalibrationMapper {
         return dbAccess.commit();
     }
 
+    /**
+     * Updates in the database the columns <code>ACHIEVED_PRECISION</code>,
+     * <code>CYCLES_EXECUTED</code>, and <code>TARGET_PRECISION</code>.
+     * 
+     * @param parTargetPrecision The target relative half-width of the
+     *            confidence interval, or zero if all cycles were executed.
+     * @param parAchievedPrecision The largest relative half-width of the
+     *            confidence interval of all series, or <code>Double.NaN</code>
+     *            if unknown.
+     * @param parCyclesExecuted The largest number of cycles executed in a
+     *            series.
+     * 
+     * @return <code>true</code> if the operation succeeeded and
+     *         <code>false</code> otherwise.
+     */
+    public final boolean setPrecision(final double parTargetPrecision,
+            final double parAchievedPrecision, final long parCyclesExecuted) {
+
+        assert dbAccess != null : PRECONDITION_DATABASE_ACCESSOR_IS_MISSING_NULL;
+
+        String lvAchievedPrecision = Global.NULL;
+
+        if (!Double.isNaN(parAchievedPrecision)) {
+            lvAchievedPrecision =
+                    new BigDecimal(parAchievedPrecision).setScale(6,
+                            BigDecimal.ROUND_HALF_EVEN).toString();
+        }
+
+        String lvTargetPrecision = Global.NULL;
+
+        if (parTargetPrecision > 0.0) {
+            lvTargetPrecision =
+                    new BigDecimal(parTargetPrecision).setScale(6,
+                            BigDecimal.ROUND_HALF_EVEN).toString();
+        }
+
+        final String lvStatement =
+                "UPDATE TMD_CALIBRATION " + "SET ACHIEVED_PRECISION = "
+                        + lvAchievedPrecision + ", CYCLES_EXECUTED = "
+                        + parCyclesExecuted + ", TARGET_PRECISION = "
+                        + lvTargetPrecision + " WHERE START_TIME = "
+                        + startTime;
+
+        if (!dbAccess.executeUpdate(lvStatement)) {
+            final String lvMsg =
+                    "CalibrationMapper: Table TMD_CALIBRATION could not be updated, statement="
+                            + lvStatement;
+            LOGGER.log(Level.SEVERE, lvMsg);
+            return false;
+        }
+
+        return dbAccess.commit();
+    }
+
+    /**
+     * Updates in the database the columns <code>SCHEDULE</code> and
+     * <code>SCHEDULE_SEED</code>.
+     * 
+     * @param parSchedule The schedule of the alternating query executions.
+     * @param parSeed The seed of the random generator, only stored with the
+     *            random schedule.
+     * 
+     * @return <code>true</code> if the operation succeeeded and
+     *         <code>false</code> otherwise.
+     */
+    public final boolean setSchedule(final String parSchedule,
+            final long parSeed) {
+
+        if (parSchedule == null) {
+            throw new IllegalArgumentException("Schedule is missing (null)");
+        }
+
+        if ("".equals(parSchedule)) {
+            throw new IllegalArgumentException("Schedule is missing (empty)");
+        }
+
+        assert dbAccess != null : PRECONDITION_DATABASE_ACCESSOR_IS_MISSING_NULL;
+
+        String lvSeed = Global.NULL;
+
+        if (Global.SCHEDULE_RANDOM.equals(parSchedule)) {
+            lvSeed = Long.toString(parSeed);
+        }
+
+        final String lvStatement =
+                "UPDATE TMD_CALIBRATION " + "SET SCHEDULE = '" + parSchedule
+                        + "', SCHEDULE_SEED = " + lvSeed
+                        + " WHERE START_TIME = " + startTime;
+
+        if (!dbAccess.executeUpdate(lvStatement)) {
+            final String lvMsg =
+                    "CalibrationMapper: Table TMD_CALIBRATION could not be updated, statement="
+                            + lvStatement;
+            LOGGER.log(Level.SEVERE, lvMsg);
+            return false;
+        }
+
+        return dbAccess.commit();
+    }
+
     /**
      * Updates in the database the columns <code>SQL_SYNTAX_CODE_TTQP</code>.
      * 
@@ -468,4 +753,51 @@ public class CalibrationMapper {
 
         return dbAccess.commit();
     }
+
+    /**
+     * Updates in the database the columns <code>TIME_PRECISION</code>,
+     * <code>TIMER_OVERHEAD</code> and <code>TIMER_RESOLUTION</code>.
+     * 
+     * @param parTimePrecision The precision of the readings in nanoseconds.
+     * @param parOverhead The subtracted timer overhead in nanoseconds, or
+     *            <code>Double.NaN</code> if no overhead was subtracted.
+     * @param parResolution The timer resolution in nanoseconds, or
+     *            <code>Double.NaN</code> if unknown.
+     * 
+     * @return <code>true</code> if the operation succeeeded and
+     *         <code>false</code> otherwise.
+     */
+    public final boolean setTimer(final long parTimePrecision,
+            final double parOverhead, final double parResolution) {
+
+        assert dbAccess != null : PRECONDITION_DATABASE_ACCESSOR_IS_MISSING_NULL;
+
+        String lvOverhead = Global.NULL;
+
+        if (!Double.isNaN(parOverhead)) {
+            lvOverhead = new BigDecimal(parOverhead).toString();
+        }
+
+        String lvResolution = Global.NULL;
+
+        if (!Double.isNaN(parResolution)) {
+            lvResolution = new BigDecimal(parResolution).toString();
+        }
+
+        final String lvStatement =
+                "UPDATE TMD_CALIBRATION " + "SET TIME_PRECISION = "
+                        + parTimePrecision + ", TIMER_OVERHEAD = " + lvOverhead
+                        + ", TIMER_RESOLUTION = " + lvResolution
+                        + " WHERE START_TIME = " + startTime;
+
+        if (!dbAccess.executeUpdate(lvStatement)) {
+            final String lvMsg =
+                    "CalibrationMapper: Table TMD_CALIBRATION could not be updated, statement="
+                            + lvStatement;
+            LOGGER.log(Level.SEVERE, lvMsg);
+            return false;
+        }
+
+        return dbAccess.commit();
+    }
 }
@@ -3,6 +3,7 @@ package edu.ou.weinmann.repsi.model.mapper;
 import edu.ou.weinmann.repsi.model.util.DatabaseAccessor;
 import edu.ou.weinmann.repsi.model.util.Global;
 
+import java.util.HashMap;
 import java.util.Map;
 import java.util.logging.Level;
 import java.util.logging.Logger;
@@ -118,4 +119,162 @@ public class DatabaseInstanceMapper {
 
         return lvColumnsDatabaseInstance;
     }
+
+    /**
+     * Returns the fetch sizes recommended by the latest fetch size sweeps of
+     * the test query pairs against the given database instance.
+     * 
+     * @param parJdbcUrl The database URL of the database instance.
+     * @param parUserName The database user of the database instance.
+     * 
+     * @return a <code>Map</code> with the identification of the test query
+     *         pair as key and the recommended fetch size as value, or
+     *         <code>null</code> if the recommendations could not be
+     *         determined.
+     */
+    public final Map<Integer, Integer> getFetchSizeRecommendations(
+            final String parJdbcUrl, final String parUserName) {
+
+        if (parJdbcUrl == null) {
+            throw new IllegalArgumentException("JDBC URL is missing (null)");
+        }
+
+        if (parUserName == null) {
+            throw new IllegalArgumentException("User name is missing (null)");
+        }
+
+        assert dbAccess != null : PRECONDITION_DATABASE_ACCESSOR_IS_MISSING_NULL;
+
+        if (!dbAccess.executeQuery("SELECT TEST_QUERY_PAIR_ID, "
+                + "FETCH_SIZE_RECOMMENDED FROM TMD_CALIBRATION "
+                + "WHERE FETCH_SIZE_RECOMMENDED IS NOT NULL "
+                + "AND JDBC_URL = '" + parJdbcUrl.replaceAll("'", "''")
+                + "' AND USER_NAME = '" + parUserName.replaceAll("'", "''")
+                + "' ORDER BY START_TIME;")) {
+            return null;
+        }
+
+        final Map<Integer, Integer> lvRecommendations =
+                new HashMap<Integer, Integer>();
+
+        // Later sweeps replace the recommendations of earlier ones.
+        while (dbAccess.next()) {
+            final Object lvTestQueryPairId =
+                    dbAccess.getColumn(Global.COLUMN_NAME_TEST_QUERY_PAIR_ID);
+            final Object lvFetchSize =
+                    dbAccess
+                            .getColumn(Global.COLUMN_NAME_FETCH_SIZE_RECOMMENDED);
+
+            if (lvTestQueryPairId instanceof Number
+                    && lvFetchSize instanceof Number) {
+                lvRecommendations.put(Integer
+                        .valueOf(((Number) lvTestQueryPairId).intValue()),
+                        Integer.valueOf(((Number) lvFetchSize).intValue()));
+            }
+        }
+
+        return lvRecommendations;
+    }
+
+    private static double getNanoSeconds(final Map<String, Object> parColumns,
+            final String parColumnName, final double parTimePrecision) {
+
+        final Object lvValue = parColumns.get(parColumnName);
+
+        if (!(lvValue instanceof Number)) {
+            return 0.0;
+        }
+
+        return ((Number) lvValue).doubleValue() * parTimePrecision;
+    }
+
+    /**
+     * Returns the timer overhead and the timer resolution determined by the
+     * latest calibration of <code>System.nanoTime</code> against the given
+     * database instance. The overhead is the arithmetic mean of the measured
+     * periods, the resolution the smallest positive percentile. Calibrations
+     * without a stored time precision are assumed to be in nanoseconds.
+     * 
+     * @param parJdbcUrl The database URL of the database instance.
+     * @param parUserName The database user of the database instance.
+     * 
+     * @return a <code>Map</code> containing the columns
+     *         <code>TIMER_OVERHEAD</code> and <code>TIMER_RESOLUTION</code>
+     *         in nanoseconds as <code>Long</code> objects, or
+     *         <code>null</code> if no such calibration is available.
+     */
+    public final Map<String, Object> getTimerCalibration(
+            final String parJdbcUrl, final String parUserName) {
+
+        if (parJdbcUrl == null) {
+            throw new IllegalArgumentException("JDBC URL is missing (null)");
+        }
+
+        if (parUserName == null) {
+            throw new IllegalArgumentException("User name is missing (null)");
+        }
+
+        assert dbAccess != null : PRECONDITION_DATABASE_ACCESSOR_IS_MISSING_NULL;
+
+        final Map<String, Object> lvColumns =
+                getColumns("SELECT CN.TIME_PRECISION AS TIME_PRECISION, "
+                        + "CNS.ARITHMETIC_MEAN AS ARITHMETIC_MEAN, "
+                        + "CNS.MINIMUM_VALUE AS MINIMUM_VALUE, "
+                        + "CNS.PERCENTILE_25 AS PERCENTILE_25, "
+                        + "CNS.PERCENTILE_50 AS PERCENTILE_50, "
+                        + "CNS.PERCENTILE_75 AS PERCENTILE_75, "
+                        + "CNS.MAXIMUM_VALUE AS MAXIMUM_VALUE "
+                        + "FROM TMD_CALIBRATION CN, "
+                        + "TMD_CALIBRATION_STATISTIC CNS "
+                        + "WHERE CN.START_TIME = CNS.START_TIME "
+                        + "AND CNS.OBJECT = '"
+                        + Global.CALIBRATION_OBJECT_NANOTIME
+                        + "' AND CN.JDBC_URL = '"
+                        + parJdbcUrl.replaceAll("'", "''")
+                        + "' AND CN.USER_NAME = '"
+                        + parUserName.replaceAll("'", "''")
+                        + "' ORDER BY CN.START_TIME DESC;");
+
+        if (lvColumns == null
+                || !lvColumns.containsKey(Global.COLUMN_NAME_ARITHMETIC_MEAN)) {
+            LOGGER.log(Level.WARNING, "No calibration of "
+                    + Global.CALIBRATION_OBJECT_NANOTIME
+                    + " available for database instance " + parJdbcUrl
+                    + " / " + parUserName);
+            return null;
+        }
+
+        double lvTimePrecision = 1.0;
+
+        final Object lvTimePrecisionObject =
+                lvColumns.get(Global.COLUMN_NAME_TIME_PRECISION);
+
+        if (lvTimePrecisionObject instanceof Number) {
+            lvTimePrecision = ((Number) lvTimePrecisionObject).doubleValue();
+        }
+
+        final String[] lvPercentiles =
+                { Global.COLUMN_NAME_MINIMUM_VALUE,
+                        Global.COLUMN_NAME_PERCENTILE_25,
+                        Global.COLUMN_NAME_PERCENTILE_50,
+                        Global.COLUMN_NAME_PERCENTILE_75,
+                        Global.COLUMN_NAME_MAXIMUM_VALUE };
+
+        double lvResolution = 0.0;
+
+        for (int i = 0; i < lvPercentiles.length && lvResolution <= 0.0; i++) {
+            lvResolution =
+                    getNanoSeconds(lvColumns, lvPercentiles[i], lvTimePrecision);
+        }
+
+        final Map<String, Object> lvTimer = new HashMap<String, Object>(2);
+
+        lvTimer.put(Global.COLUMN_NAME_TIMER_OVERHEAD, Long.valueOf(Math
+                .round(getNanoSeconds(lvColumns,
+                        Global.COLUMN_NAME_ARITHMETIC_MEAN, lvTimePrecision))));
+        lvTimer.put(Global.COLUMN_NAME_TIMER_RESOLUTION, Long.valueOf(Math
+                .round(lvResolution)));
+
+        return lvTimer;
+    }
 }
@@ -321,17 +321,25 @@ public class TrialRunActionMapper {
     /**
      * Updates in the database the columns
      * <code>APPLIED_DURATION_MICRO_SECOND</code>,
+     * <code>APPLIED_DURATION_EXECUTE</code>,
+     * <code>APPLIED_DURATION_FIRST_ROW</code>,
      * <code>APPLIED_END_TIME</code>, and <code>APPLIED_START_TIME</code>.
      * 
      * @param parStartTime The new start date and time.
      * @param parEndTime The new end date and time.
-     * @param parDuration The new duration of the query execution.
+     * @param parDuration The new duration of the query execution including
+     *            the fetching of all rows.
+     * @param parDurationExecute The new duration of the query execution until
+     *            the <code>ResultSet</code> was available.
+     * @param parDurationFirstRow The new duration of the query execution
+     *            including the fetching of the first row.
      * 
      * @return <code>true</code> if the operation succeeeded and
      *         <code>false</code> otherwise.
      */
     public final boolean setAppliedEndAction(final Date parStartTime,
-            final Date parEndTime, final long parDuration) {
+            final Date parEndTime, final long parDuration,
+            final long parDurationExecute, final long parDurationFirstRow) {
 
         checkPreconditionEndActionError(parStartTime, parEndTime);
 
@@ -341,6 +349,10 @@ public class TrialRunActionMapper {
                 UPDATE_TMD_TRIAL_RUN_ACTION
                         + "SET APPLIED_DURATION = "
                         + parDuration
+                        + ", APPLIED_DURATION_EXECUTE = "
+                        + parDurationExecute
+                        + ", APPLIED_DURATION_FIRST_ROW = "
+                        + parDurationFirstRow
                         + ", APPLIED_END_TIME = CAST(TO_TIMESTAMP('"
                         + new SimpleDateFormat(
                                 Global.DATE_FORMAT_DD_MM_YYYY_HH_MM_SS_SSS_JAVA)
@@ -524,17 +536,25 @@ public class TrialRunActionMapper {
     /**
      * Updates in the database the columns
      * <code>UNAPPLIED_DURATION_MICRO_SECOND</code>,
+     * <code>UNAPPLIED_DURATION_EXECUTE</code>,
+     * <code>UNAPPLIED_DURATION_FIRST_ROW</code>,
      * <code>UNAPPLIED_END_TIME</code>, and <code>UNAPPLIED_START_TIME</code>.
      * 
      * @param parStartTime The new start date and time.
      * @param parEndTime The new end date and time.
-     * @param parDuration The new duration of the query execution.
+     * @param parDuration The new duration of the query execution including
+     *            the fetching of all rows.
+     * @param parDurationExecute The new duration of the query execution until
+     *            the <code>ResultSet</code> was available.
+     * @param parDurationFirstRow The new duration of the query execution
+     *            including the fetching of the first row.
      * 
      * @return <code>true</code> if the operation succeeeded and
      *         <code>false</code> otherwise.
      */
     public final boolean setUnappliedEndAction(final Date parStartTime,
-            final Date parEndTime, final long parDuration) {
+            final Date parEndTime, final long parDuration,
+            final long parDurationExecute, final long parDurationFirstRow) {
 
         checkPreconditionEndActionError(parStartTime, parEndTime);
 
@@ -544,6 +564,10 @@ public class TrialRunActionMapper {
                 UPDATE_TMD_TRIAL_RUN_ACTION
                         + "SET UNAPPLIED_DURATION = "
                         + parDuration
+                        + ", UNAPPLIED_DURATION_EXECUTE = "
+                        + parDurationExecute
+                        + ", UNAPPLIED_DURATION_FIRST_ROW = "
+                        + parDurationFirstRow
                         + ", UNAPPLIED_END_TIME = CAST(TO_TIMESTAMP('"
                         + new SimpleDateFormat(
                                 Global.DATE_FORMAT_DD_MM_YYYY_HH_MM_SS_SSS_JAVA)
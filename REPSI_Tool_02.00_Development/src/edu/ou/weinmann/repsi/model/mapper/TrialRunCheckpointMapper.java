@@ -0,0 +1,277 @@
+package edu.ou.weinmann.repsi.model.mapper;
+
+import edu.ou.weinmann.repsi.model.util.DatabaseAccessor;
+import edu.ou.weinmann.repsi.model.util.Global;
+
+import java.math.BigDecimal;
+
+import java.util.Map;
+
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Maps the checkpoints of the trial run actions to the database. A
+ * checkpoint records the progress of a test suite action in a trial run
+ * cycle against a database instance, so that an aborted trial run can be
+ * resumed in the cycle and at the row where it stopped.
+ * 
+ * @author Walter Weinmann
+ * 
+ */
+public class TrialRunCheckpointMapper {
+
+    private static final Logger LOGGER =
+            Logger.getLogger(TrialRunCheckpointMapper.class.getPackage()
+                    .getName());
+
+    private static final String PRECONDITION_DATABASE_ACCESSOR_IS_MISSING_NULL =
+            "Precondition: DatabaseAccessor is missing (null)";
+
+    private long cycle;
+
+    private final int databaseInstanceId;
+
+    private final DatabaseAccessor dbAccess;
+
+    private final String startTime;
+
+    private final int testSuiteId;
+
+    private final TrialRunProtocolMapper trialRunProtocol;
+
+    /**
+     * Constructs a <code>TrialRunCheckpointMapper</code> object.
+     * 
+     * @param parTrialRunProtocol The <code>TralRunProtocol</code> object.
+     * @param parSQLSyntaxCodeTarget The type of the SQL syntax version of the
+     *            database system.
+     * @param parDatabaseInstanceId The identification of the
+     *            <code>DatabaseInstance</code> object.
+     * @param parTestSuiteId The identification of the <code>TestSuite</code>
+     *            object.
+     * @param parCycle The trial run cycle.
+     * @param parStartTime The current time stamp.
+     */
+    public TrialRunCheckpointMapper(
+            final TrialRunProtocolMapper parTrialRunProtocol,
+            final String parSQLSyntaxCodeTarget,
+            final int parDatabaseInstanceId, final int parTestSuiteId,
+            final long parCycle, final String parStartTime) {
+
+        super();
+
+        assert parTrialRunProtocol != null : "Precondition: TrialRunProtocol is missing (null)";
+        assert parSQLSyntaxCodeTarget != null : "Precondition: String SQL syntax code target is missing (null)";
+        assert parStartTime != null : "Precondition: String start time is missing (null)";
+
+        dbAccess =
+                new DatabaseAccessor(Global.DATABASE_SCHEMA_IDENTIFIER_MASTER,
+                        parSQLSyntaxCodeTarget, true);
+
+        cycle = parCycle;
+        databaseInstanceId = parDatabaseInstanceId;
+        startTime = parStartTime;
+        testSuiteId = parTestSuiteId;
+        trialRunProtocol = parTrialRunProtocol;
+    }
+
+    /**
+     * Deletes all checkpoints of the database instance and the test suite in
+     * all trial run cycles.
+     * 
+     * @return <code>true</code> if the operation succeeeded and
+     *         <code>false</code> otherwise.
+     */
+    public final synchronized boolean clear() {
+
+        assert dbAccess != null : PRECONDITION_DATABASE_ACCESSOR_IS_MISSING_NULL;
+
+        final String lvStatement =
+                "DELETE FROM TMD_TRIAL_RUN_CHECKPOINT "
+                        + "WHERE DATABASE_INSTANCE_ID = " + databaseInstanceId
+                        + " AND TEST_SUITE_ID = " + testSuiteId;
+
+        if (!dbAccess.executeUpdate(lvStatement)) {
+            trialRunProtocol.createErrorProtocol(
+                    "TrialRunCheckpointMapper: Table TMD_TRIAL_RUN_CHECKPOINT could not be deleted, statement="
+                            + lvStatement, false);
+            return false;
+        }
+
+        return dbAccess.commit();
+    }
+
+    /**
+     * Close the database connection.
+     * 
+     * @return <code>true</code> if the operation succeeeded and
+     *         <code>false</code> otherwise.
+     */
+    public final boolean closeConnection() {
+
+        assert dbAccess != null : PRECONDITION_DATABASE_ACCESSOR_IS_MISSING_NULL;
+
+        return dbAccess.closeConnection();
+    }
+
+    /**
+     * Returns a <code>Map</code> containing the columns of the checkpoint of
+     * a test suite action in the current trial run cycle.
+     * 
+     * @param parSequenceNumberAction The sequence number of the test suite
+     *            action.
+     * 
+     * @return a <code>Map</code> containing the columns of the checkpoint, or
+     *         <code>null</code> if there is no checkpoint.
+     */
+    public final synchronized Map<String, Object> getCheckpoint(
+            final long parSequenceNumberAction) {
+
+        assert dbAccess != null : PRECONDITION_DATABASE_ACCESSOR_IS_MISSING_NULL;
+
+        if (!dbAccess.executeQuery("SELECT EXECUTION_FREQUENCY, "
+                + "HIGH_WATER_MARK, NUMBER_ROWS, SEED, STATUS_CODE, "
+                + "TABLE_NAME FROM TMD_TRIAL_RUN_CHECKPOINT "
+                + "WHERE DATABASE_INSTANCE_ID = " + databaseInstanceId
+                + " AND TEST_SUITE_ID = " + testSuiteId + " AND CYCLE = "
+                + cycle + " AND SEQUENCE_NUMBER_ACTION = "
+                + parSequenceNumberAction + ";")) {
+            return null;
+        }
+
+        if (!dbAccess.next()) {
+            return null;
+        }
+
+        return dbAccess.getColumns();
+    }
+
+    /**
+     * Returns the last trial run cycle with a checkpoint of the database
+     * instance and the test suite.
+     * 
+     * @return the trial run cycle, <code>0</code> if there is no checkpoint,
+     *         or <code>-1</code> if the checkpoints could not be read.
+     */
+    public final synchronized long getLastCycle() {
+
+        assert dbAccess != null : PRECONDITION_DATABASE_ACCESSOR_IS_MISSING_NULL;
+
+        if (!dbAccess.executeQuery("SELECT MAX(CYCLE) "
+                + "FROM TMD_TRIAL_RUN_CHECKPOINT "
+                + "WHERE DATABASE_INSTANCE_ID = " + databaseInstanceId
+                + " AND TEST_SUITE_ID = " + testSuiteId + ";")) {
+            return -1L;
+        }
+
+        if (!dbAccess.next()) {
+            return 0L;
+        }
+
+        final Object lvCycle = dbAccess.getColumn(1);
+
+        if (lvCycle == null) {
+            return 0L;
+        }
+
+        return ((BigDecimal) lvCycle).longValue();
+    }
+
+    /**
+     * Creates or replaces the checkpoint of a test suite action in the
+     * current trial run cycle in the database table
+     * <code>TMD_TRIAL_RUN_CHECKPOINT</code>.
+     * 
+     * @param parSequenceNumberAction The sequence number of the test suite
+     *            action.
+     * @param parTableName The name of the database table.
+     * @param parExecutionFrequency The number of rows to be generated.
+     * @param parNumberRows The number of rows processed so far.
+     * @param parSeed The seed of the random values of the database table, or
+     *            <code>null</code>.
+     * @param parHighWaterMark The encoded highest primary key values, or
+     *            <code>null</code>.
+     * @param parStatus The status, either
+     *            <code>Global.TRIAL_RUN_STATUS_START_ACTION</code> or
+     *            <code>Global.TRIAL_RUN_STATUS_END_ACTION</code>.
+     * 
+     * @return <code>true</code> if the operation succeeeded and
+     *         <code>false</code> otherwise.
+     */
+    public final synchronized boolean setCheckpoint(
+            final long parSequenceNumberAction, final String parTableName,
+            final long parExecutionFrequency, final long parNumberRows,
+            final Long parSeed, final String parHighWaterMark,
+            final String parStatus) {
+
+        if (parStatus == null) {
+            throw new IllegalArgumentException("Status is missing (null)");
+        }
+
+        if ("".equals(parStatus)) {
+            throw new IllegalArgumentException("Status is missing (empty)");
+        }
+
+        assert dbAccess != null : PRECONDITION_DATABASE_ACCESSOR_IS_MISSING_NULL;
+
+        String lvStatement =
+                "DELETE FROM TMD_TRIAL_RUN_CHECKPOINT "
+                        + "WHERE DATABASE_INSTANCE_ID = " + databaseInstanceId
+                        + " AND TEST_SUITE_ID = " + testSuiteId
+                        + " AND CYCLE = " + cycle
+                        + " AND SEQUENCE_NUMBER_ACTION = "
+                        + parSequenceNumberAction;
+
+        if (dbAccess.executeUpdate(lvStatement)) {
+            String lvHighWaterMark = Global.NULL;
+
+            if (parHighWaterMark != null) {
+                lvHighWaterMark =
+                        "'" + parHighWaterMark.replaceAll("'", "''") + "'";
+            }
+
+            String lvTableName = Global.NULL;
+
+            if (parTableName != null) {
+                lvTableName = "'" + parTableName + "'";
+            }
+
+            lvStatement =
+                    "INSERT INTO TMD_TRIAL_RUN_CHECKPOINT "
+                            + "(DATABASE_INSTANCE_ID, TEST_SUITE_ID, CYCLE, "
+                            + "SEQUENCE_NUMBER_ACTION, START_TIME, "
+                            + "EXECUTION_FREQUENCY, HIGH_WATER_MARK, "
+                            + "NUMBER_ROWS, SEED, STATUS_CODE, TABLE_NAME) "
+                            + "VALUES (" + databaseInstanceId + ", "
+                            + testSuiteId + ", " + cycle + ", "
+                            + parSequenceNumberAction
+                            + ", " + startTime + ", " + parExecutionFrequency
+                            + ", " + lvHighWaterMark + ", " + parNumberRows
+                            + ", " + parSeed + ", '" + parStatus + "', "
+                            + lvTableName + ")";
+
+            if (dbAccess.executeUpdate(lvStatement)) {
+                return dbAccess.commit();
+            }
+        }
+
+        final String lvMsg =
+                "TrialRunCheckpointMapper: Table TMD_TRIAL_RUN_CHECKPOINT could not be updated, statement="
+                        + lvStatement;
+        trialRunProtocol.createErrorProtocol(lvMsg, false);
+        LOGGER.log(Level.SEVERE, lvMsg);
+
+        return false;
+    }
+
+    /**
+     * Sets the trial run cycle of the checkpoints.
+     * 
+     * @param parCycle The trial run cycle.
+     */
+    public final synchronized void setCycle(final long parCycle) {
+
+        cycle = parCycle;
+    }
+}
@@ -225,6 +225,34 @@ public class TrialRunMapper {
         return dbAccess.commit();
     }
 
+    /**
+     * Updates in the database the column <code>SEED</code>.
+     * 
+     * @param parSeed The seed of the random values of the data generation.
+     * 
+     * @return <code>true</code> if the operation succeeeded and
+     *         <code>false</code> otherwise.
+     */
+    public final boolean setSeed(final long parSeed) {
+
+        assert dbAccess != null : PRECONDITION_DATABASE_ACCESSOR_IS_MISSING_NULL;
+
+        final String lvStatement =
+                "UPDATE TMD_TRIAL_RUN " + "SET SEED = " + parSeed
+                        + " WHERE DATABASE_INSTANCE_ID = "
+                        + databaseInstanceId + " AND TEST_SUITE_ID = "
+                        + testSuiteId + " AND START_TIME = " + startTime;
+
+        if (!dbAccess.executeUpdate(lvStatement)) {
+            trialRunProtocol.createErrorProtocol(
+                    "TrialRunMapper: Table TMD_TRIAL_RUN could not be updated, statement="
+                            + lvStatement, false);
+            return false;
+        }
+
+        return dbAccess.commit();
+    }
+
     /**
      * Updates in the database the columns <code>END_TIME</code> and
      * <code>STATUS_CODE</code>.
@@ -8,14 +8,19 @@ import java.text.SimpleDateFormat;
 import java.util.Date;
 
 /**
- * Maps the data from the trial run protocol to the database.
+ * Maps the data from the trial run protocol to the database. The protocol
+ * entries may be created concurrently by several threads, e.g. by the
+ * workers of a parallel data generation. Concurrent test suite actions write
+ * through action protocols, which are bound to the sequence number of their
+ * action and share the connection, the numbering of the entries and the
+ * error counters with the protocol of the trial run.
  * 
  * @author Walter Weinmann
  * 
  */
 public class TrialRunProtocolMapper {
 
-    private boolean aborted;
+    private volatile boolean aborted;
 
     private final int databaseInstanceId;
 
@@ -25,6 +30,8 @@ public class TrialRunProtocolMapper {
 
     private int numberOfErrors;
 
+    private final TrialRunProtocolMapper root;
+
     private long sequenceNumberAction;
 
     private long sequenceNumberProtocol;
@@ -62,10 +69,28 @@ public class TrialRunProtocolMapper {
         sequenceNumberAction = 0L;
         sequenceNumberProtocol = 0L;
         numberOfErrors = 0;
+        root = this;
         startTime = parStartTime;
         testSuiteId = parTestSuiteId;
     }
 
+    private TrialRunProtocolMapper(final TrialRunProtocolMapper parRoot,
+            final long parSequenceNumberAction) {
+
+        super();
+
+        dbAccess = parRoot.dbAccess;
+
+        databaseInstanceId = parRoot.databaseInstanceId;
+        aborted = false;
+        sequenceNumberAction = parSequenceNumberAction;
+        sequenceNumberProtocol = 0L;
+        numberOfErrors = 0;
+        root = parRoot;
+        startTime = parRoot.startTime;
+        testSuiteId = parRoot.testSuiteId;
+    }
+
     /**
      * Close the database connection.
      * 
@@ -76,6 +101,11 @@ public class TrialRunProtocolMapper {
 
         assert dbAccess != null : "Precondition: DatabaseAccessor is missing (null)";
 
+        // The connection belongs to the protocol of the trial run ************
+        if (root != this) {
+            return true;
+        }
+
         return dbAccess.closeConnection();
     }
 
@@ -102,16 +132,18 @@ public class TrialRunProtocolMapper {
 
         String lvErrorType;
 
-        if (parAborted) {
-            numberOfAborts++;
-            lvErrorType = "Abort: ";
-            aborted = true;
-        } else {
-            numberOfErrors++;
-            lvErrorType = "Error: ";
+        synchronized (root) {
+            if (parAborted) {
+                root.numberOfAborts++;
+                lvErrorType = "Abort: ";
+                root.aborted = true;
+            } else {
+                root.numberOfErrors++;
+                lvErrorType = "Error: ";
+            }
+
+            return createProtocol(lvErrorType + parMessage);
         }
-
-        return createProtocol(lvErrorType + parMessage);
     }
 
     /**
@@ -134,31 +166,34 @@ public class TrialRunProtocolMapper {
 
         assert dbAccess != null : "Precondition: DatabaseAccessor is missing (null)";
 
-        sequenceNumberProtocol++;
-
-        if (!dbAccess.executeUpdate(("INSERT INTO TMD_TRIAL_RUN_PROTOCOL "
-                + "(DATABASE_INSTANCE_ID, TEST_SUITE_ID, START_TIME, "
-                + "SEQUENCE_NUMBER_PROTOCOL, CREATED, MESSAGE, "
-                + "SEQUENCE_NUMBER_ACTION) VALUES ("
-                + databaseInstanceId
-                + ", "
-                + testSuiteId
-                + ", "
-                + startTime
-                + ", "
-                + sequenceNumberProtocol
-                + ", CAST(TO_TIMESTAMP('"
-                + new SimpleDateFormat(
-                        Global.DATE_FORMAT_DD_MM_YYYY_HH_MM_SS_SSS_JAVA)
-                        .format(new Date()) + "', '"
-                + Global.DATE_FORMAT_DD_MM_YYYY_HH_MM_SS_SSS_SQL
-                + "') AS TIMESTAMP(9)), '" + parMessage.replaceAll("'", "''")
-                + "', " + sequenceNumberAction + ")").replaceAll("'null'",
-                Global.NULL))) {
-            return false;
+        synchronized (root) {
+            root.sequenceNumberProtocol++;
+
+            if (!dbAccess.executeUpdate(("INSERT INTO TMD_TRIAL_RUN_PROTOCOL "
+                    + "(DATABASE_INSTANCE_ID, TEST_SUITE_ID, START_TIME, "
+                    + "SEQUENCE_NUMBER_PROTOCOL, CREATED, MESSAGE, "
+                    + "SEQUENCE_NUMBER_ACTION) VALUES ("
+                    + databaseInstanceId
+                    + ", "
+                    + testSuiteId
+                    + ", "
+                    + startTime
+                    + ", "
+                    + root.sequenceNumberProtocol
+                    + ", CAST(TO_TIMESTAMP('"
+                    + new SimpleDateFormat(
+                            Global.DATE_FORMAT_DD_MM_YYYY_HH_MM_SS_SSS_JAVA)
+                            .format(new Date()) + "', '"
+                    + Global.DATE_FORMAT_DD_MM_YYYY_HH_MM_SS_SSS_SQL
+                    + "') AS TIMESTAMP(9)), '"
+                    + parMessage.replaceAll("'", "''") + "', "
+                    + sequenceNumberAction + ")").replaceAll("'null'",
+                    Global.NULL))) {
+                return false;
+            }
+
+            return dbAccess.commit();
         }
-
-        return dbAccess.commit();
     }
 
     /**
@@ -222,6 +257,22 @@ public class TrialRunProtocolMapper {
         return createProtocol(lvMsg.toString());
     }
 
+    /**
+     * Returns a protocol bound to a test suite action. The entries of the
+     * action protocol are numbered together with the entries of this
+     * protocol, and its errors count as errors of this protocol.
+     * 
+     * @param parSequenceNumberAction The sequence number of the test suite
+     *            action.
+     * 
+     * @return the <code>TrialRunProtocolMapper</code> object of the action.
+     */
+    public final TrialRunProtocolMapper getActionProtocol(
+            final long parSequenceNumberAction) {
+
+        return new TrialRunProtocolMapper(root, parSequenceNumberAction);
+    }
+
     /**
      * Returns the current number of aborts reported.
      * 
@@ -229,7 +280,9 @@ public class TrialRunProtocolMapper {
      */
     public final int getNumberOfAborts() {
 
-        return numberOfAborts;
+        synchronized (root) {
+            return root.numberOfAborts;
+        }
     }
 
     /**
@@ -239,7 +292,9 @@ public class TrialRunProtocolMapper {
      */
     public final int getNumberOfErrors() {
 
-        return numberOfErrors;
+        synchronized (root) {
+            return root.numberOfErrors;
+        }
     }
 
     /**
@@ -250,7 +305,7 @@ public class TrialRunProtocolMapper {
      */
     public final boolean isAborted() {
 
-        return aborted;
+        return root.aborted;
     }
 
     /**
@@ -258,8 +313,11 @@ public class TrialRunProtocolMapper {
      * 
      * @param parSequenceNumberAction The current action sequence number.
      */
-    public final void setSequenceNumberAction(final long parSequenceNumberAction) {
+    public final void setSequenceNumberAction(
+            final long parSequenceNumberAction) {
 
-        sequenceNumberAction = parSequenceNumberAction;
+        synchronized (root) {
+            sequenceNumberAction = parSequenceNumberAction;
+        }
     }
 }
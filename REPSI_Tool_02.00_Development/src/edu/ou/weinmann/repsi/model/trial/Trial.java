@@ -2,18 +2,34 @@ package edu.ou.weinmann.repsi.model.trial;
 
 import edu.ou.weinmann.repsi.model.mapper.DatabaseInstanceMapper;
 import edu.ou.weinmann.repsi.model.mapper.TrialRunActionMapper;
+import edu.ou.weinmann.repsi.model.mapper.TrialRunCheckpointMapper;
 import edu.ou.weinmann.repsi.model.mapper.TrialRunMapper;
 import edu.ou.weinmann.repsi.model.mapper.TrialRunProtocolMapper;
 
 import edu.ou.weinmann.repsi.model.trial.metadata.Columns;
+import edu.ou.weinmann.repsi.model.trial.metadata.MetaDataCache;
+import edu.ou.weinmann.repsi.model.trial.metadata.ParentKeySamples;
+import edu.ou.weinmann.repsi.model.trial.metadata.TableMetaData;
 
+import edu.ou.weinmann.repsi.model.trial.util.BulkFileWriter;
+import edu.ou.weinmann.repsi.model.trial.util.BulkLoader;
+import edu.ou.weinmann.repsi.model.trial.util.CommandBulkLoader;
 import edu.ou.weinmann.repsi.model.trial.util.DataGenerator;
+import edu.ou.weinmann.repsi.model.trial.util.GenerationCheckpoint;
+import edu.ou.weinmann.repsi.model.trial.util.GenerationScheduler;
+import edu.ou.weinmann.repsi.model.trial.util.KeyFilter;
+import edu.ou.weinmann.repsi.model.trial.util.ParallelDataGenerator;
 import edu.ou.weinmann.repsi.model.trial.util.ResultSetComparator;
+import edu.ou.weinmann.repsi.model.trial.util.SqlBulkLoader;
 
+import edu.ou.weinmann.repsi.model.util.CommitController;
 import edu.ou.weinmann.repsi.model.util.Configurator;
 import edu.ou.weinmann.repsi.model.util.DatabaseAccessor;
 import edu.ou.weinmann.repsi.model.util.DatabaseToExcel;
 import edu.ou.weinmann.repsi.model.util.Global;
+import edu.ou.weinmann.repsi.model.util.RandomSeeds;
+
+import java.io.File;
 
 import java.math.BigDecimal;
 
@@ -26,8 +42,16 @@ import java.text.SimpleDateFormat;
 import java.util.ArrayList;
 import java.util.Date;
 import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
 
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -55,12 +79,35 @@ public class Trial {
     private static final Logger LOGGER =
             Logger.getLogger(Trial.class.getPackage().getName());
 
+    private static final String MSG_BELOW_TIMER_RESOLUTION =
+            "Response time below the timer resolution";
+
     private static final String SINGLEQUOTE_COMMA_SPACE_SINGLEQUOTE = "', '";
 
+    private int batchSize;
+
+    private File bulkDirectory;
+
+    private String bulkLoaderCommand;
+
+    private String bulkLoaderStatement;
+
+    private final Map<Long, Map<String, Object>> checkpoints =
+            new HashMap<Long, Map<String, Object>>();
+
     private Map<String, Object> columnsDatabaseInstance;
 
     private Map<String, Object> columnsTestSuite;
 
+    private Map<String, Object> columnsTimer;
+
+    private final Map<String, CommitController> commitControllers =
+            new HashMap<String, CommitController>();
+
+    private String consumption = Global.CONSUMPTION_NEXT_ONLY;
+
+    private long currCycle;
+
     private int currDatabaseInstanceId;
 
     private long currNumberOfErrors;
@@ -81,14 +128,47 @@ public class Trial {
 
     private DatabaseAccessor dbAccessTestUnapplied;
 
+    private int fetchSize;
+
+    private boolean fetchSizeAuto;
+
+    private Map<Integer, Integer> fetchSizeRecommendations;
+
+    private boolean generationWaves;
+
+    private int foreignKeySampleSize = Global.FOREIGN_KEY_SAMPLE_SIZE;
+
     private boolean isAborted;
 
+    private final Map<String, KeyFilter> keyFilters =
+            new HashMap<String, KeyFilter>();
+
+    private MetaDataCache metaDataCache;
+
+    private File metaDataCacheFile;
+
+    private ParentKeySamples parentKeySamples;
+
+    private int partitions = 1;
+
+    private boolean prepared;
+
+    private boolean resume;
+
+    private long seed;
+
+    private boolean seeded;
+
     private String sqlSyntaxCodeTarget;
 
+    private boolean timerCompensation;
+
     private TrialRunMapper trialRun;
 
     private TrialRunActionMapper trialRunAction;
 
+    private TrialRunCheckpointMapper trialRunCheckpoint;
+
     private TrialRunProtocolMapper trialRunProtocol;
 
     /**
@@ -150,6 +230,24 @@ public class Trial {
         return true;
     }
 
+    private boolean closeConnectionsPartition(
+            final TrialRunProtocolMapper parProtocol,
+            final DatabaseAccessor[] parDBAccess) {
+
+        boolean lvReturn = true;
+
+        for (int i = 0; i < parDBAccess.length; i++) {
+            if (parDBAccess[i] != null && !parDBAccess[i].closeConnection()) {
+                parProtocol.createErrorProtocol(
+                        "Problem with closeConnection() / trial database (partition "
+                                + (i + 1) + ")", false);
+                lvReturn = false;
+            }
+        }
+
+        return lvReturn;
+    }
+
     private boolean commitMaster() {
 
         if (!dbAccessMaster.commit()) {
@@ -162,6 +260,62 @@ public class Trial {
         return true;
     }
 
+    private BulkFileWriter createBulkFile(
+            final GenerationCheckpoint parCheckpoint) {
+
+        // One file per cycle and action, kept as the dataset ****************
+        final String lvFileName =
+                parCheckpoint.getTableName() + "_" + currCycle + "_"
+                        + parCheckpoint.getSequenceNumberAction() + ".csv";
+
+        return new BulkFileWriter(new File(bulkDirectory, lvFileName));
+    }
+
+    private GenerationCheckpoint createCheckpoint(
+            final TrialRunProtocolMapper parProtocol,
+            final String parTableName, final long parExecutionFrequency) {
+
+        long lvNumberRows = 0L;
+        String lvHighWaterMark = null;
+        Long lvSeed = null;
+
+        // Every action of every cycle generates its own values **************
+        if (seeded) {
+            lvSeed =
+                    Long.valueOf(RandomSeeds.split(RandomSeeds.split(
+                            RandomSeeds.split(seed, currCycle),
+                            currSequenceNumberAction), parTableName));
+        }
+
+        // Progress recorded by the aborted trial run *************************
+        final Map<String, Object> lvColumnsCheckpoint =
+                checkpoints.remove(Long.valueOf(currSequenceNumberAction));
+
+        if (lvColumnsCheckpoint != null
+                && parTableName.equals(lvColumnsCheckpoint
+                        .get(Global.COLUMN_NAME_TABLE_NAME))
+                && ((BigDecimal) lvColumnsCheckpoint.get("EXECUTION_FREQUENCY"))
+                        .longValue() == parExecutionFrequency) {
+            lvNumberRows =
+                    ((BigDecimal) lvColumnsCheckpoint.get("NUMBER_ROWS"))
+                            .longValue();
+            lvHighWaterMark =
+                    (String) lvColumnsCheckpoint.get("HIGH_WATER_MARK");
+
+            if (lvColumnsCheckpoint.get("SEED") != null) {
+                lvSeed =
+                        Long.valueOf(((BigDecimal) lvColumnsCheckpoint
+                                .get("SEED")).longValue());
+            }
+
+            parProtocol.createProtocol("Number of rows resumed", lvNumberRows);
+        }
+
+        return new GenerationCheckpoint(trialRunCheckpoint,
+                currSequenceNumberAction, parTableName, parExecutionFrequency,
+                lvNumberRows, lvHighWaterMark, lvSeed);
+    }
+
     private boolean createStatementMaster() {
 
         if (!dbAccessMaster.createStatement()) {
@@ -200,6 +354,21 @@ public class Trial {
         return dbAccessMaster.getColumns();
     }
 
+    private synchronized CommitController getCommitController(
+            final String parTableName) {
+
+        final String lvKey = parTableName.toUpperCase();
+
+        CommitController lvCommitController = commitControllers.get(lvKey);
+
+        if (lvCommitController == null) {
+            lvCommitController = new CommitController();
+            commitControllers.put(lvKey, lvCommitController);
+        }
+
+        return lvCommitController;
+    }
+
     private boolean getConnectionMaster() {
 
         if (!dbAccessMaster.getConnection()) {
@@ -210,6 +379,67 @@ public class Trial {
         return true;
     }
 
+    private DatabaseAccessor[] getConnectionsPartition(
+            final TrialRunProtocolMapper parProtocol, final int parPartitions) {
+
+        final DatabaseAccessor[] lvDBAccess = new DatabaseAccessor[parPartitions];
+
+        for (int i = 0; i < parPartitions; i++) {
+            lvDBAccess[i] =
+                    new DatabaseAccessor(Global.DATABASE_SCHEMA_IDENTIFIER_TEST,
+                            sqlSyntaxCodeTarget,
+                            (String) columnsDatabaseInstance.get("JDBC_DRIVER"),
+                            false);
+
+            if (!(lvDBAccess[i].getConnection((String) columnsDatabaseInstance
+                    .get("JDBC_URL"), (String) columnsDatabaseInstance
+                    .get(Global.COLUMN_NAME_USER_NAME),
+                    (String) columnsDatabaseInstance.get("PASSWORD"))
+                    && lvDBAccess[i].createStatement() && lvDBAccess[i]
+                    .setAutoCommit(false))) {
+                parProtocol.createErrorProtocol(
+                        "Problem with getConnection() / trial database (partition "
+                                + (i + 1) + ")", false);
+                closeConnectionsPartition(parProtocol, lvDBAccess);
+                return null;
+            }
+        }
+
+        return lvDBAccess;
+    }
+
+    private synchronized KeyFilter getKeyFilter(final String parTableName,
+            final Columns parColumns) {
+
+        // Sequenced primary keys are unique by construction ******************
+        if (parColumns.getPrimaryKey() == null
+                || parColumns.getPrimaryKey().getSequencer() != null
+                || parColumns.getPrimaryKey().getHighestValues().length == 0) {
+            return null;
+        }
+
+        final String lvKey = parTableName.toUpperCase();
+
+        KeyFilter lvKeyFilter = keyFilters.get(lvKey);
+
+        if (lvKeyFilter == null) {
+            lvKeyFilter = new KeyFilter();
+            keyFilters.put(lvKey, lvKeyFilter);
+        }
+
+        return lvKeyFilter;
+    }
+
+    private String getSchemaPattern() {
+
+        if (sqlSyntaxCodeTarget.equals(Global.SQL_SYNTAX_CODE_ORACLE_10G)) {
+            return (String) columnsDatabaseInstance
+                    .get(Global.COLUMN_NAME_USER_NAME);
+        }
+
+        return "";
+    }
+
     private boolean getSQLSyntaxCodeTarget() {
 
         sqlSyntaxCodeTarget =
@@ -266,7 +496,8 @@ public class Trial {
                         + "TTSA.TABLE_NAME AS TABLE_NAME, "
                         + "TTSO.NAME AS TEST_SUITE_OPERATION_NAME, "
                         + "NULL AS UNAPPLIED_PATTERN_ORDER_BY, "
-                        + "NULL AS UNAPPLIED_PATTERN_SELECT_STMNT "
+                        + "NULL AS UNAPPLIED_PATTERN_SELECT_STMNT, "
+                        + "NULL AS TEST_QUERY_PAIR_ID "
                         + "FROM TMD_TEST_SUITE_ACTION TTSA, "
                         + "TMD_TEST_SUITE_OPERATION TTSO, "
                         + "TMD_TEST_TABLE TTT WHERE TEST_SUITE_ID = "
@@ -288,7 +519,8 @@ public class Trial {
                         + "NULL AS TABLE_NAME, "
                         + "TTSO.NAME AS TEST_SUITE_OPERATION_NAME, "
                         + "TTQP.UNAPPLIED_PATTERN_ORDER_BY AS UNAPPLIED_PATTERN_ORDER_BY, "
-                        + "TTQP.UNAPPLIED_PATTERN_SELECT_STMNT AS UNAPPLIED_PATTERN_SELECT_STMNT "
+                        + "TTQP.UNAPPLIED_PATTERN_SELECT_STMNT AS UNAPPLIED_PATTERN_SELECT_STMNT, "
+                        + "TTSA.TEST_QUERY_PAIR_ID AS TEST_QUERY_PAIR_ID "
                         + "FROM TMD_PATTERN_SQL_IDIOM PNSI, "
                         + "TMD_TEST_QUERY_PAIR TTQP, "
                         + "TMD_TEST_SUITE_ACTION TTSA, "
@@ -322,27 +554,34 @@ public class Trial {
         return lvColumnsTestSuiteActions;
     }
 
-    private boolean processInstance(final String parOperationCode,
+    private static boolean isInsertRowAction(
             final Map<String, Object> parColumnsTestSuiteAction) {
 
-        final String lvTableName =
-                (String) parColumnsTestSuiteAction
-                        .get(Global.COLUMN_NAME_TABLE_NAME);
+        return Global.OPERATION_TYPE_INSTANCE
+                .equals(parColumnsTestSuiteAction.get("OPERATION_TYPE"))
+                && Global.OPERATION_CODE_INSERT_ROW
+                        .equals(parColumnsTestSuiteAction.get("OPERATION_CODE"));
+    }
 
-        if (!(trialRunProtocol.createProtocol("Database table", lvTableName) && trialRunAction
-                .setTableName(lvTableName))) {
+    private boolean processInstance(final String parOperationCode,
+            final Map<String, Object> parColumnsTestSuiteAction) {
+
+        if (!processInstanceStart(parColumnsTestSuiteAction)) {
             return false;
         }
 
-        final long lvExecutionFrequency =
-                ((BigDecimal) parColumnsTestSuiteAction
-                        .get("EXECUTION_FREQUENCY")).longValue();
+        if (parOperationCode.equals(Global.OPERATION_CODE_INSERT_ROW)) {
+            final String lvTableName =
+                    (String) parColumnsTestSuiteAction
+                            .get(Global.COLUMN_NAME_TABLE_NAME);
 
-        LOGGER.log(Level.FINER, "Database table " + lvTableName
-                + ": Starting generating " + lvExecutionFrequency + " rows");
+            final GenerationCheckpoint lvCheckpoint =
+                    createCheckpoint(trialRunProtocol, lvTableName,
+                            ((BigDecimal) parColumnsTestSuiteAction
+                                    .get("EXECUTION_FREQUENCY")).longValue());
 
-        if (parOperationCode.equals(Global.OPERATION_CODE_INSERT_ROW)) {
-            if (!processInstanceCreateRow(lvTableName, lvExecutionFrequency)) {
+            if (!processInstanceCreateRow(trialRunProtocol, dbAccessTest,
+                    lvTableName, lvCheckpoint)) {
                 return false;
             }
         } else {
@@ -355,52 +594,252 @@ public class Trial {
         return true;
     }
 
-    private boolean processInstanceCreateRow(final String parTableName,
-            final long parExecutionFrequency) {
+    // Shared by the test suite actions in order and the generation waves:
+    // the protocol and the connection are those of the action.
+    private boolean processInstanceCreateRow(
+            final TrialRunProtocolMapper parProtocol,
+            final DatabaseAccessor parDBAccess, final String parTableName,
+            final GenerationCheckpoint parCheckpoint) {
 
         final String lvCatalog = "";
+        final String lvSchemaPattern = getSchemaPattern();
 
-        String lvSchemaPattern = "";
+        final long lvExecutionFrequency = parCheckpoint.getExecutionFrequency();
+        final long lvFirstRowNumber = parCheckpoint.getNumberRows();
 
-        if (sqlSyntaxCodeTarget.equals(Global.SQL_SYNTAX_CODE_ORACLE_10G)) {
-            lvSchemaPattern =
-                    (String) columnsDatabaseInstance
-                            .get(Global.COLUMN_NAME_USER_NAME);
+        final Columns lvColumns =
+                new Columns(parProtocol, parDBAccess, lvCatalog,
+                        lvSchemaPattern, parTableName, parentKeySamples,
+                        metaDataCache, parCheckpoint.getHighestValues());
+
+        lvColumns.protocol(parProtocol);
+
+        if (bulkDirectory != null) {
+            return processInstanceCreateRowBulk(parProtocol, parDBAccess,
+                    parTableName, lvColumns, parCheckpoint);
         }
 
-        final Columns lvColumns =
-                new Columns(trialRunProtocol, dbAccessTest, lvCatalog,
-                        lvSchemaPattern, parTableName);
+        boolean lvOk;
+        long lvNumberRowsAttempted;
+        long lvNumberRowsGenerated;
+        long lvNumberRowsRejected;
 
-        lvColumns.protocol(trialRunProtocol);
+        if (partitions > 1 && lvExecutionFrequency > 1) {
+            final DatabaseAccessor[] lvDBAccess =
+                    getConnectionsPartition(parProtocol, (int) Math.min(
+                            partitions, lvExecutionFrequency));
+
+            if (lvDBAccess == null) {
+                return false;
+            }
+
+            final ParallelDataGenerator lvDataGenerator =
+                    new ParallelDataGenerator(parProtocol, lvDBAccess,
+                            lvCatalog, lvSchemaPattern, parTableName);
+
+            lvDataGenerator.setBatchSize(batchSize);
+            lvDataGenerator.setCheckpoint(parCheckpoint);
+            lvDataGenerator
+                    .setCommitController(getCommitController(parTableName));
+            lvDataGenerator.setFirstRowNumber(lvFirstRowNumber);
+            lvDataGenerator
+                    .setKeyFilter(getKeyFilter(parTableName, lvColumns));
+            lvDataGenerator.setMetaDataCache(metaDataCache);
+            lvDataGenerator.setParentKeySamples(parentKeySamples);
+
+            if (parCheckpoint.getSeed() != null) {
+                lvDataGenerator.setSeed(parCheckpoint.getSeed().longValue());
+            }
+
+            lvOk =
+                    lvDataGenerator.generateRow(lvExecutionFrequency
+                            - lvFirstRowNumber);
+            lvNumberRowsAttempted = lvDataGenerator.getNumberRowsAttempted();
+            lvNumberRowsGenerated = lvDataGenerator.getNumberRowsGenerated();
+            lvNumberRowsRejected = lvDataGenerator.getNumberRowsRejected();
+
+            if (!closeConnectionsPartition(parProtocol, lvDBAccess)) {
+                lvOk = false;
+            }
+        } else {
+            final DataGenerator lvDataGenerator =
+                    new DataGenerator(parProtocol, parDBAccess, parTableName,
+                            lvColumns);
+
+            lvDataGenerator.setBatchSize(batchSize);
+            lvDataGenerator
+                    .setCommitController(getCommitController(parTableName));
+            lvDataGenerator
+                    .setKeyFilter(getKeyFilter(parTableName, lvColumns));
+            setCheckpoint(lvDataGenerator, parCheckpoint);
+
+            // The transactions are sized by the commit controller ***********
+            lvOk =
+                    parDBAccess.setAutoCommit(false)
+                            && lvDataGenerator.generateRow(lvExecutionFrequency
+                                    - lvFirstRowNumber);
+            lvNumberRowsAttempted = lvDataGenerator.getNumberRowsAttempted();
+            lvNumberRowsGenerated = lvDataGenerator.getNumberRowsGenerated();
+            lvNumberRowsRejected = lvDataGenerator.getNumberRowsRejected();
+
+            // Rows after the last checkpoint are generated again on resume *
+            if (!lvOk) {
+                parDBAccess.rollback();
+            }
+
+            if (!parDBAccess.setAutoCommit(true)) {
+                lvOk = false;
+            }
+        }
+
+        if (lvOk) {
+            lvOk = parCheckpoint.complete();
+        }
+
+        if (!processInstanceCreateRowFinalise(parProtocol, parTableName,
+                lvExecutionFrequency, lvNumberRowsAttempted,
+                lvNumberRowsRejected, lvFirstRowNumber
+                        + lvNumberRowsGenerated)) {
+            return false;
+        }
+
+        return lvOk;
+    }
+
+    private boolean processInstanceCreateRowBulk(
+            final TrialRunProtocolMapper parProtocol,
+            final DatabaseAccessor parDBAccess, final String parTableName,
+            final Columns parColumns, final GenerationCheckpoint parCheckpoint) {
+
+        final BulkFileWriter lvBulkFile = createBulkFile(parCheckpoint);
 
         final DataGenerator lvDataGenerator =
-                new DataGenerator(trialRunProtocol, dbAccessTest, parTableName,
-                        lvColumns);
+                new DataGenerator(parProtocol, parDBAccess, parTableName,
+                        parColumns);
+
+        final long lvExecutionFrequency = parCheckpoint.getExecutionFrequency();
+        final long lvFirstRowNumber = parCheckpoint.getNumberRows();
+
+        lvDataGenerator.setBulkFile(lvBulkFile);
+        lvDataGenerator.setKeyFilter(getKeyFilter(parTableName, parColumns));
+        setCheckpoint(lvDataGenerator, parCheckpoint);
+
+        final boolean lvOk =
+                lvDataGenerator.generateRow(lvExecutionFrequency
+                        - lvFirstRowNumber)
+                        && processInstanceLoadBulkFile(parProtocol,
+                                parDBAccess, parTableName, lvBulkFile)
+                        && parCheckpoint.complete();
+
+        if (!parProtocol.createProtocol("Bulk load file", lvBulkFile
+                .getFile().getAbsolutePath())) {
+            return false;
+        }
+
+        long lvNumberRowsLoaded = lvFirstRowNumber;
+
+        if (lvOk) {
+            lvNumberRowsLoaded += lvBulkFile.getNumberRows();
+        }
 
-        final boolean lvOk = lvDataGenerator.generateRow(parExecutionFrequency);
+        if (!processInstanceCreateRowFinalise(parProtocol, parTableName,
+                lvExecutionFrequency,
+                lvDataGenerator.getNumberRowsAttempted(), lvDataGenerator
+                        .getNumberRowsRejected(), lvNumberRowsLoaded)) {
+            return false;
+        }
+
+        return lvOk;
+    }
+
+    private boolean processInstanceCreateRowFinalise(
+            final TrialRunProtocolMapper parProtocol,
+            final String parTableName, final long parExecutionFrequency,
+            final long parNumberRowsAttempted,
+            final long parNumberRowsRejected,
+            final long parNumberRowsGenerated) {
 
-        if (trialRunProtocol.isAborted()) {
+        parentKeySamples.invalidate(parTableName);
+
+        if (parProtocol.isAborted()) {
             return false;
         }
 
-        if (!trialRunProtocol.createProtocol("Number of rows required",
+        if (!parProtocol.createProtocol("Number of rows required",
                 parExecutionFrequency)) {
             return false;
         }
 
-        if (!trialRunProtocol.createProtocol("Number of rows generated",
-                lvDataGenerator.getNumberRowsGenerated())) {
+        if (!parProtocol.createProtocol("Number of rows attempted",
+                parNumberRowsAttempted)) {
             return false;
         }
 
-        return lvOk;
+        if (!parProtocol.createProtocol(
+                "Number of rows rejected by the key filter",
+                parNumberRowsRejected)) {
+            return false;
+        }
+
+        return parProtocol.createProtocol("Number of rows generated",
+                parNumberRowsGenerated);
+    }
+
+    private boolean processInstanceLoadBulkFile(
+            final TrialRunProtocolMapper parProtocol,
+            final DatabaseAccessor parDBAccess, final String parTableName,
+            final BulkFileWriter parBulkFile) {
+
+        if (parBulkFile.getNumberRows() == 0) {
+            return true;
+        }
+
+        BulkLoader lvBulkLoader;
+
+        if (bulkLoaderCommand == null) {
+            lvBulkLoader = new SqlBulkLoader(parDBAccess, bulkLoaderStatement);
+        } else {
+            lvBulkLoader = new CommandBulkLoader(bulkLoaderCommand);
+        }
+
+        if (!lvBulkLoader.load(parTableName, parBulkFile.getColumnNames(),
+                parBulkFile.getFile())) {
+            parProtocol.createErrorProtocol("Bulk load of table="
+                    + parTableName + " failed", false);
+            return false;
+        }
+
+        return true;
+    }
+
+    private boolean processInstanceStart(
+            final Map<String, Object> parColumnsTestSuiteAction) {
+
+        final String lvTableName =
+                (String) parColumnsTestSuiteAction
+                        .get(Global.COLUMN_NAME_TABLE_NAME);
+
+        if (!(trialRunProtocol.createProtocol("Database table", lvTableName) && trialRunAction
+                .setTableName(lvTableName))) {
+            return false;
+        }
+
+        LOGGER.log(Level.FINER, "Database table " + lvTableName
+                + ": Starting generating "
+                + parColumnsTestSuiteAction.get("EXECUTION_FREQUENCY")
+                + " rows");
+
+        return true;
     }
 
     private boolean processQuery(final String parOperationCode,
             final Map<String, Object> parColumnsTestSuiteAction,
             final long parPrecision) {
 
+        if (!processQueryFetchSize(parColumnsTestSuiteAction)) {
+            return false;
+        }
+
         if (parOperationCode.equals(Global.OPERATION_CODE_EXECUTE_QUERY)) {
             final ResultSet lvResultSetUnapplied =
                     processQueryUnapplied(parColumnsTestSuiteAction,
@@ -485,20 +924,28 @@ public class Trial {
             }
         }
 
-        int lvNumberRows = 0;
-
-        while (dbAccessTestApplied.next()) {
-            lvNumberRows++;
-        }
+        final int lvNumberRows = dbAccessTestApplied.getNumberRows();
 
         final Date lvEndTime = dbAccessTestApplied.getTrialRunEndTime();
         final long lvMicroSeconds =
                 dbAccessTestApplied.getTrialTimeQuantities(parPrecision);
+        final long lvMicroSecondsExecute =
+                dbAccessTestApplied.getTrialTimeQuantitiesExecute(parPrecision);
+        final long lvMicroSecondsFirstRow =
+                dbAccessTestApplied.getTrialTimeQuantitiesFirstRow(parPrecision);
         final Date lvStartTime = dbAccessTestApplied.getTrialRunStartTime();
 
+        if (dbAccessTestApplied.isBelowTimerResolution()
+                && !trialRunProtocol.createProtocol("Warning",
+                        MSG_BELOW_TIMER_RESOLUTION)) {
+            return null;
+        }
+
         if (!(trialRunAction.setAppliedEndAction(lvStartTime, lvEndTime,
-                lvMicroSeconds) && processQueryProtocolFinal(lvStartTime,
-                lvEndTime, lvMicroSeconds, lvNumberRows))) {
+                lvMicroSeconds, lvMicroSecondsExecute, lvMicroSecondsFirstRow)
+                && processQueryProtocolFinal(lvStartTime, lvEndTime,
+                        lvMicroSeconds, lvMicroSecondsExecute,
+                        lvMicroSecondsFirstRow, lvNumberRows))) {
             return null;
         }
 
@@ -556,7 +1003,8 @@ public class Trial {
 
     private boolean processQueryProtocolFinal(final Date parStartTime,
             final Date parEndTime, final long parMicroSeconds,
-            final int parNumberRows) {
+            final long parMicroSecondsExecute,
+            final long parMicroSecondsFirstRow, final int parNumberRows) {
 
         if (!(trialRunProtocol.createProtocol("Start timestamp",
                 new SimpleDateFormat(
@@ -568,13 +1016,52 @@ public class Trial {
                         Global.DATE_FORMAT_DD_MM_YYYY_HH_MM_SS_SSS_JAVA)
                         .format(parEndTime)) && trialRunProtocol
                 .createProtocol("Duration in microseconds", new DecimalFormat(
-                        Global.NUMBER_FORMAT_LONG_JAVA).format(parMicroSeconds)))) {
+                        Global.NUMBER_FORMAT_LONG_JAVA).format(parMicroSeconds))
+                && trialRunProtocol.createProtocol("  thereof execute",
+                        new DecimalFormat(Global.NUMBER_FORMAT_LONG_JAVA)
+                                .format(parMicroSecondsExecute))
+                && trialRunProtocol.createProtocol("  thereof first row",
+                        new DecimalFormat(Global.NUMBER_FORMAT_LONG_JAVA)
+                                .format(parMicroSecondsFirstRow)))) {
             return false;
         }
 
         return true;
     }
 
+    private boolean processQueryFetchSize(
+            final Map<String, Object> parColumnsTestSuiteAction) {
+
+        if (fetchSizeRecommendations == null) {
+            return true;
+        }
+
+        int lvFetchSize = fetchSize;
+
+        final Object lvTestQueryPairId =
+                parColumnsTestSuiteAction
+                        .get(Global.COLUMN_NAME_TEST_QUERY_PAIR_ID);
+
+        if (lvTestQueryPairId instanceof Number) {
+            final Integer lvRecommended =
+                    fetchSizeRecommendations.get(Integer
+                            .valueOf(((Number) lvTestQueryPairId).intValue()));
+
+            if (lvRecommended != null) {
+                lvFetchSize = lvRecommended.intValue();
+            }
+        }
+
+        if (!(dbAccessTestApplied.setFetchSize(lvFetchSize) && dbAccessTestUnapplied
+                .setFetchSize(lvFetchSize))) {
+            trialRunProtocol.createErrorProtocol("Problem with setFetchSize("
+                    + lvFetchSize + ") / trial database", false);
+            return false;
+        }
+
+        return trialRunProtocol.createProtocol("Fetch size", lvFetchSize);
+    }
+
     private ResultSet processQueryUnapplied(
             final Map<String, Object> parColumnsTestSuiteAction,
             final long parPrecision) {
@@ -613,20 +1100,28 @@ public class Trial {
             }
         }
 
-        int lvNumberRows = 0;
-
-        while (dbAccessTestApplied.next()) {
-            lvNumberRows++;
-        }
+        final int lvNumberRows = dbAccessTestUnapplied.getNumberRows();
 
         final Date lvEndTime = dbAccessTestUnapplied.getTrialRunEndTime();
         final long lvMicroSeconds =
                 dbAccessTestUnapplied.getTrialTimeQuantities(parPrecision);
+        final long lvMicroSecondsExecute =
+                dbAccessTestUnapplied.getTrialTimeQuantitiesExecute(parPrecision);
+        final long lvMicroSecondsFirstRow =
+                dbAccessTestUnapplied.getTrialTimeQuantitiesFirstRow(parPrecision);
         final Date lvStartTime = dbAccessTestUnapplied.getTrialRunStartTime();
 
+        if (dbAccessTestUnapplied.isBelowTimerResolution()
+                && !trialRunProtocol.createProtocol("Warning",
+                        MSG_BELOW_TIMER_RESOLUTION)) {
+            return null;
+        }
+
         if (!(trialRunAction.setUnappliedEndAction(lvStartTime, lvEndTime,
-                lvMicroSeconds) && processQueryProtocolFinal(lvStartTime,
-                lvEndTime, lvMicroSeconds, lvNumberRows))) {
+                lvMicroSeconds, lvMicroSecondsExecute, lvMicroSecondsFirstRow)
+                && processQueryProtocolFinal(lvStartTime, lvEndTime,
+                        lvMicroSeconds, lvMicroSecondsExecute,
+                        lvMicroSecondsFirstRow, lvNumberRows))) {
             return null;
         }
 
@@ -645,6 +1140,10 @@ public class Trial {
             return false;
         }
 
+        keyFilters.remove(lvTableName.toUpperCase());
+        metaDataCache.invalidate(lvTableName);
+        parentKeySamples.invalidate(lvTableName);
+
         if (parOperationCode.equals(Global.OPERATION_CODE_CREATE_TABLE)) {
             if (!processSchemaCreate(lvTableName)) {
                 return false;
@@ -667,7 +1166,9 @@ public class Trial {
             return false;
         }
 
-        return true;
+        return trialRunCheckpoint.setCheckpoint(currSequenceNumberAction,
+                lvTableName, 0L, 0L, null, null,
+                Global.TRIAL_RUN_STATUS_END_ACTION);
     }
 
     private boolean processSchemaCreate(final String parTableName) {
@@ -763,6 +1264,8 @@ public class Trial {
 
             lvCurrCycle++;
 
+            currCycle = lvCurrCycle;
+
             LOGGER.log(Level.FINER, "Trial run cycle # "
                     + lvDecimalFormatCounter.format(lvCurrCycle));
 
@@ -770,6 +1273,12 @@ public class Trial {
                     parDescription, parFetchSize, parPrecision)) {
                 return false;
             }
+
+            // The resumed cycle is the one the aborted trial run stopped in **
+            lvCurrCycle = currCycle;
+
+            // Only the first cycle resumes the aborted trial run *************
+            resume = false;
         }
 
         return true;
@@ -779,39 +1288,15 @@ public class Trial {
             final Map<String, Object> parColumnsTestSuiteAction,
             final long parPrecision) {
 
-        currSequenceNumberAction =
-                ((BigDecimal) parColumnsTestSuiteAction.get("SEQUENCE_NUMBER"))
-                        .longValue();
-
-        trialRunAction.setSequenceNumberAction(currSequenceNumberAction);
-        trialRunProtocol.setSequenceNumberAction(currSequenceNumberAction);
-
-        if (!trialRunProtocol.createProtocol("Run Trial - Start Action "
-                + currSequenceNumberAction)) {
-            return false;
-        }
-
-        if (!runTrialActionInitialise(parColumnsTestSuiteAction)) {
+        if (!runTrialActionStart(parColumnsTestSuiteAction)) {
             return false;
         }
 
         final String lvOperationType =
                 (String) parColumnsTestSuiteAction.get("OPERATION_TYPE");
-
-        if (!trialRunProtocol.createProtocol("Operation type", lvOperationType)) {
-            return false;
-        }
-
         final String lvOperationCode =
                 (String) parColumnsTestSuiteAction.get("OPERATION_CODE");
 
-        if (!trialRunProtocol.createProtocol("Operation code", lvOperationCode
-                + " ["
-                + (String) parColumnsTestSuiteAction
-                        .get("TEST_SUITE_OPERATION_NAME") + "]")) {
-            return false;
-        }
-
         if (lvOperationType.equals(Global.OPERATION_TYPE_INSTANCE)) {
             if (!processInstance(lvOperationCode, parColumnsTestSuiteAction)) {
                 return false;
@@ -832,12 +1317,8 @@ public class Trial {
             return false;
         }
 
-        if (!trialRunProtocol.createProtocol("Run Trial - End   Action "
-                + currSequenceNumberAction)) {
-            return false;
-        }
-
-        return true;
+        return trialRunProtocol.createProtocol("Run Trial - End   Action "
+                + currSequenceNumberAction);
     }
 
     private boolean runTrialActionInitialise(
@@ -847,6 +1328,43 @@ public class Trial {
         return trialRunAction.initialise(parColumnsTestSuiteAction);
     }
 
+    private void runTrialActionSequenceNumber(
+            final Map<String, Object> parColumnsTestSuiteAction) {
+
+        currSequenceNumberAction =
+                ((BigDecimal) parColumnsTestSuiteAction.get("SEQUENCE_NUMBER"))
+                        .longValue();
+
+        trialRunAction.setSequenceNumberAction(currSequenceNumberAction);
+        trialRunProtocol.setSequenceNumberAction(currSequenceNumberAction);
+    }
+
+    private boolean runTrialActionStart(
+            final Map<String, Object> parColumnsTestSuiteAction) {
+
+        runTrialActionSequenceNumber(parColumnsTestSuiteAction);
+
+        if (!trialRunProtocol.createProtocol("Run Trial - Start Action "
+                + currSequenceNumberAction)) {
+            return false;
+        }
+
+        if (!runTrialActionInitialise(parColumnsTestSuiteAction)) {
+            return false;
+        }
+
+        if (!trialRunProtocol.createProtocol("Operation type",
+                (String) parColumnsTestSuiteAction.get("OPERATION_TYPE"))) {
+            return false;
+        }
+
+        return trialRunProtocol.createProtocol("Operation code",
+                (String) parColumnsTestSuiteAction.get("OPERATION_CODE")
+                        + " ["
+                        + (String) parColumnsTestSuiteAction
+                                .get("TEST_SUITE_OPERATION_NAME") + "]");
+    }
+
     private boolean runTrialActions(final int parFetchSize,
             final long parPrecision) {
 
@@ -866,12 +1384,42 @@ public class Trial {
             return false;
         }
 
+        if (resume && !runTrialActionsResume(lvColumnsTestSuiteActions)) {
+            return false;
+        }
+
         if (!runTrialActionsConnectToTestDatabase(parFetchSize)) {
             return false;
         }
 
-        for (int i = 0; i < lvColumnsTestSuiteActions.size(); i++) {
-            if (!runTrialAction(lvColumnsTestSuiteActions.get(i), parPrecision)) {
+        int lvNext = 0;
+
+        while (lvNext < lvColumnsTestSuiteActions.size()) {
+            boolean lvOk;
+
+            // Consecutive INSERT_ROW actions are generated in waves ***********
+            int lvEnd = lvNext + 1;
+
+            if (generationWaves
+                    && isInsertRowAction(lvColumnsTestSuiteActions.get(lvNext))) {
+                while (lvEnd < lvColumnsTestSuiteActions.size()
+                        && isInsertRowAction(lvColumnsTestSuiteActions
+                                .get(lvEnd))) {
+                    lvEnd++;
+                }
+            }
+
+            if (lvEnd - lvNext > 1) {
+                lvOk =
+                        runTrialActionsWaves(lvColumnsTestSuiteActions
+                                .subList(lvNext, lvEnd), parPrecision);
+            } else {
+                lvOk =
+                        runTrialAction(lvColumnsTestSuiteActions.get(lvNext),
+                                parPrecision);
+            }
+
+            if (!lvOk) {
 
                 if (!isAborted) {
                     isAborted = trialRunProtocol.isAborted();
@@ -881,6 +1429,8 @@ public class Trial {
                     return false;
                 }
             }
+
+            lvNext = lvEnd;
         }
 
         if (!runTrialActionsDisconnectFromTestDatabase()) {
@@ -907,6 +1457,24 @@ public class Trial {
                         sqlSyntaxCodeTarget, (String) columnsDatabaseInstance
                                 .get("JDBC_DRIVER"), false);
 
+        dbAccessTestApplied.setConsumption(consumption);
+        dbAccessTestUnapplied.setConsumption(consumption);
+        dbAccessTestApplied.setPrepared(prepared);
+        dbAccessTestUnapplied.setPrepared(prepared);
+
+        if (columnsTimer != null) {
+            final long lvOverhead =
+                    ((Long) columnsTimer.get(Global.COLUMN_NAME_TIMER_OVERHEAD))
+                            .longValue();
+            final long lvResolution =
+                    ((Long) columnsTimer
+                            .get(Global.COLUMN_NAME_TIMER_RESOLUTION))
+                            .longValue();
+
+            dbAccessTestApplied.setTimer(lvOverhead, lvResolution);
+            dbAccessTestUnapplied.setTimer(lvOverhead, lvResolution);
+        }
+
         // Create a database connection.
         if (!dbAccessTest.getConnection((String) columnsDatabaseInstance
                 .get("JDBC_URL"), (String) columnsDatabaseInstance
@@ -974,11 +1542,54 @@ public class Trial {
             return false;
         }
 
+        fetchSize = parFetchSize;
+
+        if (!(dbAccessTestApplied.setFetchSize(parFetchSize) && dbAccessTestUnapplied
+                .setFetchSize(parFetchSize))) {
+            trialRunProtocol.createErrorProtocol("Problem with setFetchSize("
+                    + parFetchSize + ") / trial database applied & unapplied",
+                    false);
+            return false;
+        }
+
+        return runTrialActionsConnectToMetaDataCache();
+    }
+
+    private boolean runTrialActionsConnectToMetaDataCache() {
+
+        final String lvInstanceKey =
+                (String) columnsDatabaseInstance.get("JDBC_URL") + "/"
+                        + columnsDatabaseInstance
+                                .get(Global.COLUMN_NAME_USER_NAME);
+
+        if (metaDataCache == null
+                || !metaDataCache.getInstanceKey().equals(lvInstanceKey)) {
+            metaDataCache = new MetaDataCache(lvInstanceKey);
+        }
+
+        metaDataCache.validate(MetaDataCache.determineFingerprint(
+                dbAccessTest, sqlSyntaxCodeTarget));
+
+        if (metaDataCacheFile != null && metaDataCache.load(metaDataCacheFile)) {
+            return trialRunProtocol.createProtocol("Meta data cache loaded",
+                    metaDataCacheFile.getAbsolutePath());
+        }
+
         return true;
     }
 
     private boolean runTrialActionsDisconnectFromTestDatabase() {
 
+        // Fingerprint of the schema after the schema actions.
+        metaDataCache.setFingerprint(MetaDataCache.determineFingerprint(
+                dbAccessTest, sqlSyntaxCodeTarget));
+
+        if (metaDataCacheFile != null && !metaDataCache.save(metaDataCacheFile)) {
+            trialRunProtocol.createErrorProtocol(
+                    "Problem with saving the meta data cache", false);
+            return false;
+        }
+
         // Commit the transaction.
         if (!dbAccessTest.commit()) {
             dbAccessTest.closeConnection();
@@ -1029,6 +1640,232 @@ public class Trial {
         return true;
     }
 
+    private boolean runTrialActionsResume(
+            final List<HashMap<String, Object>> parColumnsTestSuiteActions) {
+
+        if (!trialRunProtocol.createProtocol("Run Trial - Resume cycle",
+                currCycle)) {
+            return false;
+        }
+
+        final Iterator<HashMap<String, Object>> lvIt =
+                parColumnsTestSuiteActions.iterator();
+
+        while (lvIt.hasNext()) {
+            final Map<String, Object> lvColumnsTestSuiteAction = lvIt.next();
+
+            // Queries are measured again ************************************
+            if (Global.OPERATION_TYPE_QUERY.equals(lvColumnsTestSuiteAction
+                    .get("OPERATION_TYPE"))) {
+                continue;
+            }
+
+            final long lvSequenceNumberAction =
+                    ((BigDecimal) lvColumnsTestSuiteAction
+                            .get("SEQUENCE_NUMBER")).longValue();
+
+            final Map<String, Object> lvColumnsCheckpoint =
+                    trialRunCheckpoint.getCheckpoint(lvSequenceNumberAction);
+
+            if (lvColumnsCheckpoint == null) {
+                continue;
+            }
+
+            if (Global.TRIAL_RUN_STATUS_END_ACTION.equals(lvColumnsCheckpoint
+                    .get("STATUS_CODE"))) {
+                if (!trialRunProtocol.createProtocol(
+                        "Action completed by the aborted trial run",
+                        lvSequenceNumberAction)) {
+                    return false;
+                }
+
+                lvIt.remove();
+            } else {
+                checkpoints.put(Long.valueOf(lvSequenceNumberAction),
+                        lvColumnsCheckpoint);
+            }
+        }
+
+        if (parColumnsTestSuiteActions.size() == 0) {
+            trialRunProtocol.createProtocol("Run Trial - Resume",
+                    "all actions completed by the aborted trial run");
+        }
+
+        return true;
+    }
+
+    private boolean runTrialActionsWave(
+            final List<HashMap<String, Object>> parColumnsTestSuiteActions,
+            final int[] parWave, final long parPrecision) {
+
+        if (parWave.length == 1) {
+            return runTrialAction(parColumnsTestSuiteActions.get(parWave[0]),
+                    parPrecision);
+        }
+
+        final DatabaseAccessor[] lvDBAccess =
+                getConnectionsPartition(trialRunProtocol, parWave.length);
+
+        if (lvDBAccess == null) {
+            return false;
+        }
+
+        boolean lvReturn =
+                runTrialActionsWaveGenerate(parColumnsTestSuiteActions,
+                        parWave, lvDBAccess);
+
+        if (!closeConnectionsPartition(trialRunProtocol, lvDBAccess)) {
+            lvReturn = false;
+        }
+
+        return lvReturn;
+    }
+
+    private boolean runTrialActionsWaveGenerate(
+            final List<HashMap<String, Object>> parColumnsTestSuiteActions,
+            final int[] parWave, final DatabaseAccessor[] parDBAccess) {
+
+        // Start of the actions, one connection and protocol per action ********
+        final List<WaveAction> lvTasks =
+                new ArrayList<WaveAction>(parWave.length);
+
+        for (int i = 0; i < parWave.length; i++) {
+            final Map<String, Object> lvColumnsTestSuiteAction =
+                    parColumnsTestSuiteActions.get(parWave[i]);
+
+            if (!(runTrialActionStart(lvColumnsTestSuiteAction)
+                    && processInstanceStart(lvColumnsTestSuiteAction))) {
+                return false;
+            }
+
+            final String lvTableName =
+                    (String) lvColumnsTestSuiteAction
+                            .get(Global.COLUMN_NAME_TABLE_NAME);
+
+            final TrialRunProtocolMapper lvProtocol =
+                    trialRunProtocol.getActionProtocol(currSequenceNumberAction);
+
+            final GenerationCheckpoint lvCheckpoint =
+                    createCheckpoint(lvProtocol, lvTableName,
+                            ((BigDecimal) lvColumnsTestSuiteAction
+                                    .get("EXECUTION_FREQUENCY")).longValue());
+
+            lvTasks.add(new WaveAction(lvProtocol, parDBAccess[i],
+                    lvTableName, lvCheckpoint, currSequenceNumberAction));
+        }
+
+        // Generation of the database tables ***********************************
+        final ExecutorService lvExecutor =
+                Executors.newFixedThreadPool(parWave.length);
+
+        boolean lvReturn = true;
+
+        try {
+            final List<Future<Boolean>> lvFutures =
+                    lvExecutor.invokeAll(lvTasks);
+
+            for (int i = 0; i < parWave.length; i++) {
+                if (!lvFutures.get(i).get().booleanValue()) {
+                    lvReturn = false;
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            LOGGER.log(Level.SEVERE, "Generation wave interrupted", e);
+            return false;
+        } catch (ExecutionException e) {
+            LOGGER.log(Level.SEVERE, "Generation wave failed", e.getCause());
+            return false;
+        } finally {
+            lvExecutor.shutdownNow();
+        }
+
+        return lvReturn;
+    }
+
+    private boolean runTrialActionsWaves(
+            final List<HashMap<String, Object>> parColumnsTestSuiteActions,
+            final long parPrecision) {
+
+        // Dependency graph of the database tables *****************************
+        final String lvSchemaPattern = getSchemaPattern();
+
+        final GenerationScheduler lvScheduler = new GenerationScheduler();
+
+        for (int i = 0; i < parColumnsTestSuiteActions.size(); i++) {
+            final String lvTableName =
+                    (String) parColumnsTestSuiteActions.get(i).get(
+                            Global.COLUMN_NAME_TABLE_NAME);
+
+            final TableMetaData lvTableMetaData =
+                    metaDataCache.getTableMetaData(dbAccessTest, "",
+                            lvSchemaPattern, lvTableName);
+
+            if (lvTableMetaData == null) {
+                trialRunProtocol.createErrorProtocol("Foreign keys of table="
+                        + lvTableName + " are not available", false);
+                return false;
+            }
+
+            lvScheduler.addAction(lvTableName, lvTableMetaData
+                    .getPkTableNames());
+        }
+
+        final List<int[]> lvWaves = lvScheduler.determineWaves();
+
+        // Cyclic foreign keys: actions in the order of the test suite *********
+        if (lvWaves == null) {
+            trialRunProtocol.createProtocol("Generation waves",
+                    "foreign keys form a cycle, actions in test suite order");
+
+            boolean lvReturn = true;
+
+            for (int i = 0; i < parColumnsTestSuiteActions.size(); i++) {
+                if (!runTrialAction(parColumnsTestSuiteActions.get(i),
+                        parPrecision)) {
+                    lvReturn = false;
+
+                    if (trialRunProtocol.isAborted()) {
+                        return false;
+                    }
+                }
+            }
+
+            return lvReturn;
+        }
+
+        // Waves of independent database tables ********************************
+        boolean lvReturn = true;
+
+        for (int i = 0; i < lvWaves.size(); i++) {
+            final int[] lvWave = lvWaves.get(i);
+
+            final StringBuffer lvTableNames = new StringBuffer();
+
+            for (int j = 0; j < lvWave.length; j++) {
+                if (j != 0) {
+                    lvTableNames.append(", ");
+                }
+
+                lvTableNames.append(lvScheduler.getTableName(lvWave[j]));
+            }
+
+            LOGGER.log(Level.FINER, "Generation wave " + (i + 1) + "/"
+                    + lvWaves.size() + ": " + lvTableNames.toString());
+
+            if (!runTrialActionsWave(parColumnsTestSuiteActions, lvWave,
+                    parPrecision)) {
+                lvReturn = false;
+
+                if (trialRunProtocol.isAborted()) {
+                    return false;
+                }
+            }
+        }
+
+        return lvReturn;
+    }
+
     private boolean runTrialFinalise() {
 
         trialRunProtocol.setSequenceNumberAction(0L);
@@ -1068,9 +1905,43 @@ public class Trial {
             return false;
         }
 
+        final DatabaseInstanceMapper lvDatabaseInstance =
+                new DatabaseInstanceMapper(sqlSyntaxCodeTarget);
+
         columnsDatabaseInstance =
-                new DatabaseInstanceMapper(sqlSyntaxCodeTarget)
-                        .getDatabaseInstance(parDatabaseInstanceId);
+                lvDatabaseInstance.getDatabaseInstance(parDatabaseInstanceId);
+
+        columnsTimer = null;
+
+        if (timerCompensation && columnsDatabaseInstance != null) {
+            columnsTimer =
+                    lvDatabaseInstance.getTimerCalibration(
+                            (String) columnsDatabaseInstance
+                                    .get(Global.COLUMN_NAME_JDBC_URL),
+                            (String) columnsDatabaseInstance
+                                    .get(Global.COLUMN_NAME_USER_NAME));
+        }
+
+        fetchSizeRecommendations = null;
+
+        if (fetchSizeAuto && columnsDatabaseInstance != null) {
+            fetchSizeRecommendations =
+                    lvDatabaseInstance.getFetchSizeRecommendations(
+                            (String) columnsDatabaseInstance
+                                    .get(Global.COLUMN_NAME_JDBC_URL),
+                            (String) columnsDatabaseInstance
+                                    .get(Global.COLUMN_NAME_USER_NAME));
+
+            if (fetchSizeRecommendations == null) {
+                LOGGER.log(Level.SEVERE,
+                        "Recommended fetch sizes are not available");
+                lvDatabaseInstance.closeConnection();
+                return false;
+            }
+        }
+
+        lvDatabaseInstance.closeConnection();
+
         if (columnsDatabaseInstance == null) {
             return false;
         }
@@ -1087,6 +1958,25 @@ public class Trial {
                 new TrialRunActionMapper(trialRunProtocol, sqlSyntaxCodeTarget,
                         parDatabaseInstanceId, parTestSuiteId, currStartTime);
 
+        trialRunCheckpoint =
+                new TrialRunCheckpointMapper(trialRunProtocol,
+                        sqlSyntaxCodeTarget, parDatabaseInstanceId,
+                        parTestSuiteId, currCycle, currStartTime);
+
+        // Keys sent by an earlier trial run are not known ********************
+        keyFilters.clear();
+
+        // Checkpoints of the aborted trial run *******************************
+        checkpoints.clear();
+
+        if (resume) {
+            if (!runTrialInitialiseResumeCycle()) {
+                return false;
+            }
+        } else if (currCycle == 1 && !trialRunCheckpoint.clear()) {
+            return false;
+        }
+
         // Determine the data related to the test suite ************************
         if (!getTestSuite()) {
             return false;
@@ -1101,6 +1991,10 @@ public class Trial {
             return false;
         }
 
+        if (seeded && !trialRun.setSeed(seed)) {
+            return false;
+        }
+
         // Trial Run TrialRunProtocolMapper
         // *********************************************************************
         if (!runTrialInitialiseProtocol()) {
@@ -1137,6 +2031,13 @@ public class Trial {
         currTestSuiteId = parTestSuiteId;
 
         isAborted = false;
+
+        if (seeded) {
+            parentKeySamples =
+                    new ParentKeySamples(foreignKeySampleSize, seed);
+        } else {
+            parentKeySamples = new ParentKeySamples(foreignKeySampleSize);
+        }
     }
 
     private boolean runTrialInitialiseProtocol() {
@@ -1177,6 +2078,23 @@ public class Trial {
             return false;
         }
 
+        if (fetchSizeRecommendations != null
+                && !trialRunProtocol.createProtocol(
+                        "Recommended fetch sizes of test query pairs",
+                        fetchSizeRecommendations.size())) {
+            return false;
+        }
+
+        if (columnsTimer != null
+                && !trialRunProtocol.createProtocol(
+                        "Timer overhead in nanoseconds", columnsTimer.get(
+                                Global.COLUMN_NAME_TIMER_OVERHEAD).toString()
+                                + ", resolution="
+                                + columnsTimer.get(
+                                        Global.COLUMN_NAME_TIMER_RESOLUTION))) {
+            return false;
+        }
+
         if (!trialRunProtocol
                 .createProtocol("Run Trial - Parameter Test Suite:        "
                         + (String) columnsTestSuite.get("TEST_SUITE_NAME")
@@ -1196,6 +2114,24 @@ public class Trial {
         return true;
     }
 
+    private boolean runTrialInitialiseResumeCycle() {
+
+        final long lvLastCycle = trialRunCheckpoint.getLastCycle();
+
+        if (lvLastCycle < 0L) {
+            LOGGER.log(Level.SEVERE, "Checkpoints could not be read");
+            return false;
+        }
+
+        // Cycles before the last checkpoint were completed *******************
+        if (lvLastCycle > currCycle) {
+            currCycle = lvLastCycle;
+            trialRunCheckpoint.setCycle(currCycle);
+        }
+
+        return true;
+    }
+
     private boolean runTrialSingle(final int parDatabaseInstanceId,
             final int parTestSuiteId, final String parDescription,
             final int parFetchSize, final long parPrecision) {
@@ -1253,6 +2189,10 @@ public class Trial {
             trialRunAction.closeConnection();
         }
 
+        if (trialRunCheckpoint != null) {
+            trialRunCheckpoint.closeConnection();
+        }
+
         if (trialRunProtocol != null) {
             trialRunProtocol.closeConnection();
         }
@@ -1269,6 +2209,242 @@ public class Trial {
         return lvIsOk;
     }
 
+    /**
+     * Sets the number of generated rows inserted with one batch of a
+     * prepared <code>INSERT</code> statement. Zero means that every row is
+     * inserted with its own literal <code>INSERT</code> statement.
+     * 
+     * @param parBatchSize The number of rows per batch, at most
+     *            <code>Global.MAX_TRANSACTION_SIZE</code>.
+     */
+    public final void setBatchSize(final int parBatchSize) {
+
+        if (parBatchSize < 0 || parBatchSize > Global.MAX_TRANSACTION_SIZE) {
+            throw new IllegalArgumentException("Batch size " + parBatchSize
+                    + " is invalid");
+        }
+
+        batchSize = parBatchSize;
+    }
+
+    /**
+     * Sets the directory of the bulk load mode. In the bulk load mode the rows
+     * of every action are written into the file
+     * <code>&lt;table name&gt;_&lt;cycle&gt;_&lt;action sequence number&gt;.csv</code>
+     * of this directory and then loaded with the bulk load command or
+     * statement. The files are kept as the dataset of the trial run, one per
+     * action and trial run cycle.
+     * 
+     * @param parBulkDirectory The directory of the files, or
+     *            <code>null</code> to insert the rows directly.
+     */
+    public final void setBulkDirectory(final String parBulkDirectory) {
+
+        if (parBulkDirectory == null) {
+            bulkDirectory = null;
+        } else {
+            bulkDirectory = new File(parBulkDirectory);
+        }
+    }
+
+    /**
+     * Sets the external command loading a file in the bulk load mode, e.g.
+     * <code>sqlldr userid=repsi/repsi control={table}.ctl data={file}</code>.
+     * The command is split into its arguments at white space.
+     * 
+     * @param parBulkLoaderCommand The command with the placeholders of
+     *            <code>BulkLoader</code>.
+     */
+    public final void setBulkLoaderCommand(final String parBulkLoaderCommand) {
+
+        bulkLoaderCommand = parBulkLoaderCommand;
+    }
+
+    /**
+     * Sets the SQL statement loading a file in the bulk load mode, e.g.
+     * <code>INSERT INTO {table} ({columns}) SELECT * FROM CSVREAD('{file}')</code>.
+     * The statement is used if no bulk load command is set.
+     * 
+     * @param parBulkLoaderStatement The statement with the placeholders of
+     *            <code>BulkLoader</code>.
+     */
+    public final void setBulkLoaderStatement(
+            final String parBulkLoaderStatement) {
+
+        bulkLoaderStatement = parBulkLoaderStatement;
+    }
+
+    private void setCheckpoint(final DataGenerator parDataGenerator,
+            final GenerationCheckpoint parCheckpoint) {
+
+        parDataGenerator.setCheckpoint(parCheckpoint, false);
+        parDataGenerator.setFirstRowNumber(parCheckpoint.getNumberRows());
+
+        if (parCheckpoint.getSeed() != null) {
+            parDataGenerator.setSeed(parCheckpoint.getSeed().longValue());
+        }
+    }
+
+    /**
+     * Sets how the rows of the queries of the test suite actions are consumed.
+     * 
+     * @param parConsumption One of <code>Global.CONSUMPTION_NEXT_ONLY</code>,
+     *            <code>Global.CONSUMPTION_TYPED</code> or
+     *            <code>Global.CONSUMPTION_OBJECTS</code>.
+     */
+    public final void setConsumption(final String parConsumption) {
+
+        if (!(Global.CONSUMPTION_NEXT_ONLY.equals(parConsumption)
+                || Global.CONSUMPTION_OBJECTS.equals(parConsumption) || Global.CONSUMPTION_TYPED
+                .equals(parConsumption))) {
+            throw new IllegalArgumentException("Consumption mode "
+                    + parConsumption + " is invalid");
+        }
+
+        consumption = parConsumption;
+    }
+
+    /**
+     * Sets whether the queries of a test query pair are executed with the
+     * fetch size recommended by the latest fetch size calibration of the test
+     * query pair against the database instance. Test query pairs without a
+     * recommendation are executed with the fetch size of the trial run.
+     * 
+     * @param parFetchSizeAuto Whether the recommended fetch sizes are applied.
+     */
+    public final void setFetchSizeAuto(final boolean parFetchSizeAuto) {
+
+        fetchSizeAuto = parFetchSizeAuto;
+    }
+
+    /**
+     * Sets the maximum number of parent key values sampled per parent table.
+     * The foreign key values of the generated rows are drawn uniformly from
+     * this sample, which is shared by all tables referencing the same parent
+     * table.
+     * 
+     * @param parForeignKeySampleSize The sample size.
+     */
+    public final void setForeignKeySampleSize(final int parForeignKeySampleSize) {
+
+        if (parForeignKeySampleSize < 1) {
+            throw new IllegalArgumentException("Foreign key sample size "
+                    + parForeignKeySampleSize + " is invalid");
+        }
+
+        foreignKeySampleSize = parForeignKeySampleSize;
+    }
+
+    /**
+     * Sets whether consecutive <code>INSERT_ROW</code> actions of the test
+     * suite are generated in waves: the actions are ordered by the foreign
+     * keys of their database tables, so that parent tables are generated
+     * before their child tables, and the database tables of a wave are
+     * generated at the same time, every one on its own connection to the
+     * trial database. With more than one partition every database table of a
+     * wave is in addition generated in partitions, each on a further
+     * connection.
+     * 
+     * @param parGenerationWaves Whether the actions are generated in waves.
+     */
+    public final void setGenerationWaves(final boolean parGenerationWaves) {
+
+        generationWaves = parGenerationWaves;
+    }
+
+    /**
+     * Sets the local file persisting the data dictionary entries of the
+     * database tables of the test database instance. The file is reloaded
+     * at the start of a trial run if neither the database instance nor the
+     * schema version has changed, and it is rewritten at the end of the trial
+     * run.
+     * 
+     * @param parMetaDataCacheFile The name of the file, or <code>null</code>
+     *            to keep the entries in memory only.
+     */
+    public final void setMetaDataCacheFile(final String parMetaDataCacheFile) {
+
+        if (parMetaDataCacheFile == null) {
+            metaDataCacheFile = null;
+        } else {
+            metaDataCacheFile = new File(parMetaDataCacheFile);
+        }
+    }
+
+    /**
+     * Sets the number of partitions of the data generation. With more than
+     * one partition the rows of a table are generated in parallel, every
+     * partition by its own worker on its own connection to the trial
+     * database.
+     * 
+     * @param parPartitions The number of partitions.
+     */
+    public final void setPartitions(final int parPartitions) {
+
+        if (parPartitions < 1) {
+            throw new IllegalArgumentException("Number of partitions "
+                    + parPartitions + " is invalid");
+        }
+
+        partitions = parPartitions;
+    }
+
+    /**
+     * Sets whether the queries of the test suite actions are executed as
+     * prepared statements.
+     * 
+     * @param parPrepared Whether the queries are executed as prepared
+     *            statements.
+     */
+    public final void setPrepared(final boolean parPrepared) {
+
+        prepared = parPrepared;
+    }
+
+    /**
+     * Sets whether the first trial run cycle resumes the aborted trial run of
+     * the same database instance and test suite: the trial run continues in
+     * the cycle it stopped in, completed schema and instance actions of that
+     * cycle are skipped, and the data generation of a partly completed action
+     * continues after its last committed row.
+     * 
+     * @param parResume Whether the aborted trial run is resumed.
+     */
+    public final void setResume(final boolean parResume) {
+
+        resume = parResume;
+    }
+
+    /**
+     * Sets the seed of the data generation. The random values of every
+     * database table are derived from the seed, the trial run cycle, the
+     * sequence number of the action and the name of the table, so that the
+     * same seed yields the same test database instance whether the rows are
+     * generated serially or in partitions, while two actions on the same
+     * table generate different values. The seed is recorded with the trial
+     * run.
+     * 
+     * @param parSeed The seed.
+     */
+    public final void setSeed(final long parSeed) {
+
+        seed = parSeed;
+        seeded = true;
+    }
+
+    /**
+     * Sets whether the timer overhead measured by the latest calibration of
+     * <code>System.nanoTime</code> against the database instance is
+     * subtracted from the response times of the queries. Response times below
+     * the timer resolution are reported in the protocol.
+     * 
+     * @param parTimerCompensation Whether the timer overhead is subtracted.
+     */
+    public final void setTimerCompensation(final boolean parTimerCompensation) {
+
+        timerCompensation = parTimerCompensation;
+    }
+
     /**
      * Exports all the data of a trial run from the master database into an
      * Excel file.
@@ -1504,4 +2680,44 @@ public class Trial {
 
         return true;
     }
+
+    /**
+     * Runs one action of a generation wave on its own connection. The protocol
+     * entries of the action are written with its own sequence number.
+     */
+    private final class WaveAction implements Callable<Boolean> {
+
+        private final GenerationCheckpoint checkpoint;
+
+        private final DatabaseAccessor dbAccess;
+
+        private final TrialRunProtocolMapper protocol;
+
+        private final long sequenceNumberAction;
+
+        private final String tableName;
+
+        WaveAction(final TrialRunProtocolMapper parProtocol,
+                final DatabaseAccessor parDBAccess,
+                final String parTableName,
+                final GenerationCheckpoint parCheckpoint,
+                final long parSequenceNumberAction) {
+
+            super();
+
+            checkpoint = parCheckpoint;
+            dbAccess = parDBAccess;
+            protocol = parProtocol;
+            sequenceNumberAction = parSequenceNumberAction;
+            tableName = parTableName;
+        }
+
+        public Boolean call() {
+
+            return Boolean.valueOf(processInstanceCreateRow(protocol,
+                    dbAccess, tableName, checkpoint)
+                    && protocol.createProtocol("Run Trial - End   Action "
+                            + sequenceNumberAction));
+        }
+    }
 }
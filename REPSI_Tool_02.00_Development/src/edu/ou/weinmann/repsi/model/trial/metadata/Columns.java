@@ -7,13 +7,7 @@ import edu.ou.weinmann.repsi.model.trial.util.DataGenerator;
 import edu.ou.weinmann.repsi.model.util.DatabaseAccessor;
 import edu.ou.weinmann.repsi.model.util.Global;
 
-import java.sql.Connection;
-import java.sql.ResultSet;
-import java.sql.ResultSetMetaData;
-import java.sql.SQLException;
-
 import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.Iterator;
 import java.util.Map;
 import java.util.Random;
@@ -65,22 +59,119 @@ public final class Columns {
             final DatabaseAccessor parDBAccess, final String parCatalog,
             final String parSchema, final String parTableName) {
 
+        this(parTrialRunProtocol, parDBAccess, parCatalog, parSchema,
+                parTableName, new ParentKeySamples(
+                        Global.FOREIGN_KEY_SAMPLE_SIZE));
+    }
+
+    /**
+     * Constructs a <code>Columns</code> object whose foreign keys draw their
+     * parent key values from shared samples.
+     * 
+     * @param parTrialRunProtocol The <code>TrialRunProtocolMapper</code>
+     *            object.
+     * @param parDBAccess The <code>DatabaseAccessor</code> object.
+     * @param parCatalog The database catlogue name.
+     * @param parSchema The database schema name.
+     * @param parTableName The name of an existing database table in the given
+     *            database.
+     * @param parParentKeySamples The <code>ParentKeySamples</code> object.
+     */
+    public Columns(final TrialRunProtocolMapper parTrialRunProtocol,
+            final DatabaseAccessor parDBAccess, final String parCatalog,
+            final String parSchema, final String parTableName,
+            final ParentKeySamples parParentKeySamples) {
+
+        this(parTrialRunProtocol, parDBAccess, parCatalog, parSchema,
+                parTableName, parParentKeySamples, null);
+    }
+
+    /**
+     * Constructs a <code>Columns</code> object whose foreign keys draw their
+     * parent key values from shared samples and whose data dictionary entries
+     * are taken from a cache.
+     * 
+     * @param parTrialRunProtocol The <code>TrialRunProtocolMapper</code>
+     *            object.
+     * @param parDBAccess The <code>DatabaseAccessor</code> object.
+     * @param parCatalog The database catlogue name.
+     * @param parSchema The database schema name.
+     * @param parTableName The name of an existing database table in the given
+     *            database.
+     * @param parParentKeySamples The <code>ParentKeySamples</code> object.
+     * @param parMetaDataCache The <code>MetaDataCache</code> object, or
+     *            <code>null</code> to read the data dictionary directly.
+     */
+    public Columns(final TrialRunProtocolMapper parTrialRunProtocol,
+            final DatabaseAccessor parDBAccess, final String parCatalog,
+            final String parSchema, final String parTableName,
+            final ParentKeySamples parParentKeySamples,
+            final MetaDataCache parMetaDataCache) {
+
+        this(parTrialRunProtocol, parDBAccess, parCatalog, parSchema,
+                parTableName, parParentKeySamples, parMetaDataCache, null);
+    }
+
+    /**
+     * Constructs a <code>Columns</code> object whose primary key continues
+     * from known highest values instead of reading them from the database
+     * table.
+     * 
+     * @param parTrialRunProtocol The <code>TrialRunProtocolMapper</code>
+     *            object.
+     * @param parDBAccess The <code>DatabaseAccessor</code> object.
+     * @param parCatalog The database catlogue name.
+     * @param parSchema The database schema name.
+     * @param parTableName The name of an existing database table in the given
+     *            database.
+     * @param parParentKeySamples The <code>ParentKeySamples</code> object.
+     * @param parMetaDataCache The <code>MetaDataCache</code> object, or
+     *            <code>null</code> to read the data dictionary directly.
+     * @param parHighestValues The highest values of the primary key columns,
+     *            e.g. from a checkpoint, or <code>null</code> to read them
+     *            from the database table.
+     */
+    public Columns(final TrialRunProtocolMapper parTrialRunProtocol,
+            final DatabaseAccessor parDBAccess, final String parCatalog,
+            final String parSchema, final String parTableName,
+            final ParentKeySamples parParentKeySamples,
+            final MetaDataCache parMetaDataCache,
+            final Object[] parHighestValues) {
+
         super();
 
+        if (parParentKeySamples == null) {
+            throw new IllegalArgumentException(
+                    "ParentKeySamples is missing (null)");
+        }
+
         assert parDBAccess != null : "Precondition: DatabaseAccessor is missing (null)";
         assert parTableName != null : "Precondition: String table name is missing (null)";
 
         tableName = parTableName;
         random = new Random();
 
-        // Determine the database table columns ********************************
-        columns =
-                determineColumns(parDBAccess, parCatalog, parSchema, tableName);
+        // Determine the data dictionary entries ******************************
+        TableMetaData lvTableMetaData;
+
+        if (parMetaDataCache == null) {
+            lvTableMetaData =
+                    TableMetaData.read(parDBAccess, parCatalog, parSchema,
+                            tableName);
+        } else {
+            lvTableMetaData =
+                    parMetaDataCache.getTableMetaData(parDBAccess, parCatalog,
+                            parSchema, tableName);
+        }
 
-        if (columns == null) {
+        if (lvTableMetaData == null) {
+            columns = null;
             return;
         }
 
+        // Determine the database table columns ********************************
+        columns = lvTableMetaData.createColumns();
+
         if (columns.size() == 0) {
             LOGGER.log(Level.SEVERE, "Database column meta data: table="
                     + tableName + " - columns missing");
@@ -89,12 +180,12 @@ public final class Columns {
         // Determine the primary key *******************************************
         primaryKey =
                 determinePrimaryKey(parTrialRunProtocol, parDBAccess,
-                        parCatalog, parSchema);
+                        lvTableMetaData, parHighestValues);
 
         // Determine the foreign keys ******************************************
         foreignKeys =
-                new ForeignKeys(parDBAccess, parCatalog, parSchema, tableName,
-                        columns);
+                new ForeignKeys(parDBAccess, lvTableMetaData, columns,
+                        parParentKeySamples);
 
         // Protocol the database table columns *********************************
         columnNames = new String[columns.size()];
@@ -110,90 +201,15 @@ public final class Columns {
         }
     }
 
-    private Map<String, Column> determineColumns(
-            final DatabaseAccessor parDBAccess, final String parCatalog,
-            final String parSchemaPattern, final String parTableNamePattern) {
-
-        // Database connection *************************************************
-        final Connection lvConnection = parDBAccess.getConnectionObject();
-
-        assert lvConnection != null : "Invariant: Connection is null";
-
-        // ResultSet with the column descriptions ******************************
-        ResultSet lvResultSet;
-
-        try {
-            lvResultSet =
-                    lvConnection.getMetaData().getColumns(parCatalog,
-                            parSchemaPattern, parTableNamePattern, "%");
-        } catch (SQLException e) {
-            LOGGER.log(Level.SEVERE,
-                    "connection.getMetaData().getExportedKeys(" + parCatalog
-                            + "," + parSchemaPattern + ","
-                            + parTableNamePattern + ")", e);
-            return null;
-        }
-
-        assert lvResultSet != null : "Invariant: ResultSet (connection.getMetaData().xxx) is null";
-
-        // ResultSet with database meta data ***********************************
-        ResultSetMetaData lvMetaResultSet;
-
-        try {
-            lvMetaResultSet = lvResultSet.getMetaData();
-        } catch (SQLException e) {
-            LOGGER.log(Level.SEVERE, "resultSetObject.getMetaData()", e);
-            return null;
-        }
-
-        assert lvMetaResultSet != null : "Invariant: ResultSet (ResultSetMetaData) is null";
-
-        // Process the columns *************************************************
-        final Map<String, Column> lvColumns = new HashMap<String, Column>();
-
-        try {
-            while (lvResultSet.next()) {
-                final String lvColumnName =
-                        lvResultSet.getString(Global.META_DATA_COLUMN_NAME);
-
-                final Column lvColumn =
-                        new Column(
-                                lvColumnName,
-                                lvResultSet
-                                        .getInt(Global.META_DATA_ORDINAL_POSITION),
-                                lvResultSet.getInt(Global.META_DATA_DATA_TYPE),
-                                lvResultSet
-                                        .getInt(Global.META_DATA_COLUMN_SIZE),
-                                lvResultSet
-                                        .getInt(Global.META_DATA_DECIMAL_DIGITS),
-                                lvResultSet
-                                        .getString(Global.META_DATA_IS_NULLABLE));
-                lvColumns.put(lvColumnName, lvColumn);
-            }
-        } catch (SQLException e) {
-            LOGGER.log(Level.SEVERE,
-                    "resultSetObject.next() / determineColumns()", e);
-
-            parDBAccess.closeResultSet(lvResultSet);
-
-            return null;
-        }
-
-        if (!parDBAccess.closeResultSet(lvResultSet)) {
-            return null;
-        }
-
-        return lvColumns;
-    }
-
     private PrimaryKey determinePrimaryKey(
             final TrialRunProtocolMapper parTrialRunProtocol,
-            final DatabaseAccessor parDBAccess, final String parCatalog,
-            final String parSchema) {
+            final DatabaseAccessor parDBAccess,
+            final TableMetaData parTableMetaData,
+            final Object[] parHighestValues) {
 
         final PrimaryKey lvPrimaryKey =
-                new PrimaryKey(parTrialRunProtocol, parDBAccess, parCatalog,
-                        parSchema, tableName, columns);
+                new PrimaryKey(parTrialRunProtocol, parDBAccess, tableName,
+                        parTableMetaData, columns, parHighestValues);
 
         final String[] lvPkColumnNames = lvPrimaryKey.getColumnNames();
 
@@ -427,6 +443,16 @@ public final class Columns {
         }
     }
 
+    /**
+     * Seeds the random choice of the foreign key values.
+     * 
+     * @param parSeed The seed.
+     */
+    public void setSeed(final long parSeed) {
+
+        random.setSeed(parSeed);
+    }
+
     /**
      * Returns the number of columns in this database table.
      * 
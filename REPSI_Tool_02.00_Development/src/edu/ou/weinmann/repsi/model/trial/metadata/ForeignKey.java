@@ -14,10 +14,6 @@ import java.util.Map;
  */
 public final class ForeignKey {
 
-    private static final int FOREIGN_KEY_VALUES_INITIAL_SIZE_100 = 100;
-
-    private static final int FOREIGN_KEY_VALUES_MAX_SIZE_1000 = 1000;
-
     private final ArrayList<String> fkColumnNames;
 
     private final String fkName;
@@ -28,7 +24,7 @@ public final class ForeignKey {
 
     private final ArrayList<String> pkColumnNames;
 
-    private ArrayList<ArrayList<Object>> pkColumnValues;
+    private ParentKeySample pkColumnValues;
 
     private final String pkTableName;
 
@@ -71,59 +67,15 @@ public final class ForeignKey {
         }
     }
 
-    protected boolean determinePkColumnValues(final DatabaseAccessor parDBAccess) {
+    protected boolean determinePkColumnValues(
+            final DatabaseAccessor parDBAccess,
+            final ParentKeySamples parParentKeySamples) {
 
         pkColumnValues =
-                new ArrayList<ArrayList<Object>>(
-                        FOREIGN_KEY_VALUES_INITIAL_SIZE_100);
-
-        final StringBuffer lvSelect = new StringBuffer();
-        final StringBuffer lvOrderBy = new StringBuffer();
-
-        for (int i = 0; i < pkColumnNames.size(); i++) {
-            final String lvColumnName = pkColumnNames.get(i);
-
-            if (i != 0) {
-                lvSelect.append(", ");
-                lvOrderBy.append(", ");
-            }
-
-            lvSelect.append(lvColumnName);
-            lvOrderBy.append(lvColumnName);
-        }
-
-        // No primary key defined **********************************************
-        if (lvSelect.length() == 0) {
-            pkColumnValues.trimToSize();
-            return true;
-        }
-
-        if (!parDBAccess.executeQuery("SELECT " + lvSelect.toString()
-                + " FROM " + pkTableName + " ORDER BY " + lvOrderBy.toString()
-                + ";")) {
-            return false;
-        }
-
-        int lvColumnCount = 0;
-
-        while (parDBAccess.next()
-                && lvColumnCount < FOREIGN_KEY_VALUES_MAX_SIZE_1000) {
+                parParentKeySamples.getSample(parDBAccess, pkTableName,
+                        getPkColumnNames());
 
-            final ArrayList<Object> lvColumnValue =
-                    new ArrayList<Object>(Global.INITIAL_CAPACITY_FOREIGN_KEYS);
-
-            for (int i = 0; i < pkColumnNames.size(); i++) {
-                lvColumnValue.add(parDBAccess.getColumn(i + 1));
-            }
-
-            pkColumnValues.add(lvColumnValue);
-
-            lvColumnCount++;
-        }
-
-        pkColumnValues.trimToSize();
-
-        return true;
+        return pkColumnValues != null;
     }
 
     protected String[] getFkColumnNames() {
@@ -141,17 +93,6 @@ public final class ForeignKey {
         return fkTableName;
     }
 
-    protected Object getHighestValue(final int parOrdPosition) {
-
-        for (int i = 0; i < pkColumnValues.size(); i++) {
-            if (ordPositions[i] == parOrdPosition) {
-                return pkColumnValues.get(i);
-            }
-        }
-
-        return null;
-    }
-
     protected int[] getOrdPositions() {
 
         return ordPositions;
@@ -164,8 +105,7 @@ public final class ForeignKey {
 
     protected Object[] getPkColumnValues(final int parIndex) {
 
-        return pkColumnValues.get(parIndex).toArray(
-                new Object[pkColumnValues.get(parIndex).size()]);
+        return pkColumnValues.getRow(parIndex);
     }
 
     protected String getPkTableName() {
@@ -182,6 +122,10 @@ public final class ForeignKey {
 
     protected int sizePkColumnValues() {
 
+        if (pkColumnValues == null) {
+            return 0;
+        }
+
         return pkColumnValues.size();
     }
 }
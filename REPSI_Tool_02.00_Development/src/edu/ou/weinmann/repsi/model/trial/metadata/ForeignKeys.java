@@ -3,21 +3,11 @@ package edu.ou.weinmann.repsi.model.trial.metadata;
 import edu.ou.weinmann.repsi.model.mapper.TrialRunProtocolMapper;
 
 import edu.ou.weinmann.repsi.model.util.DatabaseAccessor;
-import edu.ou.weinmann.repsi.model.util.Global;
 
-import java.sql.Connection;
-import java.sql.ResultSet;
-import java.sql.ResultSetMetaData;
-import java.sql.SQLException;
-
-import java.util.HashMap;
 import java.util.Iterator;
 import java.util.Map;
 import java.util.Set;
 
-import java.util.logging.Level;
-import java.util.logging.Logger;
-
 /**
  * Manages the foreign keys of a database table.
  * 
@@ -26,23 +16,19 @@ import java.util.logging.Logger;
  */
 public final class ForeignKeys {
 
-    private static final Logger LOGGER =
-            Logger.getLogger(ForeignKeys.class.getPackage().getName());
-
     private final Map<String, ForeignKey> foreignKeys;
 
     protected ForeignKeys(final DatabaseAccessor parDBAccess,
-            final String parCatalog, final String parSchema,
-            final String parTableName, final Map<String, Column> parColumns) {
+            final TableMetaData parTableMetaData,
+            final Map<String, Column> parColumns,
+            final ParentKeySamples parParentKeySamples) {
 
         super();
 
         assert parDBAccess != null : "Precondition: DatabaseAccessor is missing (null)";
-        assert parTableName != null : "Precondition: String table name is missing (null)";
+        assert parTableMetaData != null : "Precondition: TableMetaData is missing (null)";
 
-        foreignKeys =
-                determineForeignKeys(parDBAccess, parCatalog, parSchema,
-                        parTableName);
+        foreignKeys = parTableMetaData.createForeignKeys();
 
         final Set<String> lvSet = foreignKeys.keySet();
         final Iterator<String> lvIt1 = lvSet.iterator();
@@ -52,102 +38,9 @@ public final class ForeignKeys {
 
             foreignKeys.get(lvFkName).determineOrdPositions(parColumns);
 
-            foreignKeys.get(lvFkName).determinePkColumnValues(parDBAccess);
-        }
-    }
-
-    private Map<String, ForeignKey> determineForeignKeys(
-            final DatabaseAccessor parDBAccess, final String parCatalog,
-            final String parSchema, final String parTableName) {
-
-        // Database connection *************************************************
-        final Connection lvConnection = parDBAccess.getConnectionObject();
-
-        assert lvConnection != null : "Invariant: Connection is null";
-
-        // ResultSet with the foreign key column descriptions ******************
-        ResultSet lvResultSet;
-
-        try {
-            lvResultSet =
-                    lvConnection.getMetaData().getImportedKeys(parCatalog,
-                            parSchema, parTableName);
-        } catch (SQLException e) {
-            LOGGER.log(Level.SEVERE,
-                    "connection.getMetaData().getImportedKeys(" + parCatalog
-                            + "," + parSchema + "," + parTableName + ")", e);
-            return null;
+            foreignKeys.get(lvFkName).determinePkColumnValues(parDBAccess,
+                    parParentKeySamples);
         }
-
-        assert lvResultSet != null : "Invariant: ResultSet (connection.getMetaData().xxx) is null";
-
-        // ResultSet with database meta data ***********************************
-        ResultSetMetaData lvMetaResultSet;
-
-        try {
-            lvMetaResultSet = lvResultSet.getMetaData();
-        } catch (SQLException e) {
-            LOGGER.log(Level.SEVERE, "resultSetObject.getMetaData()", e);
-            return null;
-        }
-
-        assert lvMetaResultSet != null : "Invariant: ResultSet (ResultSetMetaData) is null";
-
-        // Process the foreign key columns *************************************
-        final Map<String, ForeignKey> lvForeignKeys =
-                new HashMap<String, ForeignKey>(
-                        Global.INITIAL_CAPACITY_FOREIGN_KEYS);
-
-        try {
-            while (lvResultSet.next()) {
-                final String lvFkName =
-                        lvResultSet
-                                .getString(Global.META_DATA_FOREIGN_KEY_NAME);
-
-                if (lvForeignKeys.containsKey(lvFkName)) {
-                    final ForeignKey lvForeignKey = lvForeignKeys.get(lvFkName);
-                    lvForeignKey
-                            .setColumnName(
-                                    lvResultSet
-                                            .getShort(Global.META_DATA_KEY_SEQUENCE) - 1,
-                                    lvResultSet
-                                            .getString(Global.META_DATA_FOREIGN_KEY_COLUMN_NAME),
-                                    lvResultSet
-                                            .getString(Global.META_DATA_PRIMARY_KEY_COLUMN_NAME));
-                    lvForeignKeys.put(lvFkName, lvForeignKey);
-                } else {
-                    final ForeignKey lvForeignKey =
-                            new ForeignKey(
-                                    lvFkName,
-                                    lvResultSet
-                                            .getShort(Global.META_DATA_KEY_SEQUENCE),
-                                    lvResultSet
-                                            .getString(Global.META_DATA_FOREIGN_KEY_TABLE_NAME),
-                                    lvResultSet
-                                            .getString(Global.META_DATA_FOREIGN_KEY_COLUMN_NAME),
-                                    lvResultSet
-                                            .getString(Global.META_DATA_PRIMARY_KEY_TABLE_NAME),
-                                    lvResultSet
-                                            .getString(Global.META_DATA_PRIMARY_KEY_COLUMN_NAME));
-                    lvForeignKeys.put(lvFkName, lvForeignKey);
-                }
-            }
-        } catch (SQLException e) {
-            LOGGER.log(Level.SEVERE,
-                    "resultSetObject.next() / determineForeignKeys()", e);
-
-            parDBAccess.closeResultSet(lvResultSet);
-
-            return null;
-        }
-
-        if (!parDBAccess.closeResultSet(lvResultSet)) {
-            return null;
-        }
-
-        // Loading ordinal positions and primary key values ********************
-
-        return lvForeignKeys;
     }
 
     protected Map<String, ForeignKey> getForeignKeys() {
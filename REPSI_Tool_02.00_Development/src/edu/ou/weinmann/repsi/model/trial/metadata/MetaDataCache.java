@@ -0,0 +1,300 @@
+package edu.ou.weinmann.repsi.model.trial.metadata;
+
+import edu.ou.weinmann.repsi.model.util.DatabaseAccessor;
+import edu.ou.weinmann.repsi.model.util.Global;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Caches the <code>TableMetaData</code> snapshots of the database tables of
+ * one test database instance, so that the data dictionary is read only once
+ * per table instead of once per test suite action and trial cycle. The cache
+ * is validated by a fingerprint of the schema version, and a database table
+ * is invalidated together with all tables referencing it whenever the trial
+ * run changes its definition. The cache can be persisted to a local file and
+ * is reloaded from it only if both the database instance and the fingerprint
+ * are unchanged. Without a fingerprint the cache is kept in memory only.
+ * 
+ * @author Walter Weinmann
+ * 
+ */
+public final class MetaDataCache {
+
+    private static final Logger LOGGER =
+            Logger.getLogger(MetaDataCache.class.getPackage().getName());
+
+    private String fingerprint;
+
+    private final String instanceKey;
+
+    private final Map<String, TableMetaData> tables =
+            new HashMap<String, TableMetaData>();
+
+    /**
+     * Constructs a <code>MetaDataCache</code> object.
+     * 
+     * @param parInstanceKey The key of the test database instance, e.g. its
+     *            JDBC URL and user name.
+     */
+    public MetaDataCache(final String parInstanceKey) {
+
+        super();
+
+        if (parInstanceKey == null || "".equals(parInstanceKey)) {
+            throw new IllegalArgumentException(
+                    "Instance key is missing (null)");
+        }
+
+        instanceKey = parInstanceKey;
+    }
+
+    /**
+     * Determines the fingerprint of the schema version of a test database,
+     * i.e. the number of schema objects and the time of the latest DDL
+     * statement.
+     * 
+     * @param parDBAccess The <code>DatabaseAccessor</code> object of the test
+     *            database.
+     * @param parSqlSyntaxCode The SQL syntax code of the test database.
+     * 
+     * @return the fingerprint, or <code>null</code> if the database system
+     *         offers no schema version.
+     */
+    public static String determineFingerprint(
+            final DatabaseAccessor parDBAccess, final String parSqlSyntaxCode) {
+
+        if (parDBAccess == null) {
+            throw new IllegalArgumentException(
+                    "DatabaseAccessor is missing (null)");
+        }
+
+        if (!Global.SQL_SYNTAX_CODE_ORACLE_10G.equals(parSqlSyntaxCode)) {
+            return null;
+        }
+
+        if (!parDBAccess.executeQuery("SELECT TO_CHAR(COUNT(*)) || '/' || "
+                + "TO_CHAR(MAX(LAST_DDL_TIME), 'YYYYMMDDHH24MISS') "
+                + "FROM USER_OBJECTS;")) {
+            return null;
+        }
+
+        if (!parDBAccess.next()) {
+            return null;
+        }
+
+        final Object lvFingerprint = parDBAccess.getColumn(1);
+
+        if (lvFingerprint == null) {
+            return null;
+        }
+
+        return lvFingerprint.toString();
+    }
+
+    /**
+     * Returns the key of the test database instance.
+     * 
+     * @return the key of the test database instance.
+     */
+    public String getInstanceKey() {
+
+        return instanceKey;
+    }
+
+    /**
+     * Returns the snapshot of a database table, reading it from the data
+     * dictionary if it is not cached.
+     * 
+     * @param parDBAccess The <code>DatabaseAccessor</code> object.
+     * @param parCatalog The database catalogue name.
+     * @param parSchema The database schema name.
+     * @param parTableName The name of the database table.
+     * 
+     * @return the <code>TableMetaData</code> object, or <code>null</code>
+     *         if the data dictionary could not be read.
+     */
+    public synchronized TableMetaData getTableMetaData(
+            final DatabaseAccessor parDBAccess, final String parCatalog,
+            final String parSchema, final String parTableName) {
+
+        if (parTableName == null) {
+            throw new IllegalArgumentException("Table name is missing (null)");
+        }
+
+        final String lvKey = parTableName.toUpperCase();
+
+        TableMetaData lvTableMetaData = tables.get(lvKey);
+
+        if (lvTableMetaData == null) {
+            lvTableMetaData =
+                    TableMetaData.read(parDBAccess, parCatalog, parSchema,
+                            parTableName);
+
+            if (lvTableMetaData != null) {
+                tables.put(lvKey, lvTableMetaData);
+            }
+        }
+
+        return lvTableMetaData;
+    }
+
+    /**
+     * Removes a database table and all tables referencing it from the cache.
+     * 
+     * @param parTableName The name of the changed database table.
+     */
+    public synchronized void invalidate(final String parTableName) {
+
+        if (parTableName == null) {
+            throw new IllegalArgumentException("Table name is missing (null)");
+        }
+
+        final String lvKey = parTableName.toUpperCase();
+
+        tables.remove(lvKey);
+
+        final Iterator<TableMetaData> lvIt = tables.values().iterator();
+
+        while (lvIt.hasNext()) {
+            if (lvIt.next().getPkTableNames().contains(lvKey)) {
+                lvIt.remove();
+            }
+        }
+    }
+
+    /**
+     * Loads the snapshots persisted in a file, provided the file belongs to
+     * the same database instance and fingerprint as the cache.
+     * 
+     * @param parFile The cache file.
+     * 
+     * @return <code>true</code> if the snapshots were loaded and
+     *         <code>false</code> otherwise.
+     */
+    @SuppressWarnings("unchecked")
+    public synchronized boolean load(final File parFile) {
+
+        if (parFile == null) {
+            throw new IllegalArgumentException("File is missing (null)");
+        }
+
+        if (fingerprint == null || !parFile.isFile()) {
+            return false;
+        }
+
+        try {
+            final ObjectInputStream lvStream =
+                    new ObjectInputStream(new BufferedInputStream(
+                            new FileInputStream(parFile)));
+
+            try {
+                if (!(instanceKey.equals(lvStream.readObject()) && fingerprint
+                        .equals(lvStream.readObject()))) {
+                    LOGGER.log(Level.FINE, "Meta data cache file=" + parFile
+                            + " is out of date");
+                    return false;
+                }
+
+                tables.putAll((Map<String, TableMetaData>) lvStream
+                        .readObject());
+            } finally {
+                lvStream.close();
+            }
+        } catch (IOException e) {
+            LOGGER.log(Level.WARNING, "Meta data cache file=" + parFile
+                    + " is not readable", e);
+            return false;
+        } catch (ClassNotFoundException e) {
+            LOGGER.log(Level.WARNING, "Meta data cache file=" + parFile
+                    + " is not readable", e);
+            return false;
+        }
+
+        return true;
+    }
+
+    /**
+     * Persists the snapshots to a file. Nothing is written without a
+     * fingerprint.
+     * 
+     * @param parFile The cache file, an existing file is replaced.
+     * 
+     * @return <code>true</code> if the operation succeeeded and
+     *         <code>false</code> otherwise.
+     */
+    public synchronized boolean save(final File parFile) {
+
+        if (parFile == null) {
+            throw new IllegalArgumentException("File is missing (null)");
+        }
+
+        if (fingerprint == null) {
+            return true;
+        }
+
+        try {
+            final ObjectOutputStream lvStream =
+                    new ObjectOutputStream(new BufferedOutputStream(
+                            new FileOutputStream(parFile)));
+
+            try {
+                lvStream.writeObject(instanceKey);
+                lvStream.writeObject(fingerprint);
+                lvStream.writeObject(new HashMap<String, TableMetaData>(
+                        tables));
+            } finally {
+                lvStream.close();
+            }
+        } catch (IOException e) {
+            LOGGER.log(Level.SEVERE, "Meta data cache file=" + parFile
+                    + " is not writable", e);
+            return false;
+        }
+
+        return true;
+    }
+
+    /**
+     * Records the fingerprint of the schema after the changes of the trial
+     * run. The cached snapshots remain valid, because every changed database
+     * table has been invalidated.
+     * 
+     * @param parFingerprint The fingerprint, or <code>null</code> if the
+     *            database system offers no schema version.
+     */
+    public synchronized void setFingerprint(final String parFingerprint) {
+
+        fingerprint = parFingerprint;
+    }
+
+    /**
+     * Compares the fingerprint of the schema with the fingerprint the cache
+     * was built with, and clears the cache if the schema was changed outside
+     * the trial runs.
+     * 
+     * @param parFingerprint The current fingerprint, or <code>null</code> if
+     *            the database system offers no schema version.
+     */
+    public synchronized void validate(final String parFingerprint) {
+
+        if (fingerprint != null && !fingerprint.equals(parFingerprint)) {
+            tables.clear();
+        }
+
+        fingerprint = parFingerprint;
+    }
+}
@@ -0,0 +1,272 @@
+package edu.ou.weinmann.repsi.model.trial.metadata;
+
+import edu.ou.weinmann.repsi.model.util.DatabaseAccessor;
+
+import java.math.BigDecimal;
+
+import java.sql.Date;
+
+import java.util.Random;
+
+/**
+ * Holds a uniform random sample of the key values of a parent table. The
+ * parent table is read once without sorting, and the sample is drawn with
+ * reservoir sampling (algorithm L), so that only the replacing rows are
+ * converted and the memory needed is independent of the size of the parent
+ * table. The values are stored column by column: integral numbers and dates
+ * as primitive <code>long</code> values, all other values as objects. A
+ * reproducible sample requires the parent table to be read in key order.
+ * 
+ * @author Walter Weinmann
+ * 
+ */
+public final class ParentKeySample {
+
+    private static final int KIND_DATE = 1;
+
+    private static final int KIND_LONG = 2;
+
+    private static final int KIND_OBJECT = 0;
+
+    private final int[] kinds;
+
+    private final long[][] longs;
+
+    private final Object[][] objects;
+
+    private int size;
+
+    private ParentKeySample(final int parColumns, final int parSampleSize) {
+
+        super();
+
+        kinds = new int[parColumns];
+        longs = new long[parColumns][];
+        objects = new Object[parColumns][];
+
+        for (int i = 0; i < parColumns; i++) {
+            kinds[i] = -1;
+            longs[i] = new long[parSampleSize];
+        }
+
+        size = 0;
+    }
+
+    /**
+     * Reads the key values of a parent table and draws a uniform sample of
+     * them.
+     * 
+     * @param parDBAccess The <code>DatabaseAccessor</code> object.
+     * @param parPkTableName The name of the parent table.
+     * @param parPkColumnNames The names of the key columns.
+     * @param parSampleSize The maximum number of sampled keys.
+     * @param parRandom The <code>Random</code> object drawing the sample.
+     * @param parOrdered Whether the parent table is read in key order.
+     * 
+     * @return the <code>ParentKeySample</code> object, or <code>null</code>
+     *         if the parent table could not be read.
+     */
+    protected static ParentKeySample create(final DatabaseAccessor parDBAccess,
+            final String parPkTableName, final String[] parPkColumnNames,
+            final int parSampleSize, final Random parRandom,
+            final boolean parOrdered) {
+
+        assert parDBAccess != null : "Precondition: DatabaseAccessor is missing (null)";
+        assert parPkTableName != null : "Precondition: String primary table name is missing (null)";
+        assert parPkColumnNames != null : "Precondition: String[] primary key column names are missing (null)";
+        assert parSampleSize > 0 : "Precondition: int sample size is invalid";
+
+        final ParentKeySample lvSample =
+                new ParentKeySample(parPkColumnNames.length, parSampleSize);
+
+        // No primary key defined **********************************************
+        if (parPkColumnNames.length == 0) {
+            return lvSample;
+        }
+
+        final StringBuffer lvSelect = new StringBuffer();
+
+        for (int i = 0; i < parPkColumnNames.length; i++) {
+            if (i != 0) {
+                lvSelect.append(", ");
+            }
+
+            lvSelect.append(parPkColumnNames[i]);
+        }
+
+        String lvOrderBy = "";
+
+        if (parOrdered) {
+            lvOrderBy = " ORDER BY " + lvSelect.toString();
+        }
+
+        if (!parDBAccess.executeQuery("SELECT " + lvSelect.toString()
+                + " FROM " + parPkTableName + lvOrderBy + ";")) {
+            return null;
+        }
+
+        // Reservoir sampling, algorithm L *************************************
+        long lvRow = 0L;
+        long lvNextRow = parSampleSize;
+        double lvWeight = 0D;
+
+        while (parDBAccess.next()) {
+            if (lvRow < parSampleSize) {
+                lvSample.store(parDBAccess, (int) lvRow);
+
+                if (lvRow == parSampleSize - 1) {
+                    lvWeight = nextWeight(1D, parSampleSize, parRandom);
+                    lvNextRow = nextRow(lvRow, lvWeight, parRandom);
+                }
+            } else if (lvRow == lvNextRow) {
+                lvSample.store(parDBAccess, parRandom.nextInt(parSampleSize));
+
+                lvWeight = nextWeight(lvWeight, parSampleSize, parRandom);
+                lvNextRow = nextRow(lvRow, lvWeight, parRandom);
+            }
+
+            lvRow++;
+        }
+
+        return lvSample;
+    }
+
+    private void demote(final int parColumn) {
+
+        final Object[] lvObjects = new Object[longs[parColumn].length];
+
+        for (int i = 0; i < size; i++) {
+            lvObjects[i] = toObject(parColumn, i);
+        }
+
+        kinds[parColumn] = KIND_OBJECT;
+        longs[parColumn] = null;
+        objects[parColumn] = lvObjects;
+    }
+
+    private static int getKind(final Object parValue) {
+
+        if (parValue != null && parValue.getClass() == Date.class) {
+            return KIND_DATE;
+        }
+
+        if (isLong(parValue)) {
+            return KIND_LONG;
+        }
+
+        return KIND_OBJECT;
+    }
+
+    /**
+     * Returns the key values of one sampled row.
+     * 
+     * @param parIndex The position of the row in the sample.
+     * 
+     * @return the key values in the order of the key columns.
+     */
+    protected Object[] getRow(final int parIndex) {
+
+        if (parIndex < 0 || parIndex >= size) {
+            throw new IllegalArgumentException("Sample row " + parIndex
+                    + " is invalid");
+        }
+
+        final Object[] lvRow = new Object[kinds.length];
+
+        for (int i = 0; i < kinds.length; i++) {
+            lvRow[i] = toObject(i, parIndex);
+        }
+
+        return lvRow;
+    }
+
+    private static boolean isLong(final Object parValue) {
+
+        if (!(parValue instanceof BigDecimal)) {
+            return false;
+        }
+
+        final BigDecimal lvValue = (BigDecimal) parValue;
+
+        return lvValue.scale() == 0
+                && lvValue.unscaledValue().bitLength() < Long.SIZE;
+    }
+
+    private static long nextRow(final long parRow, final double parWeight,
+            final Random parRandom) {
+
+        final double lvSkip =
+                Math.floor(Math.log(1D - parRandom.nextDouble())
+                        / Math.log(1D - parWeight));
+
+        if (lvSkip >= Long.MAX_VALUE - parRow - 1) {
+            return Long.MAX_VALUE;
+        }
+
+        return parRow + (long) lvSkip + 1L;
+    }
+
+    private static double nextWeight(final double parWeight,
+            final int parSampleSize, final Random parRandom) {
+
+        return parWeight
+                * Math.exp(Math.log(1D - parRandom.nextDouble())
+                        / parSampleSize);
+    }
+
+    /**
+     * Returns the number of sampled rows.
+     * 
+     * @return the number of sampled rows.
+     */
+    protected int size() {
+
+        return size;
+    }
+
+    private void store(final DatabaseAccessor parDBAccess, final int parIndex) {
+
+        for (int i = 0; i < kinds.length; i++) {
+            final Object lvValue = parDBAccess.getColumn(i + 1);
+
+            if (kinds[i] < 0) {
+                kinds[i] = getKind(lvValue);
+
+                if (kinds[i] == KIND_OBJECT) {
+                    demote(i);
+                }
+            } else if (kinds[i] != KIND_OBJECT
+                    && kinds[i] != getKind(lvValue)) {
+                demote(i);
+            }
+
+            switch (kinds[i]) {
+                case KIND_DATE:
+                    longs[i][parIndex] = ((Date) lvValue).getTime();
+                    break;
+                case KIND_LONG:
+                    longs[i][parIndex] = ((BigDecimal) lvValue).longValue();
+                    break;
+                default:
+                    objects[i][parIndex] = lvValue;
+                    break;
+            }
+        }
+
+        if (parIndex >= size) {
+            size = parIndex + 1;
+        }
+    }
+
+    private Object toObject(final int parColumn, final int parIndex) {
+
+        switch (kinds[parColumn]) {
+            case KIND_DATE:
+                return new Date(longs[parColumn][parIndex]);
+            case KIND_LONG:
+                return BigDecimal.valueOf(longs[parColumn][parIndex]);
+            default:
+                return objects[parColumn][parIndex];
+        }
+    }
+}
@@ -0,0 +1,154 @@
+package edu.ou.weinmann.repsi.model.trial.metadata;
+
+import edu.ou.weinmann.repsi.model.util.DatabaseAccessor;
+import edu.ou.weinmann.repsi.model.util.RandomSeeds;
+
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * Manages the parent key samples of the foreign keys of a trial run. A parent
+ * table is sampled only once for all tables referencing it, until rows are
+ * added to the parent table. With a seed, every parent table is sampled in
+ * key order with its own random number generator seeded from the seed and
+ * the name of the parent table, so that the samples are reproducible.
+ * 
+ * @author Walter Weinmann
+ * 
+ */
+public final class ParentKeySamples {
+
+    private final Random random;
+
+    private final int sampleSize;
+
+    private final Map<String, ParentKeySample> samples;
+
+    private final long seed;
+
+    private final boolean seeded;
+
+    /**
+     * Constructs a <code>ParentKeySamples</code> object.
+     * 
+     * @param parSampleSize The maximum number of sampled keys per parent
+     *            table.
+     */
+    public ParentKeySamples(final int parSampleSize) {
+
+        this(parSampleSize, 0L, false);
+    }
+
+    /**
+     * Constructs a <code>ParentKeySamples</code> object with reproducible
+     * samples.
+     * 
+     * @param parSampleSize The maximum number of sampled keys per parent
+     *            table.
+     * @param parSeed The seed of the trial run.
+     */
+    public ParentKeySamples(final int parSampleSize, final long parSeed) {
+
+        this(parSampleSize, parSeed, true);
+    }
+
+    private ParentKeySamples(final int parSampleSize, final long parSeed,
+            final boolean parSeeded) {
+
+        super();
+
+        if (parSampleSize < 1) {
+            throw new IllegalArgumentException("Sample size " + parSampleSize
+                    + " is invalid");
+        }
+
+        random = new Random();
+        sampleSize = parSampleSize;
+        samples = new HashMap<String, ParentKeySample>();
+        seed = parSeed;
+        seeded = parSeeded;
+    }
+
+    private static String getKey(final String parPkTableName,
+            final String[] parPkColumnNames) {
+
+        final StringBuffer lvKey = new StringBuffer(parPkTableName.toUpperCase());
+
+        for (int i = 0; i < parPkColumnNames.length; i++) {
+            lvKey.append('.').append(parPkColumnNames[i]);
+        }
+
+        return lvKey.toString();
+    }
+
+    /**
+     * Returns the sample of the key values of a parent table.
+     * 
+     * @param parDBAccess The <code>DatabaseAccessor</code> object.
+     * @param parPkTableName The name of the parent table.
+     * @param parPkColumnNames The names of the key columns.
+     * 
+     * @return the <code>ParentKeySample</code> object, or <code>null</code>
+     *         if the parent table could not be read.
+     */
+    protected synchronized ParentKeySample getSample(
+            final DatabaseAccessor parDBAccess, final String parPkTableName,
+            final String[] parPkColumnNames) {
+
+        final String lvKey = getKey(parPkTableName, parPkColumnNames);
+
+        ParentKeySample lvSample = samples.get(lvKey);
+
+        if (lvSample == null) {
+            Random lvRandom = random;
+
+            if (seeded) {
+                lvRandom = new Random(RandomSeeds.split(seed, lvKey));
+            }
+
+            lvSample =
+                    ParentKeySample.create(parDBAccess, parPkTableName,
+                            parPkColumnNames, sampleSize, lvRandom, seeded);
+
+            if (lvSample != null) {
+                samples.put(lvKey, lvSample);
+            }
+        }
+
+        return lvSample;
+    }
+
+    /**
+     * Returns the maximum number of sampled keys per parent table.
+     * 
+     * @return the sample size.
+     */
+    public int getSampleSize() {
+
+        return sampleSize;
+    }
+
+    /**
+     * Discards the samples of a parent table whose rows have changed.
+     * 
+     * @param parTableName The name of the parent table.
+     */
+    public synchronized void invalidate(final String parTableName) {
+
+        if (parTableName == null || "".equals(parTableName)) {
+            throw new IllegalArgumentException("Table name is missing (null)");
+        }
+
+        final String lvPrefix = parTableName.toUpperCase() + ".";
+
+        final Iterator<String> lvIt = samples.keySet().iterator();
+
+        while (lvIt.hasNext()) {
+            if (lvIt.next().startsWith(lvPrefix)) {
+                lvIt.remove();
+            }
+        }
+    }
+}
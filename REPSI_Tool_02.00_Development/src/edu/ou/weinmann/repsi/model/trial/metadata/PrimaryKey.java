@@ -3,122 +3,92 @@ package edu.ou.weinmann.repsi.model.trial.metadata;
 import edu.ou.weinmann.repsi.model.mapper.TrialRunProtocolMapper;
 
 import edu.ou.weinmann.repsi.model.trial.util.DataGenerator;
+import edu.ou.weinmann.repsi.model.trial.util.PrimaryKeySequencer;
 
 import edu.ou.weinmann.repsi.model.util.DatabaseAccessor;
 import edu.ou.weinmann.repsi.model.util.Global;
 
 import java.math.BigDecimal;
 
-import java.sql.Connection;
 import java.sql.Date;
-import java.sql.ResultSet;
-import java.sql.SQLException;
 
 import java.util.ArrayList;
 import java.util.Map;
 
-import java.util.logging.Level;
-import java.util.logging.Logger;
-
 /**
- * Manages the primary key of a database table.
+ * Manages the primary key of a database table. The new values of a single
+ * column primary key which is not part of a foreign key are drawn in blocks
+ * from a <code>PrimaryKeySequencer</code> object, all other primary keys are
+ * incremented column by column.
  * 
  * @author Walter Weinmann
  * 
  */
 public final class PrimaryKey {
 
-    private static final Logger LOGGER =
-            Logger.getLogger(PrimaryKey.class.getPackage().getName());
+    private static final int SEQUENCER_BLOCK_SIZE = 1000;
 
     private final ArrayList<String> columnNames;
 
     private final Object[] highestValues;
 
+    private PrimaryKeySequencer sequencer;
+
+    private long sequencerEnd;
+
+    private long sequencerNext;
+
     private int sizeColumns;
 
     private final TrialRunProtocolMapper trialRunProtocol;
 
     protected PrimaryKey(final TrialRunProtocolMapper parTrialRunProtocol,
-            final DatabaseAccessor parDBAccess, final String parCatalog,
-            final String parSchema, final String parTableName,
-            final Map<String, Column> parColumns) {
+            final DatabaseAccessor parDBAccess, final String parTableName,
+            final TableMetaData parTableMetaData,
+            final Map<String, Column> parColumns,
+            final Object[] parHighestValues) {
 
         super();
 
         assert parDBAccess != null : "Precondition: DatabaseAccessor is missing (null)";
         assert parTableName != null : "Precondition: String table name is missing (null)";
+        assert parTableMetaData != null : "Precondition: TableMetaData is missing (null)";
 
         trialRunProtocol = parTrialRunProtocol;
 
-        columnNames =
-                determineColumnNames(parDBAccess, parCatalog, parSchema,
-                        parTableName);
+        columnNames = parTableMetaData.getPkColumnNames();
+        sizeColumns = columnNames.size();
 
         highestValues = new Object[sizeColumns];
 
-        determineHighestValue(parDBAccess, parTableName, parColumns);
-    }
-
-    private ArrayList<String> determineColumnNames(
-            final DatabaseAccessor parDBAccess, final String parCatalog,
-            final String parSchema, final String parTableName) {
-
-        // Database connection *************************************************
-        final Connection lvConnection = parDBAccess.getConnectionObject();
-
-        assert lvConnection != null : "Invariant: Connection is null";
-
-        // ResultSet with the primary key column descriptions ******************
-        ResultSet lvResultSetPrimaryKeys;
-
-        try {
-            lvResultSetPrimaryKeys =
-                    lvConnection.getMetaData().getPrimaryKeys(parCatalog,
-                            parSchema, parTableName);
-        } catch (SQLException e) {
-            LOGGER.log(Level.SEVERE, "connection.getMetaData().getPrimaryKeys("
-                    + parCatalog + "," + parSchema + "," + parTableName + ")",
-                    e);
-            return null;
+        // Highest values known from a checkpoint ****************************
+        if (parHighestValues != null
+                && parHighestValues.length == sizeColumns) {
+            System.arraycopy(parHighestValues, 0, highestValues, 0,
+                    sizeColumns);
+            sequencer = createSequencer(parColumns);
+            return;
         }
 
-        assert lvResultSetPrimaryKeys != null : "Invariant: ResultSet (connection.getMetaData().xxx) is null";
-
-        // Process the primary key columns *************************************
-        final ArrayList<String> lvColumns =
-                new ArrayList<String>(Global.INITIAL_CAPACITY_PRIMARY_KEYS);
-
-        try {
-            while (lvResultSetPrimaryKeys.next()) {
-
-                final int lvKeySeq =
-                        lvResultSetPrimaryKeys
-                                .getShort(Global.META_DATA_KEY_SEQUENCE);
-
-                while (lvColumns.size() < lvKeySeq) {
-                    lvColumns.add("");
-                }
-
-                lvColumns.set(lvKeySeq - 1, lvResultSetPrimaryKeys
-                        .getString(Global.META_DATA_COLUMN_NAME));
-            }
-        } catch (SQLException e) {
-            LOGGER.log(Level.SEVERE,
-                    "resultSetObject.next() / determineColumnNames()", e);
+        if (determineHighestValue(parDBAccess, parTableName, parColumns)) {
+            sequencer = createSequencer(parColumns);
+        }
+    }
 
-            parDBAccess.closeResultSet(lvResultSetPrimaryKeys);
+    private PrimaryKeySequencer createSequencer(
+            final Map<String, Column> parColumns) {
 
+        if (sizeColumns != 1) {
             return null;
         }
 
-        if (!parDBAccess.closeResultSet(lvResultSetPrimaryKeys)) {
+        final Column lvColumn = parColumns.get(columnNames.get(0));
+
+        if (lvColumn == null || lvColumn.isForeignKeyColumn()) {
             return null;
         }
 
-        sizeColumns = lvColumns.size();
-
-        return lvColumns;
+        return PrimaryKeySequencer.create(lvColumn, highestValues[0]);
     }
 
     private boolean determineHighestValue(final DatabaseAccessor parDBAccess,
@@ -144,14 +114,25 @@ public final class PrimaryKey {
             return true;
         }
 
-        if (!parDBAccess.executeQuery("SELECT " + lvSelect.toString()
-                + " FROM " + parTableName + " ORDER BY " + lvOrderBy.toString()
-                + ";")) {
+        // A single column key is determined by the maximum only *************
+        String lvQuery;
+
+        if (sizeColumns == 1) {
+            lvQuery =
+                    "SELECT MAX(" + lvSelect.toString() + ") FROM "
+                            + parTableName + ";";
+        } else {
+            lvQuery =
+                    "SELECT " + lvSelect.toString() + " FROM " + parTableName
+                            + " ORDER BY " + lvOrderBy.toString() + ";";
+        }
+
+        if (!parDBAccess.executeQuery(lvQuery)) {
             return false;
         }
 
         // No data existing ****************************************************
-        if (!parDBAccess.next()) {
+        if (!parDBAccess.next() || parDBAccess.getColumn(1) == null) {
             initialiseHighestValues(parColumns);
             return true;
         }
@@ -167,6 +148,10 @@ public final class PrimaryKey {
             final DataGenerator parDataGenerator,
             final Map<String, Column> parColumns) {
 
+        if (sequencer != null) {
+            return determineRandomPrimaryKeySequencer();
+        }
+
         boolean lvIsNew = false;
 
         for (int i = sizeColumns - 1; i >= 0; i--) {
@@ -279,6 +264,28 @@ public final class PrimaryKey {
         return lvIsNew;
     }
 
+    private boolean determineRandomPrimaryKeySequencer() {
+
+        if (sequencerNext == sequencerEnd) {
+            final long lvFirst = sequencer.allocate(SEQUENCER_BLOCK_SIZE);
+
+            if (lvFirst < 0L) {
+                trialRunProtocol.createErrorProtocol(
+                        "Range of primary key exceeded", true);
+                return false;
+            }
+
+            sequencerNext = lvFirst;
+            sequencerEnd =
+                    Math.min(lvFirst + SEQUENCER_BLOCK_SIZE, sequencer
+                            .getLimit());
+        }
+
+        highestValues[0] = sequencer.getValue(sequencerNext++);
+
+        return true;
+    }
+
     private boolean determineRandomPrimaryKeyVarchar(
             final DataGenerator parDataGenerator, final Column parColumn,
             final int parKeySeq, final boolean parIsNew) {
@@ -312,6 +319,17 @@ public final class PrimaryKey {
         return columnNames.toArray(new String[sizeColumns]);
     }
 
+    /**
+     * Returns the values of the primary key columns of the latest generated
+     * row, or of the highest existing row if no row has been generated yet.
+     * 
+     * @return the values in the order of the primary key columns.
+     */
+    public Object[] getHighestValues() {
+
+        return highestValues.clone();
+    }
+
     /**
      * Returns a random primary key column.
      * 
@@ -335,6 +353,18 @@ public final class PrimaryKey {
         return null;
     }
 
+    /**
+     * Returns the sequencer of the primary key.
+     * 
+     * @return the <code>PrimaryKeySequencer</code> object, or
+     *         <code>null</code> if the primary key is incremented column by
+     *         column.
+     */
+    public PrimaryKeySequencer getSequencer() {
+
+        return sequencer;
+    }
+
     private void initialiseHighestValues(final Map<String, Column> parColumns) {
 
         for (int i = 0; i < sizeColumns; i++) {
@@ -387,4 +417,62 @@ public final class PrimaryKey {
                             + " last value=" + lvLastValue);
         }
     }
+
+    /**
+     * Reserves a contiguous range of new values for the following rows, so
+     * that the values do not depend on the blocks drawn by other generators.
+     * 
+     * @param parRows The number of rows.
+     * 
+     * @return <code>true</code> if the operation succeeeded and
+     *         <code>false</code> otherwise.
+     */
+    public boolean reserve(final long parRows) {
+
+        if (sequencer == null) {
+            throw new IllegalArgumentException(
+                    "Primary key is incremented column by column");
+        }
+
+        if (parRows < 1L) {
+            throw new IllegalArgumentException("Number of rows " + parRows
+                    + " is invalid");
+        }
+
+        final long lvFirst = sequencer.allocate(parRows);
+
+        if (lvFirst < 0L) {
+            trialRunProtocol.createErrorProtocol(
+                    "Range of primary key exceeded", true);
+            return false;
+        }
+
+        sequencerNext = lvFirst;
+        sequencerEnd = Math.min(lvFirst + parRows, sequencer.getLimit());
+
+        return true;
+    }
+
+    /**
+     * Shares the sequencer of another primary key of the same database table,
+     * so that several generators draw disjoint blocks of new values.
+     * 
+     * @param parSequencer The <code>PrimaryKeySequencer</code> object.
+     */
+    public void setSequencer(final PrimaryKeySequencer parSequencer) {
+
+        if (parSequencer == null) {
+            throw new IllegalArgumentException(
+                    "PrimaryKeySequencer is missing (null)");
+        }
+
+        if (sequencer == null) {
+            throw new IllegalArgumentException(
+                    "Primary key is incremented column by column");
+        }
+
+        sequencer = parSequencer;
+        sequencerEnd = 0L;
+        sequencerNext = 0L;
+    }
 }
@@ -0,0 +1,407 @@
+package edu.ou.weinmann.repsi.model.trial.metadata;
+
+import edu.ou.weinmann.repsi.model.util.DatabaseAccessor;
+import edu.ou.weinmann.repsi.model.util.Global;
+
+import java.io.Serializable;
+
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Holds a snapshot of the data dictionary entries of a database table: the
+ * column descriptions, the primary key columns and the imported foreign key
+ * columns. The snapshot is read with one call each of
+ * <code>DatabaseMetaData.getColumns</code>, <code>getPrimaryKeys</code> and
+ * <code>getImportedKeys</code>, and <code>Columns</code>,
+ * <code>PrimaryKey</code> and <code>ForeignKeys</code> objects are built
+ * from it without any further dictionary access. The snapshot is immutable
+ * and serializable, thus it can be shared and persisted by a
+ * <code>MetaDataCache</code> object.
+ * 
+ * @author Walter Weinmann
+ * 
+ */
+public final class TableMetaData implements Serializable {
+
+    private static final Logger LOGGER =
+            Logger.getLogger(TableMetaData.class.getPackage().getName());
+
+    private static final long serialVersionUID = 1L;
+
+    private final List<ColumnEntry> columns = new ArrayList<ColumnEntry>();
+
+    private final List<ImportedKeyEntry> importedKeys =
+            new ArrayList<ImportedKeyEntry>();
+
+    private final ArrayList<String> pkColumnNames =
+            new ArrayList<String>(Global.INITIAL_CAPACITY_PRIMARY_KEYS);
+
+    private final String tableName;
+
+    private TableMetaData(final String parTableName) {
+
+        super();
+
+        tableName = parTableName;
+    }
+
+    /**
+     * Creates the <code>Column</code> objects of the database table.
+     * 
+     * @return the <code>Column</code> objects keyed by the column names.
+     */
+    protected Map<String, Column> createColumns() {
+
+        final Map<String, Column> lvColumns = new HashMap<String, Column>();
+
+        for (int i = 0; i < columns.size(); i++) {
+            final ColumnEntry lvEntry = columns.get(i);
+
+            lvColumns.put(lvEntry.columnName, new Column(lvEntry.columnName,
+                    lvEntry.ordinalPosition, lvEntry.dataType,
+                    lvEntry.columnSize, lvEntry.decimalDigits,
+                    lvEntry.isNullable));
+        }
+
+        return lvColumns;
+    }
+
+    /**
+     * Creates the <code>ForeignKey</code> objects of the database table.
+     * 
+     * @return the <code>ForeignKey</code> objects keyed by the foreign key
+     *         names.
+     */
+    protected Map<String, ForeignKey> createForeignKeys() {
+
+        final Map<String, ForeignKey> lvForeignKeys =
+                new HashMap<String, ForeignKey>(
+                        Global.INITIAL_CAPACITY_FOREIGN_KEYS);
+
+        for (int i = 0; i < importedKeys.size(); i++) {
+            final ImportedKeyEntry lvEntry = importedKeys.get(i);
+
+            final ForeignKey lvForeignKey = lvForeignKeys.get(lvEntry.fkName);
+
+            if (lvForeignKey == null) {
+                lvForeignKeys.put(lvEntry.fkName, new ForeignKey(
+                        lvEntry.fkName, lvEntry.keySeq, lvEntry.fkTableName,
+                        lvEntry.fkColumnName, lvEntry.pkTableName,
+                        lvEntry.pkColumnName));
+            } else {
+                lvForeignKey.setColumnName(lvEntry.keySeq - 1,
+                        lvEntry.fkColumnName, lvEntry.pkColumnName);
+            }
+        }
+
+        return lvForeignKeys;
+    }
+
+    /**
+     * Returns the names of the primary key columns.
+     * 
+     * @return the column names in the order of the key sequence.
+     */
+    protected ArrayList<String> getPkColumnNames() {
+
+        return new ArrayList<String>(pkColumnNames);
+    }
+
+    /**
+     * Returns the names of the parent tables referenced by the foreign keys of
+     * the database table. A reference of the table to itself is not
+     * contained.
+     * 
+     * @return the upper case names of the parent tables.
+     */
+    public Set<String> getPkTableNames() {
+
+        final Set<String> lvPkTableNames = new HashSet<String>();
+
+        for (int i = 0; i < importedKeys.size(); i++) {
+            final String lvPkTableName =
+                    importedKeys.get(i).pkTableName.toUpperCase();
+
+            if (!lvPkTableName.equals(tableName.toUpperCase())) {
+                lvPkTableNames.add(lvPkTableName);
+            }
+        }
+
+        return lvPkTableNames;
+    }
+
+    /**
+     * Returns the name of the database table.
+     * 
+     * @return the name of the database table.
+     */
+    public String getTableName() {
+
+        return tableName;
+    }
+
+    /**
+     * Reads the data dictionary entries of a database table.
+     * 
+     * @param parDBAccess The <code>DatabaseAccessor</code> object.
+     * @param parCatalog The database catalogue name.
+     * @param parSchema The database schema name.
+     * @param parTableName The name of the database table.
+     * 
+     * @return the <code>TableMetaData</code> object, or <code>null</code>
+     *         if the data dictionary could not be read.
+     */
+    protected static TableMetaData read(final DatabaseAccessor parDBAccess,
+            final String parCatalog, final String parSchema,
+            final String parTableName) {
+
+        assert parDBAccess != null : "Precondition: DatabaseAccessor is missing (null)";
+        assert parTableName != null : "Precondition: String table name is missing (null)";
+
+        // Database connection *************************************************
+        final Connection lvConnection = parDBAccess.getConnectionObject();
+
+        assert lvConnection != null : "Invariant: Connection is null";
+
+        DatabaseMetaData lvMetaData;
+
+        try {
+            lvMetaData = lvConnection.getMetaData();
+        } catch (SQLException e) {
+            LOGGER.log(Level.SEVERE, "connection.getMetaData()", e);
+            return null;
+        }
+
+        final TableMetaData lvTableMetaData = new TableMetaData(parTableName);
+
+        if (!(lvTableMetaData.readColumns(parDBAccess, lvMetaData, parCatalog,
+                parSchema)
+                && lvTableMetaData.readPrimaryKey(parDBAccess, lvMetaData,
+                        parCatalog, parSchema) && lvTableMetaData
+                .readImportedKeys(parDBAccess, lvMetaData, parCatalog,
+                        parSchema))) {
+            return null;
+        }
+
+        return lvTableMetaData;
+    }
+
+    private boolean readColumns(final DatabaseAccessor parDBAccess,
+            final DatabaseMetaData parMetaData, final String parCatalog,
+            final String parSchemaPattern) {
+
+        // ResultSet with the column descriptions ******************************
+        ResultSet lvResultSet;
+
+        try {
+            lvResultSet =
+                    parMetaData.getColumns(parCatalog, parSchemaPattern,
+                            tableName, "%");
+        } catch (SQLException e) {
+            LOGGER.log(Level.SEVERE, "connection.getMetaData().getColumns("
+                    + parCatalog + "," + parSchemaPattern + "," + tableName
+                    + ")", e);
+            return false;
+        }
+
+        assert lvResultSet != null : "Invariant: ResultSet (connection.getMetaData().xxx) is null";
+
+        // Process the columns *************************************************
+        try {
+            while (lvResultSet.next()) {
+                columns.add(new ColumnEntry(lvResultSet
+                        .getString(Global.META_DATA_COLUMN_NAME), lvResultSet
+                        .getInt(Global.META_DATA_ORDINAL_POSITION), lvResultSet
+                        .getInt(Global.META_DATA_DATA_TYPE), lvResultSet
+                        .getInt(Global.META_DATA_COLUMN_SIZE), lvResultSet
+                        .getInt(Global.META_DATA_DECIMAL_DIGITS), lvResultSet
+                        .getString(Global.META_DATA_IS_NULLABLE)));
+            }
+        } catch (SQLException e) {
+            LOGGER.log(Level.SEVERE, "resultSetObject.next() / readColumns()",
+                    e);
+
+            parDBAccess.closeResultSet(lvResultSet);
+
+            return false;
+        }
+
+        return parDBAccess.closeResultSet(lvResultSet);
+    }
+
+    private boolean readImportedKeys(final DatabaseAccessor parDBAccess,
+            final DatabaseMetaData parMetaData, final String parCatalog,
+            final String parSchema) {
+
+        // ResultSet with the foreign key column descriptions ******************
+        ResultSet lvResultSet;
+
+        try {
+            lvResultSet =
+                    parMetaData.getImportedKeys(parCatalog, parSchema,
+                            tableName);
+        } catch (SQLException e) {
+            LOGGER.log(Level.SEVERE,
+                    "connection.getMetaData().getImportedKeys(" + parCatalog
+                            + "," + parSchema + "," + tableName + ")", e);
+            return false;
+        }
+
+        assert lvResultSet != null : "Invariant: ResultSet (connection.getMetaData().xxx) is null";
+
+        // Process the foreign key columns *************************************
+        try {
+            while (lvResultSet.next()) {
+                importedKeys
+                        .add(new ImportedKeyEntry(
+                                lvResultSet
+                                        .getString(Global.META_DATA_FOREIGN_KEY_NAME),
+                                lvResultSet
+                                        .getShort(Global.META_DATA_KEY_SEQUENCE),
+                                lvResultSet
+                                        .getString(Global.META_DATA_FOREIGN_KEY_TABLE_NAME),
+                                lvResultSet
+                                        .getString(Global.META_DATA_FOREIGN_KEY_COLUMN_NAME),
+                                lvResultSet
+                                        .getString(Global.META_DATA_PRIMARY_KEY_TABLE_NAME),
+                                lvResultSet
+                                        .getString(Global.META_DATA_PRIMARY_KEY_COLUMN_NAME)));
+            }
+        } catch (SQLException e) {
+            LOGGER.log(Level.SEVERE,
+                    "resultSetObject.next() / readImportedKeys()", e);
+
+            parDBAccess.closeResultSet(lvResultSet);
+
+            return false;
+        }
+
+        return parDBAccess.closeResultSet(lvResultSet);
+    }
+
+    private boolean readPrimaryKey(final DatabaseAccessor parDBAccess,
+            final DatabaseMetaData parMetaData, final String parCatalog,
+            final String parSchema) {
+
+        // ResultSet with the primary key column descriptions ******************
+        ResultSet lvResultSet;
+
+        try {
+            lvResultSet =
+                    parMetaData.getPrimaryKeys(parCatalog, parSchema,
+                            tableName);
+        } catch (SQLException e) {
+            LOGGER.log(Level.SEVERE, "connection.getMetaData().getPrimaryKeys("
+                    + parCatalog + "," + parSchema + "," + tableName + ")", e);
+            return false;
+        }
+
+        assert lvResultSet != null : "Invariant: ResultSet (connection.getMetaData().xxx) is null";
+
+        // Process the primary key columns *************************************
+        try {
+            while (lvResultSet.next()) {
+
+                final int lvKeySeq =
+                        lvResultSet.getShort(Global.META_DATA_KEY_SEQUENCE);
+
+                while (pkColumnNames.size() < lvKeySeq) {
+                    pkColumnNames.add("");
+                }
+
+                pkColumnNames.set(lvKeySeq - 1, lvResultSet
+                        .getString(Global.META_DATA_COLUMN_NAME));
+            }
+        } catch (SQLException e) {
+            LOGGER.log(Level.SEVERE,
+                    "resultSetObject.next() / readPrimaryKey()", e);
+
+            parDBAccess.closeResultSet(lvResultSet);
+
+            return false;
+        }
+
+        return parDBAccess.closeResultSet(lvResultSet);
+    }
+
+    /**
+     * Holds the description of one column.
+     */
+    private static final class ColumnEntry implements Serializable {
+
+        private static final long serialVersionUID = 1L;
+
+        private final String columnName;
+
+        private final int columnSize;
+
+        private final int dataType;
+
+        private final int decimalDigits;
+
+        private final String isNullable;
+
+        private final int ordinalPosition;
+
+        ColumnEntry(final String parColumnName, final int parOrdinalPosition,
+                final int parDataType, final int parColumnSize,
+                final int parDecimalDigits, final String parIsNullable) {
+
+            super();
+
+            columnName = parColumnName;
+            columnSize = parColumnSize;
+            dataType = parDataType;
+            decimalDigits = parDecimalDigits;
+            isNullable = parIsNullable;
+            ordinalPosition = parOrdinalPosition;
+        }
+    }
+
+    /**
+     * Holds the description of one imported foreign key column.
+     */
+    private static final class ImportedKeyEntry implements Serializable {
+
+        private static final long serialVersionUID = 1L;
+
+        private final String fkColumnName;
+
+        private final String fkName;
+
+        private final String fkTableName;
+
+        private final int keySeq;
+
+        private final String pkColumnName;
+
+        private final String pkTableName;
+
+        ImportedKeyEntry(final String parFkName, final int parKeySeq,
+                final String parFkTableName, final String parFkColumnName,
+                final String parPkTableName, final String parPkColumnName) {
+
+            super();
+
+            fkColumnName = parFkColumnName;
+            fkName = parFkName;
+            fkTableName = parFkTableName;
+            keySeq = parKeySeq;
+            pkColumnName = parPkColumnName;
+            pkTableName = parPkTableName;
+        }
+    }
+}
@@ -0,0 +1,295 @@
+package edu.ou.weinmann.repsi.model.trial.util;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+
+import java.math.BigDecimal;
+
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CoderResult;
+
+import java.text.SimpleDateFormat;
+
+import java.util.Date;
+
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Writes generated rows of a database table into a delimited file, to be
+ * loaded afterwards by the bulk load path of the database system. The file
+ * starts with a header line containing the column names, followed by one
+ * line per row with comma separated values in UTF-8: strings are enclosed in
+ * double quotes, dates are written as <code>yyyy-MM-dd</code>, and
+ * <code>null</code> values are empty. The rows are encoded into a direct
+ * buffer which is written to a file channel whenever it is full.
+ * 
+ * @author Walter Weinmann
+ * 
+ */
+public final class BulkFileWriter {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private static final String DATE_FORMAT = "yyyy-MM-dd";
+
+    private static final Logger LOGGER =
+            Logger.getLogger(BulkFileWriter.class.getPackage().getName());
+
+    private final ByteBuffer buffer = ByteBuffer.allocateDirect(BUFFER_SIZE);
+
+    private FileChannel channel;
+
+    private String[] columnNames;
+
+    private final SimpleDateFormat dateFormat =
+            new SimpleDateFormat(DATE_FORMAT);
+
+    private final CharsetEncoder encoder =
+            Charset.forName("UTF-8").newEncoder();
+
+    private final File file;
+
+    private final StringBuffer line = new StringBuffer();
+
+    private long numberRows;
+
+    private FileOutputStream stream;
+
+    /**
+     * Constructs a <code>BulkFileWriter</code> object.
+     * 
+     * @param parFile The file to be written, an existing file is replaced.
+     */
+    public BulkFileWriter(final File parFile) {
+
+        super();
+
+        if (parFile == null) {
+            throw new IllegalArgumentException("File is missing (null)");
+        }
+
+        file = parFile;
+        numberRows = 0L;
+    }
+
+    private void appendValue(final Object parValue) {
+
+        if (parValue == null) {
+            return;
+        }
+
+        if (parValue instanceof BigDecimal) {
+            line.append(((BigDecimal) parValue).toPlainString());
+        } else if (parValue instanceof Date) {
+            line.append(dateFormat.format((Date) parValue));
+        } else {
+            final String lvValue = parValue.toString();
+
+            line.append('"');
+
+            for (int i = 0; i < lvValue.length(); i++) {
+                if (lvValue.charAt(i) == '"') {
+                    line.append('"');
+                }
+
+                line.append(lvValue.charAt(i));
+            }
+
+            line.append('"');
+        }
+    }
+
+    /**
+     * Writes the remaining buffered rows and closes the file.
+     * 
+     * @return <code>true</code> if the operation succeeeded and
+     *         <code>false</code> otherwise.
+     */
+    public boolean close() {
+
+        if (channel == null) {
+            return true;
+        }
+
+        boolean lvOk = drain();
+
+        try {
+            stream.close();
+        } catch (IOException e) {
+            LOGGER.log(Level.SEVERE, "stream.close(), file=" + file, e);
+            lvOk = false;
+        } finally {
+            channel = null;
+            stream = null;
+        }
+
+        return lvOk;
+    }
+
+    private boolean drain() {
+
+        buffer.flip();
+
+        try {
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+
+            return true;
+        } catch (IOException e) {
+            LOGGER.log(Level.SEVERE, "channel.write(), file=" + file, e);
+        } finally {
+            buffer.clear();
+        }
+
+        return false;
+    }
+
+    /**
+     * Returns the names of the columns of the file.
+     * 
+     * @return the column names in the order of the values.
+     */
+    public String[] getColumnNames() {
+
+        return columnNames.clone();
+    }
+
+    /**
+     * Returns the file.
+     * 
+     * @return the file.
+     */
+    public File getFile() {
+
+        return file;
+    }
+
+    /**
+     * Returns the number of rows written.
+     * 
+     * @return the number of rows written.
+     */
+    public long getNumberRows() {
+
+        return numberRows;
+    }
+
+    /**
+     * Creates the file and writes the header line.
+     * 
+     * @param parColumnNames The names of the columns in the order of the
+     *            values.
+     * 
+     * @return <code>true</code> if the operation succeeeded and
+     *         <code>false</code> otherwise.
+     */
+    public boolean open(final String[] parColumnNames) {
+
+        if (parColumnNames == null || parColumnNames.length == 0) {
+            throw new IllegalArgumentException(
+                    "Column names are missing (null)");
+        }
+
+        final File lvDirectory = file.getAbsoluteFile().getParentFile();
+
+        if (lvDirectory != null && !lvDirectory.isDirectory()
+                && !lvDirectory.mkdirs()) {
+            LOGGER.log(Level.SEVERE, "Directory " + lvDirectory
+                    + " could not be created");
+            return false;
+        }
+
+        try {
+            stream = new FileOutputStream(file);
+        } catch (IOException e) {
+            LOGGER.log(Level.SEVERE, "new FileOutputStream(), file=" + file, e);
+            return false;
+        }
+
+        channel = stream.getChannel();
+        columnNames = parColumnNames.clone();
+        numberRows = 0L;
+
+        line.setLength(0);
+
+        for (int i = 0; i < columnNames.length; i++) {
+            if (i != 0) {
+                line.append(',');
+            }
+
+            line.append(columnNames[i]);
+        }
+
+        return writeLine();
+    }
+
+    private boolean writeLine() {
+
+        line.append('\n');
+
+        final CharBuffer lvChars = CharBuffer.wrap(line);
+
+        encoder.reset();
+
+        while (true) {
+            final CoderResult lvResult = encoder.encode(lvChars, buffer, true);
+
+            if (lvResult.isOverflow()) {
+                if (!drain()) {
+                    return false;
+                }
+
+                continue;
+            }
+
+            if (lvResult.isError()) {
+                LOGGER.log(Level.SEVERE, "encoder.encode(), file=" + file
+                        + " result=" + lvResult);
+                return false;
+            }
+
+            return true;
+        }
+    }
+
+    /**
+     * Writes one row.
+     * 
+     * @param parValues The values of the row in the order of the column
+     *            names.
+     * 
+     * @return <code>true</code> if the operation succeeeded and
+     *         <code>false</code> otherwise.
+     */
+    public boolean writeRow(final Object[] parValues) {
+
+        if (parValues == null || parValues.length != columnNames.length) {
+            throw new IllegalArgumentException("Row values are invalid");
+        }
+
+        line.setLength(0);
+
+        for (int i = 0; i < parValues.length; i++) {
+            if (i != 0) {
+                line.append(',');
+            }
+
+            appendValue(parValues[i]);
+        }
+
+        if (!writeLine()) {
+            return false;
+        }
+
+        numberRows++;
+
+        return true;
+    }
+}
@@ -0,0 +1,45 @@
+package edu.ou.weinmann.repsi.model.trial.util;
+
+import java.io.File;
+
+/**
+ * Loads a file written by <code>BulkFileWriter</code> into a database table
+ * by the bulk load path of the database system. The command or statement of
+ * a loader may contain the placeholders <code>{table}</code>,
+ * <code>{columns}</code> (comma separated column names) and
+ * <code>{file}</code> (absolute file name).
+ * 
+ * @author Walter Weinmann
+ * 
+ */
+public interface BulkLoader {
+
+    /**
+     * Placeholder for the comma separated column names.
+     */
+    String PLACEHOLDER_COLUMNS = "{columns}";
+
+    /**
+     * Placeholder for the absolute file name.
+     */
+    String PLACEHOLDER_FILE = "{file}";
+
+    /**
+     * Placeholder for the table name.
+     */
+    String PLACEHOLDER_TABLE = "{table}";
+
+    /**
+     * Loads a file into a database table.
+     * 
+     * @param parTableName The name of the database table.
+     * @param parColumnNames The names of the columns in the order of the
+     *            values in the file.
+     * @param parFile The file to be loaded.
+     * 
+     * @return <code>true</code> if the operation succeeeded and
+     *         <code>false</code> otherwise.
+     */
+    boolean load(final String parTableName, final String[] parColumnNames,
+            final File parFile);
+}
@@ -0,0 +1,107 @@
+package edu.ou.weinmann.repsi.model.trial.util;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStreamReader;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.StringTokenizer;
+
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Implements the <code>BulkLoader</code> interface with an external loader
+ * command, e.g. <code>sqlldr</code> or <code>psql</code>. The command is
+ * split into its arguments at white space before the placeholders are
+ * replaced, thus file names containing blanks remain one argument. The
+ * output of the command is logged, and a load succeeds if the command ends
+ * with the exit value zero.
+ * 
+ * @author Walter Weinmann
+ * 
+ */
+public final class CommandBulkLoader implements BulkLoader {
+
+    private static final Logger LOGGER =
+            Logger.getLogger(CommandBulkLoader.class.getPackage().getName());
+
+    private final String command;
+
+    /**
+     * Constructs a <code>CommandBulkLoader</code> object.
+     * 
+     * @param parCommand The loader command with placeholders.
+     */
+    public CommandBulkLoader(final String parCommand) {
+
+        super();
+
+        if (parCommand == null || "".equals(parCommand.trim())) {
+            throw new IllegalArgumentException("Command is missing (null)");
+        }
+
+        command = parCommand;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public boolean load(final String parTableName,
+            final String[] parColumnNames, final File parFile) {
+
+        final List<String> lvArguments = new ArrayList<String>();
+
+        final StringTokenizer lvTokenizer = new StringTokenizer(command);
+
+        while (lvTokenizer.hasMoreTokens()) {
+            lvArguments.add(SqlBulkLoader.replacePlaceholders(lvTokenizer
+                    .nextToken(), parTableName, parColumnNames, parFile));
+        }
+
+        final ProcessBuilder lvBuilder = new ProcessBuilder(lvArguments);
+
+        lvBuilder.redirectErrorStream(true);
+
+        try {
+            final Process lvProcess = lvBuilder.start();
+
+            final BufferedReader lvReader =
+                    new BufferedReader(new InputStreamReader(lvProcess
+                            .getInputStream()));
+
+            try {
+                String lvLine = lvReader.readLine();
+
+                while (lvLine != null) {
+                    LOGGER.log(Level.FINER, parTableName + ": " + lvLine);
+                    lvLine = lvReader.readLine();
+                }
+            } finally {
+                lvReader.close();
+            }
+
+            final int lvExitValue = lvProcess.waitFor();
+
+            if (lvExitValue != 0) {
+                LOGGER.log(Level.SEVERE, "Bulk load of table=" + parTableName
+                        + " failed, exit value=" + lvExitValue + " command="
+                        + lvArguments);
+                return false;
+            }
+        } catch (IOException e) {
+            LOGGER.log(Level.SEVERE, "Bulk load of table=" + parTableName
+                    + " failed, command=" + lvArguments, e);
+            return false;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            LOGGER.log(Level.SEVERE, "Bulk load of table=" + parTableName
+                    + " interrupted", e);
+            return false;
+        }
+
+        return true;
+    }
+}
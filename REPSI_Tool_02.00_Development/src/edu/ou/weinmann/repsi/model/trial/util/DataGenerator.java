@@ -5,12 +5,18 @@ import edu.ou.weinmann.repsi.model.mapper.TrialRunProtocolMapper;
 import edu.ou.weinmann.repsi.model.trial.metadata.Column;
 import edu.ou.weinmann.repsi.model.trial.metadata.Columns;
 
+import edu.ou.weinmann.repsi.model.util.CommitController;
 import edu.ou.weinmann.repsi.model.util.DatabaseAccessor;
 import edu.ou.weinmann.repsi.model.util.Global;
+import edu.ou.weinmann.repsi.model.util.RandomSeeds;
 
 import java.math.BigDecimal;
 
+import java.sql.BatchUpdateException;
 import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
 
 import java.text.SimpleDateFormat;
 
@@ -21,7 +27,20 @@ import java.util.logging.Level;
 import java.util.logging.Logger;
 
 /**
- * Generates the columns and rows of a given test database instance.
+ * Generates the columns and rows of a given test database instance. The rows
+ * are either inserted one by one with literal <code>INSERT</code> statements,
+ * or in the batch mode with one parameterised <code>INSERT</code> statement
+ * per table which is prepared once and executed in batches of a given size,
+ * or in the bulk mode into a delimited file which is loaded afterwards.
+ * With a seed, the random number generators are seeded anew for every row
+ * and column from the seed and the row number, so that the same seed yields
+ * the same rows however the generation is partitioned. The transactions
+ * are committed after a number of rows adapted to the measured throughput by
+ * a <code>CommitController</code> object, and the progress is recorded after
+ * every commit by an optional <code>GenerationCheckpoint</code> object.
+ * Rows whose primary key has already been sent to the database table are
+ * rejected by an optional <code>KeyFilter</code> object before the round
+ * trip to the database.
  * 
  * @author Walter Weinmann
  * 
@@ -44,17 +63,49 @@ public class DataGenerator {
     private final Map<Character, Integer> alphaNumericMap =
             new HashMap<Character, Integer>(ALPHA_NUMERIC_SIZE);
 
+    private int batchRows;
+
+    private int batchSize;
+
+    private Object[][] batchValues;
+
+    private BulkFileWriter bulkFile;
+
+    private GenerationCheckpoint checkpoint;
+
+    private boolean checkpointShared;
+
     private final Columns columns;
 
+    private CommitController commitController;
+
+    private int[] dataTypes;
+
     private final DatabaseAccessor dbAccess;
 
+    private PreparedStatement insertStatement;
+
+    private KeyFilter keyFilter;
+
+    private int[] keyPositions;
+
+    private long numberRowsAttempted;
+
+    private long numberRowsCheckpointed;
+
     private long numberRowsGenerated;
 
+    private long numberRowsRejected;
+
     private final Random random;
 
-    private final String tableName;
+    private long rowNumber;
 
-    private long transactionSize;
+    private long seed;
+
+    private boolean seeded;
+
+    private final String tableName;
 
     private final TrialRunProtocolMapper trialRunProtocol;
 
@@ -86,13 +137,101 @@ public class DataGenerator {
                     Integer.valueOf(i));
         }
 
+        batchRows = 0;
+        batchSize = 0;
+        commitController = new CommitController();
         dbAccess = parDBAccess;
+        numberRowsAttempted = 0L;
         numberRowsGenerated = 0;
+        numberRowsRejected = 0L;
         random = new Random();
+        rowNumber = 0L;
+        seeded = false;
         tableName = parTableName;
         trialRunProtocol = parTrialRunProtocol;
     }
 
+    private boolean addRow() {
+
+        final Object[] lvValues = generateRowValues();
+
+        if (lvValues == null) {
+            return false;
+        }
+
+        if (isDuplicateKey(lvValues)) {
+            return true;
+        }
+
+        try {
+            bindRow(lvValues);
+
+            insertStatement.addBatch();
+        } catch (SQLException e) {
+            LOGGER.log(Level.SEVERE, "insertStatement.addBatch(), table="
+                    + tableName, e);
+            return false;
+        }
+
+        batchValues[batchRows++] = lvValues;
+        commitController.addRows(1L);
+
+        return true;
+    }
+
+    private void bindRow(final Object[] parValues) throws SQLException {
+
+        for (int i = 0; i < parValues.length; i++) {
+            final int lvPos = i + 1;
+
+            if (parValues[i] == null) {
+                insertStatement.setNull(lvPos, dataTypes[i]);
+            } else if (parValues[i] instanceof BigDecimal) {
+                insertStatement.setBigDecimal(lvPos, (BigDecimal) parValues[i]);
+            } else if (parValues[i] instanceof Date) {
+                insertStatement.setDate(lvPos, (Date) parValues[i]);
+            } else {
+                insertStatement.setString(lvPos, (String) parValues[i]);
+            }
+        }
+    }
+
+    private boolean clearBatch() {
+
+        try {
+            insertStatement.clearBatch();
+
+            return true;
+        } catch (SQLException e) {
+            LOGGER.log(Level.SEVERE, "insertStatement.clearBatch(), table="
+                    + tableName, e);
+        }
+
+        return false;
+    }
+
+    private boolean closeInsert() {
+
+        if (insertStatement == null) {
+            return true;
+        }
+
+        try {
+            insertStatement.close();
+
+            return true;
+        } catch (SQLException e) {
+            LOGGER.log(Level.SEVERE, "insertStatement.close(), table="
+                    + tableName, e);
+        } finally {
+            batchRows = 0;
+            batchValues = null;
+            insertStatement = null;
+        }
+
+        return false;
+    }
+
     private static char[] createAlphaNumericChars() {
 
         final StringBuffer lvBufferDigits = new StringBuffer(10);
@@ -120,34 +259,117 @@ public class DataGenerator {
                 .toString().toCharArray();
     }
 
-    private String generateColumnValueDate(final Column parColumn) {
+    private int[] determineKeyPositions() {
+
+        int lvSize = 0;
+
+        for (int i = 1; i <= columns.sizeColumns(); i++) {
+            if (columns.getColumn(columns.getColumnName(i)).getKeySeq() > 0) {
+                lvSize++;
+            }
+        }
+
+        final int[] lvPositions = new int[lvSize];
+
+        for (int i = 1; i <= columns.sizeColumns(); i++) {
+            final int lvKeySeq =
+                    columns.getColumn(columns.getColumnName(i)).getKeySeq();
+
+            if (lvKeySeq > 0) {
+                lvPositions[lvKeySeq - 1] = i - 1;
+            }
+        }
+
+        return lvPositions;
+    }
+
+    private boolean flushBatch() {
+
+        if (batchRows == 0) {
+            return true;
+        }
+
+        try {
+            insertStatement.executeBatch();
+
+            numberRowsGenerated += batchRows;
+        } catch (BatchUpdateException e) {
+            if (!flushBatchRemainder(e.getUpdateCounts())) {
+                return false;
+            }
+        } catch (SQLException e) {
+            LOGGER.log(Level.SEVERE, "insertStatement.executeBatch(), table="
+                    + tableName, e);
+            return false;
+        } finally {
+            batchRows = 0;
+        }
+
+        return true;
+    }
+
+    private boolean flushBatchRemainder(final int[] parUpdateCounts) {
+
+        // Rows processed by the driver before or despite the failure **********
+        int lvProcessed = 0;
+
+        if (parUpdateCounts != null) {
+            lvProcessed = Math.min(parUpdateCounts.length, batchRows);
+
+            for (int i = 0; i < lvProcessed; i++) {
+                if (parUpdateCounts[i] == Statement.EXECUTE_FAILED) {
+                    LOGGER.log(Level.WARNING, "Row rejected, table="
+                            + tableName + " batch position=" + (i + 1));
+                } else {
+                    numberRowsGenerated++;
+                }
+            }
+        }
+
+        if (lvProcessed == batchRows) {
+            return clearBatch();
+        }
+
+        // The driver stopped at the failing row: retry the rest one by one ****
+        LOGGER.log(Level.WARNING, "Row rejected, table=" + tableName
+                + " batch position=" + (lvProcessed + 1));
+
+        if (!clearBatch()) {
+            return false;
+        }
+
+        for (int i = lvProcessed + 1; i < batchRows; i++) {
+            try {
+                bindRow(batchValues[i]);
+
+                insertStatement.executeUpdate();
+
+                numberRowsGenerated++;
+            } catch (SQLException e) {
+                LOGGER.log(Level.WARNING, "insertStatement.executeUpdate(), table="
+                        + tableName + ", SQLException=" + e);
+            }
+        }
+
+        return true;
+    }
+
+    private Date generateColumnValueDate(final Column parColumn) {
 
         if (parColumn.isForeignKeyColumn()) {
-            return "CAST(TO_DATE('"
-                    + new SimpleDateFormat(Global.DATE_FORMAT_DD_MM_YYYY_JAVA)
-                            .format((Date) columns.getRandomFkValue(parColumn
-                                    .getColumnName())) + "', '"
-                    + Global.DATE_FORMAT_DD_MM_YYYY_SQL + "') AS DATE)";
+            return (Date) columns.getRandomFkValue(parColumn.getColumnName());
         }
 
         if (parColumn.getKeySeq() != 0) {
-            return "CAST(TO_DATE('"
-                    + new SimpleDateFormat(Global.DATE_FORMAT_DD_MM_YYYY_JAVA)
-                            .format((Date) columns.getRandomPkValue(parColumn
-                                    .getColumnName())) + "', '"
-                    + Global.DATE_FORMAT_DD_MM_YYYY_SQL + "') AS DATE)";
+            return (Date) columns.getRandomPkValue(parColumn.getColumnName());
         }
 
         if (parColumn.getIsNullable().equals(Global.IS_NULLABLE_YES)
                 && (random.nextBoolean())) {
-            return Global.NULL;
+            return null;
         }
 
-        return "CAST(TO_DATE('"
-                + new SimpleDateFormat(Global.DATE_FORMAT_DD_MM_YYYY_JAVA)
-                        .format(new Date(random.nextInt(DATE_DAY_RANGE)
-                                * DATE_DAY_SECONDS)) + "', '"
-                + Global.DATE_FORMAT_DD_MM_YYYY_SQL + "') AS DATE)";
+        return new Date(random.nextInt(DATE_DAY_RANGE) * DATE_DAY_SECONDS);
     }
 
     /**
@@ -190,25 +412,25 @@ public class DataGenerator {
         return new Date(-Global.DAY_FACTOR);
     }
 
-    private String generateColumnValueNumeric(final Column parColumn) {
+    private BigDecimal generateColumnValueNumeric(final Column parColumn) {
 
         if (parColumn == null) {
             throw new IllegalArgumentException(COLUMN_IS_MISSING);
         }
 
         if (parColumn.isForeignKeyColumn()) {
-            return ((BigDecimal) columns.getRandomFkValue(parColumn
-                    .getColumnName())).toString();
+            return (BigDecimal) columns.getRandomFkValue(parColumn
+                    .getColumnName());
         }
 
         if (parColumn.getKeySeq() != 0) {
-            return ((BigDecimal) columns.getRandomPkValue(parColumn
-                    .getColumnName())).toString();
+            return (BigDecimal) columns.getRandomPkValue(parColumn
+                    .getColumnName());
         }
 
         if (parColumn.getIsNullable().equals(Global.IS_NULLABLE_YES)
                 && (random.nextBoolean())) {
-            return Global.NULL;
+            return null;
         }
 
         final BigDecimal lvNextValue =
@@ -218,10 +440,10 @@ public class DataGenerator {
                         BigDecimal.ROUND_HALF_EVEN);
 
         if (lvNextValue.compareTo(parColumn.getDecimalFactor()) == 0) {
-            return lvNextValue.subtract(BigDecimal.ONE).toString();
+            return lvNextValue.subtract(BigDecimal.ONE);
         }
 
-        return lvNextValue.toString();
+        return lvNextValue;
     }
 
     /**
@@ -281,7 +503,7 @@ public class DataGenerator {
 
         if (parColumn.getIsNullable().equals(Global.IS_NULLABLE_YES)
                 && (random.nextBoolean())) {
-            return Global.NULL;
+            return null;
         }
 
         final Object lvObject =
@@ -299,7 +521,7 @@ public class DataGenerator {
             lvLength = random.nextInt(parColumn.getColumnSize() + 1);
             if (lvLength == 0) {
                 if (parColumn.getIsNullable().equals(Global.IS_NULLABLE_YES)) {
-                    return Global.NULL;
+                    return null;
                 }
 
                 lvLength++;
@@ -414,39 +636,131 @@ public class DataGenerator {
             return true;
         }
 
-        transactionSize = 0;
+        if (bulkFile != null) {
+            return writeRows(parExecutionFrequency);
+        }
+
+        if (batchSize > 0 && !prepareInsert()) {
+            return false;
+        }
+
+        try {
+            return generateRows(parExecutionFrequency);
+        } finally {
+            closeInsert();
+        }
+    }
+
+    private Object[] generateRowValues() {
+
+        // Seeds of the row, its foreign keys and its columns ******************
+        long lvRowSeed = 0L;
+
+        if (seeded) {
+            lvRowSeed = RandomSeeds.split(seed, rowNumber);
+            columns.setSeed(RandomSeeds.split(lvRowSeed, 0L));
+        }
+
+        rowNumber++;
+
+        if (!columns.determineRandomForeignKeys()) {
+            return null;
+        }
+
+        if (!columns.determineRandomPrimaryKey(this)) {
+            return null;
+        }
+
+        final Object[] lvValues = new Object[columns.sizeColumns()];
+
+        for (int i = 1; i <= columns.sizeColumns(); i++) {
+
+            final Column lvColumn =
+                    columns.getColumn(columns.getColumnName(i));
+
+            final int lvDataType = lvColumn.getDataType();
+
+            if (seeded) {
+                random.setSeed(RandomSeeds.split(lvRowSeed, i));
+            }
+
+            switch (lvDataType) {
+                case java.sql.Types.CHAR:
+                case java.sql.Types.VARCHAR:
+                    lvValues[i - 1] =
+                            generateColumnValueVarchar(lvColumn, lvDataType);
+                    break;
+                case java.sql.Types.DATE:
+                    lvValues[i - 1] = generateColumnValueDate(lvColumn);
+                    break;
+                case java.sql.Types.DECIMAL:
+                case java.sql.Types.NUMERIC:
+                    lvValues[i - 1] = generateColumnValueNumeric(lvColumn);
+                    break;
+                default:
+                    trialRunProtocol.createErrorProtocol("SQL type="
+                            + lvColumn.getDataType()
+                            + Global.ERROR_NOT_YET_IMPLEMENTED, true);
+                    return null;
+            }
+        }
+
+        return lvValues;
+    }
+
+    private boolean generateRows(final long parExecutionFrequency) {
 
         for (int i = 0; i < parExecutionFrequency; i++) {
 
-            insertRow();
+            if (batchSize == 0) {
+                insertRow();
+            } else {
+                addRow();
+            }
 
             if (trialRunProtocol.isAborted()) {
                 return false;
             }
 
-            if (transactionSize >= Global.MAX_TRANSACTION_SIZE) {
-                if (!dbAccess.commit()) {
+            if (batchRows == batchSize && !flushBatch()) {
+                return false;
+            }
+
+            if (commitController.isCommitDue()) {
+                if (!(flushBatch() && commitController.commit(dbAccess)
+                        && updateCheckpoint())) {
                     return false;
                 }
 
-                transactionSize = 0;
-
-                LOGGER
-                        .log(Level.FINER,
-                                "Transaction limit succeeded, maximum="
-                                        + Global.MAX_TRANSACTION_SIZE
-                                        + " - total processed currently="
-                                        + numberRowsGenerated);
+                LOGGER.log(Level.FINER, "Transaction limit succeeded, total "
+                        + "processed currently=" + numberRowsGenerated);
             }
         }
 
-        if (!dbAccess.commit()) {
+        if (!(flushBatch() && commitController.commit(dbAccess)
+                && updateCheckpoint())) {
             return false;
         }
 
         return true;
     }
 
+    static char[] getAlphaNumericChars() {
+
+        return ALPHA_NUMERIC_CHARS.clone();
+    }
+
+    /**
+     * Returns the number of rows generated before the key filter, i.e. the
+     * number of attempted inserts.
+     * 
+     * @return the number of attempted rows.
+     */
+    public final long getNumberRowsAttempted() {
+
+        return numberRowsAttempted;
+    }
+
     /**
      * Returns the effective number of generated rows.
      * 
@@ -457,19 +771,93 @@ public class DataGenerator {
         return numberRowsGenerated;
     }
 
+    /**
+     * Returns the number of rows rejected by the key filter.
+     * 
+     * @return the number of rows with a duplicate primary key.
+     */
+    public final long getNumberRowsRejected() {
+
+        return numberRowsRejected;
+    }
+
     private boolean insertRow() {
 
+        final Object[] lvRowValues = generateRowValues();
+
+        if (lvRowValues == null) {
+            return false;
+        }
+
+        if (isDuplicateKey(lvRowValues)) {
+            return true;
+        }
+
         final StringBuffer lvNames = new StringBuffer();
         final StringBuffer lvValues = new StringBuffer();
 
-        if (!columns.determineRandomForeignKeys()) {
+        for (int i = 1; i <= columns.sizeColumns(); i++) {
+
+            if (i != 1) {
+                lvNames.append(',');
+                lvValues.append(',');
+            }
+
+            lvNames.append(columns.getColumnName(i));
+            lvValues.append(toLiteral(lvRowValues[i - 1]));
+        }
+
+        final boolean lvOk =
+                dbAccess.executeUpdate("INSERT INTO " + tableName + " ("
+                        + lvNames.toString() + ") VALUES ("
+                        + lvValues.toString() + ");", true);
+
+        if (lvOk) {
+            numberRowsGenerated++;
+            commitController.addRows(1L);
+        }
+
+        return lvOk;
+    }
+
+    private boolean isDuplicateKey(final Object[] parValues) {
+
+        numberRowsAttempted++;
+
+        if (keyFilter == null) {
             return false;
         }
 
-        if (!columns.determineRandomPrimaryKey(this)) {
+        if (keyPositions == null) {
+            keyPositions = determineKeyPositions();
+        }
+
+        if (keyPositions.length == 0) {
             return false;
         }
 
+        final Object[] lvKeyValues = new Object[keyPositions.length];
+
+        for (int i = 0; i < keyPositions.length; i++) {
+            lvKeyValues[i] = parValues[keyPositions[i]];
+        }
+
+        if (keyFilter.add(lvKeyValues)) {
+            return false;
+        }
+
+        numberRowsRejected++;
+
+        return true;
+    }
+
+    private boolean prepareInsert() {
+
+        final StringBuffer lvNames = new StringBuffer();
+        final StringBuffer lvValues = new StringBuffer();
+
+        dataTypes = new int[columns.sizeColumns()];
+
         for (int i = 1; i <= columns.sizeColumns(); i++) {
 
             if (i != 1) {
@@ -478,46 +866,238 @@ public class DataGenerator {
             }
 
             final String lvColumnName = columns.getColumnName(i);
-            final Column lvColumn = columns.getColumn(lvColumnName);
 
             lvNames.append(lvColumnName);
+            lvValues.append('?');
 
-            final int lvDataType = lvColumn.getDataType();
+            dataTypes[i - 1] = columns.getColumn(lvColumnName).getDataType();
+        }
 
-            switch (lvDataType) {
-                case java.sql.Types.CHAR:
-                case java.sql.Types.VARCHAR:
-                    final String lvValue =
-                            generateColumnValueVarchar(lvColumn, lvDataType);
-                    if (lvValue.equals(Global.NULL)) {
-                        lvValues.append(lvValue);
-                    } else {
-                        lvValues.append('\'' + lvValue + '\'');
-                    }
-                    break;
-                case java.sql.Types.DATE:
-                    lvValues.append(generateColumnValueDate(lvColumn));
-                    break;
-                case java.sql.Types.DECIMAL:
-                case java.sql.Types.NUMERIC:
-                    lvValues.append(generateColumnValueNumeric(lvColumn));
-                    break;
-                default:
-                    trialRunProtocol.createErrorProtocol("SQL type="
-                            + lvColumn.getDataType()
-                            + Global.ERROR_NOT_YET_IMPLEMENTED, true);
-                    return false;
+        insertStatement =
+                dbAccess.prepareUpdate("INSERT INTO " + tableName + " ("
+                        + lvNames.toString() + ") VALUES ("
+                        + lvValues.toString() + ")",
+                        Global.SQL_SYNTAX_CODE_SQL_99);
+
+        if (insertStatement == null) {
+            return false;
+        }
+
+        batchRows = 0;
+        batchValues = new Object[batchSize][];
+
+        return true;
+    }
+
+    /**
+     * Sets the number of rows inserted with one batch. A batch size of zero
+     * switches the batch mode off, i.e. every row is inserted with its own
+     * literal <code>INSERT</code> statement. A pending batch is always
+     * executed before a transaction is committed.
+     * 
+     * @param parBatchSize The number of rows per batch, at most
+     *            <code>Global.MAX_TRANSACTION_SIZE</code>.
+     */
+    public final void setBatchSize(final int parBatchSize) {
+
+        if (parBatchSize < 0 || parBatchSize > Global.MAX_TRANSACTION_SIZE) {
+            throw new IllegalArgumentException("Batch size " + parBatchSize
+                    + " is invalid");
+        }
+
+        batchSize = parBatchSize;
+    }
+
+    /**
+     * Sets the file of the bulk mode. In the bulk mode the rows are written
+     * into the file instead of being inserted into the database table, and
+     * the batch size is ignored.
+     * 
+     * @param parBulkFile The <code>BulkFileWriter</code> object, or
+     *            <code>null</code> to switch the bulk mode off.
+     */
+    public final void setBulkFile(final BulkFileWriter parBulkFile) {
+
+        bulkFile = parBulkFile;
+    }
+
+    /**
+     * Sets the checkpoint recording the committed rows of the database table.
+     * 
+     * @param parCheckpoint The <code>GenerationCheckpoint</code> object, or
+     *            <code>null</code> to record no progress.
+     * @param parIsShared <code>true</code> if several generators share the
+     *            checkpoint, so that the primary key values of the latest
+     *            row are not the highest ones and are not recorded.
+     */
+    public final void setCheckpoint(final GenerationCheckpoint parCheckpoint,
+            final boolean parIsShared) {
+
+        checkpoint = parCheckpoint;
+        checkpointShared = parIsShared;
+        numberRowsCheckpointed = numberRowsAttempted;
+    }
+
+    /**
+     * Sets the controller of the transaction size, so that the transaction
+     * size learnt for a database table is kept across the generator objects
+     * of the table.
+     * 
+     * @param parCommitController The <code>CommitController</code> object.
+     */
+    public final void setCommitController(
+            final CommitController parCommitController) {
+
+        if (parCommitController == null) {
+            throw new IllegalArgumentException(
+                    "CommitController is missing (null)");
+        }
+
+        commitController = parCommitController;
+    }
+
+    /**
+     * Sets the number of the first generated row, which determines together
+     * with the seed the random values of the rows.
+     * 
+     * @param parFirstRowNumber The number of the first row, counted from zero.
+     */
+    public final void setFirstRowNumber(final long parFirstRowNumber) {
+
+        if (parFirstRowNumber < 0L) {
+            throw new IllegalArgumentException("Row number "
+                    + parFirstRowNumber + " is invalid");
+        }
+
+        rowNumber = parFirstRowNumber;
+    }
+
+    /**
+     * Sets the filter rejecting rows whose primary key has already been sent
+     * to the database table.
+     * 
+     * @param parKeyFilter The <code>KeyFilter</code> object, or
+     *            <code>null</code> to send every row to the database.
+     */
+    public final void setKeyFilter(final KeyFilter parKeyFilter) {
+
+        keyFilter = parKeyFilter;
+    }
+
+    /**
+     * Sets the seed of the random values of the database table. Without a
+     * seed the random values are not reproducible.
+     * 
+     * @param parSeed The seed of the database table.
+     */
+    public final void setSeed(final long parSeed) {
+
+        seed = parSeed;
+        seeded = true;
+    }
+
+    /**
+     * Advances the primary key as if the given number of rows had been
+     * generated, without inserting any row. Thus several generators of the
+     * same database table can be given disjoint primary key ranges.
+     * 
+     * @param parRows The number of rows to be skipped.
+     * 
+     * @return <code>true</code> if the operation succeeeded and
+     *         <code>false</code> otherwise.
+     */
+    public final boolean skipRows(final long parRows) {
+
+        for (long i = 0L; i < parRows; i++) {
+            if (!columns.determineRandomPrimaryKey(this)) {
+                return false;
             }
         }
 
-        final boolean lvOk =
-                dbAccess.executeUpdate("INSERT INTO " + tableName + " ("
-                        + lvNames.toString() + ") VALUES ("
-                        + lvValues.toString() + ");", true);
+        return true;
+    }
 
-        if (lvOk) {
-            numberRowsGenerated++;
-            transactionSize++;
+    private static String toLiteral(final Object parValue) {
+
+        if (parValue == null) {
+            return Global.NULL;
+        }
+
+        if (parValue instanceof Date) {
+            return "CAST(TO_DATE('"
+                    + new SimpleDateFormat(Global.DATE_FORMAT_DD_MM_YYYY_JAVA)
+                            .format((Date) parValue) + "', '"
+                    + Global.DATE_FORMAT_DD_MM_YYYY_SQL + "') AS DATE)";
+        }
+
+        if (parValue instanceof String) {
+            return '\'' + (String) parValue + '\'';
+        }
+
+        return parValue.toString();
+    }
+
+    private boolean updateCheckpoint() {
+
+        if (checkpoint == null
+                || numberRowsAttempted == numberRowsCheckpointed) {
+            return true;
+        }
+
+        Object[] lvHighestValues = null;
+
+        if (!checkpointShared && columns.getPrimaryKey() != null) {
+            lvHighestValues = columns.getPrimaryKey().getHighestValues();
+        }
+
+        // Rejected rows are processed as well ********************************
+        final long lvRows = numberRowsAttempted - numberRowsCheckpointed;
+
+        numberRowsCheckpointed = numberRowsAttempted;
+
+        return checkpoint.update(lvRows, lvHighestValues);
+    }
+
+    private boolean writeRows(final long parExecutionFrequency) {
+
+        final String[] lvColumnNames = new String[columns.sizeColumns()];
+
+        for (int i = 1; i <= lvColumnNames.length; i++) {
+            lvColumnNames[i - 1] = columns.getColumnName(i);
+        }
+
+        if (!bulkFile.open(lvColumnNames)) {
+            return false;
+        }
+
+        boolean lvOk = false;
+
+        try {
+            for (long i = 0L; i < parExecutionFrequency; i++) {
+                final Object[] lvRowValues = generateRowValues();
+
+                if (lvRowValues == null) {
+                    return false;
+                }
+
+                if (!isDuplicateKey(lvRowValues)) {
+                    if (!bulkFile.writeRow(lvRowValues)) {
+                        return false;
+                    }
+
+                    numberRowsGenerated++;
+                }
+
+                if (trialRunProtocol.isAborted()) {
+                    return false;
+                }
+            }
+
+            lvOk = true;
+        } finally {
+            if (!bulkFile.close()) {
+                lvOk = false;
+            }
         }
 
         return lvOk;
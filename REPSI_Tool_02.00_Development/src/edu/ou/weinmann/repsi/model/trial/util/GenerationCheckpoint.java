@@ -0,0 +1,304 @@
+package edu.ou.weinmann.repsi.model.trial.util;
+
+import edu.ou.weinmann.repsi.model.mapper.TrialRunCheckpointMapper;
+
+import edu.ou.weinmann.repsi.model.util.Global;
+
+import java.math.BigDecimal;
+
+import java.sql.Date;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Records the progress of the data generation of one test suite action in
+ * the master database after every commit: the number of processed rows, the
+ * highest primary key values and the seed of the random values. A resumed
+ * trial run continues the data generation from these values instead of
+ * starting again from the first row. The highest primary key values are
+ * encoded per column as a type character, the length of the value, a colon
+ * and the value, the types being <code>N</code> for numbers,
+ * <code>D</code> for dates in milliseconds, <code>S</code> for strings and
+ * <code>X</code> for <code>null</code>.
+ * 
+ * @author Walter Weinmann
+ * 
+ */
+public final class GenerationCheckpoint {
+
+    private static final char TYPE_DATE = 'D';
+
+    private static final char TYPE_NULL = 'X';
+
+    private static final char TYPE_NUMERIC = 'N';
+
+    private static final char TYPE_STRING = 'S';
+
+    private final long executionFrequency;
+
+    private String highWaterMark;
+
+    private final TrialRunCheckpointMapper mapper;
+
+    private long numberRows;
+
+    private final Long seed;
+
+    private final long sequenceNumberAction;
+
+    private final String tableName;
+
+    /**
+     * Constructs a <code>GenerationCheckpoint</code> object.
+     * 
+     * @param parMapper The <code>TrialRunCheckpointMapper</code> object.
+     * @param parSequenceNumberAction The sequence number of the test suite
+     *            action.
+     * @param parTableName The name of the database table.
+     * @param parExecutionFrequency The number of rows to be generated.
+     * @param parNumberRows The number of rows processed by earlier trial
+     *            runs.
+     * @param parHighWaterMark The encoded highest primary key values recorded
+     *            by earlier trial runs, or <code>null</code>.
+     * @param parSeed The seed of the random values of the database table, or
+     *            <code>null</code> if the random values are not reproducible.
+     */
+    public GenerationCheckpoint(final TrialRunCheckpointMapper parMapper,
+            final long parSequenceNumberAction, final String parTableName,
+            final long parExecutionFrequency, final long parNumberRows,
+            final String parHighWaterMark, final Long parSeed) {
+
+        super();
+
+        if (parMapper == null) {
+            throw new IllegalArgumentException(
+                    "TrialRunCheckpointMapper is missing (null)");
+        }
+
+        if (parTableName == null) {
+            throw new IllegalArgumentException("Table name is missing (null)");
+        }
+
+        if (parNumberRows < 0L || parNumberRows > parExecutionFrequency) {
+            throw new IllegalArgumentException("Number of rows "
+                    + parNumberRows + " is invalid");
+        }
+
+        executionFrequency = parExecutionFrequency;
+        highWaterMark = parHighWaterMark;
+        mapper = parMapper;
+        numberRows = parNumberRows;
+        seed = parSeed;
+        sequenceNumberAction = parSequenceNumberAction;
+        tableName = parTableName;
+    }
+
+    /**
+     * Records that the test suite action has been completed.
+     * 
+     * @return <code>true</code> if the operation succeeeded and
+     *         <code>false</code> otherwise.
+     */
+    public synchronized boolean complete() {
+
+        numberRows = executionFrequency;
+
+        return mapper.setCheckpoint(sequenceNumberAction, tableName,
+                executionFrequency, numberRows, seed, highWaterMark,
+                Global.TRIAL_RUN_STATUS_END_ACTION);
+    }
+
+    /**
+     * Decodes the highest primary key values of a checkpoint.
+     * 
+     * @param parHighWaterMark The encoded values.
+     * 
+     * @return the values in the order of the primary key columns, or
+     *         <code>null</code> if the encoded values are missing or invalid.
+     */
+    public static Object[] decode(final String parHighWaterMark) {
+
+        if (parHighWaterMark == null || "".equals(parHighWaterMark)) {
+            return null;
+        }
+
+        final List<Object> lvValues = new ArrayList<Object>();
+
+        int lvPos = 0;
+
+        try {
+            while (lvPos < parHighWaterMark.length()) {
+                final char lvType = parHighWaterMark.charAt(lvPos);
+                final int lvColon = parHighWaterMark.indexOf(':', lvPos);
+
+                final int lvLength =
+                        Integer.parseInt(parHighWaterMark.substring(
+                                lvPos + 1, lvColon));
+                final String lvValue =
+                        parHighWaterMark.substring(lvColon + 1, lvColon + 1
+                                + lvLength);
+
+                switch (lvType) {
+                    case TYPE_DATE:
+                        lvValues.add(new Date(Long.parseLong(lvValue)));
+                        break;
+                    case TYPE_NULL:
+                        lvValues.add(null);
+                        break;
+                    case TYPE_NUMERIC:
+                        lvValues.add(new BigDecimal(lvValue));
+                        break;
+                    case TYPE_STRING:
+                        lvValues.add(lvValue);
+                        break;
+                    default:
+                        return null;
+                }
+
+                lvPos = lvColon + 1 + lvLength;
+            }
+        } catch (RuntimeException e) {
+            return null;
+        }
+
+        return lvValues.toArray();
+    }
+
+    /**
+     * Encodes the highest primary key values for a checkpoint.
+     * 
+     * @param parValues The values in the order of the primary key columns.
+     * 
+     * @return the encoded values, or <code>null</code> if there are no values
+     *         or a value of an unsupported type.
+     */
+    public static String encode(final Object[] parValues) {
+
+        if (parValues == null || parValues.length == 0) {
+            return null;
+        }
+
+        final StringBuffer lvEncoded = new StringBuffer();
+
+        for (int i = 0; i < parValues.length; i++) {
+            char lvType;
+            String lvValue;
+
+            if (parValues[i] == null) {
+                lvType = TYPE_NULL;
+                lvValue = "";
+            } else if (parValues[i] instanceof BigDecimal) {
+                lvType = TYPE_NUMERIC;
+                lvValue = ((BigDecimal) parValues[i]).toPlainString();
+            } else if (parValues[i] instanceof java.util.Date) {
+                lvType = TYPE_DATE;
+                lvValue =
+                        String.valueOf(((java.util.Date) parValues[i])
+                                .getTime());
+            } else if (parValues[i] instanceof String) {
+                lvType = TYPE_STRING;
+                lvValue = (String) parValues[i];
+            } else {
+                return null;
+            }
+
+            lvEncoded.append(lvType).append(lvValue.length()).append(':')
+                    .append(lvValue);
+        }
+
+        return lvEncoded.toString();
+    }
+
+    /**
+     * Returns the number of rows to be generated.
+     * 
+     * @return the number of rows to be generated.
+     */
+    public long getExecutionFrequency() {
+
+        return executionFrequency;
+    }
+
+    /**
+     * Returns the highest primary key values recorded so far.
+     * 
+     * @return the values in the order of the primary key columns, or
+     *         <code>null</code> if no values are recorded.
+     */
+    public synchronized Object[] getHighestValues() {
+
+        return decode(highWaterMark);
+    }
+
+    /**
+     * Returns the number of processed rows, including the rows of earlier
+     * trial runs.
+     * 
+     * @return the number of processed rows.
+     */
+    public synchronized long getNumberRows() {
+
+        return numberRows;
+    }
+
+    /**
+     * Returns the seed of the random values of the database table.
+     * 
+     * @return the seed, or <code>null</code> if the random values are not
+     *         reproducible.
+     */
+    public Long getSeed() {
+
+        return seed;
+    }
+
+    /**
+     * Returns the sequence number of the test suite action.
+     * 
+     * @return the sequence number of the test suite action.
+     */
+    public long getSequenceNumberAction() {
+
+        return sequenceNumberAction;
+    }
+
+    /**
+     * Returns the name of the database table.
+     * 
+     * @return the name of the database table.
+     */
+    public String getTableName() {
+
+        return tableName;
+    }
+
+    /**
+     * Records rows processed since the last checkpoint.
+     * 
+     * @param parRows The number of rows processed since the last checkpoint,
+     *            i.e. committed or rejected.
+     * @param parHighestValues The primary key values of the latest committed
+     *            row, or <code>null</code> if several generators share the
+     *            database table and the values are therefore not the highest
+     *            ones.
+     * 
+     * @return <code>true</code> if the operation succeeeded and
+     *         <code>false</code> otherwise.
+     */
+    public synchronized boolean update(final long parRows,
+            final Object[] parHighestValues) {
+
+        if (parRows < 0L) {
+            throw new IllegalArgumentException("Number of rows " + parRows
+                    + " is invalid");
+        }
+
+        numberRows += parRows;
+        highWaterMark = encode(parHighestValues);
+
+        return mapper.setCheckpoint(sequenceNumberAction, tableName,
+                executionFrequency, numberRows, seed, highWaterMark,
+                Global.TRIAL_RUN_STATUS_START_ACTION);
+    }
+}
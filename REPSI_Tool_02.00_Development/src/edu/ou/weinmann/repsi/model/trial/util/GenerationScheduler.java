@@ -0,0 +1,173 @@
+package edu.ou.weinmann.repsi.model.trial.util;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Orders the <code>INSERT_ROW</code> actions of a test suite into waves by
+ * the foreign keys of their database tables. An action depends on every
+ * other action generating one of its parent tables, and on every preceding
+ * action generating the same table. The actions of a wave depend only on
+ * actions of preceding waves, thus they can be generated at the same time,
+ * and the number of waves is the length of the longest dependency chain.
+ * Parent tables without an action of their own must already contain rows.
+ * 
+ * @author Walter Weinmann
+ * 
+ */
+public final class GenerationScheduler {
+
+    private final List<Set<String>> pkTableNames = new ArrayList<Set<String>>();
+
+    private final List<String> tableNames = new ArrayList<String>();
+
+    /**
+     * Constructs a <code>GenerationScheduler</code> object.
+     */
+    public GenerationScheduler() {
+
+        super();
+    }
+
+    /**
+     * Adds an action, in the order of the test suite.
+     * 
+     * @param parTableName The name of the generated database table.
+     * @param parPkTableNames The upper case names of the parent tables of the
+     *            database table.
+     * 
+     * @return the index of the action.
+     */
+    public int addAction(final String parTableName,
+            final Set<String> parPkTableNames) {
+
+        if (parTableName == null || "".equals(parTableName)) {
+            throw new IllegalArgumentException("Table name is missing (null)");
+        }
+
+        if (parPkTableNames == null) {
+            throw new IllegalArgumentException(
+                    "Parent table names are missing (null)");
+        }
+
+        tableNames.add(parTableName.toUpperCase());
+        pkTableNames.add(parPkTableNames);
+
+        return tableNames.size() - 1;
+    }
+
+    private boolean dependsOn(final int parAction, final int parOtherAction) {
+
+        final String lvTableName = tableNames.get(parAction);
+        final String lvOtherTableName = tableNames.get(parOtherAction);
+
+        if (lvTableName.equals(lvOtherTableName)) {
+            return parOtherAction < parAction;
+        }
+
+        return pkTableNames.get(parAction).contains(lvOtherTableName);
+    }
+
+    /**
+     * Determines the waves of the actions by a topological sort of their
+     * dependencies.
+     * 
+     * @return the indexes of the actions of every wave in ascending order,
+     *         or <code>null</code> if the foreign keys of the database tables
+     *         form a cycle.
+     */
+    public List<int[]> determineWaves() {
+
+        final int lvSize = tableNames.size();
+
+        // Dependencies of the actions *****************************************
+        final int[] lvOpen = new int[lvSize];
+        final List<List<Integer>> lvDependants =
+                new ArrayList<List<Integer>>(lvSize);
+
+        for (int i = 0; i < lvSize; i++) {
+            lvDependants.add(new ArrayList<Integer>());
+        }
+
+        for (int i = 0; i < lvSize; i++) {
+            for (int j = 0; j < lvSize; j++) {
+                if (i != j && dependsOn(i, j)) {
+                    lvOpen[i]++;
+                    lvDependants.get(j).add(Integer.valueOf(i));
+                }
+            }
+        }
+
+        // Waves of actions without open dependencies **************************
+        final List<int[]> lvWaves = new ArrayList<int[]>();
+
+        List<Integer> lvWave = new ArrayList<Integer>();
+
+        for (int i = 0; i < lvSize; i++) {
+            if (lvOpen[i] == 0) {
+                lvWave.add(Integer.valueOf(i));
+            }
+        }
+
+        int lvScheduled = 0;
+
+        while (!lvWave.isEmpty()) {
+            Collections.sort(lvWave);
+
+            final int[] lvActions = new int[lvWave.size()];
+            final List<Integer> lvNextWave = new ArrayList<Integer>();
+
+            for (int i = 0; i < lvActions.length; i++) {
+                lvActions[i] = lvWave.get(i).intValue();
+
+                final List<Integer> lvActionDependants =
+                        lvDependants.get(lvActions[i]);
+
+                for (int j = 0; j < lvActionDependants.size(); j++) {
+                    final int lvDependant =
+                            lvActionDependants.get(j).intValue();
+
+                    lvOpen[lvDependant]--;
+
+                    if (lvOpen[lvDependant] == 0) {
+                        lvNextWave.add(Integer.valueOf(lvDependant));
+                    }
+                }
+            }
+
+            lvWaves.add(lvActions);
+            lvScheduled += lvActions.length;
+            lvWave = lvNextWave;
+        }
+
+        if (lvScheduled < lvSize) {
+            return null;
+        }
+
+        return lvWaves;
+    }
+
+    /**
+     * Returns the name of the database table of an action.
+     * 
+     * @param parAction The index of the action.
+     * 
+     * @return the upper case name of the database table.
+     */
+    public String getTableName(final int parAction) {
+
+        return tableNames.get(parAction);
+    }
+
+    /**
+     * Returns the number of actions.
+     * 
+     * @return the number of actions.
+     */
+    public int size() {
+
+        return tableNames.size();
+    }
+}
@@ -0,0 +1,203 @@
+package edu.ou.weinmann.repsi.model.trial.util;
+
+import edu.ou.weinmann.repsi.model.util.Global;
+
+import java.math.BigDecimal;
+
+import java.util.Date;
+
+/**
+ * Rejects generated primary keys which have already been sent to a database
+ * table, so that duplicate keys do not cost a failed round trip to the
+ * database. Every key is recorded with its column values and a 64 bit hash
+ * of them in an open addressing table. The hash only locates the candidates:
+ * a key is a duplicate only if its column values equal those of a recorded
+ * key, so that a hash collision never rejects a new key. Keys existing in the
+ * database table before the generation are not known to the filter and are
+ * still rejected by the database. Once the maximum number of keys is
+ * recorded, further keys are passed on unchecked. The filter may be shared by
+ * several generators of the same database table.
+ * 
+ * @author Walter Weinmann
+ * 
+ */
+public final class KeyFilter {
+
+    private static final long FNV_OFFSET_BASIS = 0xcbf29ce484222325L;
+
+    private static final long FNV_PRIME = 0x100000001b3L;
+
+    private static final int INITIAL_CAPACITY = 1024;
+
+    private long[] hashes;
+
+    private Object[][] keys;
+
+    private final int maxSize;
+
+    private int size;
+
+    /**
+     * Constructs a <code>KeyFilter</code> object recording at most
+     * <code>Global.MAX_KEY_FILTER_SIZE</code> keys.
+     */
+    public KeyFilter() {
+
+        this(Global.MAX_KEY_FILTER_SIZE);
+    }
+
+    /**
+     * Constructs a <code>KeyFilter</code> object.
+     * 
+     * @param parMaxSize The maximum number of recorded keys.
+     */
+    public KeyFilter(final int parMaxSize) {
+
+        super();
+
+        if (parMaxSize < 1) {
+            throw new IllegalArgumentException("Maximum size " + parMaxSize
+                    + " is invalid");
+        }
+
+        hashes = new long[INITIAL_CAPACITY];
+        keys = new Object[INITIAL_CAPACITY][];
+        maxSize = parMaxSize;
+        size = 0;
+    }
+
+    /**
+     * Records a key unless it has been recorded before.
+     * 
+     * @param parKeyValues The values of the primary key columns. The array is
+     *            recorded and must not be changed afterwards.
+     * 
+     * @return <code>true</code> if the key is new or the filter is full, and
+     *         <code>false</code> if the key is a duplicate.
+     */
+    public synchronized boolean add(final Object[] parKeyValues) {
+
+        if (parKeyValues == null) {
+            throw new IllegalArgumentException("Key values are missing (null)");
+        }
+
+        final long lvHash = hash(parKeyValues);
+
+        int lvPos = find(lvHash, parKeyValues);
+
+        if (keys[lvPos] != null) {
+            return false;
+        }
+
+        if (size >= maxSize) {
+            return true;
+        }
+
+        if (2 * (size + 1) > keys.length) {
+            resize();
+            lvPos = find(lvHash, parKeyValues);
+        }
+
+        hashes[lvPos] = lvHash;
+        keys[lvPos] = parKeyValues;
+        size++;
+
+        return true;
+    }
+
+    private static boolean equals(final Object[] parKeyValues1,
+            final Object[] parKeyValues2) {
+
+        if (parKeyValues1.length != parKeyValues2.length) {
+            return false;
+        }
+
+        for (int i = 0; i < parKeyValues1.length; i++) {
+            if (!toString(parKeyValues1[i]).equals(
+                    toString(parKeyValues2[i]))) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    private int find(final long parHash, final Object[] parKeyValues) {
+
+        final int lvMask = keys.length - 1;
+
+        int lvPos = (int) (parHash ^ (parHash >>> 32)) & lvMask;
+
+        // Equal hashes of different keys are passed over *********************
+        while (keys[lvPos] != null
+                && !(hashes[lvPos] == parHash && equals(keys[lvPos],
+                        parKeyValues))) {
+            lvPos = (lvPos + 1) & lvMask;
+        }
+
+        return lvPos;
+    }
+
+    /**
+     * Returns the number of recorded keys.
+     * 
+     * @return the number of recorded keys.
+     */
+    public synchronized int getSize() {
+
+        return size;
+    }
+
+    private static long hash(final Object[] parKeyValues) {
+
+        long lvHash = FNV_OFFSET_BASIS;
+
+        for (int i = 0; i < parKeyValues.length; i++) {
+            final String lvValue = toString(parKeyValues[i]);
+
+            for (int j = 0; j < lvValue.length(); j++) {
+                lvHash = (lvHash ^ lvValue.charAt(j)) * FNV_PRIME;
+            }
+
+            // Separator of the column values **********************************
+            lvHash = (lvHash ^ 0xffffL) * FNV_PRIME;
+        }
+
+        return lvHash;
+    }
+
+    private void resize() {
+
+        final long[] lvHashes = hashes;
+        final Object[][] lvKeys = keys;
+
+        hashes = new long[lvKeys.length * 2];
+        keys = new Object[lvKeys.length * 2][];
+
+        for (int i = 0; i < lvKeys.length; i++) {
+            if (lvKeys[i] != null) {
+                final int lvPos = find(lvHashes[i], lvKeys[i]);
+
+                hashes[lvPos] = lvHashes[i];
+                keys[lvPos] = lvKeys[i];
+            }
+        }
+    }
+
+    private static String toString(final Object parValue) {
+
+        if (parValue == null) {
+            return "\u0000";
+        }
+
+        if (parValue instanceof BigDecimal) {
+            return ((BigDecimal) parValue).toPlainString();
+        }
+
+        if (parValue instanceof Date) {
+            return String.valueOf(((Date) parValue).getTime());
+        }
+
+        return parValue.toString();
+    }
+}
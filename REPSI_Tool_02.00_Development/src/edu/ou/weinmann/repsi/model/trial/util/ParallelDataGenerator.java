@@ -0,0 +1,428 @@
+package edu.ou.weinmann.repsi.model.trial.util;
+
+import edu.ou.weinmann.repsi.model.mapper.TrialRunProtocolMapper;
+
+import edu.ou.weinmann.repsi.model.trial.metadata.Columns;
+import edu.ou.weinmann.repsi.model.trial.metadata.MetaDataCache;
+import edu.ou.weinmann.repsi.model.trial.metadata.ParentKeySamples;
+
+import edu.ou.weinmann.repsi.model.util.CommitController;
+import edu.ou.weinmann.repsi.model.util.DatabaseAccessor;
+import edu.ou.weinmann.repsi.model.util.Global;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Generates the rows of a database table in several partitions at the same
+ * time. Every partition is generated by its own worker thread with its own
+ * <code>DataGenerator</code> object on its own database connection, and
+ * commits independently of the other partitions. The requested number of
+ * rows is split into partitions of nearly equal size. Every partition
+ * reserves a contiguous range of the new values of a single column primary
+ * key from the same <code>PrimaryKeySequencer</code> object; any other
+ * primary key of every partition is advanced by the sizes of all preceding
+ * partitions. Thus the primary key ranges of the partitions are disjoint,
+ * and with a seed the rows are the same as those of a serial generation.
+ * All partitions record their committed rows in the same optional
+ * <code>GenerationCheckpoint</code> object, check their primary keys
+ * against the same optional <code>KeyFilter</code> object and size their
+ * transactions with partition controllers of the same optional
+ * <code>CommitController</code> object.
+ * 
+ * @author Walter Weinmann
+ * 
+ */
+public final class ParallelDataGenerator {
+
+    private static final Logger LOGGER =
+            Logger.getLogger(ParallelDataGenerator.class.getPackage().getName());
+
+    private int batchSize;
+
+    private final String catalog;
+
+    private GenerationCheckpoint checkpoint;
+
+    private CommitController commitController;
+
+    private final DatabaseAccessor[] dbAccess;
+
+    private KeyFilter keyFilter;
+
+    private long firstRowNumber;
+
+    private MetaDataCache metaDataCache;
+
+    private long numberRowsAttempted;
+
+    private long numberRowsGenerated;
+
+    private long numberRowsRejected;
+
+    private ParentKeySamples parentKeySamples;
+
+    private final String schema;
+
+    private long seed;
+
+    private boolean seeded;
+
+    private final String tableName;
+
+    private final TrialRunProtocolMapper trialRunProtocol;
+
+    /**
+     * Constructs a <code>ParallelDataGenerator</code> object.
+     * 
+     * @param parTrialRunProtocol The <code>TrialRunProtocolMapper</code>
+     *            object.
+     * @param parDBAccess The <code>DatabaseAccessor</code> objects with the
+     *            open connections, one per partition.
+     * @param parCatalog The database catalogue name.
+     * @param parSchema The database schema name.
+     * @param parTableName The name of an existing database table in the given
+     *            database.
+     */
+    public ParallelDataGenerator(
+            final TrialRunProtocolMapper parTrialRunProtocol,
+            final DatabaseAccessor[] parDBAccess, final String parCatalog,
+            final String parSchema, final String parTableName) {
+
+        super();
+
+        if (parTrialRunProtocol == null) {
+            throw new IllegalArgumentException(
+                    "TrialRunProtocolMapper is missing (null)");
+        }
+
+        if (parDBAccess == null || parDBAccess.length == 0) {
+            throw new IllegalArgumentException(
+                    "DatabaseAccessor objects are missing (null)");
+        }
+
+        if (parTableName == null || "".equals(parTableName)) {
+            throw new IllegalArgumentException("Table name is missing (null)");
+        }
+
+        batchSize = 0;
+        catalog = parCatalog;
+        dbAccess = parDBAccess.clone();
+        firstRowNumber = 0L;
+        numberRowsAttempted = 0L;
+        numberRowsGenerated = 0L;
+        numberRowsRejected = 0L;
+        parentKeySamples =
+                new ParentKeySamples(Global.FOREIGN_KEY_SAMPLE_SIZE);
+        schema = parSchema;
+        seeded = false;
+        tableName = parTableName;
+        trialRunProtocol = parTrialRunProtocol;
+    }
+
+    /**
+     * Generates a set of rows in the database table.
+     * 
+     * @param parExecutionFrequency The number of rows to be generated.
+     * 
+     * @return <code>true</code> if all partitions were generated
+     *         successfully, and <code>false</code> otherwise.
+     */
+    public boolean generateRow(final long parExecutionFrequency) {
+
+        if (parExecutionFrequency == 0) {
+            return true;
+        }
+
+        final int lvPartitions =
+                (int) Math.min(dbAccess.length, parExecutionFrequency);
+
+        // Meta data and primary key range of every partition ******************
+        final List<Partition> lvTasks = new ArrayList<Partition>(lvPartitions);
+
+        long lvOffset = firstRowNumber;
+
+        PrimaryKeySequencer lvSequencer = null;
+
+        for (int i = 0; i < lvPartitions; i++) {
+            long lvRows = parExecutionFrequency / lvPartitions;
+
+            if (i < parExecutionFrequency % lvPartitions) {
+                lvRows++;
+            }
+
+            final Columns lvColumns =
+                    new Columns(trialRunProtocol, dbAccess[i], catalog,
+                            schema, tableName, parentKeySamples,
+                            metaDataCache);
+
+            if (i == 0) {
+                lvSequencer = lvColumns.getPrimaryKey().getSequencer();
+            } else if (lvSequencer != null) {
+                lvColumns.getPrimaryKey().setSequencer(lvSequencer);
+            }
+
+            final DataGenerator lvDataGenerator =
+                    new DataGenerator(trialRunProtocol, dbAccess[i],
+                            tableName, lvColumns);
+
+            lvDataGenerator.setBatchSize(batchSize);
+            lvDataGenerator.setCheckpoint(checkpoint, true);
+
+            if (commitController != null) {
+                lvDataGenerator.setCommitController(commitController
+                        .getPartitionController());
+            }
+
+            lvDataGenerator.setFirstRowNumber(lvOffset);
+            lvDataGenerator.setKeyFilter(keyFilter);
+
+            if (seeded) {
+                lvDataGenerator.setSeed(seed);
+            }
+
+            if (lvSequencer == null) {
+                if (!lvDataGenerator.skipRows(lvOffset - firstRowNumber)) {
+                    return false;
+                }
+            } else if (!lvColumns.getPrimaryKey().reserve(lvRows)) {
+                return false;
+            }
+
+            lvTasks.add(new Partition(lvDataGenerator, i + 1, lvPartitions,
+                    lvRows));
+
+            lvOffset += lvRows;
+        }
+
+        // Generation of the partitions ****************************************
+        final ExecutorService lvExecutor =
+                Executors.newFixedThreadPool(lvPartitions);
+
+        boolean lvReturn = true;
+
+        try {
+            final List<Future<Boolean>> lvFutures =
+                    lvExecutor.invokeAll(lvTasks);
+
+            for (int i = 0; i < lvPartitions; i++) {
+                if (!lvFutures.get(i).get().booleanValue()) {
+                    lvReturn = false;
+                }
+
+                final DataGenerator lvDataGenerator =
+                        lvTasks.get(i).dataGenerator;
+
+                numberRowsAttempted +=
+                        lvDataGenerator.getNumberRowsAttempted();
+                numberRowsGenerated +=
+                        lvDataGenerator.getNumberRowsGenerated();
+                numberRowsRejected += lvDataGenerator.getNumberRowsRejected();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            LOGGER.log(Level.SEVERE, "Data generation interrupted, table="
+                    + tableName, e);
+            return false;
+        } catch (ExecutionException e) {
+            LOGGER.log(Level.SEVERE, "Data generation failed, table="
+                    + tableName, e.getCause());
+            return false;
+        } finally {
+            lvExecutor.shutdownNow();
+        }
+
+        return lvReturn;
+    }
+
+    /**
+     * Returns the number of attempted rows of all partitions.
+     * 
+     * @return the number of attempted rows.
+     * 
+     * @see DataGenerator#getNumberRowsAttempted()
+     */
+    public long getNumberRowsAttempted() {
+
+        return numberRowsAttempted;
+    }
+
+    /**
+     * Returns the effective number of generated rows of all partitions.
+     * 
+     * @return the effective number of generated rows.
+     */
+    public long getNumberRowsGenerated() {
+
+        return numberRowsGenerated;
+    }
+
+    /**
+     * Returns the number of rows of all partitions rejected by the key
+     * filter.
+     * 
+     * @return the number of rows with a duplicate primary key.
+     */
+    public long getNumberRowsRejected() {
+
+        return numberRowsRejected;
+    }
+
+    /**
+     * Sets the number of rows inserted with one batch in every partition.
+     * 
+     * @param parBatchSize The number of rows per batch, zero for literal
+     *            <code>INSERT</code> statements.
+     * 
+     * @see DataGenerator#setBatchSize(int)
+     */
+    public void setBatchSize(final int parBatchSize) {
+
+        batchSize = parBatchSize;
+    }
+
+    /**
+     * Sets the checkpoint recording the committed rows of all partitions.
+     * 
+     * @param parCheckpoint The <code>GenerationCheckpoint</code> object, or
+     *            <code>null</code> to record no progress.
+     */
+    public void setCheckpoint(final GenerationCheckpoint parCheckpoint) {
+
+        checkpoint = parCheckpoint;
+    }
+
+    /**
+     * Sets the controller whose transaction size is shared and adapted by
+     * the partitions.
+     * 
+     * @param parCommitController The <code>CommitController</code> object,
+     *            or <code>null</code> to size the transactions of every
+     *            partition on its own.
+     */
+    public void setCommitController(
+            final CommitController parCommitController) {
+
+        commitController = parCommitController;
+    }
+
+    /**
+     * Sets the number of the first generated row, e.g. the number of rows
+     * committed by an aborted trial run.
+     * 
+     * @param parFirstRowNumber The number of the first row, counted from zero.
+     * 
+     * @see DataGenerator#setFirstRowNumber(long)
+     */
+    public void setFirstRowNumber(final long parFirstRowNumber) {
+
+        if (parFirstRowNumber < 0L) {
+            throw new IllegalArgumentException("Row number "
+                    + parFirstRowNumber + " is invalid");
+        }
+
+        firstRowNumber = parFirstRowNumber;
+    }
+
+    /**
+     * Sets the filter shared by the partitions rejecting rows whose primary
+     * key has already been sent to the database table.
+     * 
+     * @param parKeyFilter The <code>KeyFilter</code> object, or
+     *            <code>null</code> to send every row to the database.
+     */
+    public void setKeyFilter(final KeyFilter parKeyFilter) {
+
+        keyFilter = parKeyFilter;
+    }
+
+    /**
+     * Sets the cache of the data dictionary entries shared by the partitions
+     * and by the other tables of the trial run.
+     * 
+     * @param parMetaDataCache The <code>MetaDataCache</code> object, or
+     *            <code>null</code> to read the data dictionary for every
+     *            partition.
+     */
+    public void setMetaDataCache(final MetaDataCache parMetaDataCache) {
+
+        metaDataCache = parMetaDataCache;
+    }
+
+    /**
+     * Sets the parent key samples shared by the partitions and by the other
+     * tables of the trial run.
+     * 
+     * @param parParentKeySamples The <code>ParentKeySamples</code> object.
+     */
+    public void setParentKeySamples(
+            final ParentKeySamples parParentKeySamples) {
+
+        if (parParentKeySamples == null) {
+            throw new IllegalArgumentException(
+                    "ParentKeySamples is missing (null)");
+        }
+
+        parentKeySamples = parParentKeySamples;
+    }
+
+    /**
+     * Sets the seed of the random values of the database table.
+     * 
+     * @param parSeed The seed of the database table.
+     * 
+     * @see DataGenerator#setSeed(long)
+     */
+    public void setSeed(final long parSeed) {
+
+        seed = parSeed;
+        seeded = true;
+    }
+
+    /**
+     * Generates the rows of one partition and reports the number of generated
+     * rows to the trial run protocol.
+     */
+    private final class Partition implements Callable<Boolean> {
+
+        private final DataGenerator dataGenerator;
+
+        private final int number;
+
+        private final int partitions;
+
+        private final long rows;
+
+        Partition(final DataGenerator parDataGenerator, final int parNumber,
+                final int parPartitions, final long parRows) {
+
+            super();
+
+            dataGenerator = parDataGenerator;
+            number = parNumber;
+            partitions = parPartitions;
+            rows = parRows;
+        }
+
+        public Boolean call() {
+
+            final boolean lvOk = dataGenerator.generateRow(rows);
+
+            trialRunProtocol.createProtocol("Partition " + number + "/"
+                    + partitions + " rows generated", dataGenerator
+                    .getNumberRowsGenerated()
+                    + " of " + rows);
+
+            return Boolean.valueOf(lvOk);
+        }
+    }
+}
@@ -0,0 +1,284 @@
+package edu.ou.weinmann.repsi.model.trial.util;
+
+import edu.ou.weinmann.repsi.model.trial.metadata.Column;
+
+import edu.ou.weinmann.repsi.model.util.Global;
+
+import java.math.BigDecimal;
+
+import java.sql.Date;
+
+import java.util.Arrays;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Hands out the new values of a single column primary key in blocks. Every
+ * key value is represented by an ordinal, the number of increments following
+ * the highest existing value: numeric keys and date keys as a primitive
+ * <code>long</code> base value, alphanumeric keys as the position of their
+ * trailing characters in the sequence of <code>DataGenerator</code>. The
+ * next free ordinal is shared by all generators of a database table and is
+ * advanced without locking, thus every generator can draw its own block of
+ * ordinals and convert them into key values independently of the others.
+ * 
+ * @author Walter Weinmann
+ * 
+ */
+public final class PrimaryKeySequencer {
+
+    private static final char[] ALPHA_NUMERIC_CHARS =
+            DataGenerator.getAlphaNumericChars();
+
+    private static final int[] ALPHA_NUMERIC_POSITIONS =
+            createAlphaNumericPositions();
+
+    private static final int ALPHA_NUMERIC_SIZE = ALPHA_NUMERIC_CHARS.length;
+
+    private static final int MAX_VARCHAR_DIGITS = 10;
+
+    private final long base;
+
+    private final int dataType;
+
+    private final int digits;
+
+    private final long limit;
+
+    private final AtomicLong next = new AtomicLong();
+
+    private final char[] prefix;
+
+    private PrimaryKeySequencer(final int parDataType, final long parBase,
+            final long parLimit, final char[] parPrefix, final int parDigits) {
+
+        super();
+
+        base = parBase;
+        dataType = parDataType;
+        digits = parDigits;
+        limit = Math.max(0L, parLimit);
+        prefix = parPrefix;
+    }
+
+    /**
+     * Allocates the next block of ordinals.
+     * 
+     * @param parBlockSize The requested number of ordinals.
+     * 
+     * @return the first ordinal of the block, or <code>-1</code> if the range
+     *         of the primary key is exhausted. The block ends with the
+     *         smaller of the first ordinal plus the block size and the limit.
+     */
+    public long allocate(final long parBlockSize) {
+
+        if (parBlockSize < 1L) {
+            throw new IllegalArgumentException("Block size " + parBlockSize
+                    + " is invalid");
+        }
+
+        while (true) {
+            final long lvFirst = next.get();
+
+            if (lvFirst >= limit) {
+                return -1L;
+            }
+
+            if (next.compareAndSet(lvFirst, lvFirst
+                    + Math.min(parBlockSize, limit - lvFirst))) {
+                return lvFirst;
+            }
+        }
+    }
+
+    /**
+     * Creates a <code>PrimaryKeySequencer</code> object for a primary key
+     * column.
+     * 
+     * @param parColumn The primary key column.
+     * @param parHighestValue The highest existing value of the column, or the
+     *            lowest possible value if the database table is empty.
+     * 
+     * @return the <code>PrimaryKeySequencer</code> object, or
+     *         <code>null</code> if the type or the value of the column cannot
+     *         be represented by ordinals.
+     */
+    public static PrimaryKeySequencer create(final Column parColumn,
+            final Object parHighestValue) {
+
+        if (parColumn == null) {
+            throw new IllegalArgumentException("Column is missing (null)");
+        }
+
+        if (parHighestValue == null) {
+            return null;
+        }
+
+        switch (parColumn.getDataType()) {
+            case java.sql.Types.CHAR:
+            case java.sql.Types.VARCHAR:
+                return createVarchar(parColumn, parHighestValue);
+            case java.sql.Types.DATE:
+                return createDate(parHighestValue);
+            case java.sql.Types.DECIMAL:
+            case java.sql.Types.NUMERIC:
+                return createNumeric(parColumn, parHighestValue);
+            default:
+                return null;
+        }
+    }
+
+    private static int[] createAlphaNumericPositions() {
+
+        final int[] lvPositions = new int[Character.MAX_VALUE + 1];
+
+        Arrays.fill(lvPositions, -1);
+
+        for (int i = 0; i < ALPHA_NUMERIC_CHARS.length; i++) {
+            lvPositions[ALPHA_NUMERIC_CHARS[i]] = i;
+        }
+
+        return lvPositions;
+    }
+
+    private static PrimaryKeySequencer createDate(final Object parHighestValue) {
+
+        if (!(parHighestValue instanceof java.util.Date)) {
+            return null;
+        }
+
+        final long lvBase = ((java.util.Date) parHighestValue).getTime();
+
+        return new PrimaryKeySequencer(java.sql.Types.DATE, lvBase,
+                (Long.MAX_VALUE - Math.max(0L, lvBase)) / Global.DAY_FACTOR
+                        - 1L, null, 0);
+    }
+
+    private static PrimaryKeySequencer createNumeric(final Column parColumn,
+            final Object parHighestValue) {
+
+        if (parColumn.getDecimalDigits() != 0
+                || !(parHighestValue instanceof BigDecimal)) {
+            return null;
+        }
+
+        final BigDecimal lvHighestValue = (BigDecimal) parHighestValue;
+
+        if (lvHighestValue.signum() < 0
+                || lvHighestValue.compareTo(BigDecimal.valueOf(Long.MAX_VALUE)) >= 0) {
+            return null;
+        }
+
+        final long lvBase = lvHighestValue.longValue();
+
+        if (BigDecimal.valueOf(lvBase).compareTo(lvHighestValue) != 0) {
+            return null;
+        }
+
+        final BigDecimal lvMaxValue =
+                parColumn.getDecimalFactor().subtract(BigDecimal.ONE);
+
+        long lvMax = Long.MAX_VALUE;
+
+        if (lvMaxValue.compareTo(BigDecimal.valueOf(Long.MAX_VALUE)) < 0) {
+            lvMax = lvMaxValue.longValue();
+        }
+
+        return new PrimaryKeySequencer(java.sql.Types.NUMERIC, lvBase, lvMax
+                - lvBase, null, 0);
+    }
+
+    private static PrimaryKeySequencer createVarchar(final Column parColumn,
+            final Object parHighestValue) {
+
+        if (!(parHighestValue instanceof String)) {
+            return null;
+        }
+
+        // An empty table starts with the lowest value itself ******************
+        String lvValue = (String) parHighestValue;
+        long lvStart = 1L;
+
+        if ("".equals(lvValue)) {
+            lvValue = DataGenerator.generateColumnValueVarcharKeyLow(parColumn);
+            lvStart = 0L;
+        }
+
+        final char[] lvChars = lvValue.toCharArray();
+        final int lvDigits = Math.min(lvChars.length, MAX_VARCHAR_DIGITS);
+        final int lvPrefixLength = lvChars.length - lvDigits;
+
+        long lvBase = 0L;
+        long lvRange = 1L;
+
+        for (int i = lvPrefixLength; i < lvChars.length; i++) {
+            final int lvPosition = ALPHA_NUMERIC_POSITIONS[lvChars[i]];
+
+            if (lvPosition < 0) {
+                return null;
+            }
+
+            lvBase = lvBase * ALPHA_NUMERIC_SIZE + lvPosition;
+            lvRange *= ALPHA_NUMERIC_SIZE;
+        }
+
+        final char[] lvPrefix = new char[lvPrefixLength];
+
+        System.arraycopy(lvChars, 0, lvPrefix, 0, lvPrefixLength);
+
+        return new PrimaryKeySequencer(java.sql.Types.VARCHAR, lvBase
+                + lvStart, lvRange - lvBase - lvStart, lvPrefix, lvDigits);
+    }
+
+    /**
+     * Returns the number of ordinals of the primary key.
+     * 
+     * @return the exclusive upper bound of the ordinals.
+     */
+    public long getLimit() {
+
+        return limit;
+    }
+
+    /**
+     * Returns the primary key value of an ordinal.
+     * 
+     * @param parOrdinal An ordinal of an allocated block.
+     * 
+     * @return a <code>BigDecimal</code>, <code>Date</code> or
+     *         <code>String</code> object depending on the column type.
+     */
+    public Object getValue(final long parOrdinal) {
+
+        if (parOrdinal < 0L || parOrdinal >= limit) {
+            throw new IllegalArgumentException("Ordinal " + parOrdinal
+                    + " is invalid");
+        }
+
+        switch (dataType) {
+            case java.sql.Types.DATE:
+                return new Date(base + (parOrdinal + 1L) * Global.DAY_FACTOR);
+            case java.sql.Types.NUMERIC:
+                return BigDecimal.valueOf(base + parOrdinal + 1L);
+            default:
+                return getValueVarchar(base + parOrdinal);
+        }
+    }
+
+    private String getValueVarchar(final long parPosition) {
+
+        final char[] lvChars = new char[prefix.length + digits];
+
+        System.arraycopy(prefix, 0, lvChars, 0, prefix.length);
+
+        long lvPosition = parPosition;
+
+        for (int i = lvChars.length - 1; i >= prefix.length; i--) {
+            lvChars[i] =
+                    ALPHA_NUMERIC_CHARS[(int) (lvPosition % ALPHA_NUMERIC_SIZE)];
+            lvPosition /= ALPHA_NUMERIC_SIZE;
+        }
+
+        return new String(lvChars);
+    }
+}
@@ -0,0 +1,118 @@
+package edu.ou.weinmann.repsi.model.trial.util;
+
+import edu.ou.weinmann.repsi.model.util.DatabaseAccessor;
+
+import java.io.File;
+
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Implements the <code>BulkLoader</code> interface with a bulk load
+ * statement executed on the test database, e.g.
+ * <code>INSERT INTO {table} ({columns}) SELECT * FROM CSVREAD('{file}')</code>
+ * for an embedded database or
+ * <code>COPY {table} ({columns}) FROM '{file}' WITH CSV HEADER</code>.
+ * 
+ * @author Walter Weinmann
+ * 
+ */
+public final class SqlBulkLoader implements BulkLoader {
+
+    private static final Logger LOGGER =
+            Logger.getLogger(SqlBulkLoader.class.getPackage().getName());
+
+    private final DatabaseAccessor dbAccess;
+
+    private final String statement;
+
+    /**
+     * Constructs a <code>SqlBulkLoader</code> object.
+     * 
+     * @param parDBAccess The <code>DatabaseAccessor</code> object of the
+     *            test database.
+     * @param parStatement The bulk load statement with placeholders.
+     */
+    public SqlBulkLoader(final DatabaseAccessor parDBAccess,
+            final String parStatement) {
+
+        super();
+
+        if (parDBAccess == null) {
+            throw new IllegalArgumentException(
+                    "DatabaseAccessor is missing (null)");
+        }
+
+        if (parStatement == null || "".equals(parStatement.trim())) {
+            throw new IllegalArgumentException("Statement is missing (null)");
+        }
+
+        dbAccess = parDBAccess;
+        statement = parStatement;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public boolean load(final String parTableName,
+            final String[] parColumnNames, final File parFile) {
+
+        final String lvStatement =
+                replacePlaceholders(statement, parTableName, parColumnNames,
+                        parFile);
+
+        if (!dbAccess.executeUpdate(lvStatement)) {
+            LOGGER.log(Level.SEVERE, "Bulk load of table=" + parTableName
+                    + " failed, statement=" + lvStatement);
+            return false;
+        }
+
+        return dbAccess.commit();
+    }
+
+    /**
+     * Replaces the placeholders of a loader command or statement.
+     * 
+     * @param parTemplate The command or statement with placeholders.
+     * @param parTableName The name of the database table.
+     * @param parColumnNames The names of the columns.
+     * @param parFile The file to be loaded.
+     * 
+     * @return the command or statement without placeholders.
+     */
+    protected static String replacePlaceholders(final String parTemplate,
+            final String parTableName, final String[] parColumnNames,
+            final File parFile) {
+
+        final StringBuffer lvColumns = new StringBuffer();
+
+        for (int i = 0; i < parColumnNames.length; i++) {
+            if (i != 0) {
+                lvColumns.append(',');
+            }
+
+            lvColumns.append(parColumnNames[i]);
+        }
+
+        return replace(
+                replace(replace(parTemplate, PLACEHOLDER_TABLE, parTableName),
+                        PLACEHOLDER_COLUMNS, lvColumns.toString()),
+                PLACEHOLDER_FILE, parFile.getAbsolutePath());
+    }
+
+    private static String replace(final String parText,
+            final String parPlaceholder, final String parValue) {
+
+        final StringBuffer lvText = new StringBuffer(parText);
+
+        int lvPos = lvText.indexOf(parPlaceholder);
+
+        while (lvPos >= 0) {
+            lvText.replace(lvPos, lvPos + parPlaceholder.length(), parValue);
+            lvPos =
+                    lvText.indexOf(parPlaceholder, lvPos + parValue.length());
+        }
+
+        return lvText.toString();
+    }
+}
@@ -0,0 +1,288 @@
+package edu.ou.weinmann.repsi.model.util;
+
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Decides after how many rows a loading transaction is committed. The
+ * transaction size starts with <code>Global.MAX_TRANSACTION_SIZE</code> and
+ * is adapted after every complete transaction: it is doubled or halved in
+ * the current direction as long as the effective throughput, i.e. the rows
+ * per second including the commit, does not drop, and the direction is
+ * reversed as soon as it drops. A commit taking longer than the maximum
+ * commit time always halves the transaction size.
+ * 
+ * Transactions running at the same time on several connections, e.g. the
+ * partitions of a parallel data generation, commit through partition
+ * controllers, which keep their own pending rows and share the transaction
+ * size and its adaptation with the controller they were derived from.
+ * 
+ * The bounds are configured with the properties
+ * <code>transaction.min.size</code>, <code>transaction.max.size</code> and
+ * <code>transaction.max.commit.time</code> in milliseconds.
+ * 
+ * @author Walter Weinmann
+ * 
+ */
+public final class CommitController {
+
+    private static final int DEFAULT_MAX_COMMIT_TIME = 1000;
+
+    private static final int DEFAULT_MAX_SIZE = 50000;
+
+    private static final int DEFAULT_MIN_SIZE = 500;
+
+    private static final Logger LOGGER =
+            Logger.getLogger(CommitController.class.getPackage().getName());
+
+    private static final double TOLERANCE = 0.1D;
+
+    private boolean growing;
+
+    private long lastRate;
+
+    private final long maxCommitNanoSeconds;
+
+    private final long maxSize;
+
+    private final long minSize;
+
+    private long numberCommits;
+
+    private long pendingRows;
+
+    private final CommitController root;
+
+    private long startNanoSeconds;
+
+    private long transactionSize;
+
+    /**
+     * Constructs a <code>CommitController</code> object with the bounds
+     * taken from the properties file.
+     */
+    public CommitController() {
+
+        this(getProperty(Global.PROPERTY_PATH_2_MIN_SIZE, DEFAULT_MIN_SIZE),
+                getProperty(Global.PROPERTY_PATH_2_MAX_SIZE, DEFAULT_MAX_SIZE),
+                getProperty(Global.PROPERTY_PATH_2_MAX_COMMIT_TIME,
+                        DEFAULT_MAX_COMMIT_TIME));
+    }
+
+    /**
+     * Constructs a <code>CommitController</code> object.
+     * 
+     * @param parMinSize The minimum number of rows per transaction.
+     * @param parMaxSize The maximum number of rows per transaction.
+     * @param parMaxCommitTime The maximum time of a commit in milliseconds.
+     */
+    public CommitController(final long parMinSize, final long parMaxSize,
+            final long parMaxCommitTime) {
+
+        super();
+
+        if (parMinSize <= 0L) {
+            throw new IllegalArgumentException("Minimum transaction size "
+                    + parMinSize + " is invalid");
+        }
+
+        if (parMaxSize < parMinSize) {
+            throw new IllegalArgumentException("Maximum transaction size "
+                    + parMaxSize + " is invalid");
+        }
+
+        if (parMaxCommitTime <= 0L) {
+            throw new IllegalArgumentException("Maximum commit time "
+                    + parMaxCommitTime + " is invalid");
+        }
+
+        growing = true;
+        maxCommitNanoSeconds = parMaxCommitTime * 1000000L;
+        maxSize = parMaxSize;
+        minSize = parMinSize;
+        root = this;
+        transactionSize = limit(Global.MAX_TRANSACTION_SIZE);
+    }
+
+    private CommitController(final CommitController parRoot) {
+
+        super();
+
+        maxCommitNanoSeconds = parRoot.maxCommitNanoSeconds;
+        maxSize = parRoot.maxSize;
+        minSize = parRoot.minSize;
+        root = parRoot;
+    }
+
+    /**
+     * Records rows processed inside the current transaction.
+     * 
+     * @param parRows The number of rows.
+     */
+    public void addRows(final long parRows) {
+
+        if (pendingRows == 0L) {
+            startNanoSeconds = System.nanoTime();
+        }
+
+        pendingRows += parRows;
+    }
+
+    private void adapt(final long parWorkNanoSeconds,
+            final long parCommitNanoSeconds) {
+
+        final long lvRate =
+                pendingRows * 1000000000L
+                        / Math.max(1L, parWorkNanoSeconds
+                                + parCommitNanoSeconds);
+
+        long lvTransactionSize;
+
+        synchronized (root) {
+            if (parCommitNanoSeconds > maxCommitNanoSeconds) {
+                root.growing = false;
+            } else if (lvRate < root.lastRate * (1D - TOLERANCE)) {
+                root.growing = !root.growing;
+            }
+
+            root.lastRate = lvRate;
+
+            if (root.growing) {
+                root.transactionSize = limit(root.transactionSize * 2L);
+            } else {
+                root.transactionSize = limit(root.transactionSize / 2L);
+            }
+
+            lvTransactionSize = root.transactionSize;
+        }
+
+        if (LOGGER.isLoggable(Level.FINER)) {
+            LOGGER.log(Level.FINER, "Transaction of " + pendingRows
+                    + " rows, rows/s=" + lvRate + " commit ms="
+                    + parCommitNanoSeconds / 1000000L
+                    + " - next transaction size=" + lvTransactionSize);
+        }
+    }
+
+    /**
+     * Commits the current transaction and, if the transaction was complete,
+     * adapts the transaction size to the measured throughput and commit
+     * latency.
+     * 
+     * @param parDBAccess The <code>DatabaseAccessor</code> object holding
+     *            the transaction.
+     * 
+     * @return <code>true</code> if the operation succeeeded and
+     *         <code>false</code> otherwise.
+     */
+    public boolean commit(final DatabaseAccessor parDBAccess) {
+
+        if (parDBAccess == null) {
+            throw new IllegalArgumentException(
+                    "DatabaseAccessor is missing (null)");
+        }
+
+        final long lvCommitStart = System.nanoTime();
+
+        if (!parDBAccess.commit()) {
+            return false;
+        }
+
+        final long lvCommitNanoSeconds = System.nanoTime() - lvCommitStart;
+
+        if (pendingRows >= getTransactionSize()) {
+            adapt(lvCommitStart - startNanoSeconds, lvCommitNanoSeconds);
+        }
+
+        if (pendingRows > 0L) {
+            synchronized (root) {
+                root.numberCommits++;
+            }
+        }
+
+        pendingRows = 0L;
+
+        return true;
+    }
+
+    /**
+     * Returns the number of commits of transactions containing rows,
+     * including those of the partition controllers.
+     * 
+     * @return the number of commits.
+     */
+    public long getNumberCommits() {
+
+        synchronized (root) {
+            return root.numberCommits;
+        }
+    }
+
+    /**
+     * Returns a controller for a transaction running at the same time as
+     * the transactions of this controller. The partition controller starts
+     * with the current transaction size, and its adaptations apply to this
+     * controller and all its other partition controllers.
+     * 
+     * @return the <code>CommitController</code> object of the partition.
+     */
+    public CommitController getPartitionController() {
+
+        return new CommitController(root);
+    }
+
+    private static int getProperty(final String parKey, final int parDefault) {
+
+        final Configurator lvConfigurator = Configurator.getInstance();
+
+        if (lvConfigurator == null) {
+            return parDefault;
+        }
+
+        final String lvValue =
+                lvConfigurator.getProperty(Global.PROPERTY_PATH_1_TRANSACTION
+                        + "." + parKey);
+
+        if (lvValue == null || "".equals(lvValue.trim())) {
+            return parDefault;
+        }
+
+        try {
+            return Integer.parseInt(lvValue.trim());
+        } catch (NumberFormatException e) {
+            LOGGER.log(Level.SEVERE, "Property "
+                    + Global.PROPERTY_PATH_1_TRANSACTION + "." + parKey
+                    + " is not an integer: " + lvValue);
+            return parDefault;
+        }
+    }
+
+    /**
+     * Returns the current transaction size.
+     * 
+     * @return the number of rows after which the transaction is committed.
+     */
+    public long getTransactionSize() {
+
+        synchronized (root) {
+            return root.transactionSize;
+        }
+    }
+
+    /**
+     * Returns whether the current transaction has reached the transaction
+     * size and is to be committed.
+     * 
+     * @return <code>true</code> if the transaction is to be committed and
+     *         <code>false</code> otherwise.
+     */
+    public boolean isCommitDue() {
+
+        return pendingRows >= getTransactionSize();
+    }
+
+    private long limit(final long parSize) {
+
+        return Math.min(maxSize, Math.max(minSize, parSize));
+    }
+}
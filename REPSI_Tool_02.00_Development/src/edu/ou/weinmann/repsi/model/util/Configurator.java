@@ -67,7 +67,8 @@ public final class Configurator {
      * @return an instance of the <code>Configurator</code> class, if the
      *         instantiation was successful, or <code>null</code> otherwise.
      */
-    public static Configurator getInstance(final String parFileName,
+    public static synchronized Configurator getInstance(
+            final String parFileName,
             final boolean parXml) {
 
         if (instance != null) {
@@ -131,7 +132,7 @@ public final class Configurator {
      * @return <code>true</code>, if an instance was existing, or
      *         <code>false</code> otherwise.
      */
-    public static boolean removeInstance() {
+    public static synchronized boolean removeInstance() {
 
         if (instance != null) {
             instance = null;
@@ -0,0 +1,497 @@
+package edu.ou.weinmann.repsi.model.util;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedList;
+import java.util.Map;
+
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Manages a pool of open database connections for one combination of
+ * database URL, user and driver. Connections are borrowed by a
+ * <code>DatabaseAccessor</code> object instead of being opened and are
+ * released instead of being closed. An idle connection is validated before it
+ * is handed out again and is closed after it was idle longer than the idle
+ * timeout. At most the maximum size of connections are open at the same
+ * time; if all of them are in use a borrower waits up to the wait timeout.
+ * 
+ * The pools are configured with the properties <code>pool.max.size</code>
+ * (pooling is disabled if this property is missing or zero),
+ * <code>pool.idle.timeout</code> and <code>pool.wait.timeout</code> in
+ * seconds and <code>pool.validation.query</code>.
+ * 
+ * @author Walter Weinmann
+ * 
+ */
+public final class ConnectionPool {
+
+    private static final int DEFAULT_IDLE_TIMEOUT = 300;
+
+    private static final int DEFAULT_WAIT_TIMEOUT = 60;
+
+    private static final Logger LOGGER =
+            Logger.getLogger(ConnectionPool.class.getPackage().getName());
+
+    private static final Map<String, ConnectionPool> POOLS =
+            new HashMap<String, ConnectionPool>();
+
+    private static boolean configured;
+
+    private static long idleTimeout;
+
+    private static int maxSize;
+
+    private static String validationQuery;
+
+    private static long waitTimeout;
+
+    private int active;
+
+    private long borrowed;
+
+    private long created;
+
+    private long evicted;
+
+    private final LinkedList<Connection> idle = new LinkedList<Connection>();
+
+    private final LinkedList<Long> idleSince = new LinkedList<Long>();
+
+    private long invalid;
+
+    private final String key;
+
+    private final String password;
+
+    private int peakActive;
+
+    private final String url;
+
+    private final String userName;
+
+    private long waitNanoSeconds;
+
+    private ConnectionPool(final String parKey, final String parUrl,
+            final String parUserName, final String parPassword) {
+
+        super();
+
+        key = parKey;
+        password = parPassword;
+        url = parUrl;
+        userName = parUserName;
+    }
+
+    /**
+     * Borrows an open connection from the pool. A new connection is opened if
+     * no validated idle connection is available and the maximum size is not
+     * yet reached.
+     * 
+     * @return the open <code>Connection</code> object.
+     * 
+     * @throws SQLException if no connection could be opened or the wait
+     *             timeout expired.
+     */
+    public Connection borrow() throws SQLException {
+
+        final long lvStart = System.nanoTime();
+
+        synchronized (this) {
+            evictIdle();
+
+            while (true) {
+                while (!idle.isEmpty()) {
+                    final Connection lvConnection = idle.removeFirst();
+                    idleSince.removeFirst();
+
+                    if (isValid(lvConnection)) {
+                        borrowed(lvStart);
+                        return lvConnection;
+                    }
+
+                    invalid++;
+                    close(lvConnection);
+                }
+
+                if (active < maxSize) {
+                    break;
+                }
+
+                final long lvRemaining =
+                        waitTimeout - (System.nanoTime() - lvStart) / 1000000L;
+
+                if (lvRemaining <= 0L) {
+                    throw new SQLException("Connection pool " + key
+                            + " exhausted: " + active
+                            + " connections in use");
+                }
+
+                try {
+                    wait(lvRemaining);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new SQLException(
+                            "Interrupted while waiting for connection pool "
+                                    + key);
+                }
+            }
+
+            // Reserve the slot before the connection is opened outside the
+            // lock.
+            active++;
+        }
+
+        try {
+            final Connection lvConnection =
+                    DriverManager.getConnection(url, userName, password);
+
+            synchronized (this) {
+                active--;
+                created++;
+                borrowed(lvStart);
+            }
+
+            return lvConnection;
+        } catch (SQLException e) {
+            synchronized (this) {
+                active--;
+                notifyAll();
+            }
+
+            throw e;
+        }
+    }
+
+    private void borrowed(final long parStart) {
+
+        active++;
+        borrowed++;
+
+        if (active > peakActive) {
+            peakActive = active;
+        }
+
+        waitNanoSeconds += System.nanoTime() - parStart;
+    }
+
+    private static void close(final Connection parConnection) {
+
+        try {
+            parConnection.close();
+        } catch (SQLException e) {
+            LOGGER.log(Level.WARNING, "connection.close()", e);
+        }
+    }
+
+    /**
+     * Closes the idle connections of all pools and logs the pool metrics.
+     */
+    public static void closeAll() {
+
+        synchronized (POOLS) {
+            for (ConnectionPool lvPool : POOLS.values()) {
+                synchronized (lvPool) {
+                    while (!lvPool.idle.isEmpty()) {
+                        close(lvPool.idle.removeFirst());
+                        lvPool.idleSince.removeFirst();
+                    }
+
+                    if (lvPool.borrowed > 0L) {
+                        LOGGER.log(Level.INFO, lvPool.toString());
+                    }
+                }
+            }
+
+            POOLS.clear();
+        }
+    }
+
+    private static synchronized void configure() {
+
+        if (configured) {
+            return;
+        }
+
+        final Configurator lvConfigurator = Configurator.getInstance();
+
+        configured = true;
+
+        maxSize =
+                getProperty(lvConfigurator, Global.PROPERTY_PATH_2_MAX_SIZE, 0);
+
+        if (maxSize <= 0) {
+            return;
+        }
+
+        idleTimeout =
+                1000L * getProperty(lvConfigurator,
+                        Global.PROPERTY_PATH_2_IDLE_TIMEOUT,
+                        DEFAULT_IDLE_TIMEOUT);
+        validationQuery =
+                lvConfigurator.getProperty(Global.PROPERTY_PATH_1_POOL + "."
+                        + Global.PROPERTY_PATH_2_VALIDATION_QUERY);
+        waitTimeout =
+                1000L * getProperty(lvConfigurator,
+                        Global.PROPERTY_PATH_2_WAIT_TIMEOUT,
+                        DEFAULT_WAIT_TIMEOUT);
+    }
+
+    private void evictIdle() {
+
+        final long lvOldest = System.currentTimeMillis() - idleTimeout;
+
+        final Iterator<Connection> lvConnections = idle.iterator();
+        final Iterator<Long> lvSince = idleSince.iterator();
+
+        while (lvConnections.hasNext()) {
+            final Connection lvConnection = lvConnections.next();
+
+            if (lvSince.next().longValue() >= lvOldest) {
+                continue;
+            }
+
+            lvConnections.remove();
+            lvSince.remove();
+
+            evicted++;
+            close(lvConnection);
+        }
+    }
+
+    /**
+     * Returns the number of connections currently borrowed.
+     * 
+     * @return the number of connections currently borrowed.
+     */
+    public synchronized int getActive() {
+
+        return active;
+    }
+
+    /**
+     * Returns the number of successful borrow operations.
+     * 
+     * @return the number of successful borrow operations.
+     */
+    public synchronized long getBorrowed() {
+
+        return borrowed;
+    }
+
+    /**
+     * Returns the number of connections opened by the pool.
+     * 
+     * @return the number of connections opened by the pool.
+     */
+    public synchronized long getCreated() {
+
+        return created;
+    }
+
+    /**
+     * Returns the number of idle connections closed after the idle timeout.
+     * 
+     * @return the number of evicted connections.
+     */
+    public synchronized long getEvicted() {
+
+        return evicted;
+    }
+
+    /**
+     * Returns the number of idle connections currently in the pool.
+     * 
+     * @return the number of idle connections.
+     */
+    public synchronized int getIdle() {
+
+        return idle.size();
+    }
+
+    /**
+     * Returns the pool for the given combination of database URL, user and
+     * driver, or <code>null</code> if connection pooling is disabled.
+     * 
+     * @param parUrl The database URL.
+     * @param parUserName The name of the database user.
+     * @param parPassword The password of the database user.
+     * @param parDriver The class name of the database driver.
+     * 
+     * @return the <code>ConnectionPool</code> object, or <code>null</code>
+     *         if connection pooling is disabled.
+     */
+    public static ConnectionPool getInstance(final String parUrl,
+            final String parUserName, final String parPassword,
+            final String parDriver) {
+
+        configure();
+
+        if (maxSize <= 0) {
+            return null;
+        }
+
+        final String lvKey = parUrl + "|" + parUserName + "|" + parDriver;
+
+        synchronized (POOLS) {
+            ConnectionPool lvPool = POOLS.get(lvKey);
+
+            if (lvPool == null) {
+                lvPool =
+                        new ConnectionPool(lvKey, parUrl, parUserName,
+                                parPassword);
+                POOLS.put(lvKey, lvPool);
+            }
+
+            return lvPool;
+        }
+    }
+
+    /**
+     * Returns the number of idle connections discarded because their
+     * validation failed.
+     * 
+     * @return the number of invalid connections.
+     */
+    public synchronized long getInvalid() {
+
+        return invalid;
+    }
+
+    /**
+     * Returns the highest number of connections borrowed at the same time.
+     * 
+     * @return the highest number of connections borrowed at the same time.
+     */
+    public synchronized int getPeakActive() {
+
+        return peakActive;
+    }
+
+    private static int getProperty(final Configurator parConfigurator,
+            final String parKey, final int parDefault) {
+
+        if (parConfigurator == null) {
+            return parDefault;
+        }
+
+        final String lvValue =
+                parConfigurator.getProperty(Global.PROPERTY_PATH_1_POOL + "."
+                        + parKey);
+
+        if (lvValue == null) {
+            return parDefault;
+        }
+
+        try {
+            return Integer.parseInt(lvValue.trim());
+        } catch (NumberFormatException e) {
+            LOGGER.log(Level.SEVERE, "Property " + Global.PROPERTY_PATH_1_POOL
+                    + "." + parKey + " is not an integer: " + lvValue);
+            return parDefault;
+        }
+    }
+
+    /**
+     * Returns the total time in nanoseconds spent in borrow operations,
+     * including the time needed to open new connections.
+     * 
+     * @return the total borrow time in nanoseconds.
+     */
+    public synchronized long getWaitNanoSeconds() {
+
+        return waitNanoSeconds;
+    }
+
+    private static boolean isValid(final Connection parConnection) {
+
+        try {
+            if (parConnection.isClosed()) {
+                return false;
+            }
+
+            if (validationQuery == null || "".equals(validationQuery)) {
+                return true;
+            }
+
+            final Statement lvStatement = parConnection.createStatement();
+
+            try {
+                lvStatement.executeQuery(validationQuery).close();
+            } finally {
+                lvStatement.close();
+            }
+
+            return true;
+        } catch (SQLException e) {
+            LOGGER.log(Level.WARNING, "Validation of pooled connection failed",
+                    e);
+            return false;
+        }
+    }
+
+    /**
+     * Returns a borrowed connection to the pool. Uncommitted changes are
+     * rolled back and the auto-commit mode is restored. A connection which
+     * is closed or whose state could not be reset is not pooled again.
+     * 
+     * @param parConnection The borrowed <code>Connection</code> object.
+     */
+    public void release(final Connection parConnection) {
+
+        if (parConnection == null) {
+            throw new IllegalArgumentException("Connection is missing (null)");
+        }
+
+        boolean lvReusable;
+
+        try {
+            lvReusable = !parConnection.isClosed();
+
+            if (lvReusable && !parConnection.getAutoCommit()) {
+                parConnection.rollback();
+                parConnection.setAutoCommit(true);
+            }
+        } catch (SQLException e) {
+            LOGGER.log(Level.WARNING, "Reset of pooled connection failed", e);
+            lvReusable = false;
+        }
+
+        synchronized (this) {
+            active--;
+
+            if (lvReusable) {
+                idle.addFirst(parConnection);
+                idleSince.addFirst(Long.valueOf(System.currentTimeMillis()));
+            } else {
+                invalid++;
+                close(parConnection);
+            }
+
+            evictIdle();
+
+            notifyAll();
+        }
+    }
+
+    /**
+     * Returns the metrics of the pool.
+     * 
+     * @return the metrics of the pool as a string.
+     */
+    @Override
+    public synchronized String toString() {
+
+        return "ConnectionPool " + key + ": borrowed=" + borrowed
+                + ", created=" + created + ", evicted=" + evicted
+                + ", invalid=" + invalid + ", active=" + active + ", idle="
+                + idle.size() + ", peak=" + peakActive + ", wait ms="
+                + waitNanoSeconds / 1000000L;
+    }
+}
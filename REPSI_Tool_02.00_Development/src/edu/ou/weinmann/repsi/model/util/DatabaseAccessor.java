@@ -3,6 +3,7 @@ package edu.ou.weinmann.repsi.model.util;
 import java.math.BigDecimal;
 import java.sql.Connection;
 import java.sql.DriverManager;
+import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.ResultSetMetaData;
 import java.sql.SQLException;
@@ -48,22 +49,42 @@ public class DatabaseAccessor implements Global {
 
     private ResultSet resultSetObject;
 
+    private ResultSetConsumer resultSetConsumer;
+
     private Connection connectionObject;
 
     private String databaseIdent;
 
+    private String driver;
+
+    private int fetchSize;
+
     private int numberRows;
 
+    private ConnectionPool pool;
+
+    private boolean prepared;
+
     private final String sqlSyntaxCodeTarget;
 
     private final SQLRewriter sqlRewriter = new SQLRewriter();
 
+    private StatementCache statementCache;
+
     private Statement statementObject;
 
+    private long timerOverhead;
+
+    private long timerResolution;
+
     private Date trialRunEndTime;
 
     private String trialRunErrorMessage;
 
+    private long trialExecuteNanoSeconds;
+
+    private long trialFirstRowNanoSeconds;
+
     private long trialNanoSeconds;
 
     private Date trialRunStartTime;
@@ -143,7 +164,11 @@ public class DatabaseAccessor implements Global {
             Class.forName(lvDriver);
 
             databaseIdent = parDatabaseIdent;
+            driver = lvDriver;
+            fetchSize = 0;
+            prepared = false;
             resultSetObject = null;
+            statementCache = null;
             statementObject = null;
         } catch (java.lang.ClassNotFoundException e) {
             LOGGER.log(Level.SEVERE, "Class.forName(" + lvDriver + ")", e);
@@ -222,7 +247,10 @@ public class DatabaseAccessor implements Global {
     }
 
     /**
-     * Closes the currently open connection.
+     * Closes the currently open connection, or returns it to the connection
+     * pool if it was borrowed from there. If the auto-commit mode was switched
+     * off, uncommitted changes are rolled back and the auto-commit mode is
+     * restored.
      * 
      * @return <code>false</code> if the database
      *         <code>connectionObject</code> could not be closed, or
@@ -249,15 +277,33 @@ public class DatabaseAccessor implements Global {
             }
         }
 
+        if (statementCache != null) {
+            statementCache.close();
+            statementCache = null;
+        }
+
+        resultSetObject = null;
+        statementObject = null;
+
+        // Work not committed by the caller is discarded **********************
+        final boolean lvReset = resetAutoCommit();
+
+        if (pool != null) {
+            pool.release(connectionObject);
+            pool = null;
+
+            return lvReset;
+        }
+
         try {
             if (connectionObject.isClosed()) {
-                return true;
+                return lvReset;
             }
 
             try {
                 connectionObject.close();
 
-                return true;
+                return lvReset;
             } catch (SQLException sqle1) {
                 LOGGER.log(Level.SEVERE, "connectionObject.close()", sqle1);
             }
@@ -420,7 +466,14 @@ public class DatabaseAccessor implements Global {
      * statement to the database.
      * 
      * It is used for executing queries formulated using a given SQL syntax
-     * version during a trial run.
+     * version during a trial run. In the prepared mode the rewritten SQL
+     * statement is prepared only once per connection and taken from the
+     * statement cache afterwards, so that the measured response time covers
+     * only the execution and the fetching of the rows. Unless the consumption
+     * mode is <code>Global.CONSUMPTION_NEXT_ONLY</code> all columns of every
+     * row are read inside the measurement as well. The rows are fetched
+     * completely and are counted by <code>getNumberRows</code>; in the
+     * prepared mode the result set is closed afterwards.
      * 
      * @param parStmnt The SQL statement.
      * @param parSQLSyntaxCodeSource Rhe SQL syntax version of the SQL
@@ -440,8 +493,11 @@ public class DatabaseAccessor implements Global {
             throw new IllegalArgumentException(SQL_SYNTAX_CODE_IS_MISSING);
         }
 
+        numberRows = 0;
         trialRunEndTime = new Date();
         trialRunErrorMessage = "";
+        trialExecuteNanoSeconds = 0L;
+        trialFirstRowNanoSeconds = 0L;
         trialNanoSeconds = 0L;
         trialRunStartTime = new Date();
 
@@ -450,7 +506,7 @@ public class DatabaseAccessor implements Global {
                         sqlSyntaxCodeTarget, parStmnt);
 
         try {
-            if (statementObject == null) {
+            if (!prepared && statementObject == null) {
                 trialRunErrorMessage =
                         "statementObject.executeQueryTrialRun("
                                 + lvStmntTranslated
@@ -467,19 +523,62 @@ public class DatabaseAccessor implements Global {
                 return false;
             }
 
+            // Prepare the statement outside of the measurement ****************
+            PreparedStatement lvPreparedStatement = null;
+
+            if (prepared) {
+                lvPreparedStatement =
+                        getStatementCache().getPreparedStatement(
+                                lvStmntTranslated);
+            }
+
             trialRunStartTime = new Date();
             final long lvStart = System.nanoTime();
 
-            resultSetObject = statementObject.executeQuery(lvStmntTranslated);
+            if (lvPreparedStatement == null) {
+                resultSetObject =
+                        statementObject.executeQuery(lvStmntTranslated);
+            } else {
+                resultSetObject = lvPreparedStatement.executeQuery();
+            }
 
-            numberRows = 0;
+            try {
+                trialExecuteNanoSeconds = System.nanoTime() - lvStart;
 
-            while (resultSetObject.next()) {
-                numberRows++;
-            }
+                final ResultSetConsumer lvConsumer = resultSetConsumer;
+
+                if (lvConsumer != null) {
+                    lvConsumer.prepare(resultSetObject, lvStmntTranslated);
+                }
+
+                if (resultSetObject.next()) {
+                    trialFirstRowNanoSeconds = System.nanoTime() - lvStart;
+
+                    numberRows++;
+
+                    if (lvConsumer != null) {
+                        lvConsumer.consume(resultSetObject);
+                    }
 
-            trialNanoSeconds = System.nanoTime() - lvStart;
-            trialRunEndTime = new Date();
+                    while (resultSetObject.next()) {
+                        numberRows++;
+
+                        if (lvConsumer != null) {
+                            lvConsumer.consume(resultSetObject);
+                        }
+                    }
+                } else {
+                    trialFirstRowNanoSeconds = System.nanoTime() - lvStart;
+                }
+
+                trialNanoSeconds = System.nanoTime() - lvStart;
+                trialRunEndTime = new Date();
+            } finally {
+                // The cached statement stays open, its cursor is released ***
+                if (lvPreparedStatement != null) {
+                    resultSetObject.close();
+                }
+            }
 
             return true;
         } catch (SQLException sqle) {
@@ -808,7 +907,9 @@ public class DatabaseAccessor implements Global {
     }
 
     /**
-     * Attempts to establish a connection to the given database URL.
+     * Attempts to establish a connection to the given database URL. If
+     * connection pooling is configured the connection is borrowed from the
+     * pool of the database URL, user and driver.
      * 
      * @param parUrl The database URL.
      * @param parUserName The name of the database user.
@@ -832,16 +933,27 @@ public class DatabaseAccessor implements Global {
         }
 
         try {
-            connectionObject =
-                    DriverManager.getConnection(parUrl, parUserName,
-                            parPassword);
+            pool =
+                    ConnectionPool.getInstance(parUrl, parUserName,
+                            parPassword, driver);
+
+            if (pool == null) {
+                connectionObject =
+                        DriverManager.getConnection(parUrl, parUserName,
+                                parPassword);
+            } else {
+                connectionObject = pool.borrow();
+            }
 
             assert connectionObject != null : "Postcondition: connectionObject is null";
 
+            statementCache = null;
             userName = parUserName;
 
             return true;
         } catch (SQLException sqle) {
+            pool = null;
+
             LOGGER.log(Level.SEVERE, "getConnection(" + parUrl + ", "
                     + parUserName + ", " + parPassword + ")", sqle);
         }
@@ -869,6 +981,23 @@ public class DatabaseAccessor implements Global {
         return numberRows;
     }
 
+    private StatementCache getStatementCache() throws SQLException {
+
+        assert connectionObject != null : ERROR_PRECONDITION_CONNECTION_IS_MISSING_NULL;
+
+        if (statementCache == null) {
+            statementCache =
+                    new StatementCache(connectionObject,
+                            Global.MAX_PREPARED_STATEMENTS);
+
+            if (fetchSize > 0) {
+                statementCache.setFetchSize(fetchSize);
+            }
+        }
+
+        return statementCache;
+    }
+
     private ResultSetMetaData getResultSetMetaData(final ResultSet parResultSet) {
 
         if (parResultSet == null) {
@@ -952,7 +1081,8 @@ public class DatabaseAccessor implements Global {
     }
 
     /**
-     * Returns the response time in a desired precision.
+     * Returns the response time in a desired precision. The timer overhead,
+     * if any, is subtracted.
      * 
      * @param parPrecision The exponent (base 10) of the desired presicion.
      * 
@@ -960,19 +1090,53 @@ public class DatabaseAccessor implements Global {
      */
     public final long getTrialTimeQuantities(final long parPrecision) {
 
+        return getTrialTimeQuantities(trialNanoSeconds, parPrecision);
+    }
+
+    private long getTrialTimeQuantities(final long parNanoSeconds,
+            final long parPrecision) {
+
+        final long lvNanoSeconds = Math.max(0L, parNanoSeconds - timerOverhead);
+
         if (parPrecision == 1) {
-            return trialNanoSeconds;
+            return lvNanoSeconds;
         }
 
-        long lvTime = trialNanoSeconds / parPrecision;
+        long lvTime = lvNanoSeconds / parPrecision;
 
-        if ((trialNanoSeconds - lvTime * parPrecision) >= parPrecision / 2) {
+        if ((lvNanoSeconds - lvTime * parPrecision) >= parPrecision / 2) {
             lvTime++;
         }
 
         return lvTime;
     }
 
+    /**
+     * Returns the time needed to execute the SQL query, i.e. until the
+     * <code>ResultSet</code> object was available, in a desired precision.
+     * 
+     * @param parPrecision The exponent (base 10) of the desired presicion.
+     * 
+     * @return the execution time in the desired precision.
+     */
+    public final long getTrialTimeQuantitiesExecute(final long parPrecision) {
+
+        return getTrialTimeQuantities(trialExecuteNanoSeconds, parPrecision);
+    }
+
+    /**
+     * Returns the time needed to execute the SQL query and to fetch the first
+     * row in a desired precision.
+     * 
+     * @param parPrecision The exponent (base 10) of the desired presicion.
+     * 
+     * @return the time to the first row in the desired precision.
+     */
+    public final long getTrialTimeQuantitiesFirstRow(final long parPrecision) {
+
+        return getTrialTimeQuantities(trialFirstRowNanoSeconds, parPrecision);
+    }
+
     /**
      * Returns the current user's name.
      * 
@@ -983,6 +1147,31 @@ public class DatabaseAccessor implements Global {
         return userName;
     }
 
+    /**
+     * Returns whether the response time of the last trial run query, after
+     * subtraction of the timer overhead, is below the timer resolution.
+     * 
+     * @return <code>true</code> if the response time is below the timer
+     *         resolution.
+     */
+    public final boolean isBelowTimerResolution() {
+
+        return timerResolution > 0L
+                && trialNanoSeconds - timerOverhead < timerResolution;
+    }
+
+    /**
+     * Returns whether the trial run queries are executed as prepared
+     * statements.
+     * 
+     * @return <code>true</code> if the trial run queries are executed as
+     *         prepared statements.
+     */
+    public final boolean isPrepared() {
+
+        return prepared;
+    }
+
     /**
      * Moves the cursor forward one row from its current position.
      * 
@@ -1002,6 +1191,72 @@ public class DatabaseAccessor implements Global {
         return false;
     }
 
+    /**
+     * Creates a <code>PreparedStatement</code> object for a parameterised
+     * update. The SQL statement is rewritten into the SQL syntax of the
+     * database system only once, the caller is responsible for closing the
+     * statement.
+     * 
+     * @param parStmnt The SQL statement with <code>?</code> as placeholders.
+     * @param parSQLSyntaxCodeSource The SQL syntax version of the SQL
+     *            statement.
+     * 
+     * @return the <code>PreparedStatement</code> object, or <code>null</code>
+     *         if the statement could not be prepared.
+     */
+    public final PreparedStatement prepareUpdate(final String parStmnt,
+            final String parSQLSyntaxCodeSource) {
+
+        if (parStmnt == null || "".equals(parStmnt)) {
+            throw new IllegalArgumentException(SQL_STATEMENT_IS_MISSING);
+        }
+
+        if (parSQLSyntaxCodeSource == null || "".equals(parSQLSyntaxCodeSource)) {
+            throw new IllegalArgumentException(SQL_SYNTAX_CODE_IS_MISSING);
+        }
+
+        assert connectionObject != null : ERROR_PRECONDITION_CONNECTION_IS_MISSING_NULL;
+
+        final String lvStmntTranslated =
+                sqlRewriter.rewrite(parSQLSyntaxCodeSource,
+                        sqlSyntaxCodeTarget, parStmnt);
+
+        if (!sqlRewriter.getLastErrorMsg().equals("")) {
+            LOGGER.log(Level.SEVERE, sqlRewriter.getLastErrorMsg());
+
+            return null;
+        }
+
+        try {
+            return connectionObject.prepareStatement(lvStmntTranslated);
+        } catch (SQLException sqle) {
+            LOGGER.log(Level.SEVERE, "connectionObject.prepareStatement("
+                    + lvStmntTranslated + ")", sqle);
+        }
+
+        return null;
+    }
+
+    private boolean resetAutoCommit() {
+
+        try {
+            if (connectionObject.isClosed()
+                    || connectionObject.getAutoCommit()) {
+                return true;
+            }
+
+            connectionObject.rollback();
+            connectionObject.setAutoCommit(true);
+
+            return true;
+        } catch (SQLException sqle) {
+            LOGGER.log(Level.SEVERE, "connectionObject.setAutoCommit(true)",
+                    sqle);
+        }
+
+        return false;
+    }
+
     /**
      * Undoes all changes made in the current transaction and releases any
      * database locks currently held by this <code>Connection</code> object.
@@ -1024,6 +1279,53 @@ public class DatabaseAccessor implements Global {
         return false;
     }
 
+    /**
+     * Sets the auto-commit mode of the current connection. With the
+     * auto-commit mode switched off the changes are only made permanent by
+     * <code>commit</code>.
+     * 
+     * @param parAutoCommit Whether every statement is committed on its own.
+     * 
+     * @return <code>false</code> if the auto-commit mode could not be set, or
+     *         <code>true</code> otherwise.
+     */
+    public final boolean setAutoCommit(final boolean parAutoCommit) {
+
+        assert connectionObject != null : ERROR_PRECONDITION_CONNECTION_IS_MISSING_NULL;
+
+        try {
+            connectionObject.setAutoCommit(parAutoCommit);
+
+            return true;
+        } catch (SQLException sqle) {
+            LOGGER.log(Level.SEVERE, "connectionObject.setAutoCommit("
+                    + parAutoCommit + ")", sqle);
+        }
+
+        return false;
+    }
+
+    /**
+     * Sets how the rows of the trial run queries are consumed.
+     * 
+     * @param parConsumption One of <code>Global.CONSUMPTION_NEXT_ONLY</code>,
+     *            <code>Global.CONSUMPTION_TYPED</code> or
+     *            <code>Global.CONSUMPTION_OBJECTS</code>.
+     */
+    public final void setConsumption(final String parConsumption) {
+
+        if (parConsumption == null || "".equals(parConsumption)) {
+            throw new IllegalArgumentException(
+                    "Consumption mode is missing (null)");
+        }
+
+        if (Global.CONSUMPTION_NEXT_ONLY.equals(parConsumption)) {
+            resultSetConsumer = null;
+        } else {
+            resultSetConsumer = new ResultSetConsumer(parConsumption);
+        }
+    }
+
     /**
      * Creates a <code>Statement</code> object associtated with this
      * <code>Connnection</code> object.
@@ -1040,6 +1342,12 @@ public class DatabaseAccessor implements Global {
         try {
             statementObject.setFetchSize(parFetchSize);
 
+            fetchSize = parFetchSize;
+
+            if (statementCache != null) {
+                statementCache.setFetchSize(parFetchSize);
+            }
+
             return true;
         } catch (SQLException sqle) {
             LOGGER.log(Level.SEVERE, "connectionObject.setFetchSize()", sqle);
@@ -1048,4 +1356,34 @@ public class DatabaseAccessor implements Global {
         return false;
     }
 
+    /**
+     * Sets whether the trial run queries are executed as prepared statements.
+     * 
+     * @param parPrepared Whether the trial run queries are executed as
+     *            prepared statements.
+     */
+    public final void setPrepared(final boolean parPrepared) {
+
+        prepared = parPrepared;
+    }
+
+    /**
+     * Sets the overhead and the resolution of the timer as determined by a
+     * calibration of <code>System.nanoTime</code>. The overhead is
+     * subtracted from all response times of <code>executeQueryTrialRun</code>.
+     * 
+     * @param parOverhead The timer overhead in nanoseconds.
+     * @param parResolution The timer resolution in nanoseconds.
+     */
+    public final void setTimer(final long parOverhead, final long parResolution) {
+
+        if (parOverhead < 0L || parResolution < 0L) {
+            throw new IllegalArgumentException(
+                    "Timer overhead and resolution must not be negative");
+        }
+
+        timerOverhead = parOverhead;
+        timerResolution = parResolution;
+    }
+
 }
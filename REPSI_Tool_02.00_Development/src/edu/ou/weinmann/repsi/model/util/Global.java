@@ -8,6 +8,11 @@ package edu.ou.weinmann.repsi.model.util;
  */
 public interface Global {
 
+    /**
+     * Calibration object - method <code>System.nanoTime</code>.
+     */
+    String CALIBRATION_OBJECT_NANOTIME = "System.nanoTime";
+
     /**
      * Database column name.
      */
@@ -24,6 +29,16 @@ public interface Global {
      */
     String COLUMN_NAME_ARITHMETIC_MEAN = "ARITHMETIC_MEAN";
 
+    /**
+     * Database column name.
+     */
+    String COLUMN_NAME_BELOW_RESOLUTION = "BELOW_RESOLUTION";
+
+    /**
+     * Database column name.
+     */
+    String COLUMN_NAME_FETCH_SIZE_RECOMMENDED = "FETCH_SIZE_RECOMMENDED";
+
     /**
      * Database column name.
      */
@@ -104,6 +119,16 @@ public interface Global {
      */
     String COLUMN_NAME_READINGS = "READINGS";
 
+    /**
+     * Database column name.
+     */
+    String COLUMN_NAME_READINGS_EXECUTE = "READINGS_EXECUTE";
+
+    /**
+     * Database column name.
+     */
+    String COLUMN_NAME_READINGS_FIRST_ROW = "READINGS_FIRST_ROW";
+
     /**
      * Database column name.
      */
@@ -129,6 +154,31 @@ public interface Global {
      */
     String COLUMN_NAME_TABLE_NAME = "TABLE_NAME";
 
+    /**
+     * Database column name.
+     */
+    String COLUMN_NAME_TEST_QUERY_PAIR_ID = "TEST_QUERY_PAIR_ID";
+
+    /**
+     * Database column name.
+     */
+    String COLUMN_NAME_THROUGHPUT = "THROUGHPUT";
+
+    /**
+     * Database column name.
+     */
+    String COLUMN_NAME_TIME_PRECISION = "TIME_PRECISION";
+
+    /**
+     * Database column name.
+     */
+    String COLUMN_NAME_TIMER_OVERHEAD = "TIMER_OVERHEAD";
+
+    /**
+     * Database column name.
+     */
+    String COLUMN_NAME_TIMER_RESOLUTION = "TIMER_RESOLUTION";
+
     /**
      * Database column name.
      */
@@ -151,6 +201,27 @@ public interface Global {
      */
     String COLUMN_NAME_VARIANCE = "VARIANCE";
 
+    /**
+     * Database column name.
+     */
+    String COLUMN_NAME_WARM_UP_READINGS = "WARM_UP_READINGS";
+
+    /**
+     * Result consumption - only the rows are fetched.
+     */
+    String CONSUMPTION_NEXT_ONLY = "next-only";
+
+    /**
+     * Result consumption - all columns are read with <code>getObject</code>.
+     */
+    String CONSUMPTION_OBJECTS = "objects";
+
+    /**
+     * Result consumption - all columns are read with the getter of their SQL
+     * type, numeric columns as primitive values.
+     */
+    String CONSUMPTION_TYPED = "typed";
+
     /**
      * Database schema identifier of the master database.
      */
@@ -208,6 +279,11 @@ public interface Global {
      */
     String FILE_TYPE_XML = "xml";
 
+    /**
+     * Default number of parent key values sampled per foreign key.
+     */
+    int FOREIGN_KEY_SAMPLE_SIZE = 1000;
+
     /**
      * Initial capacity of foreign key columns.
      */
@@ -223,13 +299,36 @@ public interface Global {
      */
     String IS_NULLABLE_YES = "YES";
 
+    /**
+     * Maximum number of primary keys recorded with their values by the
+     * duplicate key filter of a database table.
+     */
+    int MAX_KEY_FILTER_SIZE = 1000000;
+
+    /**
+     * Maximum number of prepared statements cached per connection.
+     */
+    int MAX_PREPARED_STATEMENTS = 32;
+
+    /**
+     * Maximum number of readings stored per calibration statistic.
+     */
+    int MAX_READINGS = 999;
+
+    /**
+     * Maximum number of readings sampled per series for the significance
+     * tests.
+     */
+    int MAX_SAMPLE_SIZE = 10000;
+
     /**
      * Maximum number of statistical measurement values.
      */
     long MAX_STATISTICAL_OUTLINE = 99999;
 
     /**
-     * Maximum size of rows processed inside one transaction.
+     * Initial number of rows processed inside one transaction and maximum
+     * batch size.
      */
     long MAX_TRANSACTION_SIZE = 5000;
 
@@ -383,6 +482,47 @@ public interface Global {
      */
     String PROPERTY_PATH_1_DATABASE = "database";
 
+    /**
+     * Property file path element - level 1 - connection pool.
+     */
+    String PROPERTY_PATH_1_POOL = "pool";
+
+    /**
+     * Property file path element - level 1 - loading transaction.
+     */
+    String PROPERTY_PATH_1_TRANSACTION = "transaction";
+
+    /**
+     * Property file path element - level 2 - idle timeout in seconds.
+     */
+    String PROPERTY_PATH_2_IDLE_TIMEOUT = "idle.timeout";
+
+    /**
+     * Property file path element - level 2 - maximum commit time in
+     * milliseconds.
+     */
+    String PROPERTY_PATH_2_MAX_COMMIT_TIME = "max.commit.time";
+
+    /**
+     * Property file path element - level 2 - maximum size.
+     */
+    String PROPERTY_PATH_2_MAX_SIZE = "max.size";
+
+    /**
+     * Property file path element - level 2 - minimum size.
+     */
+    String PROPERTY_PATH_2_MIN_SIZE = "min.size";
+
+    /**
+     * Property file path element - level 2 - validation query.
+     */
+    String PROPERTY_PATH_2_VALIDATION_QUERY = "validation.query";
+
+    /**
+     * Property file path element - level 2 - wait timeout in seconds.
+     */
+    String PROPERTY_PATH_2_WAIT_TIMEOUT = "wait.timeout";
+
     /**
      * Property file path element - level 3 - driver.
      */
@@ -408,6 +548,22 @@ public interface Global {
      */
     String PROPERTY_PATH_3_USER_NAME = "username";
 
+    /**
+     * Alternating schedule - blocks applied / unapplied, unapplied / applied.
+     */
+    String SCHEDULE_ABBA = "abba";
+
+    /**
+     * Alternating schedule - order per cycle determined by a seeded random
+     * generator.
+     */
+    String SCHEDULE_RANDOM = "random";
+
+    /**
+     * Alternating schedule - always applied before unapplied.
+     */
+    String SCHEDULE_STRICT = "strict";
+
     /**
      * Separator - comma, space & single quote.
      */
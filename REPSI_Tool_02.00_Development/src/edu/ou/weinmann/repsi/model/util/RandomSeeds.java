@@ -0,0 +1,75 @@
+package edu.ou.weinmann.repsi.model.util;
+
+/**
+ * Derives independent seeds from a parent seed, in the manner of a
+ * splittable random number generator: every child seed is the SplitMix64
+ * mix of the parent seed and the index or name of the child. A hierarchy of
+ * seeds (trial run, database table, row, column) thus depends only on the
+ * position of a value in the hierarchy and not on the order or the thread in
+ * which the values are generated.
+ * 
+ * @author Walter Weinmann
+ * 
+ */
+public final class RandomSeeds {
+
+    private static final long GOLDEN_GAMMA = 0x9E3779B97F4A7C15L;
+
+    private static final long MIX_1 = 0xBF58476D1CE4E5B9L;
+
+    private static final long MIX_2 = 0x94D049BB133111EBL;
+
+    private RandomSeeds() {
+
+        super();
+    }
+
+    private static long mix(final long parValue) {
+
+        long lvValue = parValue;
+
+        lvValue = (lvValue ^ (lvValue >>> 30)) * MIX_1;
+        lvValue = (lvValue ^ (lvValue >>> 27)) * MIX_2;
+
+        return lvValue ^ (lvValue >>> 31);
+    }
+
+    /**
+     * Derives the seed of a child from the seed of its parent.
+     * 
+     * @param parSeed The seed of the parent.
+     * @param parIndex The index of the child.
+     * 
+     * @return the seed of the child.
+     */
+    public static long split(final long parSeed, final long parIndex) {
+
+        return mix(mix(parSeed) + (parIndex + 1L) * GOLDEN_GAMMA);
+    }
+
+    /**
+     * Derives the seed of a named child from the seed of its parent. Names are
+     * compared without regard to case.
+     * 
+     * @param parSeed The seed of the parent.
+     * @param parName The name of the child.
+     * 
+     * @return the seed of the child.
+     */
+    public static long split(final long parSeed, final String parName) {
+
+        if (parName == null) {
+            throw new IllegalArgumentException("Name is missing (null)");
+        }
+
+        final String lvName = parName.toUpperCase();
+
+        long lvSeed = parSeed;
+
+        for (int i = 0; i < lvName.length(); i++) {
+            lvSeed = split(lvSeed, lvName.charAt(i));
+        }
+
+        return split(lvSeed, lvName.length());
+    }
+}
@@ -0,0 +1,207 @@
+package edu.ou.weinmann.repsi.model.util;
+
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Types;
+
+/**
+ * Reads all columns of the current row of a <code>ResultSet</code> object
+ * into a preallocated holder, so that the column conversion of the JDBC
+ * driver is part of a measurement. In the typed mode every column is read
+ * with the getter matching its SQL type, numeric columns as primitive
+ * values; in the object mode every column is read with
+ * <code>getObject</code>. The holder arrays only grow, thus apart from the
+ * objects created by the driver no allocation takes place while the rows are
+ * drained.
+ * 
+ * @author Walter Weinmann
+ * 
+ */
+public final class ResultSetConsumer {
+
+    private static final int KIND_BOOLEAN = 0;
+
+    private static final int KIND_DATE = 1;
+
+    private static final int KIND_DOUBLE = 2;
+
+    private static final int KIND_LONG = 3;
+
+    private static final int KIND_OBJECT = 4;
+
+    private static final int KIND_STRING = 5;
+
+    private static final int KIND_TIME = 6;
+
+    private static final int KIND_TIMESTAMP = 7;
+
+    private static final int MAX_LONG_PRECISION = 18;
+
+    private int columns;
+
+    private double[] doubles = new double[0];
+
+    private int[] kinds = new int[0];
+
+    private Object lastStatement;
+
+    private long[] longs = new long[0];
+
+    private final String mode;
+
+    private Object[] objects = new Object[0];
+
+    /**
+     * Constructs a <code>ResultSetConsumer</code> object.
+     * 
+     * @param parMode One of <code>Global.CONSUMPTION_TYPED</code> or
+     *            <code>Global.CONSUMPTION_OBJECTS</code>.
+     */
+    public ResultSetConsumer(final String parMode) {
+
+        super();
+
+        if (!(Global.CONSUMPTION_TYPED.equals(parMode) || Global.CONSUMPTION_OBJECTS
+                .equals(parMode))) {
+            throw new IllegalArgumentException("Consumption mode " + parMode
+                    + " is invalid");
+        }
+
+        mode = parMode;
+    }
+
+    /**
+     * Reads all columns of the current row into the holder.
+     * 
+     * @param parResultSet The <code>ResultSet</code> object positioned on a
+     *            row.
+     * 
+     * @throws SQLException if a column cannot be read.
+     */
+    public void consume(final ResultSet parResultSet) throws SQLException {
+
+        for (int i = 0; i < columns; i++) {
+            final int lvPos = i + 1;
+
+            switch (kinds[i]) {
+                case KIND_BOOLEAN:
+                    if (parResultSet.getBoolean(lvPos)) {
+                        longs[i] = 1L;
+                    } else {
+                        longs[i] = 0L;
+                    }
+                    break;
+                case KIND_DATE:
+                    objects[i] = parResultSet.getDate(lvPos);
+                    break;
+                case KIND_DOUBLE:
+                    doubles[i] = parResultSet.getDouble(lvPos);
+                    break;
+                case KIND_LONG:
+                    longs[i] = parResultSet.getLong(lvPos);
+                    break;
+                case KIND_STRING:
+                    objects[i] = parResultSet.getString(lvPos);
+                    break;
+                case KIND_TIME:
+                    objects[i] = parResultSet.getTime(lvPos);
+                    break;
+                case KIND_TIMESTAMP:
+                    objects[i] = parResultSet.getTimestamp(lvPos);
+                    break;
+                default:
+                    objects[i] = parResultSet.getObject(lvPos);
+                    break;
+            }
+        }
+    }
+
+    private int getKind(final ResultSetMetaData parMetaData, final int parPos)
+            throws SQLException {
+
+        if (Global.CONSUMPTION_OBJECTS.equals(mode)) {
+            return KIND_OBJECT;
+        }
+
+        switch (parMetaData.getColumnType(parPos)) {
+            case Types.BIT:
+            case Types.BOOLEAN:
+                return KIND_BOOLEAN;
+            case Types.BIGINT:
+            case Types.INTEGER:
+            case Types.SMALLINT:
+            case Types.TINYINT:
+                return KIND_LONG;
+            case Types.DOUBLE:
+            case Types.FLOAT:
+            case Types.REAL:
+                return KIND_DOUBLE;
+            case Types.DECIMAL:
+            case Types.NUMERIC:
+                if (parMetaData.getScale(parPos) == 0
+                        && parMetaData.getPrecision(parPos) > 0
+                        && parMetaData.getPrecision(parPos) <= MAX_LONG_PRECISION) {
+                    return KIND_LONG;
+                }
+                return KIND_DOUBLE;
+            case Types.CHAR:
+            case Types.LONGVARCHAR:
+            case Types.VARCHAR:
+                return KIND_STRING;
+            case Types.DATE:
+                return KIND_DATE;
+            case Types.TIME:
+                return KIND_TIME;
+            case Types.TIMESTAMP:
+                return KIND_TIMESTAMP;
+            default:
+                return KIND_OBJECT;
+        }
+    }
+
+    /**
+     * Returns the consumption mode.
+     * 
+     * @return the consumption mode.
+     */
+    public String getMode() {
+
+        return mode;
+    }
+
+    /**
+     * Determines the getters of the columns of a new result set. The meta
+     * data are only evaluated if the statement differs from the statement of
+     * the previous call.
+     * 
+     * @param parResultSet The new <code>ResultSet</code> object.
+     * @param parStatement The statement which produced the result set.
+     * 
+     * @throws SQLException if the meta data cannot be read.
+     */
+    public void prepare(final ResultSet parResultSet,
+            final Object parStatement) throws SQLException {
+
+        if (parStatement != null && parStatement.equals(lastStatement)) {
+            return;
+        }
+
+        final ResultSetMetaData lvMetaData = parResultSet.getMetaData();
+
+        columns = lvMetaData.getColumnCount();
+
+        if (columns > kinds.length) {
+            doubles = new double[columns];
+            kinds = new int[columns];
+            longs = new long[columns];
+            objects = new Object[columns];
+        }
+
+        for (int i = 0; i < columns; i++) {
+            kinds[i] = getKind(lvMetaData, i + 1);
+        }
+
+        lastStatement = parStatement;
+    }
+}
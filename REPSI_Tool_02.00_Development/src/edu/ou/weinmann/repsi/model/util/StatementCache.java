@@ -0,0 +1,185 @@
+package edu.ou.weinmann.repsi.model.util;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Manages the <code>PreparedStatement</code> objects of one
+ * <code>Connection</code> object. The statements are kept in least recently
+ * used order and the least recently used statement is closed as soon as the
+ * maximum number of cached statements is exceeded.
+ * 
+ * @author Walter Weinmann
+ * 
+ */
+public final class StatementCache {
+
+    private static final float LOAD_FACTOR = 0.75F;
+
+    private static final Logger LOGGER =
+            Logger.getLogger(StatementCache.class.getPackage().getName());
+
+    private final Connection connection;
+
+    private int fetchSize;
+
+    private final int maxSize;
+
+    private final Map<String, PreparedStatement> statements;
+
+    /**
+     * Constructs a <code>StatementCache</code> object.
+     * 
+     * @param parConnection The <code>Connection</code> object the statements
+     *            are prepared with.
+     * @param parMaxSize The maximum number of cached statements.
+     */
+    public StatementCache(final Connection parConnection, final int parMaxSize) {
+
+        super();
+
+        if (parConnection == null) {
+            throw new IllegalArgumentException("Connection is missing (null)");
+        }
+
+        if (parMaxSize < 1) {
+            throw new IllegalArgumentException(
+                    "Maximum cache size must be greater than zero");
+        }
+
+        connection = parConnection;
+        fetchSize = 0;
+        maxSize = parMaxSize;
+
+        statements =
+                new LinkedHashMap<String, PreparedStatement>(maxSize + 1,
+                        LOAD_FACTOR, true) {
+
+                    private static final long serialVersionUID = 1L;
+
+                    protected boolean removeEldestEntry(
+                            final Map.Entry<String, PreparedStatement> parEldest) {
+
+                        if (size() <= maxSize) {
+                            return false;
+                        }
+
+                        closeStatement(parEldest.getKey(), parEldest
+                                .getValue());
+
+                        return true;
+                    }
+                };
+    }
+
+    /**
+     * Closes all cached statements and empties the cache.
+     * 
+     * @return <code>true</code> if all statements could be closed, or
+     *         <code>false</code> otherwise.
+     */
+    public boolean close() {
+
+        boolean lvReturn = true;
+
+        final Iterator<Map.Entry<String, PreparedStatement>> lvIt =
+                statements.entrySet().iterator();
+
+        while (lvIt.hasNext()) {
+            final Map.Entry<String, PreparedStatement> lvEntry = lvIt.next();
+
+            if (!closeStatement(lvEntry.getKey(), lvEntry.getValue())) {
+                lvReturn = false;
+            }
+        }
+
+        statements.clear();
+
+        return lvReturn;
+    }
+
+    private boolean closeStatement(final String parStmnt,
+            final PreparedStatement parPreparedStatement) {
+
+        try {
+            parPreparedStatement.close();
+
+            return true;
+        } catch (SQLException sqle) {
+            LOGGER.log(Level.SEVERE, "preparedStatement.close(" + parStmnt
+                    + ")", sqle);
+        }
+
+        return false;
+    }
+
+    /**
+     * Returns the <code>PreparedStatement</code> object related to the given
+     * SQL statement. The statement is prepared if it is not yet contained in
+     * the cache.
+     * 
+     * @param parStmnt The SQL statement in the syntax of the target database.
+     * 
+     * @return the <code>PreparedStatement</code> object.
+     * 
+     * @throws SQLException if the statement could not be prepared.
+     */
+    public PreparedStatement getPreparedStatement(final String parStmnt)
+            throws SQLException {
+
+        if (parStmnt == null || "".equals(parStmnt)) {
+            throw new IllegalArgumentException("SQL statement is missing");
+        }
+
+        PreparedStatement lvPreparedStatement = statements.get(parStmnt);
+
+        if (lvPreparedStatement == null) {
+            lvPreparedStatement = connection.prepareStatement(parStmnt);
+
+            if (fetchSize > 0) {
+                lvPreparedStatement.setFetchSize(fetchSize);
+            }
+
+            statements.put(parStmnt, lvPreparedStatement);
+        }
+
+        return lvPreparedStatement;
+    }
+
+    /**
+     * Sets the fetch size of all cached and all future prepared statements.
+     * 
+     * @param parFetchSize The fetch size.
+     * 
+     * @throws SQLException if the fetch size could not be modified.
+     */
+    public void setFetchSize(final int parFetchSize) throws SQLException {
+
+        fetchSize = parFetchSize;
+
+        final Iterator<PreparedStatement> lvIt =
+                statements.values().iterator();
+
+        while (lvIt.hasNext()) {
+            lvIt.next().setFetchSize(parFetchSize);
+        }
+    }
+
+    /**
+     * Returns the current number of cached statements.
+     * 
+     * @return the current number of cached statements.
+     */
+    public int size() {
+
+        return statements.size();
+    }
+}